@@ -18,6 +18,8 @@ public interface Batch {
 
     String PROCESS_MIGRATION_TYPE = "processMigration";
 
+    String HISTORIC_PROCESS_CLEANUP_TYPE = "historicProcessCleanup";
+
     String getId();
 
     String getBatchType();
@@ -77,6 +77,7 @@ public class BatchEntityImpl extends AbstractBatchServiceEntity implements Batch
         return completeTime;
     }
 
+    @Override
     public void setCompleteTime(Date completeTime) {
         this.completeTime = completeTime;
     }
@@ -17,11 +17,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -112,6 +114,17 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<>();
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<>();
 
+    /**
+     * Compiled schemas are immutable and thread-safe, so each XSD is only compiled once and shared by all converter instances.
+     */
+    protected static final Map<String, Schema> schemaCache = new ConcurrentHashMap<>();
+
+    /**
+     * Configured XML factories can be shared by multiple threads for creating readers and writers.
+     */
+    protected static volatile XMLInputFactory xmlInputFactory;
+    protected static volatile XMLOutputFactory xmlOutputFactory;
+
     protected ClassLoader classloader;
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
@@ -231,27 +244,46 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(BPMN_XSD));
+            xsdUrl = classloader.getResource(BPMN_XSD);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
+        if (xsdUrl == null) {
+            xsdUrl = BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new XMLException("BPMN XSD could not be found");
         }
+        return getOrCreateSchema(xsdUrl);
+    }
+
+    protected Schema getOrCreateSchema(URL xsdUrl) throws SAXException {
+        String schemaKey = xsdUrl.toExternalForm();
+        Schema schema = schemaCache.get(schemaKey);
+        if (schema == null) {
+            // SchemaFactory instances are not thread-safe, but compiling only happens once per XSD
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schema = factory.newSchema(xsdUrl);
+            Schema existingSchema = schemaCache.putIfAbsent(schemaKey, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
         return schema;
     }
 
-    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
-        return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    protected XMLInputFactory getXmlInputFactory() {
+        XMLInputFactory xif = xmlInputFactory;
+        if (xif == null) {
+            xif = createSafeXmlInputFactory();
+            xmlInputFactory = xif;
+        }
+        return xif;
     }
 
-    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+    protected XMLInputFactory createSafeXmlInputFactory() {
         XMLInputFactory xif = XMLInputFactory.newInstance();
 
         if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
@@ -265,6 +297,24 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
             xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         }
+        return xif;
+    }
+
+    protected XMLOutputFactory getXmlOutputFactory() {
+        XMLOutputFactory xof = xmlOutputFactory;
+        if (xof == null) {
+            xof = XMLOutputFactory.newInstance();
+            xmlOutputFactory = xof;
+        }
+        return xof;
+    }
+
+    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
+        return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    }
+
+    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+        XMLInputFactory xif = getXmlInputFactory();
 
         if (validateSchema) {
             try (InputStreamReader in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding)) {
@@ -513,7 +563,7 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
 
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-            XMLOutputFactory xof = XMLOutputFactory.newInstance();
+            XMLOutputFactory xof = getXmlOutputFactory();
             OutputStreamWriter out = new OutputStreamWriter(outputStream, encoding);
 
             XMLStreamWriter writer = xof.createXMLStreamWriter(out);
@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.validation.Schema;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.util.io.StringStreamSource;
+import org.flowable.editor.language.xml.util.XmlTestUtils;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+class SchemaCacheTest {
+
+    @Test
+    void schemaAndInputFactoryAreSharedBetweenConverters() throws Exception {
+        TestBpmnXMLConverter firstConverter = new TestBpmnXMLConverter();
+        TestBpmnXMLConverter secondConverter = new TestBpmnXMLConverter();
+
+        assertThat(secondConverter.createSchema()).isSameAs(firstConverter.createSchema());
+        assertThat(secondConverter.getXmlInputFactory()).isSameAs(firstConverter.getXmlInputFactory());
+    }
+
+    @Test
+    void validationWithCachedSchema() {
+        BpmnModel bpmnModel = XmlTestUtils.readXMLFile("callactivity.bpmn");
+        assertThat(bpmnModel.getMainProcess()).isNotNull();
+
+        // The cached schema still rejects invalid models
+        assertThatThrownBy(() -> new BpmnXMLConverter()
+                .convertToBpmnModel(new StringStreamSource("<definitions><unknown/></definitions>"), true, false, "UTF-8"))
+            .isInstanceOf(XMLException.class);
+
+        assertThat(XmlTestUtils.readXMLFile("callactivity.bpmn").getMainProcess().getId())
+            .isEqualTo(bpmnModel.getMainProcess().getId());
+    }
+
+    protected static class TestBpmnXMLConverter extends BpmnXMLConverter {
+
+        @Override
+        protected Schema createSchema() throws SAXException {
+            return super.createSchema();
+        }
+
+        @Override
+        protected XMLInputFactory getXmlInputFactory() {
+            return super.getXmlInputFactory();
+        }
+    }
+}
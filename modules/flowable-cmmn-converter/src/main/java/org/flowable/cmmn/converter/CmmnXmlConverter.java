@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,6 +28,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.xml.XMLConstants;
@@ -89,6 +91,17 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     protected static Map<String, BaseCmmnXmlConverter> elementConverters = new HashMap<>();
     protected static Map<String, BaseCmmnXmlConverter> textConverters = new HashMap<>();
 
+    /**
+     * Compiled schemas are immutable and thread-safe, so each XSD is only compiled once and shared by all converter instances.
+     */
+    protected static final Map<String, Schema> schemaCache = new ConcurrentHashMap<>();
+
+    /**
+     * Configured XML factories can be shared by multiple threads for creating readers and writers.
+     */
+    protected static volatile XMLInputFactory xmlInputFactory;
+    protected static volatile XMLOutputFactory xmlOutputFactory;
+
     protected ClassLoader classloader;
 
     static {
@@ -152,17 +165,7 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     public CmmnModel convertToCmmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-        XMLInputFactory xif = XMLInputFactory.newInstance();
-
-        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        }
-        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        }
-        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        }
+        XMLInputFactory xif = getXmlInputFactory();
 
         if (encoding == null) {
             encoding = DEFAULT_ENCODING;
@@ -259,22 +262,69 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(XSD_LOCATION));
+            xsdUrl = classloader.getResource(XSD_LOCATION);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(this.getClass().getClassLoader().getResource(XSD_LOCATION));
+        if (xsdUrl == null) {
+            xsdUrl = this.getClass().getClassLoader().getResource(XSD_LOCATION);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new CmmnXMLException("CMND XSD could not be found");
         }
+        return getOrCreateSchema(xsdUrl);
+    }
+
+    protected Schema getOrCreateSchema(URL xsdUrl) throws SAXException {
+        String schemaKey = xsdUrl.toExternalForm();
+        Schema schema = schemaCache.get(schemaKey);
+        if (schema == null) {
+            // SchemaFactory instances are not thread-safe, but compiling only happens once per XSD
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schema = factory.newSchema(xsdUrl);
+            Schema existingSchema = schemaCache.putIfAbsent(schemaKey, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
         return schema;
     }
 
+    protected XMLInputFactory getXmlInputFactory() {
+        XMLInputFactory xif = xmlInputFactory;
+        if (xif == null) {
+            xif = createSafeXmlInputFactory();
+            xmlInputFactory = xif;
+        }
+        return xif;
+    }
+
+    protected XMLInputFactory createSafeXmlInputFactory() {
+        XMLInputFactory xif = XMLInputFactory.newInstance();
+
+        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
+            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+        }
+        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
+            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        }
+        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
+            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        }
+        return xif;
+    }
+
+    protected XMLOutputFactory getXmlOutputFactory() {
+        XMLOutputFactory xof = xmlOutputFactory;
+        if (xof == null) {
+            xof = XMLOutputFactory.newInstance();
+            xmlOutputFactory = xof;
+        }
+        return xof;
+    }
+
     public byte[] convertToXML(CmmnModel model) {
         return convertToXML(model, DEFAULT_ENCODING);
     }
@@ -284,7 +334,7 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
 
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-            XMLOutputFactory xof = XMLOutputFactory.newInstance();
+            XMLOutputFactory xof = getXmlOutputFactory();
             OutputStreamWriter out = new OutputStreamWriter(outputStream, encoding);
 
             XMLStreamWriter writer = xof.createXMLStreamWriter(out);
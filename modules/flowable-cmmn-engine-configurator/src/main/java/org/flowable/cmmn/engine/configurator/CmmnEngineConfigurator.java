@@ -99,6 +99,11 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator {
 
             processEngineConfiguration.getJobServiceConfiguration().getInternalJobManager()
                     .registerScopedInternalJobManager(ScopeTypes.CMMN, cmmnEngineConfiguration.getJobServiceConfiguration().getInternalJobManager());
+
+            // External worker jobs of both engines are acquired through the same (bpmn) management service,
+            // so jobs created by the cmmn engine need to wake up the workers waiting on the bpmn notifier
+            cmmnEngineConfiguration.getJobServiceConfiguration()
+                    .setExternalWorkerJobNotifier(processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobNotifier());
         }
 
         JobServiceConfiguration engineJobServiceConfiguration = getJobServiceConfiguration(engineConfiguration);
@@ -122,6 +127,7 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator {
         // use the same query limit for executions/processes and cases
         cmmnEngineConfiguration.setCaseQueryLimit(processEngineConfiguration.getExecutionQueryLimit());
         cmmnEngineConfiguration.setHistoricCaseQueryLimit(processEngineConfiguration.getHistoricProcessInstancesQueryLimit());
+        cmmnEngineConfiguration.setEnableTwoPhaseRelatedEntitiesQueries(processEngineConfiguration.isEnableTwoPhaseRelatedEntitiesQueries());
         
         if (processEngineConfiguration.isAsyncHistoryEnabled()) {
             AsyncExecutor asyncHistoryExecutor = processEngineConfiguration.getAsyncHistoryExecutor();
@@ -17,6 +17,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
@@ -105,4 +109,35 @@ public class ExternalWorkerCombinedScopeTest extends AbstractProcessEngineIntegr
                 .isEmpty();
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/ExternalWorkerCombinedScopeTest.simpleCase.cmmn")
+    public void testWaitingBpmnAcquisitionIsWokenUpByCmmnJob() throws Exception {
+        deployment = processEngineRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/ExternalWorkerCombinedScopeTest.simpleProcess.bpmn20.xml")
+                .deploy();
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = executorService.submit(
+                    () -> processEngineManagementService.createExternalWorkerJobAcquireBuilder()
+                            .topic("customer", Duration.ofMinutes(10))
+                            .onlyCmmn()
+                            .waitTimeout(Duration.ofMinutes(1))
+                            .acquireAndLock(1, "worker"));
+
+            CaseInstance simpleCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("simpleCase")
+                    .start();
+
+            // The acquisition is woken up by the job created by the cmmn engine, long before the wait timeout
+            List<AcquiredExternalWorkerJob> acquiredJobs = acquiredJobsFuture.get(20, TimeUnit.SECONDS);
+            assertThat(acquiredJobs)
+                    .extracting(AcquiredExternalWorkerJob::getScopeId)
+                    .containsExactly(simpleCase.getId());
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
 }
@@ -250,7 +250,6 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
@@ -262,6 +261,7 @@ import org.flowable.entitylink.service.impl.db.EntityLinkDbSchemaManager;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.db.EventSubscriptionDbSchemaManager;
 import org.flowable.form.api.FormFieldHandler;
 import org.flowable.identitylink.service.IdentityLinkEventHandler;
@@ -738,12 +738,47 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorResetExpiredJobsMaxTimeout = 24 * 60 * 60 * 1000;
 
+    /**
+     * When enabled, the async job and timer job acquisition lock all acquired jobs with one update statement,
+     * selecting them with SKIP LOCKED on the databases that support it (PostgreSQL, MySQL 8, Oracle and SQL Server).
+     * This avoids that multiple nodes acquiring jobs at the same time lose their acquisition cycle due to optimistic locking exceptions.
+     * <p>
+     * Disabled by default, in which case every acquired job is locked through a revision checked update.
+     */
+    protected boolean asyncExecutorBulkLockAcquisitionEnabled;
+
+    /**
+     * When enabled, the case instance of an exclusive job is locked, the job is executed and the case instance is unlocked in one transaction.
+     * The case instance row then stays locked until the job transaction commits, so other exclusive jobs of the same case instance wait for it.
+     * When the case instance is locked by another job, the lock is taken in a separate transaction first, as when this setting is disabled.
+     * <p>
+     * Disabled by default, in which case the case instance lock is committed in its own transaction before the job is executed.
+     */
+    protected boolean asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
+
     /**
      * The default {@link AsyncExecutor} has a 'cleanup' thread that resets expired jobs so they can be re-acquired by other executors.
      * This setting defines the size of the page being used when fetching these expired jobs.
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
 
+    /**
+     * Whether timer jobs that are due within {@link #asyncExecutorTimerJobWheelHorizon} are moved to executable jobs at their due date by an in-memory timer wheel,
+     * instead of waiting for the next timer job acquisition. The timer job acquisition then only runs every {@link #asyncExecutorTimerJobWheelTimerJobAcquireWaitTime}
+     * as a safety net for the timer jobs that are not moved by the wheel. Default value = false.
+     */
+    protected boolean asyncExecutorTimerJobWheelEnabled;
+
+    /**
+     * The time (in milliseconds) ahead of which timer jobs are scheduled in the timer wheel. Default value = 5 minutes.
+     */
+    protected long asyncExecutorTimerJobWheelHorizon = 5 * 60 * 1000;
+
+    /**
+     * The time (in milliseconds) the timer acquisition thread will wait to execute the next acquirement query when the timer wheel is enabled. Default value = 60 seconds.
+     */
+    protected int asyncExecutorTimerJobWheelTimerJobAcquireWaitTime = 60 * 1000;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -785,6 +820,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int asyncHistoryExecutorAsyncJobLockTimeInMillis = 5 * 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsInterval = 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsPageSize = 3;
+
+    /**
+     * The number of history jobs that the async history executor executes together in one transaction.
+     * By default (1), every history job is executed in its own transaction.
+     * With a bigger batch size, the historic entities of a batch are inserted with bulk inserts, repeated updates of the same historic entity
+     * are flushed as one update and the history jobs are deleted together, which reduces the load on the database with a high history job volume.
+     */
+    protected int asyncHistoryExecutorBatchSize = 1;
+
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorTimerJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
@@ -793,6 +837,29 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected CmmnHistoryCleaningManager cmmnHistoryCleaningManager;
+
+    /**
+     * The number of historic case instances that the history cleanup deletes per transaction.
+     * A batch size of 0 or lower deletes all historic case instances that need to be cleaned in one go.
+     */
+    protected int historyCleaningBatchSize = 100;
+
+    /**
+     * The number of batches of historic case instances that the history cleanup deletes concurrently.
+     */
+    protected int historyCleaningParallelism = 1;
+
+    /**
+     * The time in milliseconds that the history cleanup waits after deleting a page of batches, to limit the load on the database.
+     */
+    protected long historyCleaningThrottleDelayInMillis;
+
+    /**
+     * The maximum number of batches of historic case instances that one execution of the history cleanup job deletes.
+     * When more instances need to be deleted, the job schedules a new job that continues the cleanup.
+     * A value of 0 or lower deletes all historic case instances in one job execution.
+     */
+    protected int historyCleaningMaxBatchesPerExecution = 10;
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
@@ -803,6 +870,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     
     protected EventRegistryEventConsumer eventRegistryEventConsumer;
 
+    /**
+     * Enables an in-memory index of the configurations (correlation keys) of the event registry subscriptions,
+     * so that the event subscription query is narrowed to the correlation keys of an event that exist,
+     * and an event without any of them is discarded without querying the event subscriptions.
+     * Each event reads the revision of a property that is incremented by every transaction inserting event registry subscriptions,
+     * which serializes the commits of those transactions. All engines sharing the database (e.g. the nodes of a cluster)
+     * need to have the index enabled, otherwise their event subscriptions are missed.
+     */
+    protected boolean eventRegistryEventSubscriptionIndexEnabled;
+
+    /**
+     * The time in milliseconds after which an entry of the event subscription index is reloaded from the database,
+     * which bounds how long the correlation keys of deleted event subscriptions are still queried.
+     */
+    protected long eventRegistryEventSubscriptionIndexTimeToLive = 10_000L;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     /**
@@ -1077,7 +1160,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             }
             
             if (isExpressionCacheEnabled) {
-                cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                cmmnExpressionManager.setExpressionCache(createExpressionCache(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
             
@@ -1273,11 +1356,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
-            }
+            caseDefinitionCache = createDeploymentCache(caseDefinitionCacheLimit);
         }
     }
 
@@ -1603,6 +1682,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.isEnableTaskRelationshipCounts);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
+        this.taskServiceConfiguration.setEnableTwoPhaseRelatedEntitiesQueries(this.enableTwoPhaseRelatedEntitiesQueries);
 
         this.taskServiceConfiguration.init();
 
@@ -1660,6 +1740,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.eventSubscriptionServiceConfiguration.setIdGenerator(this.idGenerator);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        if (eventRegistryEventSubscriptionIndexEnabled) {
+            this.eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(
+                    new EventSubscriptionIndex(this.eventSubscriptionServiceConfiguration, eventRegistryEventSubscriptionIndexTimeToLive));
+        }
         
         this.eventSubscriptionServiceConfiguration.init();
 
@@ -1808,6 +1892,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setAsyncExecutorBulkLockAcquisitionEnabled(this.asyncExecutorBulkLockAcquisitionEnabled);
+            this.jobServiceConfiguration.setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(this.asyncExecutorSingleTransactionExclusiveJobExecutionEnabled);
     
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1828,6 +1914,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
+            this.jobServiceConfiguration.setDatabaseSkipLockedSupported(isDatabaseSkipLockedSupported());
             
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
@@ -1944,6 +2031,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             defaultAsyncExecutor.setResetExpiredJobsInterval(asyncExecutorResetExpiredJobsInterval);
             defaultAsyncExecutor.setResetExpiredJobsPageSize(asyncExecutorResetExpiredJobsPageSize);
 
+            // Timer job wheel
+            defaultAsyncExecutor.setTimerJobWheelEnabled(asyncExecutorTimerJobWheelEnabled);
+            defaultAsyncExecutor.setTimerJobWheelHorizonInMillis(asyncExecutorTimerJobWheelHorizon);
+            defaultAsyncExecutor.setTimerJobWheelTimerJobAcquireWaitTimeInMillis(asyncExecutorTimerJobWheelTimerJobAcquireWaitTime);
+
             // Tenant
             defaultAsyncExecutor.setTenantId(asyncExecutorTenantId);
 
@@ -2021,6 +2113,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 defaultAsyncHistoryExecutor.setResetExpiredJobsInterval(asyncHistoryExecutorResetExpiredJobsInterval);
                 defaultAsyncHistoryExecutor.setResetExpiredJobsPageSize(asyncHistoryExecutorResetExpiredJobsPageSize);
     
+                // Batch execution
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorBatchSize);
+                if (asyncHistoryExecutorBatchSize > 1) {
+                    // One acquisition fetches at least a full batch of history jobs
+                    defaultAsyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(asyncHistoryExecutorBatchSize);
+                }
+    
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
                 
                 if (asyncHistoryExecutor.getJobServiceConfiguration() == null) {
@@ -3193,6 +3292,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEventRegistryEventSubscriptionIndexEnabled() {
+        return eventRegistryEventSubscriptionIndexEnabled;
+    }
+
+    public CmmnEngineConfiguration setEventRegistryEventSubscriptionIndexEnabled(boolean eventRegistryEventSubscriptionIndexEnabled) {
+        this.eventRegistryEventSubscriptionIndexEnabled = eventRegistryEventSubscriptionIndexEnabled;
+        return this;
+    }
+
+    public long getEventRegistryEventSubscriptionIndexTimeToLive() {
+        return eventRegistryEventSubscriptionIndexTimeToLive;
+    }
+
+    public CmmnEngineConfiguration setEventRegistryEventSubscriptionIndexTimeToLive(long eventRegistryEventSubscriptionIndexTimeToLive) {
+        this.eventRegistryEventSubscriptionIndexTimeToLive = eventRegistryEventSubscriptionIndexTimeToLive;
+        return this;
+    }
+
     public AsyncExecutor getAsyncExecutor() {
         return asyncExecutor;
     }
@@ -3444,6 +3561,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorBulkLockAcquisitionEnabled() {
+        return asyncExecutorBulkLockAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorBulkLockAcquisitionEnabled(boolean asyncExecutorBulkLockAcquisitionEnabled) {
+        this.asyncExecutorBulkLockAcquisitionEnabled = asyncExecutorBulkLockAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled() {
+        return asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(boolean asyncExecutorSingleTransactionExclusiveJobExecutionEnabled) {
+        this.asyncExecutorSingleTransactionExclusiveJobExecutionEnabled = asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
+        return this;
+    }
+
     public int getAsyncExecutorResetExpiredJobsPageSize() {
         return asyncExecutorResetExpiredJobsPageSize;
     }
@@ -3453,6 +3588,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorTimerJobWheelEnabled() {
+        return asyncExecutorTimerJobWheelEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobWheelEnabled(boolean asyncExecutorTimerJobWheelEnabled) {
+        this.asyncExecutorTimerJobWheelEnabled = asyncExecutorTimerJobWheelEnabled;
+        return this;
+    }
+
+    public long getAsyncExecutorTimerJobWheelHorizon() {
+        return asyncExecutorTimerJobWheelHorizon;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobWheelHorizon(long asyncExecutorTimerJobWheelHorizon) {
+        this.asyncExecutorTimerJobWheelHorizon = asyncExecutorTimerJobWheelHorizon;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobWheelTimerJobAcquireWaitTime() {
+        return asyncExecutorTimerJobWheelTimerJobAcquireWaitTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobWheelTimerJobAcquireWaitTime(int asyncExecutorTimerJobWheelTimerJobAcquireWaitTime) {
+        this.asyncExecutorTimerJobWheelTimerJobAcquireWaitTime = asyncExecutorTimerJobWheelTimerJobAcquireWaitTime;
+        return this;
+    }
+
     public ExecuteAsyncRunnableFactory getAsyncExecutorExecuteAsyncRunnableFactory() {
         return asyncExecutorExecuteAsyncRunnableFactory;
     }
@@ -3699,6 +3861,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.asyncHistoryExecutorResetExpiredJobsPageSize = asyncHistoryExecutorResetExpiredJobsPageSize;
         return this;
     }
+
+    public int getAsyncHistoryExecutorBatchSize() {
+        return asyncHistoryExecutorBatchSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorBatchSize(int asyncHistoryExecutorBatchSize) {
+        this.asyncHistoryExecutorBatchSize = asyncHistoryExecutorBatchSize;
+        return this;
+    }
     
     public boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled() {
         return isAsyncHistoryExecutorAsyncJobAcquisitionEnabled;
@@ -4048,6 +4219,42 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    public int getHistoryCleaningParallelism() {
+        return historyCleaningParallelism;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningParallelism(int historyCleaningParallelism) {
+        this.historyCleaningParallelism = historyCleaningParallelism;
+        return this;
+    }
+
+    public long getHistoryCleaningThrottleDelayInMillis() {
+        return historyCleaningThrottleDelayInMillis;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningThrottleDelayInMillis(long historyCleaningThrottleDelayInMillis) {
+        this.historyCleaningThrottleDelayInMillis = historyCleaningThrottleDelayInMillis;
+        return this;
+    }
+
+    public int getHistoryCleaningMaxBatchesPerExecution() {
+        return historyCleaningMaxBatchesPerExecution;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningMaxBatchesPerExecution(int historyCleaningMaxBatchesPerExecution) {
+        this.historyCleaningMaxBatchesPerExecution = historyCleaningMaxBatchesPerExecution;
+        return this;
+    }
+
     public CmmnHistoryCleaningManager getCmmnHistoryCleaningManager() {
         return cmmnHistoryCleaningManager;
     }
@@ -12,9 +12,16 @@
  */
 package org.flowable.cmmn.engine.impl.callback;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
@@ -23,6 +30,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManage
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CmmnLoggingSessionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.logging.CmmnLoggingSessionConstants;
@@ -32,6 +40,8 @@ import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -52,6 +62,67 @@ public class DefaultInternalCmmnJobManager extends ScopeAwareInternalJobManager
         return null;
     }
 
+    @Override
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(List<Job> jobs, Collection<String> variableNames) {
+        // The variables of all case instances of the jobs, including the local variables of their plan item instances, are fetched in one query
+        Map<String, List<String>> scopeIdsByJobId = new HashMap<>();
+        Set<String> caseInstanceIds = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getSubScopeId() != null) {
+                PlanItemInstanceEntity planItemInstance = cmmnEngineConfiguration.getPlanItemInstanceEntityManager().findById(job.getSubScopeId());
+                if (planItemInstance != null) {
+                    List<String> jobScopeIds = new ArrayList<>();
+                    PlanItemInstanceEntity currentPlanItemInstance = planItemInstance;
+                    while (currentPlanItemInstance != null) {
+                        jobScopeIds.add(currentPlanItemInstance.getId());
+                        currentPlanItemInstance = currentPlanItemInstance.getStagePlanItemInstanceEntity();
+                    }
+                    if (planItemInstance.getCaseInstanceId() != null) {
+                        jobScopeIds.add(planItemInstance.getCaseInstanceId());
+                        caseInstanceIds.add(planItemInstance.getCaseInstanceId());
+                    }
+                    scopeIdsByJobId.put(job.getId(), jobScopeIds);
+                }
+            }
+        }
+
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        if (scopeIdsByJobId.isEmpty()) {
+            return variablesByJobId;
+        }
+
+        Map<String, Map<String, Object>> variablesByScopeId = new HashMap<>();
+        if (!caseInstanceIds.isEmpty()) {
+            InternalVariableInstanceQuery variableInstanceQuery = cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                    .createInternalVariableInstanceQuery()
+                    .scopeIds(caseInstanceIds)
+                    .scopeType(ScopeTypes.CMMN)
+                    .withoutTaskId();
+            if (variableNames != null) {
+                variableInstanceQuery.names(variableNames);
+            }
+
+            for (VariableInstanceEntity variableInstance : variableInstanceQuery.list()) {
+                String scopeId = variableInstance.getSubScopeId() != null ? variableInstance.getSubScopeId() : variableInstance.getScopeId();
+                variablesByScopeId.computeIfAbsent(scopeId, key -> new HashMap<>()).put(variableInstance.getName(), variableInstance.getValue());
+            }
+        }
+
+        for (Map.Entry<String, List<String>> entry : scopeIdsByJobId.entrySet()) {
+            // Local variables of plan item instances hide the variables of their stages and case instance with the same name
+            Map<String, Object> variables = new HashMap<>();
+            List<String> jobScopeIds = entry.getValue();
+            for (int i = jobScopeIds.size() - 1; i >= 0; i--) {
+                Map<String, Object> scopeVariables = variablesByScopeId.get(jobScopeIds.get(i));
+                if (scopeVariables != null) {
+                    variables.putAll(scopeVariables);
+                }
+            }
+            variablesByJobId.put(entry.getKey(), variables);
+        }
+        return variablesByJobId;
+    }
+
     @Override
     protected boolean handleJobInsertInternal(Job job) {
         // Currently, nothing extra needed (but counting relationships can be added later here).
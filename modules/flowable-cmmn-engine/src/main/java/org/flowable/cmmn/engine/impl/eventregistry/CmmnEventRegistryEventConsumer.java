@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.runtime.CaseInstanceBuilder;
@@ -31,6 +32,7 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +74,26 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
     }
 
+    @Override
+    protected boolean eventReceived(EventInstance eventInstance, Set<String> triggeredEventSubscriptionIds) {
+        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
+        List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.CMMN, eventInstance, correlationKeys);
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            if (triggeredEventSubscriptionIds.contains(eventSubscription.getId())) {
+                return false;
+            }
+        }
+
+        CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            if (eventSubscription.getSubScopeId() != null) {
+                triggeredEventSubscriptionIds.add(eventSubscription.getId());
+            }
+            handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys);
+        }
+        return true;
+    }
+
     protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
 
@@ -139,6 +161,15 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected Collection<String> findEventSubscriptionConfigurations(String scopeType, String eventType, Collection<String> tenantIds) {
+        EventSubscriptionIndex eventSubscriptionIndex = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionIndex();
+        if (eventSubscriptionIndex == null) {
+            return null;
+        }
+        return eventSubscriptionIndex.getConfigurations(scopeType, eventType, tenantIds);
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration());
@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.impl.history.HistoryCleanupBatchExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Deletes the historic case instances of the history cleaning query in batches.
+ *
+ * The CMMN engine has no batch service, so the progress is not stored: as every batch is committed on its own,
+ * a cleanup that is interrupted simply continues with the historic case instances that are left.
+ */
+public class CmmnHistoryCleanupBatchExecutor extends HistoryCleanupBatchExecutor {
+
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+    protected HistoricCaseInstanceQueryImpl historicCaseInstanceQuery;
+
+    public CmmnHistoryCleanupBatchExecutor(CmmnEngineConfiguration cmmnEngineConfiguration, HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
+        super(cmmnEngineConfiguration.getCommandExecutor(), cmmnEngineConfiguration.getHistoryCleaningBatchSize(),
+                cmmnEngineConfiguration.getHistoryCleaningParallelism(), cmmnEngineConfiguration.getHistoryCleaningThrottleDelayInMillis());
+        this.cmmnEngineConfiguration = cmmnEngineConfiguration;
+        this.historicCaseInstanceQuery = historicCaseInstanceQuery;
+        this.maxBatchesPerExecution = cmmnEngineConfiguration.getHistoryCleaningMaxBatchesPerExecution();
+    }
+
+    @Override
+    protected Map<String, Long> start(CommandContext commandContext) {
+        return new HashMap<>();
+    }
+
+    @Override
+    protected List<String> findInstanceIds(int maxResults, CommandContext commandContext) {
+        historicCaseInstanceQuery.setFirstResult(0);
+        historicCaseInstanceQuery.setMaxResults(maxResults);
+        return CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).findIdsByCriteria(historicCaseInstanceQuery);
+    }
+
+    @Override
+    protected Map<String, Long> deleteInstances(List<String> instanceIds, CommandContext commandContext) {
+        return CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).deleteHistoricCaseInstancesAndRelatedData(instanceIds);
+    }
+
+    @Override
+    protected void complete(Map<String, Long> deletedRows, CommandContext commandContext) {
+        // Nothing to complete, the deleted rows are logged
+    }
+}
@@ -12,17 +12,36 @@
  */
 package org.flowable.cmmn.engine.impl.job;
 
+import java.util.List;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.CmmnHistoryCleanupBatchExecutor;
+import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Deletes the historic case instances of the history cleaning query. When the cleanup is done in batches, one execution deletes
+ * at most the configured maximum number of batches and schedules an async job with the {@link #CONTINUE_CONFIGURATION} for the
+ * remaining instances, so a single job never runs for an unbounded time. The cleanup timer skips its execution while such a job exists.
+ */
 public class CmmnHistoryCleanupJobHandler implements JobHandler {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnHistoryCleanupJobHandler.class);
+
     public static final String TYPE = "cmmn-history-cleanup";
 
+    public static final String CONTINUE_CONFIGURATION = "continue";
+
     @Override
     public String getType() {
         return TYPE;
@@ -32,7 +51,47 @@ public class CmmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
 
-        cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        JobService jobService = cmmnEngineConfiguration.getJobServiceConfiguration().getJobService();
+        if (!CONTINUE_CONFIGURATION.equals(configuration) && isContinueJobScheduled(job, jobService)) {
+            LOGGER.debug("Skipping history cleanup, a previous cleanup is continued by another job");
+            return;
+        }
+
+        HistoricCaseInstanceQuery cleaningQuery = cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery();
+        if (cmmnEngineConfiguration.getHistoryCleaningBatchSize() > 0 && cleaningQuery instanceof HistoricCaseInstanceQueryImpl) {
+            CmmnHistoryCleanupBatchExecutor batchExecutor = createBatchExecutor(cmmnEngineConfiguration, (HistoricCaseInstanceQueryImpl) cleaningQuery);
+            batchExecutor.execute();
+            if (!batchExecutor.isCompleted()) {
+                scheduleContinueJob(jobService);
+            }
+        } else {
+            cleaningQuery.deleteWithRelatedData();
+        }
+    }
+
+    protected boolean isContinueJobScheduled(JobEntity job, JobService jobService) {
+        List<Job> jobs = jobService.createJobQuery().handlerType(TYPE).list();
+        for (Job otherJob : jobs) {
+            if (!otherJob.getId().equals(job.getId()) && CONTINUE_CONFIGURATION.equals(otherJob.getJobHandlerConfiguration())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void scheduleContinueJob(JobService jobService) {
+        // The job is created in the transaction of the current job, so it only exists when this execution succeeded
+        JobEntity continueJob = jobService.createJob();
+        continueJob.setJobHandlerType(TYPE);
+        continueJob.setJobHandlerConfiguration(CONTINUE_CONFIGURATION);
+        continueJob.setScopeType(ScopeTypes.CMMN);
+        jobService.createAsyncJob(continueJob, false);
+        jobService.scheduleAsyncJob(continueJob);
+    }
+
+    protected CmmnHistoryCleanupBatchExecutor createBatchExecutor(CmmnEngineConfiguration cmmnEngineConfiguration,
+            HistoricCaseInstanceQueryImpl cleaningQuery) {
+        return new CmmnHistoryCleanupBatchExecutor(cmmnEngineConfiguration, cleaningQuery);
     }
     
 }
@@ -12,7 +12,9 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
@@ -37,6 +39,10 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
     List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQuery query);
 
     long countByCriteria(HistoricCaseInstanceQuery query);
+
+    List<String> findIdsByCriteria(HistoricCaseInstanceQuery query);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
+
+    Map<String, Long> deleteHistoricCaseInstancesAndRelatedData(Collection<String> caseInstanceIds);
 }
\ No newline at end of file
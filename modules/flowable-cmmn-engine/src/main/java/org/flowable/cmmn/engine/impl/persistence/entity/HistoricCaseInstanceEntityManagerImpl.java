@@ -13,7 +13,9 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
@@ -64,9 +66,19 @@ public class HistoricCaseInstanceEntityManagerImpl
     public long countByCriteria(HistoricCaseInstanceQuery query) {
         return dataManager.countByCriteria((HistoricCaseInstanceQueryImpl) query);
     }
+
+    @Override
+    public List<String> findIdsByCriteria(HistoricCaseInstanceQuery query) {
+        return dataManager.findIdsByCriteria((HistoricCaseInstanceQueryImpl) query);
+    }
     
     @Override
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
         dataManager.deleteHistoricCaseInstances(historicCaseInstanceQuery);
     }
+
+    @Override
+    public Map<String, Long> deleteHistoricCaseInstancesAndRelatedData(Collection<String> caseInstanceIds) {
+        return dataManager.deleteHistoricCaseInstancesAndRelatedData(caseInstanceIds, engineConfiguration.isEnableEntityLinks());
+    }
 }
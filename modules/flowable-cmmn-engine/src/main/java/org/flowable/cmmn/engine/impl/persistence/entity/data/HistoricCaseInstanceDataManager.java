@@ -12,7 +12,9 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -35,7 +37,15 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
 
     List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
 
+    List<String> findIdsByCriteria(HistoricCaseInstanceQueryImpl query);
+
     void deleteByCaseDefinitionId(String caseDefinitionId);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
+
+    /**
+     * Deletes the historic case instances with the given ids and their related data directly (not at flush time)
+     * and returns the number of deleted rows per table.
+     */
+    Map<String, Long> deleteHistoricCaseInstancesAndRelatedData(Collection<String> caseInstanceIds, boolean deleteEntityLinks);
 }
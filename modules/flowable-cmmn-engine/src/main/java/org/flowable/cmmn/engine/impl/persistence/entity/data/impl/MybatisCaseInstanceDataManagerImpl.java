@@ -16,7 +16,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -30,7 +32,9 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.CaseIn
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -167,6 +171,10 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
     @SuppressWarnings("unchecked")
     @Override
     public List<CaseInstance> findWithVariablesByCriteria(CaseInstanceQueryImpl query) {
+        if (cmmnEngineConfiguration.isEnableTwoPhaseRelatedEntitiesQueries()) {
+            return findWithVariablesInTwoPhases(query);
+        }
+
         // paging doesn't work for combining case instances and variables due
         // to an outer join, so doing it in-memory
 
@@ -201,6 +209,40 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         return Collections.EMPTY_LIST;
     }
 
+    /**
+     * Selects the requested page of case instances in sql and then fetches the variables of exactly those case instances.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<CaseInstance> findWithVariablesInTwoPhases(CaseInstanceQueryImpl query) {
+        List<CaseInstance> caseInstances = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                "selectCaseInstancesByQueryCriteria", query, getManagedEntityClass());
+
+        if (!query.isIncludeCaseVariables()) {
+            return caseInstances;
+        }
+
+        Map<String, CaseInstanceEntity> caseInstancesById = new LinkedHashMap<>();
+        for (CaseInstance caseInstance : caseInstances) {
+            CaseInstanceEntity caseInstanceEntity = (CaseInstanceEntity) caseInstance;
+            // A case instance from the entity cache has already been enhanced by the query
+            if (caseInstanceEntity != getEntityCache().findInCache(getManagedEntityClass(), caseInstanceEntity.getId())) {
+                caseInstancesById.put(caseInstanceEntity.getId(), caseInstanceEntity);
+            }
+        }
+
+        if (!caseInstancesById.isEmpty()) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("scopeType", ScopeTypes.CMMN);
+            parameters.put("withoutSubScopeId", true);
+            List<VariableInstanceEntity> variables = selectListByIdPartitions("selectVariablesByQuery", "scopeIds", caseInstancesById.keySet(), parameters);
+            for (VariableInstanceEntity variable : variables) {
+                caseInstancesById.get(variable.getScopeId()).getQueryVariables().add(variable);
+            }
+        }
+
+        return caseInstances;
+    }
+
     @Override
     public long countByCriteria(CaseInstanceQueryImpl query) {
         return (Long) getDbSqlSession().selectOne("selectCaseInstanceCountByQueryCriteria", query);
@@ -12,8 +12,12 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -67,6 +71,12 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
         return (Long) getDbSqlSession().selectOne("selectHistoricCaseInstanceCountByQueryCriteria", query);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findIdsByCriteria(HistoricCaseInstanceQueryImpl query) {
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectHistoricCaseInstanceIdsByQueryCriteria", query);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
@@ -114,4 +124,31 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
         getDbSqlSession().delete("bulkDeleteHistoricCaseInstances", historicCaseInstanceQuery, getManagedEntityClass());
     }
+
+    @Override
+    public Map<String, Long> deleteHistoricCaseInstancesAndRelatedData(Collection<String> caseInstanceIds, boolean deleteEntityLinks) {
+        List<String> ids = new ArrayList<>(caseInstanceIds);
+        Map<String, Long> deletedRows = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return deletedRows;
+        }
+
+        // The task identity links are deleted before the tasks, as they are found through the tasks
+        deletedRows.put("ACT_HI_IDENTITYLINK", deleteByCaseInstanceIds("deleteHistoricTaskIdentityLinksByCaseInstanceIds", ids)
+                + deleteByCaseInstanceIds("deleteHistoricIdentityLinksByCaseInstanceIds", ids));
+        if (deleteEntityLinks) {
+            deletedRows.put("ACT_HI_ENTITYLINK", deleteByCaseInstanceIds("deleteHistoricEntityLinksByCaseInstanceIds", ids));
+        }
+        deletedRows.put("ACT_HI_TSK_LOG", deleteByCaseInstanceIds("deleteHistoricTaskLogEntriesByCaseInstanceIds", ids));
+        deletedRows.put("ACT_HI_TASKINST", deleteByCaseInstanceIds("deleteHistoricTaskInstancesByCaseInstanceIds", ids));
+        deletedRows.put("ACT_HI_VARINST", deleteByCaseInstanceIds("deleteHistoricVariableInstancesByCaseInstanceIds", ids));
+        deletedRows.put("ACT_CMMN_HI_MIL_INST", deleteByCaseInstanceIds("deleteHistoricMilestoneInstancesByCaseInstanceIds", ids));
+        deletedRows.put("ACT_CMMN_HI_PLAN_ITEM_INST", deleteByCaseInstanceIds("deleteHistoricPlanItemInstancesByCaseInstanceIds", ids));
+        deletedRows.put("ACT_CMMN_HI_CASE_INST", deleteByCaseInstanceIds("deleteHistoricCaseInstancesByIds", ids));
+        return deletedRows;
+    }
+
+    protected long deleteByCaseInstanceIds(String statement, List<String> caseInstanceIds) {
+        return getDbSqlSession().getSqlSession().delete(statement, caseInstanceIds);
+    }
 }
@@ -16,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
@@ -385,6 +387,35 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
         }
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerWithCorrelation.cmmn")
+    public void testGenericEventListenerWithCorrelationInBatch() {
+        CaseInstance kermitCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("singleCorrelationCase")
+                .variable("customerIdVar", "kermit")
+                .start();
+        CaseInstance gonzoCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("singleCorrelationCase")
+                .variable("customerIdVar", "gonzo")
+                .start();
+
+        // The second event for kermit is handled in a separate transaction, after the first one
+        inboundEventChannelAdapter.triggerTestEvents(Arrays.asList("kermit", "gonzo", "kermit", "fozzie"));
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(3);
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list()).hasSize(2);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testCaseStartOnlyOneInstance.cmmn")
+    public void testCaseStartOnlyOneInstanceInBatch() {
+        inboundEventChannelAdapter.triggerTestEvents(Arrays.asList("testCustomer", "testCustomer", "anotherCustomer", "testCustomer", "anotherCustomer"));
+
+        assertThat(cmmnRuntimeService.createCaseInstanceQuery().list())
+                .extracting(CaseInstance::getReferenceId)
+                .doesNotHaveDuplicates()
+                .hasSize(2);
+    }
+
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
 
         public InboundChannelModel inboundChannelModel;
@@ -413,6 +444,18 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
         }
 
         public void triggerTestEvent(String customerId, String orderId) {
+            eventRegistry.eventReceived(inboundChannelModel, createTestEvent(customerId, orderId));
+        }
+
+        public void triggerTestEvents(List<String> customerIds) {
+            List<String> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                events.add(createTestEvent(customerId, null));
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+
+        protected String createTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
 
             ObjectNode json = objectMapper.createObjectNode();
@@ -427,7 +470,7 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
             try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+                return objectMapper.writeValueAsString(json);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
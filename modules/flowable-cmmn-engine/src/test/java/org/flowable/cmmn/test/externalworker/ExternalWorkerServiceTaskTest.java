@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.entry;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -1180,6 +1181,39 @@ public class ExternalWorkerServiceTaskTest extends FlowableCmmnTestCase {
         cmmnManagementService.createExternalWorkerJobFailureBuilder(acmeJob.getId(), "testWorker").fail();
     }
 
+@Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.cmmn")
+    public void testAcquireWithVariableNames() {
+        CaseInstance caseInstance1 = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("amount", 10)
+                .start();
+
+        CaseInstance caseInstance2 = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("simpleExternalWorker")
+                .variable("name", "fozzie")
+                .variable("amount", 20)
+                .start();
+
+        // A local variable of the plan item instance hides the case variable
+        ExternalWorkerJob externalWorkerJob = cmmnManagementService.createExternalWorkerJobQuery().scopeId(caseInstance2.getId()).singleResult();
+        cmmnRuntimeService.setLocalVariable(externalWorkerJob.getSubScopeId(), "name", "gonzo");
+        cmmnRuntimeService.setLocalVariable(externalWorkerJob.getSubScopeId(), "order", "order2");
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = cmmnManagementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs).hasSize(2);
+        Map<String, Map<String, Object>> variablesByCaseInstanceId = new HashMap<>();
+        for (AcquiredExternalWorkerJob acquiredJob : acquiredJobs) {
+            variablesByCaseInstanceId.put(acquiredJob.getScopeId(), acquiredJob.getVariables());
+        }
+        assertThat(variablesByCaseInstanceId.get(caseInstance1.getId())).containsOnly(entry("name", "kermit"), entry("amount", 10));
+        assertThat(variablesByCaseInstanceId.get(caseInstance2.getId())).containsOnly(entry("name", "gonzo"), entry("amount", 20), entry("order", "order2"));
+    }
+
     protected void addUserIdentityLinkToJob(Job job, String userId) {
         cmmnEngineConfiguration.getCommandExecutor()
                 .execute(commandContext -> {
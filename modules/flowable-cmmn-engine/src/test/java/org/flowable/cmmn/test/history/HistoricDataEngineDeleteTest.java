@@ -17,13 +17,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.CmmnHistoryService;
 import org.flowable.cmmn.api.CmmnManagementService;
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.CmmnHistoryCleanupBatchExecutor;
+import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
 import org.flowable.cmmn.engine.test.CmmnConfigurationResource;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
@@ -103,4 +107,126 @@ public class HistoricDataEngineDeleteTest {
             cmmnEngineConfiguration.resetClock();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/human-task-milestone-model.cmmn")
+    public void testHistoryCleanupContinuedInNewJob(CmmnEngineConfiguration cmmnEngineConfiguration, CmmnRuntimeService cmmnRuntimeService,
+            CmmnHistoryService cmmnHistoryService, CmmnTaskService cmmnTaskService, CmmnManagementService cmmnManagementService) {
+
+        int originalBatchSize = cmmnEngineConfiguration.getHistoryCleaningBatchSize();
+        int originalMaxBatchesPerExecution = cmmnEngineConfiguration.getHistoryCleaningMaxBatchesPerExecution();
+        try {
+            cmmnEngineConfiguration.setHistoryCleaningBatchSize(2);
+            cmmnEngineConfiguration.setHistoryCleaningMaxBatchesPerExecution(2);
+
+            Clock clock = cmmnEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 7; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+                cmmnTaskService.complete(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult().getId());
+            }
+
+            if (cmmnEngineConfiguration.getHistoryLevel() != HistoryLevel.NONE) {
+                cmmnManagementService.handleHistoryCleanupTimerJob();
+                Job executableJob = cmmnManagementService.moveTimerToExecutableJob(
+                        cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(executableJob.getId());
+
+                // 2 batches of 2 instances per execution, the remaining instances are deleted by a new job
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(3);
+                Job continueJob = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult();
+                assertThat(continueJob).isNotNull();
+                assertThat(continueJob.getJobHandlerConfiguration()).isEqualTo(CmmnHistoryCleanupJobHandler.CONTINUE_CONFIGURATION);
+
+                // The timer doesn't start another cleanup while the cleanup is continued
+                executableJob = cmmnManagementService.moveTimerToExecutableJob(
+                        cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(executableJob.getId());
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(3);
+
+                cmmnManagementService.executeJob(continueJob.getId());
+
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isZero();
+                assertThat(cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).count()).isZero();
+
+                cmmnManagementService
+                        .deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            cmmnEngineConfiguration.setHistoryCleaningBatchSize(originalBatchSize);
+            cmmnEngineConfiguration.setHistoryCleaningMaxBatchesPerExecution(originalMaxBatchesPerExecution);
+            cmmnEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/human-task-milestone-model.cmmn")
+    public void testHistoryCleanupInBatches(CmmnEngineConfiguration cmmnEngineConfiguration, CmmnRuntimeService cmmnRuntimeService,
+            CmmnHistoryService cmmnHistoryService, CmmnTaskService cmmnTaskService) {
+
+        int originalBatchSize = cmmnEngineConfiguration.getHistoryCleaningBatchSize();
+        int originalParallelism = cmmnEngineConfiguration.getHistoryCleaningParallelism();
+        try {
+            cmmnEngineConfiguration.setHistoryCleaningBatchSize(3);
+            cmmnEngineConfiguration.setHistoryCleaningParallelism(2);
+
+            Clock clock = cmmnEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> caseInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+                caseInstanceIds.add(caseInstance.getId());
+                cmmnRuntimeService.setVariable(caseInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (cmmnEngineConfiguration.getHistoryLevel() != HistoryLevel.NONE) {
+                for (int i = 0; i < 10; i++) {
+                    Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstanceIds.get(i)).singleResult();
+                    cmmnTaskService.complete(task.getId());
+                }
+
+                HistoricCaseInstanceQueryImpl cleaningQuery = (HistoricCaseInstanceQueryImpl) cmmnEngineConfiguration.getCmmnHistoryCleaningManager()
+                        .createHistoricCaseInstanceCleaningQuery();
+                Map<String, Long> deletedRows = new CmmnHistoryCleanupBatchExecutor(cmmnEngineConfiguration, cleaningQuery).execute();
+                assertThat(deletedRows)
+                        .containsEntry("ACT_CMMN_HI_CASE_INST", 10L)
+                        .containsEntry("ACT_HI_TASKINST", 10L)
+                        .containsEntry("ACT_HI_VARINST", 10L)
+                        .containsEntry("ACT_CMMN_HI_MIL_INST", 10L);
+
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().list())
+                        .extracting(HistoricCaseInstance::getId)
+                        .containsExactlyInAnyOrder(caseInstanceIds.get(10), caseInstanceIds.get(11));
+                assertThat(cmmnHistoryService.createHistoricTaskInstanceQuery().count()).isEqualTo(2);
+                assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().count()).isEqualTo(2);
+
+                for (int i = 10; i < 12; i++) {
+                    cmmnTaskService.complete(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstanceIds.get(i)).singleResult().getId());
+                }
+
+                cleaningQuery = (HistoricCaseInstanceQueryImpl) cmmnEngineConfiguration.getCmmnHistoryCleaningManager()
+                        .createHistoricCaseInstanceCleaningQuery();
+                deletedRows = new CmmnHistoryCleanupBatchExecutor(cmmnEngineConfiguration, cleaningQuery).execute();
+                assertThat(deletedRows)
+                        .containsEntry("ACT_CMMN_HI_CASE_INST", 2L)
+                        .containsEntry("ACT_HI_TASKINST", 2L)
+                        .containsEntry("ACT_HI_VARINST", 2L)
+                        .containsEntry("ACT_CMMN_HI_MIL_INST", 2L);
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isZero();
+                assertThat(cmmnHistoryService.createHistoricPlanItemInstanceQuery().count()).isZero();
+            }
+
+        } finally {
+            cmmnEngineConfiguration.setHistoryCleaningBatchSize(originalBatchSize);
+            cmmnEngineConfiguration.setHistoryCleaningParallelism(originalParallelism);
+            cmmnEngineConfiguration.resetClock();
+        }
+    }
+}
@@ -13,10 +13,6 @@
 
 package org.flowable.cmmn.rest.service.api.history.task;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
-
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -24,8 +20,8 @@ import org.flowable.cmmn.api.CmmnHistoryService;
 import org.flowable.cmmn.rest.service.api.CmmnRestResponseFactory;
 import org.flowable.cmmn.rest.service.api.engine.variable.RestVariable;
 import org.flowable.cmmn.rest.service.api.engine.variable.RestVariable.RestVariableScope;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
@@ -34,7 +30,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.Api;
@@ -63,33 +58,18 @@ public class HistoricTaskInstanceVariableDataResource extends HistoricTaskInstan
             @ApiResponse(code = 200, message = "Indicates the task instance was found and the requested variable data is returned."),
             @ApiResponse(code = 404, message = "Indicates the requested task instance was not found or the process instance does not have a variable with the given name or the variable does not  have a binary stream available. Status message provides additional information.") })
     @GetMapping(value = "/cmmn-history/historic-task-instances/{taskId}/variables/{variableName}/data")
-    @ResponseBody
-    public byte[] getVariableData(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId, @ApiParam(name = "variableName") @PathVariable("variableName") String variableName, @RequestParam(value = "scope", required = false) String scope,
+    public void getVariableData(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId, @ApiParam(name = "variableName") @PathVariable("variableName") String variableName, @RequestParam(value = "scope", required = false) String scope,
             HttpServletRequest request, HttpServletResponse response) {
 
-        try {
-            byte[] result = null;
-            RestVariable variable = getVariableFromRequest(true, taskId, variableName, scope, request);
-            if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
-                result = (byte[]) variable.getValue();
-                response.setContentType("application/octet-stream");
-
-            } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
-                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-                ObjectOutputStream outputStream = new ObjectOutputStream(buffer);
-                outputStream.writeObject(variable.getValue());
-                outputStream.close();
-                result = buffer.toByteArray();
-                response.setContentType("application/x-java-serialized-object");
+        RestVariable variable = getVariableFromRequest(true, taskId, variableName, scope, request);
+        if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
+            BinaryContentWriter.forContent((byte[]) variable.getValue()).contentType("application/octet-stream").write(request, response);
 
-            } else {
-                throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
-            }
-            return result;
+        } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
+            BinaryContentWriter.writeSerializedObject(variable.getValue(), "application/x-java-serialized-object", response);
 
-        } catch (IOException ioe) {
-            // Re-throw IOException
-            throw new FlowableException("Unexpected exception getting variable data", ioe);
+        } else {
+            throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
         }
     }
 
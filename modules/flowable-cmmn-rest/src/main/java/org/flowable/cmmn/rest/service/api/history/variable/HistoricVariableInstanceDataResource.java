@@ -13,22 +13,17 @@
 
 package org.flowable.cmmn.rest.service.api.history.variable;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
-
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.cmmn.api.CmmnHistoryService;
 import org.flowable.cmmn.rest.service.api.CmmnRestResponseFactory;
 import org.flowable.cmmn.rest.service.api.engine.variable.RestVariable;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.Api;
@@ -57,31 +52,16 @@ public class HistoricVariableInstanceDataResource extends HistoricVariableInstan
             @ApiResponse(code = 404, message = "Indicates the requested variable instance was not found or the variable instance does not have a variable with the given name or the variable does not have a binary stream available. Status message provides additional information.") })
     @ApiOperation(value = "Get the binary data for a historic task instance variable", tags = {
             "History" }, nickname = "getHistoricInstanceVariableData", notes = "The response body contains the binary value of the variable. When the variable is of type binary, the content-type of the response is set to application/octet-stream, regardless of the content of the variable or the request accept-type header. In case of serializable, application/x-java-serialized-object is used as content-type.")
-    @ResponseBody
-    public byte[] getVariableData(@ApiParam(name = "varInstanceId") @PathVariable("varInstanceId") String varInstanceId, HttpServletRequest request, HttpServletResponse response) {
-        try {
-            byte[] result = null;
-            RestVariable variable = getVariableFromRequest(true, varInstanceId, request);
-            if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
-                result = (byte[]) variable.getValue();
-                response.setContentType("application/octet-stream");
-
-            } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
-                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-                ObjectOutputStream outputStream = new ObjectOutputStream(buffer);
-                outputStream.writeObject(variable.getValue());
-                outputStream.close();
-                result = buffer.toByteArray();
-                response.setContentType("application/x-java-serialized-object");
+    public void getVariableData(@ApiParam(name = "varInstanceId") @PathVariable("varInstanceId") String varInstanceId, HttpServletRequest request, HttpServletResponse response) {
+        RestVariable variable = getVariableFromRequest(true, varInstanceId, request);
+        if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
+            BinaryContentWriter.forContent((byte[]) variable.getValue()).contentType("application/octet-stream").write(request, response);
 
-            } else {
-                throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
-            }
-            return result;
+        } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
+            BinaryContentWriter.writeSerializedObject(variable.getValue(), "application/x-java-serialized-object", response);
 
-        } catch (IOException ioe) {
-            // Re-throw IOException
-            throw new FlowableException("Unexpected exception getting variable data", ioe);
+        } else {
+            throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
         }
     }
 }
@@ -16,17 +16,17 @@ package org.flowable.cmmn.rest.service.api.repository;
 import java.io.InputStream;
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.http.entity.ContentType;
 import org.flowable.cmmn.api.CmmnRepositoryService;
 import org.flowable.cmmn.api.repository.CmmnDeployment;
 import org.flowable.cmmn.rest.service.api.CmmnRestApiInterceptor;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.rest.resolver.ContentTypeResolver;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
@@ -43,7 +43,10 @@ public class BaseDeploymentResourceDataResource {
     @Autowired(required=false)
     protected CmmnRestApiInterceptor restApiInterceptor;
 
-    protected byte[] getDeploymentResourceData(String deploymentId, String resourceName, HttpServletResponse response) {
+    /**
+     * Streams the resource to the response. The resources of a deployment never change, so the deployment id is used as ETag.
+     */
+    protected void writeDeploymentResourceData(String deploymentId, String resourceName, HttpServletRequest request, HttpServletResponse response) {
 
         if (deploymentId == null) {
             throw new FlowableIllegalArgumentException("No deployment id provided");
@@ -73,13 +76,11 @@ public class BaseDeploymentResourceDataResource {
             } else {
                 contentType = contentTypeResolver.resolveContentType(resourceName);
             }
-            response.setContentType(contentType);
-            
-            try {
-                return IOUtils.toByteArray(resourceStream);
-            } catch (Exception e) {
-                throw new FlowableException("Error converting resource stream", e);
-            }
+
+            BinaryContentWriter.forContent(resourceStream)
+                    .contentType(contentType)
+                    .eTag(deploymentId)
+                    .write(request, response);
         } else {
             // Resource not found in deployment
             throw new FlowableObjectNotFoundException("Could not find a resource with name '" + resourceName + "' in deployment '" + deploymentId + "'.", String.class);
@@ -13,11 +13,11 @@
 
 package org.flowable.cmmn.rest.service.api.repository;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.Api;
@@ -39,12 +39,11 @@ public class DeploymentResourceDataResource extends BaseDeploymentResourceDataRe
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates both deployment and resource have been found and the resource data has been returned."),
             @ApiResponse(code = 404, message = "Indicates the requested deployment was not found or there is no resource with the given id present in the deployment. The status-description contains additional information.") })
-    @ResponseBody
     @GetMapping("/cmmn-repository/deployments/{deploymentId}/resourcedata/{resourceName}")
-     public byte[] getDeploymentResource(@ApiParam(name = "deploymentId") @PathVariable("deploymentId") String deploymentId,
+     public void getDeploymentResource(@ApiParam(name = "deploymentId") @PathVariable("deploymentId") String deploymentId,
             @ApiParam(name = "resourceName", value = "The name of the resource to get. Make sure you URL-encode the resourceName in case it contains forward slashes. Eg: use diagrams%2Fmy-process.bpmn20.xml instead of diagrams/my-process.bpmn20.xml.") @PathVariable("resourceName") String resourceName,
-            HttpServletResponse response) {
+            HttpServletRequest request, HttpServletResponse response) {
 
-        return getDeploymentResourceData(deploymentId, resourceName, response);
+        writeDeploymentResourceData(deploymentId, resourceName, request, response);
     }
 }
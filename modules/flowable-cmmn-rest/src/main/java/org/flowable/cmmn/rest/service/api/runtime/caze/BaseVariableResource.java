@@ -13,10 +13,8 @@
 
 package org.flowable.cmmn.rest.service.api.runtime.caze;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -35,10 +33,10 @@ import org.flowable.cmmn.rest.service.api.CmmnRestApiInterceptor;
 import org.flowable.cmmn.rest.service.api.CmmnRestResponseFactory;
 import org.flowable.cmmn.rest.service.api.engine.variable.RestVariable;
 import org.flowable.cmmn.rest.service.api.engine.variable.RestVariable.RestVariableScope;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.rest.exception.FlowableContentNotSupportedException;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -104,31 +102,17 @@ public class BaseVariableResource {
         }
     }
     
-    protected byte[] getVariableDataByteArray(CaseInstance caseInstance, String variableName, HttpServletResponse response) {
+    protected void writeVariableData(CaseInstance caseInstance, String variableName, HttpServletRequest request, HttpServletResponse response) {
 
-        try {
-            byte[] result = null;
-
-            RestVariable variable = getVariableFromRequest(caseInstance, variableName, true);
-            if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
-                result = (byte[]) variable.getValue();
-                response.setContentType("application/octet-stream");
+        RestVariable variable = getVariableFromRequest(caseInstance, variableName, true);
+        if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
+            BinaryContentWriter.forContent((byte[]) variable.getValue()).contentType("application/octet-stream").write(request, response);
 
-            } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
-                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-                ObjectOutputStream outputStream = new ObjectOutputStream(buffer);
-                outputStream.writeObject(variable.getValue());
-                outputStream.close();
-                result = buffer.toByteArray();
-                response.setContentType("application/x-java-serialized-object");
+        } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
+            BinaryContentWriter.writeSerializedObject(variable.getValue(), "application/x-java-serialized-object", response);
 
-            } else {
-                throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
-            }
-            return result;
-
-        } catch (IOException ioe) {
-            throw new FlowableException("Error getting variable " + variableName, ioe);
+        } else {
+            throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
         }
     }
 
@@ -13,21 +13,16 @@
 
 package org.flowable.cmmn.rest.service.api.runtime.task;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
-
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.cmmn.rest.service.api.CmmnRestResponseFactory;
 import org.flowable.cmmn.rest.service.api.engine.variable.RestVariable;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.Api;
@@ -54,35 +49,19 @@ public class TaskVariableDataResource extends TaskVariableBaseResource {
             @ApiResponse(code = 404, message = "Indicates the requested task was not found or the task does not have a variable with the given name (in the given scope). Status message provides additional information.")
     })
     @GetMapping(value = "/cmmn-runtime/tasks/{taskId}/variables/{variableName}/data", produces = "application/json")
-    @ResponseBody
-    public byte[] getVariableData(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId,
+    public void getVariableData(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId,
             @ApiParam(name = "variableName") @PathVariable("variableName") String variableName,
             @ApiParam(hidden = true) @RequestParam(value = "scope", required = false) String scope,
             HttpServletRequest request, HttpServletResponse response) {
-        try {
-            byte[] result = null;
-
-            RestVariable variable = getVariableFromRequest(taskId, variableName, scope, true);
-            if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
-                result = (byte[]) variable.getValue();
-                response.setContentType("application/octet-stream");
-
-            } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
-                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-                ObjectOutputStream outputStream = new ObjectOutputStream(buffer);
-                outputStream.writeObject(variable.getValue());
-                outputStream.close();
-                result = buffer.toByteArray();
-                response.setContentType("application/x-java-serialized-object");
+        RestVariable variable = getVariableFromRequest(taskId, variableName, scope, true);
+        if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
+            BinaryContentWriter.forContent((byte[]) variable.getValue()).contentType("application/octet-stream").write(request, response);
 
-            } else {
-                throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
-            }
-            return result;
+        } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
+            BinaryContentWriter.writeSerializedObject(variable.getValue(), "application/x-java-serialized-object", response);
 
-        } catch (IOException ioe) {
-            // Re-throw IOException
-            throw new FlowableException("Unexpected error getting variable data", ioe);
+        } else {
+            throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
         }
     }
 }
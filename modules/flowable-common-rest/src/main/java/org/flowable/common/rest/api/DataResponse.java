@@ -15,6 +15,9 @@ package org.flowable.common.rest.api;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 /**
  * @author Tijs Rademakers
  */
@@ -26,6 +29,7 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    String continuationToken;
 
     public List<T> getData() {
         return data;
@@ -75,4 +79,13 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    @JsonInclude(Include.NON_NULL)
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
 }
@@ -12,8 +12,11 @@
  */
 package org.flowable.common.rest.api;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.Query;
@@ -149,4 +152,64 @@ public interface PaginateListUtil {
         return response;
     }
 
+    /**
+     * Returns true when the request asks for paging with a continuation token, in which case {@link #paginateListById} should be used.
+     * An empty continuation token asks for the first page.
+     */
+    static boolean isContinuationTokenRequested(Map<String, String> requestParams, PaginateRequest paginateRequest) {
+        return (paginateRequest != null && paginateRequest.getContinuationToken() != null) || requestParams.containsKey("continuationToken");
+    }
+
+    /**
+     * Pages through the query by id instead of by start index. The response contains an opaque continuation token that gives the next page
+     * when it is passed in the next request, so the database never needs to skip the previous pages. There is no continuation token
+     * in the response of the last page. The total isn't calculated and is -1.
+     *
+     * @param requestParams The request containing the pagination parameters
+     * @param paginateRequest The paginated request that can be used to get the parameters from
+     * @param query The query to get the paged list from, it needs to support {@link Query#listPageAfterId(String, int)}
+     * @param idProvider The function returning the id of a result element of the query
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     */
+    static <RES, REQ> DataResponse<RES> paginateListById(Map<String, String> requestParams, PaginateRequest paginateRequest, Query<?, REQ> query,
+        Function<REQ, String> idProvider, ListProcessor<REQ, RES> listProcessor) {
+        String continuationToken = paginateRequest != null ? paginateRequest.getContinuationToken() : null;
+        if (continuationToken == null) {
+            continuationToken = requestParams.get("continuationToken");
+        }
+
+        Integer size = paginateRequest != null ? paginateRequest.getSize() : null;
+        if (size == null) {
+            size = RequestUtil.getInteger(requestParams, "size", 10);
+        }
+        if (size <= 0) {
+            throw new FlowableIllegalArgumentException("Value for param 'size' must be greater than 0 when paging with a continuation token");
+        }
+
+        String afterId = null;
+        if (continuationToken != null && !continuationToken.isEmpty()) {
+            try {
+                afterId = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                throw new FlowableIllegalArgumentException("Value for param 'continuationToken' is not valid : '" + continuationToken + "'", e);
+            }
+        }
+
+        List<REQ> results = query.listPageAfterId(afterId, size);
+
+        DataResponse<RES> response = new DataResponse<>();
+        response.setStart(0);
+        response.setTotal(-1);
+        response.setSize(results.size());
+        if (results.size() == size) {
+            String lastId = idProvider.apply(results.get(results.size() - 1));
+            response.setContinuationToken(Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.getBytes(StandardCharsets.UTF_8)));
+        }
+        response.setData(listProcessor.processList(results));
+
+        return response;
+    }
+
 }
@@ -0,0 +1,234 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Writes binary content directly from its stream to the response, without buffering the content in memory.
+ * <p>
+ * When the content length is known (or the content is a {@link ByteArrayInputStream}), a request for a single byte range is answered
+ * with that part of the content.
+ * When an ETag is given, a request with a matching If-None-Match header is answered with 304 Not Modified.
+ * Content coming from a file is transferred with {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+ * which positions the file at the start of the range instead of reading up to it.
+ */
+public class BinaryContentWriter {
+
+    protected static final int BUFFER_SIZE = 8192;
+
+    protected InputStream content;
+    protected String contentType;
+    protected Long contentLength;
+    protected String eTag;
+
+    public BinaryContentWriter(InputStream content) {
+        this.content = content;
+    }
+
+    public static BinaryContentWriter forContent(InputStream content) {
+        return new BinaryContentWriter(content);
+    }
+
+    public static BinaryContentWriter forContent(byte[] content) {
+        return new BinaryContentWriter(new ByteArrayInputStream(content)).contentLength((long) content.length);
+    }
+
+    /**
+     * Serializes the object directly into the response, instead of serializing it into a buffer first.
+     */
+    public static void writeSerializedObject(Object object, String contentType, HttpServletResponse response) {
+        response.setContentType(contentType);
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(response.getOutputStream())) {
+            outputStream.writeObject(object);
+        } catch (IOException e) {
+            throw new FlowableException("Error writing serialized object", e);
+        }
+    }
+
+    public BinaryContentWriter contentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    public BinaryContentWriter contentLength(Long contentLength) {
+        this.contentLength = contentLength;
+        return this;
+    }
+
+    /**
+     * @param eTag the unquoted entity tag, which must change whenever the content changes
+     */
+    public BinaryContentWriter eTag(String eTag) {
+        this.eTag = eTag;
+        return this;
+    }
+
+    public void write(HttpServletRequest request, HttpServletResponse response) {
+        try (InputStream inputStream = content) {
+            String quotedETag = null;
+            if (eTag != null) {
+                quotedETag = "\"" + eTag + "\"";
+                response.setHeader(HttpHeaders.ETAG, quotedETag);
+                if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), quotedETag)) {
+                    response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                    return;
+                }
+            }
+
+            response.setContentType(contentType != null ? contentType : "application/octet-stream");
+
+            if (contentLength == null && inputStream instanceof ByteArrayInputStream) {
+                // The content is in memory already, which makes its length known
+                contentLength = (long) inputStream.available();
+            }
+
+            long start = 0;
+            Long length = contentLength;
+            if (contentLength != null) {
+                response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+                HttpRange range = getRequestedRange(request, quotedETag);
+                if (range != null) {
+                    long end;
+                    try {
+                        start = range.getRangeStart(contentLength);
+                        end = range.getRangeEnd(contentLength);
+                    } catch (IllegalArgumentException e) {
+                        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength);
+                        return;
+                    }
+
+                    length = end - start + 1;
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentLength);
+                }
+
+                response.setContentLengthLong(length);
+            }
+
+            copy(inputStream, response.getOutputStream(), start, length);
+
+        } catch (IOException e) {
+            throw new FlowableException("Error writing binary content", e);
+        }
+    }
+
+    protected boolean matchesIfNoneMatch(String ifNoneMatch, String quotedETag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String requestedETag : ifNoneMatch.split(",")) {
+            requestedETag = requestedETag.trim();
+            if (requestedETag.startsWith("W/")) {
+                requestedETag = requestedETag.substring(2);
+            }
+            if ("*".equals(requestedETag) || quotedETag.equals(requestedETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the single range requested by the client, or null when the full content should be returned
+     */
+    protected HttpRange getRequestedRange(HttpServletRequest request, String quotedETag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        // A range for another version of the content gets the full content
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(quotedETag)) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // An invalid range header is ignored
+            return null;
+        }
+
+        // Multiple ranges would need a multipart response, the full content is returned instead
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    protected void copy(InputStream inputStream, OutputStream outputStream, long start, Long length) throws IOException {
+        if (inputStream instanceof FileInputStream) {
+            FileChannel fileChannel = ((FileInputStream) inputStream).getChannel();
+            WritableByteChannel outputChannel = Channels.newChannel(outputStream);
+            long position = start;
+            long remaining = length != null ? length : fileChannel.size() - start;
+            while (remaining > 0) {
+                long transferred = fileChannel.transferTo(position, remaining, outputChannel);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            return;
+        }
+
+        skip(inputStream, start);
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = length != null ? length : Long.MAX_VALUE;
+        while (remaining > 0) {
+            int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                break;
+            }
+            outputStream.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    protected void skip(InputStream inputStream, long bytesToSkip) throws IOException {
+        long remaining = bytesToSkip;
+        while (remaining > 0) {
+            long skipped = inputStream.skip(remaining);
+            if (skipped <= 0) {
+                // skip may return 0 before the end of the stream, reading tells whether the end is reached
+                if (inputStream.read() == -1) {
+                    return;
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+}
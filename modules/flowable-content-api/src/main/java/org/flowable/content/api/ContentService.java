@@ -27,6 +27,12 @@ public interface ContentService {
 
     InputStream getContentItemData(String contentItemId);
 
+    /**
+     * Returns a stream over at most length bytes of the content, starting at the given byte offset.
+     * Content storages that support it only read the requested range.
+     */
+    InputStream getContentItemData(String contentItemId, long start, long length);
+
     void deleteContentItem(String contentItemId);
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
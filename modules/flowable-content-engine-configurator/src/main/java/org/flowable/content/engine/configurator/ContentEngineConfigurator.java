@@ -14,7 +14,9 @@ package org.flowable.content.engine.configurator;
 
 import java.util.List;
 
+import org.flowable.common.engine.api.Engine;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.AbstractEngineConfigurator;
 import org.flowable.common.engine.impl.EngineDeployer;
@@ -56,10 +58,29 @@ public class ContentEngineConfigurator extends AbstractEngineConfigurator {
         
         initialiseCommonProperties(engineConfiguration, contentEngineConfiguration);
 
-        initContentEngine();
+        ContentEngine contentEngine = initContentEngine();
+        initContentEngineCloseListener(engineConfiguration, contentEngine);
         
         initServiceConfigurations(engineConfiguration, contentEngineConfiguration);
     }
+
+    /**
+     * Closes the content engine when the engine it is configured in is closed, which stops the background threads of the content storage.
+     */
+    protected void initContentEngineCloseListener(AbstractEngineConfiguration engineConfiguration, ContentEngine contentEngine) {
+        engineConfiguration.addEngineLifecycleListener(new EngineLifecycleListener() {
+
+            @Override
+            public void onEngineBuilt(Engine engine) {
+                // nothing to do
+            }
+
+            @Override
+            public void onEngineClosed(Engine engine) {
+                contentEngine.close();
+            }
+        });
+    }
     
     @Override
     protected List<Class<? extends Entity>> getEntityInsertionOrder() {
@@ -14,17 +14,24 @@ package org.flowable.content.engine.configurator.test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import javax.mail.internet.MimeMultipart;
 
+import org.apache.commons.io.FileUtils;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.content.api.ContentService;
 import org.flowable.content.engine.ContentEngineConfiguration;
+import org.flowable.content.engine.configurator.ContentEngineConfigurator;
+import org.flowable.content.engine.impl.cfg.StandaloneContentEngineConfiguration;
+import org.flowable.content.engine.impl.fs.ContentAddressedFileSystemContentStorage;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -135,4 +142,33 @@ public class ContentEngineConfiguratorTest {
     }
 
 
+    @Test
+    public void testContentGarbageCollectorStoppedWhenProcessEngineIsClosed() throws Exception {
+        Path contentRootFolder = Files.createTempDirectory("flowable-content");
+        ContentEngineConfigurator contentEngineConfigurator = new ContentEngineConfigurator()
+            .setContentEngineConfiguration(new StandaloneContentEngineConfiguration()
+                .setContentRootFolder(contentRootFolder.toString())
+                .setUseContentAddressedStorage(true)
+                .setContentGarbageCollectionIntervalInMillis(60_000L));
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+            .createStandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-content-gc;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setEngineName("contentGarbageCollectorEngine");
+        processEngineConfiguration.addConfigurator(contentEngineConfigurator);
+        ProcessEngine otherProcessEngine = processEngineConfiguration.buildProcessEngine();
+
+        try {
+            ContentAddressedFileSystemContentStorage contentStorage = (ContentAddressedFileSystemContentStorage) contentEngineConfigurator
+                .getContentEngineConfiguration().getContentStorage();
+            assertThat(contentStorage.isGarbageCollectorRunning()).isTrue();
+
+            otherProcessEngine.close();
+            assertThat(contentStorage.isGarbageCollectorRunning()).isFalse();
+
+        } finally {
+            FileUtils.deleteDirectory(contentRootFolder.toFile());
+        }
+    }
+
 }
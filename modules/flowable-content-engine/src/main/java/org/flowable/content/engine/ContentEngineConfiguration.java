@@ -43,6 +43,7 @@ import org.flowable.content.engine.impl.cfg.StandaloneInMemContentEngineConfigur
 import org.flowable.content.engine.impl.cmd.SchemaOperationsContentEngineBuild;
 import org.flowable.content.engine.impl.db.ContentDbSchemaManager;
 import org.flowable.content.engine.impl.db.EntityDependencyOrder;
+import org.flowable.content.engine.impl.fs.ContentAddressedFileSystemContentStorage;
 import org.flowable.content.engine.impl.fs.SimpleFileSystemContentStorage;
 import org.flowable.content.engine.impl.persistence.entity.ContentItemEntityManager;
 import org.flowable.content.engine.impl.persistence.entity.ContentItemEntityManagerImpl;
@@ -73,6 +74,18 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
     protected String contentRootFolder;
     protected boolean createContentRootFolder = true;
 
+    /**
+     * Stores content by its hash, so content that is stored many times is only kept once on disk.
+     * Content stored by the default content storage can't be read when this is enabled on an existing content root folder.
+     */
+    protected boolean useContentAddressedStorage;
+
+    /**
+     * The delay between runs of the removal of content that isn't referenced anymore, when the content addressed storage is used.
+     * The background removal is disabled when this is 0 or less.
+     */
+    protected long contentGarbageCollectionIntervalInMillis = 60 * 60 * 1000;
+
     // ENTITY MANAGERS /////////////////////////////////////////////////
     protected ContentItemEntityManager contentItemEntityManager;
 
@@ -188,10 +201,27 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
                 logger.info("Content file system root : {}", contentRootFile.getAbsolutePath());
             }
 
-            contentStorage = new SimpleFileSystemContentStorage(contentRootFile);
+            if (useContentAddressedStorage) {
+                ContentAddressedFileSystemContentStorage contentAddressedStorage = new ContentAddressedFileSystemContentStorage(contentRootFile);
+                if (contentGarbageCollectionIntervalInMillis > 0) {
+                    contentAddressedStorage.startGarbageCollector(contentGarbageCollectionIntervalInMillis);
+                }
+                contentStorage = contentAddressedStorage;
+
+            } else {
+                contentStorage = new SimpleFileSystemContentStorage(contentRootFile);
+            }
         }
     }
 
+    @Override
+    public void close() {
+        if (contentStorage instanceof ContentAddressedFileSystemContentStorage) {
+            ((ContentAddressedFileSystemContentStorage) contentStorage).stopGarbageCollector();
+        }
+        super.close();
+    }
+
     // data model ///////////////////////////////////////////////////////////////
 
     @Override
@@ -465,6 +495,24 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
         return this;
     }
 
+    public boolean isUseContentAddressedStorage() {
+        return useContentAddressedStorage;
+    }
+
+    public ContentEngineConfiguration setUseContentAddressedStorage(boolean useContentAddressedStorage) {
+        this.useContentAddressedStorage = useContentAddressedStorage;
+        return this;
+    }
+
+    public long getContentGarbageCollectionIntervalInMillis() {
+        return contentGarbageCollectionIntervalInMillis;
+    }
+
+    public ContentEngineConfiguration setContentGarbageCollectionIntervalInMillis(long contentGarbageCollectionIntervalInMillis) {
+        this.contentGarbageCollectionIntervalInMillis = contentGarbageCollectionIntervalInMillis;
+        return this;
+    }
+
     @Override
     public ContentEngineConfiguration setSqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
         this.sqlSessionFactory = sqlSessionFactory;
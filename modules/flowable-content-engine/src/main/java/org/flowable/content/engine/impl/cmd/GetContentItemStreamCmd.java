@@ -12,9 +12,12 @@
  */
 package org.flowable.content.engine.impl.cmd;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -22,6 +25,8 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+import org.flowable.content.engine.impl.fs.FileSystemContentObject;
 import org.flowable.content.engine.impl.util.CommandContextUtil;
 
 /**
@@ -32,16 +37,27 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
     private static final long serialVersionUID = 1L;
 
     protected String contentItemId;
+    protected Long start;
+    protected Long length;
 
     public GetContentItemStreamCmd(String contentItemId) {
         this.contentItemId = contentItemId;
     }
 
+    public GetContentItemStreamCmd(String contentItemId, long start, long length) {
+        this.contentItemId = contentItemId;
+        this.start = start;
+        this.length = length;
+    }
+
     @Override
     public InputStream execute(CommandContext commandContext) {
         if (contentItemId == null) {
             throw new FlowableIllegalArgumentException("contentItemId is null");
         }
+        if (start != null && (start < 0 || length < 0)) {
+            throw new FlowableIllegalArgumentException("start and length must not be negative");
+        }
 
         ContentItem contentItem = CommandContextUtil.getContentItemEntityManager().findById(contentItemId);
         if (contentItem == null) {
@@ -50,7 +66,25 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
 
         ContentStorage contentStorage = CommandContextUtil.getContentEngineConfiguration().getContentStorage();
         ContentObject contentObject = contentStorage.getContentObject(contentItem.getContentStoreId());
-        return contentObject.getContent();
+        if (start == null) {
+            return contentObject.getContent();
+
+        } else if (contentObject instanceof FileSystemContentObject) {
+            return ((FileSystemContentObject) contentObject).getContent(start, length);
+
+        } else {
+            return getRange(contentObject.getContent());
+        }
+    }
+
+    protected InputStream getRange(InputStream content) {
+        try {
+            IOUtils.skip(content, start);
+        } catch (IOException e) {
+            IOUtils.closeQuietly(content);
+            throw new ContentStorageException("Error while reading content of content item " + contentItemId, e);
+        }
+        return new BoundedInputStream(content, length);
     }
 
 }
@@ -0,0 +1,425 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentObjectStorageMetadata;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.uuid.EthernetAddress;
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedGenerator;
+
+/**
+ * {@link ContentStorage} that stores content by the SHA-256 hash of its bytes, so content that is stored many times is only kept once on disk.
+ * <p>
+ * Every content object is a reference to a blob: its id is the hash of the blob followed by a unique reference id.
+ * The references of a blob are kept as empty files in a folder per blob, so the reference count survives restarts and is shared by
+ * all engines using the same root folder. Deleting a content object only removes its reference; blobs without references are removed by
+ * {@link #collectGarbage()}, which can run periodically in the background with {@link #startGarbageCollector(long)}.
+ * <p>
+ * Content is written to a temporary file through NIO channels, and the hash is computed in the same pass.
+ */
+public class ContentAddressedFileSystemContentStorage implements ContentStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentAddressedFileSystemContentStorage.class);
+
+    private static TimeBasedGenerator UUID_GENERATOR = Generators.timeBasedGenerator(EthernetAddress.fromInterface());
+
+    public static final String BLOBS_FOLDER = "blobs";
+    public static final String REFERENCES_FOLDER = "references";
+    public static final String TEMP_FOLDER = "temp";
+
+    protected static final String HASH_ALGORITHM = "SHA-256";
+    protected static final String GARBAGE_SUFFIX = "_GC";
+    protected static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Temporary files are only left behind when writing was interrupted, they are removed by the garbage collector after this time.
+     */
+    protected static final long TEMP_FILE_MAX_AGE = TimeUnit.DAYS.toMillis(1);
+
+    protected File blobsFolder;
+    protected File referencesFolder;
+    protected File tempFolder;
+
+    protected ScheduledExecutorService garbageCollectorExecutor;
+
+    public ContentAddressedFileSystemContentStorage(File contentFolderRoot) {
+        this.blobsFolder = validateOrCreateFolder(new File(contentFolderRoot, BLOBS_FOLDER));
+        this.referencesFolder = validateOrCreateFolder(new File(contentFolderRoot, REFERENCES_FOLDER));
+        this.tempFolder = validateOrCreateFolder(new File(contentFolderRoot, TEMP_FOLDER));
+    }
+
+    protected File validateOrCreateFolder(File folder) {
+        if (!folder.exists()) {
+            if (folder.mkdirs()) {
+                LOGGER.info("Created content folder in {}", folder.getAbsolutePath());
+            } else if (!folder.exists()) {
+                throw new ContentStorageException("Could not create content folder " + folder.getAbsolutePath());
+            }
+        }
+        return folder;
+    }
+
+    @Override
+    @Deprecated
+    public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+        return createContentObject(contentStream);
+    }
+
+    @Override
+    public ContentObject createContentObject(InputStream contentStream, ContentObjectStorageMetadata metaData) {
+        return createContentObject(contentStream);
+    }
+
+    protected ContentObject createContentObject(InputStream contentStream) {
+        File tempFile = createTempFile();
+        try {
+            MessageDigest digest = createMessageDigest();
+            long length = writeAndDigest(contentStream, tempFile, digest);
+            String hash = toHex(digest.digest());
+
+            // The reference is created before the blob is stored, so the garbage collector never removes a blob that is being referenced
+            String contentId = hash + "." + UUID_GENERATOR.generate().toString();
+            createReference(hash, getReferenceFile(hash, contentId));
+            storeBlob(tempFile, hash);
+
+            return new FileSystemContentObject(getBlobFile(hash), contentId, length);
+
+        } finally {
+            if (tempFile.exists() && !tempFile.delete()) {
+                LOGGER.warn("Could not delete temporary content file {}", tempFile.getAbsolutePath());
+            }
+        }
+    }
+
+    protected File createTempFile() {
+        try {
+            return File.createTempFile("content", null, tempFolder);
+        } catch (IOException e) {
+            throw new ContentStorageException("Could not create temporary content file in " + tempFolder.getAbsolutePath(), e);
+        }
+    }
+
+    protected MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ContentStorageException("Hash algorithm " + HASH_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Copies the content to the file and updates the digest with every buffer that is copied, so the content is only read once.
+     * The content stream is not closed, as it is owned by the caller.
+     */
+    protected long writeAndDigest(InputStream contentStream, File file, MessageDigest digest) {
+        ReadableByteChannel source = Channels.newChannel(contentStream);
+        try (FileChannel target = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long length = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    length += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return length;
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while writing content to file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    protected void createReference(String hash, File referenceFile) {
+        // The garbage collector removes the empty reference folder of a blob it deletes, in which case creating the folder is retried once
+        for (int attempt = 0; ; attempt++) {
+            try {
+                Files.createDirectories(referenceFile.getParentFile().toPath());
+                Files.createFile(referenceFile.toPath());
+                return;
+
+            } catch (NoSuchFileException e) {
+                if (attempt > 0) {
+                    throw new ContentStorageException("Could not create reference for content " + hash, e);
+                }
+            } catch (IOException e) {
+                throw new ContentStorageException("Could not create reference for content " + hash, e);
+            }
+        }
+    }
+
+    protected void storeBlob(File tempFile, String hash) {
+        File blobFile = getBlobFile(hash);
+        if (blobFile.exists()) {
+            // The same content is stored already
+            return;
+        }
+
+        File blobFolder = blobFile.getParentFile();
+        blobFolder.mkdirs();
+        try {
+            // When the same content is stored concurrently, the blob is replaced by an identical one
+            Files.move(tempFile.toPath(), blobFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (!blobFile.exists()) {
+                throw new ContentStorageException("Could not store content " + hash, e);
+            }
+        }
+    }
+
+    @Override
+    public ContentObject getContentObject(String id) {
+        String hash = getHash(id);
+        if (!getReferenceFile(hash, id).exists()) {
+            throw new ContentNotFoundException("No content found for id " + id);
+        }
+
+        File blobFile = getBlobFile(hash);
+        if (!blobFile.exists()) {
+            throw new ContentNotFoundException("No content found for id " + id);
+        }
+        return new FileSystemContentObject(blobFile, id);
+    }
+
+    @Override
+    public Map<String, Object> getMetaData() {
+        // This implementation doesn't support metadata
+        return null;
+    }
+
+    @Override
+    @Deprecated
+    public ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData) {
+        return updateContentObject(id, contentStream);
+    }
+
+    @Override
+    public ContentObject updateContentObject(String id, InputStream contentStream, ContentObjectStorageMetadata metaData) {
+        return updateContentObject(id, contentStream);
+    }
+
+    /**
+     * As the id depends on the content, updated content gets a new id and the reference of the old id is removed.
+     */
+    protected ContentObject updateContentObject(String id, InputStream contentStream) {
+        // Fails when there is no content for the id
+        getContentObject(id);
+
+        ContentObject contentObject = createContentObject(contentStream);
+        deleteContentObject(id);
+        return contentObject;
+    }
+
+    @Override
+    public void deleteContentObject(String id) {
+        File referenceFile = getReferenceFile(getHash(id), id);
+        if (!referenceFile.exists()) {
+            throw new ContentNotFoundException("No content found for id " + id);
+        }
+        if (!referenceFile.delete()) {
+            throw new ContentStorageException("Could not delete content with id " + id);
+        }
+    }
+
+    @Override
+    public String getContentStoreName() {
+        return "content-addressed-file";
+    }
+
+    /**
+     * @return the number of content objects referencing the blob with the given hash
+     */
+    public int getReferenceCount(String hash) {
+        String[] references = getReferenceFolder(hash).list();
+        return references != null ? references.length : 0;
+    }
+
+    /**
+     * Removes the blobs that are not referenced by any content object anymore.
+     *
+     * @return the number of removed blobs
+     */
+    public int collectGarbage() {
+        int removedBlobs = 0;
+        File[] blobFolders = blobsFolder.listFiles(File::isDirectory);
+        if (blobFolders != null) {
+            for (File blobFolder : blobFolders) {
+                File[] blobFiles = blobFolder.listFiles(File::isFile);
+                if (blobFiles != null) {
+                    for (File blobFile : blobFiles) {
+                        if (collectGarbage(blobFile)) {
+                            removedBlobs++;
+                        }
+                    }
+                }
+            }
+        }
+
+        removeAbandonedTempFiles();
+        return removedBlobs;
+    }
+
+    protected boolean collectGarbage(File blobFile) {
+        String fileName = blobFile.getName();
+        if (fileName.endsWith(GARBAGE_SUFFIX)) {
+            // Left behind by an interrupted garbage collection
+            String hash = fileName.substring(0, fileName.length() - GARBAGE_SUFFIX.length());
+            File originalBlobFile = new File(blobFile.getParentFile(), hash);
+            if (getReferenceCount(hash) > 0 && !originalBlobFile.exists()) {
+                blobFile.renameTo(originalBlobFile);
+            } else {
+                blobFile.delete();
+            }
+            return false;
+        }
+
+        String hash = fileName;
+        if (getReferenceCount(hash) > 0) {
+            return false;
+        }
+
+        // The blob is moved out of the way before the references are checked again. Content with the same hash that is stored concurrently
+        // either finds the blob missing and stores it again, or has created its reference already, in which case the blob is restored.
+        File garbageFile = new File(blobFile.getParentFile(), hash + GARBAGE_SUFFIX);
+        if (!blobFile.renameTo(garbageFile)) {
+            return false;
+        }
+
+        if (getReferenceCount(hash) > 0) {
+            if (blobFile.exists() || !garbageFile.renameTo(blobFile)) {
+                garbageFile.delete();
+            }
+            return false;
+        }
+
+        garbageFile.delete();
+        // Only succeeds when the folder is still empty
+        getReferenceFolder(hash).delete();
+        return true;
+    }
+
+    protected void removeAbandonedTempFiles() {
+        File[] tempFiles = tempFolder.listFiles();
+        if (tempFiles != null) {
+            long maxLastModified = System.currentTimeMillis() - TEMP_FILE_MAX_AGE;
+            for (File tempFile : tempFiles) {
+                if (tempFile.lastModified() < maxLastModified) {
+                    tempFile.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts running {@link #collectGarbage()} in a background thread, with the given delay between runs.
+     */
+    public synchronized void startGarbageCollector(long intervalInMillis) {
+        if (garbageCollectorExecutor == null) {
+            garbageCollectorExecutor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("flowable-content-garbage-collector-%d")
+                .daemon(true)
+                .build());
+            garbageCollectorExecutor.scheduleWithFixedDelay(this::runGarbageCollector, intervalInMillis, intervalInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void stopGarbageCollector() {
+        if (garbageCollectorExecutor != null) {
+            garbageCollectorExecutor.shutdownNow();
+            garbageCollectorExecutor = null;
+        }
+    }
+
+    public synchronized boolean isGarbageCollectorRunning() {
+        return garbageCollectorExecutor != null;
+    }
+
+    protected void runGarbageCollector() {
+        try {
+            int removedBlobs = collectGarbage();
+            LOGGER.debug("Removed {} unreferenced content blobs", removedBlobs);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error while removing unreferenced content blobs", e);
+        }
+    }
+
+    protected String getHash(String id) {
+        int separatorIndex = id != null ? id.indexOf('.') : -1;
+        if (separatorIndex <= 0 || separatorIndex == id.length() - 1) {
+            throw new ContentNotFoundException("No content found for id " + id);
+        }
+
+        // Ids only consist of the hex hash and the uuid of the reference, so they can't point outside of the content folder
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (Character.digit(c, 16) == -1 && (i < separatorIndex || (c != '-' && i != separatorIndex))) {
+                throw new ContentNotFoundException("No content found for id " + id);
+            }
+        }
+        return id.substring(0, separatorIndex);
+    }
+
+    protected File getBlobFile(String hash) {
+        return new File(new File(blobsFolder, getHashPrefix(hash)), hash);
+    }
+
+    protected File getReferenceFolder(String hash) {
+        return new File(new File(referencesFolder, getHashPrefix(hash)), hash);
+    }
+
+    protected File getReferenceFile(String hash, String id) {
+        return new File(getReferenceFolder(hash), id.substring(hash.length() + 1));
+    }
+
+    protected String getHashPrefix(String hash) {
+        // Spreads the blobs over multiple folders, so a single folder doesn't get too many files
+        return hash.length() > 2 ? hash.substring(0, 2) : hash;
+    }
+
+    protected String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+}
@@ -15,8 +15,14 @@ package org.flowable.content.engine.impl.fs;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorageException;
 
@@ -68,4 +74,19 @@ public class FileSystemContentObject implements ContentObject {
         return inputStream;
     }
 
+    /**
+     * Returns a new stream over at most length bytes of the file, starting at the given byte offset, without reading the bytes before it.
+     */
+    public InputStream getContent(long start, long length) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            channel.position(start);
+            return new BoundedInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            IOUtils.closeQuietly(channel);
+            throw new ContentStorageException("Error while opening file stream", e);
+        }
+    }
+
 }
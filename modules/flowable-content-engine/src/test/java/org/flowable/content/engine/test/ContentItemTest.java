@@ -15,6 +15,7 @@ package org.flowable.content.engine.test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,6 +25,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
 import org.apache.commons.io.IOUtils;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.content.api.ContentItem;
 import org.junit.Test;
@@ -277,6 +279,28 @@ public class ContentItemTest extends AbstractFlowableContentTest {
         contentService.deleteContentItem(initialContentItem.getId());
     }
 
+    @Test
+    public void getContentItemDataRange() throws IOException {
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("testItem");
+        contentItem.setMimeType("text/plain");
+        contentService.saveContentItem(contentItem, new ByteArrayInputStream("hello world".getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 6, 5)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("world");
+        }
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 6, 100)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("world");
+        }
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 20, 5)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEmpty();
+        }
+        assertThatThrownBy(() -> contentService.getContentItemData(contentItem.getId(), -1, 5))
+            .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        contentService.deleteContentItem(contentItem.getId());
+    }
+
     protected void createContentItem() {
         ContentItem contentItem = contentService.newContentItem();
         contentItem.setName("testScopeItem");
@@ -0,0 +1,164 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.test.fs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentObjectStorageMetadata;
+import org.flowable.content.engine.impl.fs.ContentAddressedFileSystemContentStorage;
+import org.flowable.content.engine.impl.fs.FileSystemContentObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ContentAddressedFileSystemContentStorageTest {
+
+    protected File contentRootFolder;
+    protected ContentAddressedFileSystemContentStorage contentStorage;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        contentRootFolder = Files.createTempDirectory("flowable-content").toFile();
+        contentStorage = new ContentAddressedFileSystemContentStorage(contentRootFolder);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        contentStorage.stopGarbageCollector();
+        FileUtils.deleteDirectory(contentRootFolder);
+    }
+
+    @Test
+    public void storeSameContentOnce() throws IOException {
+        List<ContentObject> contentObjects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            contentObjects.add(createContentObject("hello world"));
+        }
+
+        assertThat(contentObjects).extracting(ContentObject::getId).doesNotHaveDuplicates();
+        assertThat(contentObjects).extracting(ContentObject::getContentLength).containsOnly(11L);
+        assertThat(getBlobFiles()).hasSize(1);
+        assertThat(contentStorage.getReferenceCount(getHash(contentObjects.get(0)))).isEqualTo(10);
+        assertThat(new File(contentRootFolder, ContentAddressedFileSystemContentStorage.TEMP_FOLDER).list()).isEmpty();
+
+        for (ContentObject contentObject : contentObjects) {
+            assertThat(readContent(contentStorage.getContentObject(contentObject.getId()))).isEqualTo("hello world");
+        }
+
+        createContentObject("other content");
+        assertThat(getBlobFiles()).hasSize(2);
+    }
+
+    @Test
+    public void storeLargeContent() throws IOException {
+        byte[] bytes = new byte[1024 * 1024 + 17];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        ContentObject contentObject = contentStorage.createContentObject(new ByteArrayInputStream(bytes), (ContentObjectStorageMetadata) null);
+        assertThat(contentObject.getContentLength()).isEqualTo(bytes.length);
+        try (InputStream contentStream = contentStorage.getContentObject(contentObject.getId()).getContent()) {
+            assertThat(IOUtils.toByteArray(contentStream)).isEqualTo(bytes);
+        }
+
+        FileSystemContentObject fileSystemContentObject = (FileSystemContentObject) contentStorage.getContentObject(contentObject.getId());
+        try (InputStream contentStream = fileSystemContentObject.getContent(1000, 10)) {
+            byte[] expected = new byte[10];
+            System.arraycopy(bytes, 1000, expected, 0, 10);
+            assertThat(IOUtils.toByteArray(contentStream)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void collectGarbageAfterAllReferencesAreDeleted() throws IOException {
+        ContentObject first = createContentObject("hello world");
+        ContentObject second = createContentObject("hello world");
+        String hash = getHash(first);
+
+        contentStorage.deleteContentObject(first.getId());
+        assertThat(contentStorage.getReferenceCount(hash)).isEqualTo(1);
+        assertThat(contentStorage.collectGarbage()).isZero();
+        assertThat(readContent(contentStorage.getContentObject(second.getId()))).isEqualTo("hello world");
+        assertThatThrownBy(() -> contentStorage.getContentObject(first.getId()))
+            .isInstanceOf(ContentNotFoundException.class);
+
+        contentStorage.deleteContentObject(second.getId());
+        assertThat(contentStorage.getReferenceCount(hash)).isZero();
+        assertThat(contentStorage.collectGarbage()).isEqualTo(1);
+        assertThat(getBlobFiles()).isEmpty();
+
+        ContentObject third = createContentObject("hello world");
+        assertThat(getHash(third)).isEqualTo(hash);
+        assertThat(readContent(contentStorage.getContentObject(third.getId()))).isEqualTo("hello world");
+    }
+
+    @Test
+    public void updateContentObject() throws IOException {
+        ContentObject contentObject = createContentObject("hello world");
+        ContentObject updatedContentObject = contentStorage.updateContentObject(contentObject.getId(),
+            new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)), (ContentObjectStorageMetadata) null);
+
+        assertThat(updatedContentObject.getId()).isNotEqualTo(contentObject.getId());
+        assertThat(readContent(contentStorage.getContentObject(updatedContentObject.getId()))).isEqualTo("hello");
+        assertThatThrownBy(() -> contentStorage.getContentObject(contentObject.getId()))
+            .isInstanceOf(ContentNotFoundException.class);
+
+        assertThat(contentStorage.collectGarbage()).isEqualTo(1);
+        assertThat(getBlobFiles()).hasSize(1);
+    }
+
+    @Test
+    public void getUnknownContentObject() {
+        assertThatThrownBy(() -> contentStorage.getContentObject("unknown"))
+            .isInstanceOf(ContentNotFoundException.class);
+        assertThatThrownBy(() -> contentStorage.getContentObject("../../etc.passwd"))
+            .isInstanceOf(ContentNotFoundException.class);
+        assertThatThrownBy(() -> contentStorage.deleteContentObject("abcdef.unknown"))
+            .isInstanceOf(ContentNotFoundException.class);
+    }
+
+    protected ContentObject createContentObject(String content) {
+        return contentStorage.createContentObject(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), (ContentObjectStorageMetadata) null);
+    }
+
+    protected String readContent(ContentObject contentObject) throws IOException {
+        try (InputStream contentStream = contentObject.getContent()) {
+            return IOUtils.toString(contentStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    protected String getHash(ContentObject contentObject) {
+        return contentObject.getId().substring(0, contentObject.getId().indexOf('.'));
+    }
+
+    protected List<File> getBlobFiles() {
+        File blobsFolder = new File(contentRootFolder, ContentAddressedFileSystemContentStorage.BLOBS_FOLDER);
+        return new ArrayList<>(FileUtils.listFiles(blobsFolder, null, true));
+    }
+
+}
@@ -13,22 +13,21 @@
 
 package org.flowable.content.rest.service.api.content;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.content.api.ContentItem;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.flowable.content.rest.ContentRestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -56,13 +55,17 @@ public class ContentItemDataResource extends ContentItemBaseResource {
     protected ContentRestResponseFactory contentRestResponseFactory;
 
     @ApiOperation(value = "Get the data of a content item", tags = {"Content item" },
-            notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type.")
+            notes = "The response body contains the binary content, which is streamed from the content storage. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type. "
+                    + "A single byte range can be requested with the Range header. The ETag of the response changes whenever the content changes and can be passed in the If-None-Match header.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the content item was found and the requested content is returned."),
-            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information.")
+            @ApiResponse(code = 206, message = "Indicates the content item was found and the requested range of the content is returned."),
+            @ApiResponse(code = 304, message = "Indicates the content didn't change since the version with the ETag given in the If-None-Match header."),
+            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information."),
+            @ApiResponse(code = 416, message = "Indicates the requested range is outside of the content.")
     })
     @GetMapping(value = "/content-service/content-items/{contentItemId}/data")
-    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
+    public void getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletRequest request, HttpServletResponse response) {
 
         ContentItem contentItem = getContentItemFromRequest(contentItemId);
         if (!contentItem.isContentAvailable()) {
@@ -74,26 +77,22 @@ public class ContentItemDataResource extends ContentItemBaseResource {
             throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
         }
 
-        HttpHeaders responseHeaders = new HttpHeaders();
-        MediaType mediaType = null;
+        String contentType = null;
         if (contentItem.getMimeType() != null) {
             try {
-                mediaType = MediaType.valueOf(contentItem.getMimeType());
-                responseHeaders.set("Content-Type", contentItem.getMimeType());
+                MediaType.valueOf(contentItem.getMimeType());
+                contentType = contentItem.getMimeType();
             } catch (Exception e) {
                 // ignore if unknown media type
             }
         }
 
-        if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
-        }
-
-        try {
-            return new ResponseEntity<>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
-        } catch (Exception e) {
-            throw new FlowableException("Error getting content item data " + contentItemId, e);
-        }
+        // Every save of the content creates a new content object, so its id identifies the version of the content
+        BinaryContentWriter.forContent(dataStream)
+                .contentType(contentType)
+                .contentLength(contentItem.getContentSize())
+                .eTag(contentItem.getContentStoreId())
+                .write(request, response);
     }
 
     @ApiOperation(value = "Save the content item data", tags = { "Content item" }, notes = "Save the content item data with an attached file. "
@@ -133,4 +132,26 @@ public class ContentItemDataResource extends ContentItemBaseResource {
         }
     }
 
+    @ApiOperation(value = "Save the content item data from the request body", tags = { "Content item" }, notes = "Save the content item data with the binary request body, "
+            + "which is passed to the content storage as a stream without being buffered in memory.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Indicates the content item data was saved and the result is returned.")
+    })
+    @PostMapping(value = "/content-service/content-items/{contentItemId}/data", produces = "application/json", consumes = "application/octet-stream")
+    public ContentItemResponse saveContentItemDataFromStream(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId,
+            HttpServletRequest request, HttpServletResponse response) {
+
+        ContentItem contentItem = getContentItemFromRequest(contentItemId);
+
+        try {
+            contentService.saveContentItem(contentItem, request.getInputStream());
+
+            response.setStatus(HttpStatus.CREATED.value());
+            return contentRestResponseFactory.createContentItemResponse(contentItem);
+
+        } catch (IOException e) {
+            throw new FlowableException("Error reading content item data from the request", e);
+        }
+    }
+
 }
@@ -37,7 +37,8 @@ public class SpringContentEngineConfigurator extends ContentEngineConfigurator {
         SpringEngineConfiguration springEngineConfiguration = (SpringEngineConfiguration) engineConfiguration;
         ((SpringContentEngineConfiguration) contentEngineConfiguration).setTransactionManager(springEngineConfiguration.getTransactionManager());
         
-        initContentEngine();
+        ContentEngine contentEngine = initContentEngine();
+        initContentEngineCloseListener(engineConfiguration, contentEngine);
         
         initServiceConfigurations(engineConfiguration, contentEngineConfiguration);
     }
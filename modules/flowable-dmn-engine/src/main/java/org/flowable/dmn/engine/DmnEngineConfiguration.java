@@ -36,7 +36,6 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
@@ -50,6 +49,7 @@ import org.flowable.dmn.engine.impl.DmnEngineImpl;
 import org.flowable.dmn.engine.impl.DmnHistoryServiceImpl;
 import org.flowable.dmn.engine.impl.DmnManagementServiceImpl;
 import org.flowable.dmn.engine.impl.DmnRepositoryServiceImpl;
+import org.flowable.dmn.engine.impl.IndexedRuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.agenda.DefaultDmnEngineAgendaFactory;
 import org.flowable.dmn.engine.impl.agenda.DmnEngineAgendaFactory;
@@ -205,6 +205,13 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to answer the simple input entries of decision tables (comparisons of a variable with a literal) with indexes that are
+     * created when the decision tables are deployed, instead of executing the input entries of all rules as EL expressions.
+     * Only used when no custom rule engine executor is set.
+     */
+    protected boolean decisionTableIndexingEnabled;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -488,11 +495,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (definitionCache == null) {
-            if (decisionCacheLimit <= 0) {
-                definitionCache = new DefaultDeploymentCache<>();
-            } else {
-                definitionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
-            }
+            definitionCache = createDeploymentCache(decisionCacheLimit);
         }
 
         deploymentManager = new DeploymentManager(definitionCache, this);
@@ -601,7 +604,11 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     /////////////////////////////////////////////////////////////
     public void initRuleEngineExecutor() {
     	if (ruleEngineExecutor == null) {
-	        ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors, expressionManager, dmnEngineObjectMapper);
+    	    if (decisionTableIndexingEnabled) {
+    	        ruleEngineExecutor = new IndexedRuleEngineExecutorImpl(hitPolicyBehaviors, expressionManager, dmnEngineObjectMapper);
+    	    } else {
+    	        ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors, expressionManager, dmnEngineObjectMapper);
+    	    }
 	        
     	} else {
     	    if (ruleEngineExecutor.getExpressionManager() == null) {
@@ -1095,6 +1102,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isDecisionTableIndexingEnabled() {
+        return decisionTableIndexingEnabled;
+    }
+
+    public DmnEngineConfiguration setDecisionTableIndexingEnabled(boolean decisionTableIndexingEnabled) {
+        this.decisionTableIndexingEnabled = decisionTableIndexingEnabled;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.engine.impl.el.ELExecutionContext;
+import org.flowable.dmn.engine.impl.el.IndexedDecisionTable;
+import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.DmnDefinition;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link RuleEngineExecutorImpl} that answers the input entries of the rules with an {@link IndexedDecisionTable} where possible,
+ * instead of executing every input entry of every rule as an EL expression.
+ *
+ * The rules are still walked in order and the hit policy behaviors and audit trail are the same as for the {@link RuleEngineExecutorImpl}:
+ * only the outcome of the simple input entries is looked up in the index. Input entries that can't be indexed are executed as EL expression.
+ *
+ * Decision tables are indexed when they are deployed (or put in the decision cache again) and otherwise on their first execution.
+ */
+public class IndexedRuleEngineExecutorImpl extends RuleEngineExecutorImpl {
+
+    // The decision tables are weakly referenced, so that the index is removed together with the decision cache entry
+    protected final Map<DecisionTable, IndexedDecisionTable> indexedDecisionTables = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public IndexedRuleEngineExecutorImpl(Map<String, AbstractHitPolicy> hitPolicyBehaviors, ExpressionManager expressionManager, ObjectMapper objectMapper) {
+        super(hitPolicyBehaviors, expressionManager, objectMapper);
+    }
+
+    /**
+     * Creates the indexes of the decision tables of the given definition that are not indexed yet.
+     */
+    public void indexDecisionTables(DmnDefinition dmnDefinition) {
+        for (Decision decision : dmnDefinition.getDecisions()) {
+            if (decision.getExpression() instanceof DecisionTable) {
+                getIndexedDecisionTable((DecisionTable) decision.getExpression());
+            }
+        }
+    }
+
+    @Override
+    protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
+        if (decisionTable != null && executionContext != null && !decisionTable.getRules().isEmpty()) {
+            executionContext.setIndexedDecisionTableEvaluation(getIndexedDecisionTable(decisionTable).createEvaluation(executionContext));
+        }
+
+        try {
+            super.evaluateDecisionTable(decisionTable, executionContext);
+        } finally {
+            if (executionContext != null) {
+                executionContext.setIndexedDecisionTableEvaluation(null);
+            }
+        }
+    }
+
+    @Override
+    protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
+        IndexedDecisionTable.Evaluation evaluation = executionContext.getIndexedDecisionTableEvaluation();
+        if (evaluation != null) {
+            Boolean result = evaluation.evaluateInputEntry(ruleContainer.getInputEntry());
+            if (result != null) {
+                return result;
+            }
+        }
+        return super.executeInputExpressionEvaluation(ruleContainer, executionContext);
+    }
+
+    public IndexedDecisionTable getIndexedDecisionTable(DecisionTable decisionTable) {
+        return indexedDecisionTables.computeIfAbsent(decisionTable, this::createIndexedDecisionTable);
+    }
+
+    protected IndexedDecisionTable createIndexedDecisionTable(DecisionTable decisionTable) {
+        return new IndexedDecisionTable(decisionTable, expressionManager);
+    }
+}
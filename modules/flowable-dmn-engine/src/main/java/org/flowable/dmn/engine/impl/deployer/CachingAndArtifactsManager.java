@@ -14,6 +14,8 @@ package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.IndexedRuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
@@ -34,6 +36,7 @@ public class CachingAndArtifactsManager {
         final DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DeploymentCache<DecisionCacheEntry> decisionCache = dmnEngineConfiguration.getDeploymentManager().getDecisionCache();
         DmnDeploymentEntity deployment = parsedDeployment.getDeployment();
+        RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
 
         for (DecisionEntity decisionEntity : parsedDeployment.getAllDecisions()) {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecision(decisionEntity);
@@ -47,6 +50,10 @@ public class CachingAndArtifactsManager {
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decision);
             }
 
+            if (ruleEngineExecutor instanceof IndexedRuleEngineExecutorImpl) {
+                ((IndexedRuleEngineExecutorImpl) ruleEngineExecutor).indexDecisionTables(dmnDefinition);
+            }
+
             decisionCache.add(decisionEntity.getId(), cacheEntry);
 
             // Add to deployment for further usage
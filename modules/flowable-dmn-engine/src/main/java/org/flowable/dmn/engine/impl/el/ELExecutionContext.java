@@ -35,6 +35,7 @@ public class ELExecutionContext {
     protected String scopeType;
     protected String tenantId;
     protected boolean forceDMN11;
+    protected IndexedDecisionTable.Evaluation indexedDecisionTableEvaluation;
 
     public void checkExecutionContext(String variableId) {
         if (StringUtils.isEmpty(variableId)) {
@@ -123,4 +124,12 @@ public class ELExecutionContext {
     public void setForceDMN11(boolean forceDMN11) {
         this.forceDMN11 = forceDMN11;
     }
+
+    public IndexedDecisionTable.Evaluation getIndexedDecisionTableEvaluation() {
+        return indexedDecisionTableEvaluation;
+    }
+
+    public void setIndexedDecisionTableEvaluation(IndexedDecisionTable.Evaluation indexedDecisionTableEvaluation) {
+        this.indexedDecisionTableEvaluation = indexedDecisionTableEvaluation;
+    }
 }
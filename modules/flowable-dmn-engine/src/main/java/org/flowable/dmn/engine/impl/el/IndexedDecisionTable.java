@@ -0,0 +1,550 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index over the input entries of a {@link DecisionTable}, so that the input entries don't have to be executed one by one as EL expressions.
+ *
+ * Input expressions that reference a variable or a property of a variable are evaluated once per execution. Input entries that compare
+ * the input with a number, string or boolean literal (e.g. <code>5</code>, <code>== "gold"</code>, <code>!= true</code>, <code>&lt; 10</code> or
+ * <code>&gt;= 2.5</code>) are put in hash indexes (equality) and sorted indexes (ranges) that are looked up with the input value.
+ * The lookups follow the EL coercion rules. When an input entry can't be answered by the index (a complex entry, a date input, a string entry
+ * compared to a number input, ...), null is returned and the input entry needs to be executed as EL expression.
+ *
+ * Numbers are indexed by their exact {@link BigDecimal} value. The EL compares numbers as {@link BigDecimal}, {@link BigInteger}, long or double
+ * depending on their types, which gives the same outcome as comparing the exact values, as long as integers can be represented exactly as a double
+ * and no negative zero, NaN or infinite values are involved. Other numbers are executed as EL expression.
+ */
+public class IndexedDecisionTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexedDecisionTable.class);
+
+    // Integers up to this value can be compared as doubles without losing precision
+    protected static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+    protected static final int MAX_EXACT_DOUBLE_INTEGER_BIT_LENGTH = 53;
+
+    protected static final Pattern INPUT_EXPRESSION_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)*");
+    protected static final Pattern INTEGER_LITERAL_PATTERN = Pattern.compile("-?[0-9]+");
+    protected static final Pattern FLOATING_POINT_LITERAL_PATTERN = Pattern.compile("-?[0-9]+\\.[0-9]+");
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'[^'\\\\{}#$]*'|\"[^\"\\\\{}#$]*\"");
+
+    protected static final List<String> RESERVED_WORDS = Arrays.asList("and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge",
+            "true", "false", "null", "empty", "div", "mod", "instanceof");
+
+    protected enum Operator {
+        EQUALS, NOT_EQUALS, LESS_THAN, LESS_THAN_OR_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL
+    }
+
+    protected enum ValueType {
+        NUMBER, STRING, BOOLEAN
+    }
+
+    protected final String decisionTableId;
+    protected final int nrOfRules;
+    protected final InputClauseIndex[] inputClauseIndexes;
+    protected final Map<UnaryTests, IndexedInputEntry> indexedInputEntries = new IdentityHashMap<>();
+
+    public IndexedDecisionTable(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        this.decisionTableId = decisionTable.getId();
+        this.nrOfRules = decisionTable.getRules().size();
+
+        List<InputClause> inputClauses = decisionTable.getInputs();
+        Map<InputClause, Integer> inputClauseNumbers = new IdentityHashMap<>();
+        this.inputClauseIndexes = new InputClauseIndex[inputClauses.size()];
+        for (int i = 0; i < inputClauses.size(); i++) {
+            inputClauseNumbers.put(inputClauses.get(i), i);
+            inputClauseIndexes[i] = new InputClauseIndex(createInputValueExpression(inputClauses.get(i), expressionManager));
+        }
+
+        int nrOfIndexedInputEntries = 0;
+        List<DecisionRule> rules = decisionTable.getRules();
+        for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+            for (RuleInputClauseContainer inputClauseContainer : rules.get(ruleIndex).getInputEntries()) {
+                Integer inputClauseNumber = inputClauseNumbers.get(inputClauseContainer.getInputClause());
+                if (inputClauseNumber == null || inputClauseContainer.getInputEntry() == null) {
+                    continue;
+                }
+
+                InputClauseIndex inputClauseIndex = inputClauseIndexes[inputClauseNumber];
+                if (inputClauseIndex.inputValueExpression == null) {
+                    continue;
+                }
+
+                IndexedInputEntry indexedInputEntry = parseInputEntry(inputClauseContainer, inputClauseNumber, ruleIndex);
+                if (indexedInputEntry != null) {
+                    inputClauseIndex.add(indexedInputEntry);
+                    indexedInputEntries.put(inputClauseContainer.getInputEntry(), indexedInputEntry);
+                    nrOfIndexedInputEntries++;
+                }
+            }
+        }
+
+        for (InputClauseIndex inputClauseIndex : inputClauseIndexes) {
+            inputClauseIndex.sort();
+        }
+
+        LOGGER.debug("Indexed {} input entries of decision table {}", nrOfIndexedInputEntries, decisionTableId);
+    }
+
+    protected Expression createInputValueExpression(InputClause inputClause, ExpressionManager expressionManager) {
+        if (inputClause.getInputExpression() == null) {
+            return null;
+        }
+
+        String inputExpression = inputClause.getInputExpression().getText();
+        if (inputExpression == null || !INPUT_EXPRESSION_PATTERN.matcher(inputExpression).matches()) {
+            return null;
+        }
+
+        for (String segment : inputExpression.split("\\.")) {
+            if (RESERVED_WORDS.contains(segment)) {
+                return null;
+            }
+        }
+
+        try {
+            return expressionManager.createExpression("#{" + inputExpression + "}");
+        } catch (RuntimeException e) {
+            LOGGER.debug("Input expression {} of decision table {} can't be indexed", inputExpression, decisionTableId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Parses the input entry the same way as {@link ELInputEntryExpressionPreParser} would, returning null when the input entry is not
+     * a simple comparison with a literal.
+     */
+    protected IndexedInputEntry parseInputEntry(RuleInputClauseContainer inputClauseContainer, int inputClauseNumber, int ruleIndex) {
+        String inputEntryText = inputClauseContainer.getInputEntry().getText();
+        if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText) || inputEntryText.contains("fn_")
+                || inputEntryText.startsWith("#{") || inputEntryText.startsWith("${")) {
+            return null;
+        }
+
+        Operator operator = Operator.EQUALS;
+        String literal = inputEntryText;
+        if (inputEntryText.length() >= 2 && StringUtils.startsWithAny(inputEntryText, ELInputEntryExpressionPreParser.OPERATORS)) {
+            if (inputEntryText.startsWith("==")) {
+                literal = inputEntryText.substring(2);
+            } else if (inputEntryText.startsWith("!=")) {
+                operator = Operator.NOT_EQUALS;
+                literal = inputEntryText.substring(2);
+            } else if (inputEntryText.startsWith("<=")) {
+                operator = Operator.LESS_THAN_OR_EQUAL;
+                literal = inputEntryText.substring(2);
+            } else if (inputEntryText.startsWith(">=")) {
+                operator = Operator.GREATER_THAN_OR_EQUAL;
+                literal = inputEntryText.substring(2);
+            } else if (inputEntryText.startsWith("<")) {
+                operator = Operator.LESS_THAN;
+                literal = inputEntryText.substring(1);
+            } else {
+                operator = Operator.GREATER_THAN;
+                literal = inputEntryText.substring(1);
+            }
+        }
+
+        literal = literal.trim();
+        Object value;
+        ValueType valueType;
+        if (INTEGER_LITERAL_PATTERN.matcher(literal).matches()) {
+            Long longValue = parseLong(literal);
+            if (longValue == null || longValue < -MAX_EXACT_DOUBLE_INTEGER || longValue > MAX_EXACT_DOUBLE_INTEGER) {
+                return null;
+            }
+            value = toNumberKey(BigDecimal.valueOf(longValue));
+            valueType = ValueType.NUMBER;
+
+        } else if (FLOATING_POINT_LITERAL_PATTERN.matcher(literal).matches()) {
+            double doubleValue = Double.parseDouble(literal);
+            if (isNegativeZero(doubleValue)) {
+                return null;
+            }
+            // The exact value of the double literal, which is also the value of its conversion to a BigDecimal by the EL
+            value = toNumberKey(new BigDecimal(doubleValue));
+            valueType = ValueType.NUMBER;
+
+        } else if (STRING_LITERAL_PATTERN.matcher(literal).matches()) {
+            value = literal.substring(1, literal.length() - 1);
+            valueType = ValueType.STRING;
+
+        } else if ("true".equals(literal) || "false".equals(literal)) {
+            if (operator != Operator.EQUALS && operator != Operator.NOT_EQUALS) {
+                return null;
+            }
+            value = Boolean.valueOf(literal);
+            valueType = ValueType.BOOLEAN;
+
+        } else {
+            return null;
+        }
+
+        return new IndexedInputEntry(inputClauseNumber, ruleIndex, operator, valueType, value);
+    }
+
+    protected Long parseLong(String literal) {
+        try {
+            return Long.valueOf(literal);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the exact value of a number input that can be looked up in the index, or null when the input needs to be compared by the EL.
+     */
+    protected static BigDecimal toNumberKey(Object value) {
+        Class<?> valueClass = value.getClass();
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).stripTrailingZeros();
+
+        } else if (value instanceof BigInteger) {
+            BigInteger bigIntegerValue = (BigInteger) value;
+            return bigIntegerValue.bitLength() <= MAX_EXACT_DOUBLE_INTEGER_BIT_LENGTH ? new BigDecimal(bigIntegerValue).stripTrailingZeros() : null;
+
+        } else if (valueClass == Integer.class || valueClass == Long.class || valueClass == Short.class || valueClass == Byte.class) {
+            long longValue = ((Number) value).longValue();
+            if (longValue < -MAX_EXACT_DOUBLE_INTEGER || longValue > MAX_EXACT_DOUBLE_INTEGER) {
+                return null;
+            }
+            return BigDecimal.valueOf(longValue).stripTrailingZeros();
+
+        } else if (valueClass == Double.class || valueClass == Float.class) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue) || isNegativeZero(doubleValue)) {
+                return null;
+            }
+            return new BigDecimal(doubleValue).stripTrailingZeros();
+        }
+
+        return null;
+    }
+
+    protected static boolean isNegativeZero(double value) {
+        return value == 0.0d && Double.doubleToRawLongBits(value) != 0L;
+    }
+
+    public Evaluation createEvaluation(ELExecutionContext executionContext) {
+        return new Evaluation(executionContext);
+    }
+
+    public int getNrOfIndexedInputEntries() {
+        return indexedInputEntries.size();
+    }
+
+    /**
+     * The result of the index lookups of a single execution of the decision table. The input values are evaluated the first time
+     * an input entry of their input clause is requested.
+     */
+    public class Evaluation {
+
+        protected final ELExecutionContext executionContext;
+        protected final InputClauseMatch[] inputClauseMatches = new InputClauseMatch[inputClauseIndexes.length];
+
+        public Evaluation(ELExecutionContext executionContext) {
+            this.executionContext = executionContext;
+        }
+
+        /**
+         * Returns the outcome of the input entry, or null if it can't be determined with the index and needs to be executed as EL expression.
+         */
+        public Boolean evaluateInputEntry(UnaryTests inputEntry) {
+            IndexedInputEntry indexedInputEntry = indexedInputEntries.get(inputEntry);
+            if (indexedInputEntry == null) {
+                return null;
+            }
+
+            InputClauseMatch inputClauseMatch = inputClauseMatches[indexedInputEntry.inputClauseNumber];
+            if (inputClauseMatch == null) {
+                inputClauseMatch = matchInputClause(inputClauseIndexes[indexedInputEntry.inputClauseNumber]);
+                inputClauseMatches[indexedInputEntry.inputClauseNumber] = inputClauseMatch;
+            }
+
+            if (inputClauseMatch.matchedRules == null
+                    || (inputClauseMatch.valueType != null && inputClauseMatch.valueType != indexedInputEntry.valueType)) {
+                return null;
+            }
+            return inputClauseMatch.matchedRules.get(indexedInputEntry.ruleIndex);
+        }
+
+        protected InputClauseMatch matchInputClause(InputClauseIndex inputClauseIndex) {
+            Object value;
+            try {
+                VariableContainerWrapper variableContainer = new VariableContainerWrapper(executionContext.getStackVariables());
+                variableContainer.setInstanceId(executionContext.getInstanceId());
+                variableContainer.setScopeType(executionContext.getScopeType());
+                variableContainer.setTenantId(executionContext.getTenantId());
+                value = inputClauseIndex.inputValueExpression.getValue(variableContainer);
+
+            } catch (RuntimeException e) {
+                // The input entries are executed as expressions, which gives the same error for the audit trail
+                LOGGER.debug("Input expression of decision table {} could not be evaluated, input entries are executed as expressions", decisionTableId, e);
+                return new InputClauseMatch(null, null);
+            }
+
+            BitSet matchedRules = new BitSet(nrOfRules);
+            if (value == null) {
+                // Only the not equals comparisons are true for a null input
+                for (EqualityIndex notEqualsIndex : inputClauseIndex.notEqualsIndexes.values()) {
+                    matchedRules.or(notEqualsIndex.all);
+                }
+                return new InputClauseMatch(null, matchedRules);
+            }
+
+            if (value instanceof Number) {
+                BigDecimal numberKey = toNumberKey(value);
+                if (numberKey == null) {
+                    return new InputClauseMatch(null, null);
+                }
+                inputClauseIndex.matchEquality(ValueType.NUMBER, numberKey, matchedRules);
+                inputClauseIndex.numberRanges.match(numberKey, matchedRules);
+                return new InputClauseMatch(ValueType.NUMBER, matchedRules);
+
+            } else if (value.getClass() == String.class) {
+                inputClauseIndex.matchEquality(ValueType.STRING, value, matchedRules);
+                inputClauseIndex.stringRanges.match((String) value, matchedRules);
+                return new InputClauseMatch(ValueType.STRING, matchedRules);
+
+            } else if (value.getClass() == Boolean.class) {
+                inputClauseIndex.matchEquality(ValueType.BOOLEAN, value, matchedRules);
+                return new InputClauseMatch(ValueType.BOOLEAN, matchedRules);
+            }
+
+            return new InputClauseMatch(null, null);
+        }
+    }
+
+    protected static class InputClauseMatch {
+
+        // null for a null input value, which is matched with all types of literals
+        protected final ValueType valueType;
+        // null when the input entries need to be executed as expressions
+        protected final BitSet matchedRules;
+
+        public InputClauseMatch(ValueType valueType, BitSet matchedRules) {
+            this.valueType = valueType;
+            this.matchedRules = matchedRules;
+        }
+    }
+
+    protected static class IndexedInputEntry {
+
+        protected final int inputClauseNumber;
+        protected final int ruleIndex;
+        protected final Operator operator;
+        protected final ValueType valueType;
+        protected final Object value;
+
+        public IndexedInputEntry(int inputClauseNumber, int ruleIndex, Operator operator, ValueType valueType, Object value) {
+            this.inputClauseNumber = inputClauseNumber;
+            this.ruleIndex = ruleIndex;
+            this.operator = operator;
+            this.valueType = valueType;
+            this.value = value;
+        }
+    }
+
+    protected static class InputClauseIndex {
+
+        protected final Expression inputValueExpression;
+        protected final Map<ValueType, EqualityIndex> equalsIndexes = new HashMap<>();
+        protected final Map<ValueType, EqualityIndex> notEqualsIndexes = new HashMap<>();
+        protected final RangeIndex<BigDecimal> numberRanges = new RangeIndex<>();
+        protected final RangeIndex<String> stringRanges = new RangeIndex<>();
+
+        public InputClauseIndex(Expression inputValueExpression) {
+            this.inputValueExpression = inputValueExpression;
+        }
+
+        public void add(IndexedInputEntry inputEntry) {
+            switch (inputEntry.operator) {
+                case EQUALS:
+                    equalsIndexes.computeIfAbsent(inputEntry.valueType, valueType -> new EqualityIndex()).add(inputEntry.value, inputEntry.ruleIndex);
+                    break;
+                case NOT_EQUALS:
+                    notEqualsIndexes.computeIfAbsent(inputEntry.valueType, valueType -> new EqualityIndex()).add(inputEntry.value, inputEntry.ruleIndex);
+                    break;
+                default:
+                    if (inputEntry.valueType == ValueType.NUMBER) {
+                        numberRanges.add(inputEntry.operator, (BigDecimal) inputEntry.value, inputEntry.ruleIndex);
+                    } else {
+                        stringRanges.add(inputEntry.operator, (String) inputEntry.value, inputEntry.ruleIndex);
+                    }
+            }
+        }
+
+        public void sort() {
+            numberRanges.sort();
+            stringRanges.sort();
+        }
+
+        public void matchEquality(ValueType valueType, Object value, BitSet matchedRules) {
+            EqualityIndex equalsIndex = equalsIndexes.get(valueType);
+            if (equalsIndex != null) {
+                equalsIndex.match(value, matchedRules, false);
+            }
+
+            EqualityIndex notEqualsIndex = notEqualsIndexes.get(valueType);
+            if (notEqualsIndex != null) {
+                notEqualsIndex.match(value, matchedRules, true);
+            }
+        }
+    }
+
+    /**
+     * Hash index of the rules by the literal of their input entry.
+     */
+    protected static class EqualityIndex {
+
+        protected final BitSet all = new BitSet();
+        protected final Map<Object, BitSet> rulesByValue = new HashMap<>();
+
+        public void add(Object value, int ruleIndex) {
+            all.set(ruleIndex);
+            rulesByValue.computeIfAbsent(value, key -> new BitSet()).set(ruleIndex);
+        }
+
+        public void match(Object value, BitSet matchedRules, boolean negate) {
+            BitSet equalRules = rulesByValue.get(value);
+            if (negate) {
+                BitSet notEqualRules = (BitSet) all.clone();
+                if (equalRules != null) {
+                    notEqualRules.andNot(equalRules);
+                }
+                matchedRules.or(notEqualRules);
+            } else if (equalRules != null) {
+                matchedRules.or(equalRules);
+            }
+        }
+    }
+
+    /**
+     * Sorted index of the rules by the bound of their range input entry, per comparison operator.
+     */
+    protected static class RangeIndex<T extends Comparable<T>> {
+
+        protected final Map<Operator, SortedBounds<T>> boundsByOperator = new HashMap<>();
+
+        public void add(Operator operator, T bound, int ruleIndex) {
+            boundsByOperator.computeIfAbsent(operator, key -> new SortedBounds<>()).add(bound, ruleIndex);
+        }
+
+        public void sort() {
+            for (SortedBounds<T> bounds : boundsByOperator.values()) {
+                bounds.sort();
+            }
+        }
+
+        public void match(T value, BitSet matchedRules) {
+            for (Map.Entry<Operator, SortedBounds<T>> entry : boundsByOperator.entrySet()) {
+                SortedBounds<T> bounds = entry.getValue();
+                switch (entry.getKey()) {
+                    case LESS_THAN: // value < bound
+                        bounds.setRules(bounds.indexOfFirstBoundGreaterThan(value), bounds.size(), matchedRules);
+                        break;
+                    case LESS_THAN_OR_EQUAL: // value <= bound
+                        bounds.setRules(bounds.indexOfFirstBoundGreaterThanOrEqual(value), bounds.size(), matchedRules);
+                        break;
+                    case GREATER_THAN: // value > bound
+                        bounds.setRules(0, bounds.indexOfFirstBoundGreaterThanOrEqual(value), matchedRules);
+                        break;
+                    case GREATER_THAN_OR_EQUAL: // value >= bound
+                        bounds.setRules(0, bounds.indexOfFirstBoundGreaterThan(value), matchedRules);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unsupported range operator " + entry.getKey());
+                }
+            }
+        }
+    }
+
+    protected static class SortedBounds<T extends Comparable<T>> {
+
+        protected List<Map.Entry<T, Integer>> entries = new ArrayList<>();
+        protected Object[] bounds;
+        protected int[] ruleIndexes;
+
+        public void add(T bound, int ruleIndex) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(bound, ruleIndex));
+        }
+
+        public void sort() {
+            entries.sort(Map.Entry.comparingByKey());
+            bounds = new Object[entries.size()];
+            ruleIndexes = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                bounds[i] = entries.get(i).getKey();
+                ruleIndexes[i] = entries.get(i).getValue();
+            }
+            entries = null;
+        }
+
+        public int size() {
+            return bounds.length;
+        }
+
+        public int indexOfFirstBoundGreaterThan(T value) {
+            return search(value, true);
+        }
+
+        public int indexOfFirstBoundGreaterThanOrEqual(T value) {
+            return search(value, false);
+        }
+
+        @SuppressWarnings("unchecked")
+        protected int search(T value, boolean strict) {
+            int low = 0;
+            int high = bounds.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                int comparison = ((T) bounds[middle]).compareTo(value);
+                if (comparison < 0 || (strict && comparison == 0)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        public void setRules(int fromIndex, int toIndex, BitSet matchedRules) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                matchedRules.set(ruleIndexes[i]);
+            }
+        }
+    }
+}
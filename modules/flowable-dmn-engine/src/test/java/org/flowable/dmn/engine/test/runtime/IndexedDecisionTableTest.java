@@ -0,0 +1,207 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecision;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.api.ExpressionExecution;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.IndexedRuleEngineExecutorImpl;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
+import org.flowable.dmn.engine.impl.el.ELExecutionContext;
+import org.flowable.dmn.engine.impl.el.IndexedDecisionTable;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.UnaryTests;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Executes decision tables with the {@link IndexedRuleEngineExecutorImpl} and the {@link RuleEngineExecutorImpl} and checks
+ * that the results and audit trails are the same.
+ */
+public class IndexedDecisionTableTest {
+
+    protected static final String ENGINE_CONFIG = "indexed.flowable.dmn.cfg.xml";
+
+    protected static final String RESOURCE_PREFIX = "org/flowable/dmn/engine/test/runtime/";
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule(ENGINE_CONFIG);
+
+    protected List<String> deploymentIds = new ArrayList<>();
+
+    @After
+    public void deleteDeployments() {
+        for (String deploymentId : deploymentIds) {
+            flowableDmnRule.getRepositoryService().deleteDeployment(deploymentId);
+        }
+    }
+
+    @Test
+    public void testHitPolicies() {
+        List<String> resources = Arrays.asList(
+                "HitPolicyAnyTest.anyHitPolicy.dmn",
+                "HitPolicyAnyTest.anyHitPolicyViolated.dmn",
+                "HitPolicyCollectTest.collectHitPolicySUM.dmn",
+                "HitPolicyCollectTest.collectHitPolicyNoAggregatorCompound.dmn",
+                "HitPolicyFirstTest.firstHitPolicy.dmn",
+                "HitPolicyOutputOrderTest.outputOrderHitPolicyCompound.dmn",
+                "HitPolicyPriorityTest.priorityHitPolicyCompound.dmn",
+                "HitPolicyRuleOrderTest.ruleOrderHitPolicy.dmn",
+                "HitPolicyUniqueTest.uniqueHitPolicy.dmn",
+                "HitPolicyUniqueTest.uniqueHitPolicyViolated.dmn");
+
+        List<Object> inputValues = Arrays.asList(5, 10, 10L, 10.0d, 11, 15.5f, 25, 35, 50, new BigDecimal("9.99"), "5", null);
+        for (String resource : resources) {
+            String decisionKey = deploy(resource);
+            for (Object inputValue : inputValues) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("inputVariable1", inputValue);
+                assertSameExecution(resource, decisionKey, variables);
+            }
+        }
+    }
+
+    @Test
+    public void testIndexedInputEntries() {
+        String decisionKey = deploy("IndexedDecisionTableTest.indexedDecisionTable.dmn");
+
+        DmnDecision decision = flowableDmnRule.getRepositoryService().createDecisionQuery().decisionKey(decisionKey).singleResult();
+        DecisionTable decisionTable = (DecisionTable) flowableDmnRule.getRepositoryService().getDmnDefinition(decision.getId())
+                .getDecisionById(decisionKey).getExpression();
+        IndexedRuleEngineExecutorImpl ruleEngineExecutor = (IndexedRuleEngineExecutorImpl) getDmnEngineConfiguration().getRuleEngineExecutor();
+        IndexedDecisionTable indexedDecisionTable = ruleEngineExecutor.getIndexedDecisionTable(decisionTable);
+        assertThat(indexedDecisionTable.getNrOfIndexedInputEntries()).isEqualTo(23);
+
+        ELExecutionContext executionContext = new ELExecutionContext();
+        executionContext.setStackVariables(Collections.singletonMap("amount", new BigInteger("5")));
+        IndexedDecisionTable.Evaluation evaluation = indexedDecisionTable.createEvaluation(executionContext);
+        assertThat(evaluation.evaluateInputEntry(getInputEntry(decisionTable, 1, 1))).isTrue(); // 5
+        assertThat(evaluation.evaluateInputEntry(getInputEntry(decisionTable, 2, 1))).isFalse(); // == 10
+        assertThat(evaluation.evaluateInputEntry(getInputEntry(decisionTable, 3, 1))).isTrue(); // != 3
+        assertThat(evaluation.evaluateInputEntry(getInputEntry(decisionTable, 4, 1))).isFalse(); // < 2.5
+        assertThat(evaluation.evaluateInputEntry(getInputEntry(decisionTable, 6, 1))).isTrue(); // <= 7
+        assertThat(evaluation.evaluateInputEntry(getInputEntry(decisionTable, 10, 1))).isNull(); // expression
+
+        List<Object> amounts = Arrays.asList(5, 10L, 10.0d, 2.4f, 2.5d, -1.5d, 100, 3, 7, -0.0d, new BigDecimal("10.00"), "10", null);
+        List<Object> categories = Arrays.asList("gold", "silver", "bronze", "zebra", 5, null);
+        List<Object> vips = Arrays.asList(true, false, "true", null);
+        // Nested values are not converted to BigInteger or BigDecimal
+        List<Object> levels = Arrays.asList(1, 2.0d, 3L, Double.NaN, -0.0d, new BigInteger("3"), "2");
+
+        int execution = 0;
+        for (Object amount : amounts) {
+            for (Object category : categories) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("amount", amount);
+                variables.put("category", category);
+                variables.put("vip", vips.get(execution % vips.size()));
+                if (execution % 8 != 7) {
+                    variables.put("customer", Collections.singletonMap("level", levels.get(execution % 8)));
+                }
+                assertSameExecution("indexedDecisionTable", decisionKey, variables);
+                execution++;
+            }
+        }
+    }
+
+    protected UnaryTests getInputEntry(DecisionTable decisionTable, int ruleNumber, int inputNumber) {
+        return decisionTable.getRules().get(ruleNumber - 1).getInputEntries().get(inputNumber - 1).getInputEntry();
+    }
+
+    protected String deploy(String resource) {
+        DmnDeployment deployment = flowableDmnRule.getRepositoryService().createDeployment()
+                .addClasspathResource(RESOURCE_PREFIX + resource)
+                .deploy();
+        deploymentIds.add(deployment.getId());
+        DmnDecision decision = flowableDmnRule.getRepositoryService().createDecisionQuery().deploymentId(deployment.getId()).singleResult();
+        return decision.getKey();
+    }
+
+    protected void assertSameExecution(String description, String decisionKey, Map<String, Object> variables) {
+        DmnEngineConfiguration dmnEngineConfiguration = getDmnEngineConfiguration();
+        RuleEngineExecutor indexedRuleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+        assertThat(indexedRuleEngineExecutor).isInstanceOf(IndexedRuleEngineExecutorImpl.class);
+
+        List<Object> indexedExecution = execute(decisionKey, variables);
+
+        dmnEngineConfiguration.setRuleEngineExecutor(new RuleEngineExecutorImpl(indexedRuleEngineExecutor.getHitPolicyBehaviors(),
+                indexedRuleEngineExecutor.getExpressionManager(), indexedRuleEngineExecutor.getObjectMapper()));
+        List<Object> execution;
+        try {
+            execution = execute(decisionKey, variables);
+        } finally {
+            dmnEngineConfiguration.setRuleEngineExecutor(indexedRuleEngineExecutor);
+        }
+
+        assertThat(indexedExecution)
+                .as("%s with %s", description, variables)
+                .isEqualTo(execution);
+    }
+
+    protected List<Object> execute(String decisionKey, Map<String, Object> variables) {
+        try {
+            return describe(flowableDmnRule.getDmnEngine().getDmnDecisionService().createExecuteDecisionBuilder()
+                    .decisionKey(decisionKey)
+                    .variables(new HashMap<>(variables))
+                    .executeWithAuditTrail());
+
+        } catch (RuntimeException e) {
+            // Some hit policies fail when no rule is valid
+            return Arrays.asList(e.getClass(), e.getMessage());
+        }
+    }
+
+    protected DmnEngineConfiguration getDmnEngineConfiguration() {
+        return flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+    }
+
+    protected List<Object> describe(DecisionExecutionAuditContainer auditContainer) {
+        List<Object> description = new ArrayList<>();
+        description.add(auditContainer.isFailed());
+        description.add(auditContainer.getExceptionMessage());
+        description.add(auditContainer.getValidationMessage());
+        description.add(auditContainer.getDecisionResult());
+        description.add(auditContainer.getDecisionResultTypes());
+        for (RuleExecutionAuditContainer ruleExecution : new TreeMap<>(auditContainer.getRuleExecutions()).values()) {
+            description.add("rule " + ruleExecution.getRuleNumber());
+            description.add(ruleExecution.isValid());
+            description.add(ruleExecution.getExceptionMessage());
+            description.add(ruleExecution.getValidationMessage());
+            for (ExpressionExecution conditionResult : ruleExecution.getConditionResults()) {
+                description.add(Arrays.asList(conditionResult.getId(), conditionResult.getResult(), conditionResult.getException()));
+            }
+            for (ExpressionExecution conclusionResult : ruleExecution.getConclusionResults()) {
+                description.add(Arrays.asList(conclusionResult.getId(), conclusionResult.getResult(), conclusionResult.getException()));
+            }
+        }
+        return description;
+    }
+}
@@ -18,9 +18,11 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -81,6 +83,17 @@ public class DmnXMLConverter implements DmnXMLConstants {
 
     protected static Map<String, BaseDmnXMLConverter> convertersToDmnMap = new HashMap<>();
 
+    /**
+     * Compiled schemas are immutable and thread-safe, so each XSD is only compiled once and shared by all converter instances.
+     */
+    protected static final Map<String, Schema> schemaCache = new ConcurrentHashMap<>();
+
+    /**
+     * Configured XML factories can be shared by multiple threads for creating readers and writers.
+     */
+    protected static volatile XMLInputFactory xmlInputFactory;
+    protected static volatile XMLOutputFactory xmlOutputFactory;
+
     protected ClassLoader classloader;
 
     static {
@@ -141,7 +154,7 @@ public class DmnXMLConverter implements DmnXMLConstants {
 
     protected String getTargetNameSpace(InputStream is) {
         try {
-            XMLInputFactory xif = XMLInputFactory.newInstance();
+            XMLInputFactory xif = getXmlInputFactory();
             XMLStreamReader xtr = xif.createXMLStreamReader(is);
 
             return getTargetNameSpace(xtr);
@@ -173,27 +186,46 @@ public class DmnXMLConverter implements DmnXMLConstants {
     }
 
     protected Schema createSchema(String xsd) throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(xsd));
+            xsdUrl = classloader.getResource(xsd);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(this.getClass().getClassLoader().getResource(xsd));
+        if (xsdUrl == null) {
+            xsdUrl = this.getClass().getClassLoader().getResource(xsd);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new DmnXMLException("DMN XSD could not be found");
         }
+        return getOrCreateSchema(xsdUrl);
+    }
+
+    protected Schema getOrCreateSchema(URL xsdUrl) throws SAXException {
+        String schemaKey = xsdUrl.toExternalForm();
+        Schema schema = schemaCache.get(schemaKey);
+        if (schema == null) {
+            // SchemaFactory instances are not thread-safe, but compiling only happens once per XSD
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schema = factory.newSchema(xsdUrl);
+            Schema existingSchema = schemaCache.putIfAbsent(schemaKey, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
         return schema;
     }
 
-    public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeDmnXml) {
-        return convertToDmnModel(inputStreamProvider, validateSchema, enableSafeDmnXml, DEFAULT_ENCODING);
+    protected XMLInputFactory getXmlInputFactory() {
+        XMLInputFactory xif = xmlInputFactory;
+        if (xif == null) {
+            xif = createSafeXmlInputFactory();
+            xmlInputFactory = xif;
+        }
+        return xif;
     }
 
-    public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeDmnXml, String encoding) {
+    protected XMLInputFactory createSafeXmlInputFactory() {
         XMLInputFactory xif = XMLInputFactory.newInstance();
 
         if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
@@ -207,6 +239,24 @@ public class DmnXMLConverter implements DmnXMLConstants {
         if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
             xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         }
+        return xif;
+    }
+
+    protected XMLOutputFactory getXmlOutputFactory() {
+        XMLOutputFactory xof = xmlOutputFactory;
+        if (xof == null) {
+            xof = XMLOutputFactory.newInstance();
+            xmlOutputFactory = xof;
+        }
+        return xof;
+    }
+
+    public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeDmnXml) {
+        return convertToDmnModel(inputStreamProvider, validateSchema, enableSafeDmnXml, DEFAULT_ENCODING);
+    }
+
+    public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeDmnXml, String encoding) {
+        XMLInputFactory xif = getXmlInputFactory();
 
         if (validateSchema) {
             try (InputStreamReader in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding)) {
@@ -363,7 +413,7 @@ public class DmnXMLConverter implements DmnXMLConstants {
         try {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-            XMLOutputFactory xof = XMLOutputFactory.newInstance();
+            XMLOutputFactory xof = getXmlOutputFactory();
             OutputStreamWriter out = new OutputStreamWriter(outputStream, encoding);
 
             XMLStreamWriter writer = xof.createXMLStreamWriter(out);
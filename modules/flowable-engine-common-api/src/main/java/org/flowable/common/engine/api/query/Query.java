@@ -14,6 +14,10 @@
 package org.flowable.common.engine.api.query;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableException;
 
 /**
  * Describes basic methods for querying.
@@ -61,4 +65,34 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
      * Executes the query and get a list of entities as the result.
      */
     List<U> listPage(int firstResult, int maxResults);
+
+    /**
+     * Executes the query and returns at most maxResults entities with an id greater than the given id, ordered by id.
+     * Passing the id of the last entity of a page gives the next page. Contrary to {@link #listPage(int, int)}, the database
+     * doesn't need to skip the previous pages, which keeps paging through large tables fast.
+     * Can't be combined with ordering on other properties.
+     *
+     * @param afterId the id of the last entity of the previous page or null for the first page
+     * @throws FlowableException when the query doesn't support paging by id.
+     */
+    default List<U> listPageAfterId(String afterId, int maxResults) {
+        throw new FlowableException(getClass().getName() + " does not support paging by id");
+    }
+
+    /**
+     * Executes the query in consecutive batches of at most the given size and passes every batch to the consumer.
+     * Only one batch is held in memory at a time. Queries that support {@link #listPageAfterId(String, int)} fetch
+     * the batches by id when no other ordering is set.
+     */
+    default void forEachBatch(int batchSize, Consumer<List<U>> batchConsumer) {
+        new QueryBatchIterator<>(this, batchSize).forEachRemaining(batchConsumer);
+    }
+
+    /**
+     * Executes the query lazily, fetching the results in batches of at most the given size while the stream is consumed.
+     * Queries that support {@link #listPageAfterId(String, int)} fetch the batches by id when no other ordering is set.
+     */
+    default Stream<U> stream(int batchSize) {
+        return new QueryBatchIterator<>(this, batchSize).stream();
+    }
 }
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * Iterates over the results of a query in consecutive batches. A batch is only fetched when it is asked for,
+ * so at most one batch is held in memory at a time.
+ * <p>
+ * This implementation fetches the batches with {@link Query#listPage(int, int)}, subclasses can override {@link #fetchBatch(List)}
+ * to fetch them differently.
+ */
+public class QueryBatchIterator<U> implements Iterator<List<U>> {
+
+    protected final Query<?, U> query;
+    protected final int batchSize;
+
+    protected int firstResult;
+    protected List<U> nextBatch;
+    protected List<U> previousBatch;
+    protected boolean lastBatchFetched;
+
+    public QueryBatchIterator(Query<?, U> query, int batchSize) {
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("batchSize must be greater than 0");
+        }
+        this.query = query;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextBatch == null && !lastBatchFetched) {
+            List<U> batch = fetchBatch(previousBatch);
+            // A batch that isn't full is the last one, so there is no need to ask for an empty batch afterwards
+            lastBatchFetched = batch.size() < batchSize;
+            if (!batch.isEmpty()) {
+                nextBatch = batch;
+            }
+        }
+        return nextBatch != null;
+    }
+
+    @Override
+    public List<U> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        previousBatch = nextBatch;
+        nextBatch = null;
+        return previousBatch;
+    }
+
+    /**
+     * @return a lazy stream over the results of all batches
+     */
+    public Stream<U> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+            .flatMap(List::stream);
+    }
+
+    /**
+     * Fetches the batch that comes after the given batch.
+     *
+     * @param previousBatch the previously fetched batch or null when the first batch is fetched
+     */
+    protected List<U> fetchBatch(List<U> previousBatch) {
+        List<U> batch = query.listPage(firstResult, batchSize);
+        firstResult += batchSize;
+        return batch;
+    }
+
+}
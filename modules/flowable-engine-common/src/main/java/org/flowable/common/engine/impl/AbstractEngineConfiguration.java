@@ -85,6 +85,9 @@ import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -134,6 +137,13 @@ public abstract class AbstractEngineConfiguration {
     protected boolean forceCloseMybatisConnectionPool = true;
 
     protected String databaseType;
+
+    /**
+     * Whether 'for update skip locked' selects can be used, e.g. by the bulk lock job acquisition.
+     * Detected with the database type: MySQL only supports it as of version 8 and MariaDB as of version 10.6.
+     * When not set, it is detected when the database type is MySQL and assumed to be supported for other databases.
+     */
+    protected Boolean databaseSkipLockedSupported;
     protected String jdbcDriver = "org.h2.Driver";
     protected String jdbcUrl = "jdbc:h2:tcp://localhost/~/flowable";
     protected String jdbcUsername = "sa";
@@ -212,6 +222,21 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, the updates and deletes of a flush are sent to the database as JDBC batches instead of one statement at a time. Default false.
+     * The optimistic locking check relies on the row counts reported by the driver for the batched statements:
+     * batching is disabled at engine init for drivers that are known not to report them (Oracle drivers before version 12).
+     */
+    protected boolean isJdbcBatchFlushEnabled;
+
+    /**
+     * If set to true, queries that include related entities (e.g. a task query with includeProcessVariables) first select the requested page of results
+     * and then fetch the variables and identity links of exactly those results with separate 'in' queries. Default false.
+     * Otherwise the results are outer joined with their related entities, which can't be paged in sql, so the joined rows are fetched up to the query limit
+     * (e.g. taskQueryLimit) and paged in memory.
+     */
+    protected boolean enableTwoPhaseRelatedEntitiesQueries;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
     protected String mybatisMappingFile;
@@ -302,6 +327,12 @@ public abstract class AbstractEngineConfiguration {
      */
     protected DefaultTenantProvider defaultTenantProvider = (tenantId, scope, scopeKey) -> NO_TENANT_ID;
 
+    /**
+     * Set to true to use a {@link ConcurrentDeploymentCache} instead of a {@link DefaultDeploymentCache} for the definition and expression caches
+     * created by the engine. The concurrent cache doesn't lock on reads, which matters when many threads look up the same definitions.
+     */
+    protected boolean concurrentDeploymentCacheEnabled;
+
     /**
      * Enables the MyBatis plugin that logs the execution time of sql statements.
      */
@@ -466,6 +497,9 @@ public abstract class AbstractEngineConfiguration {
 
         if (databaseType == null) {
             initDatabaseType();
+        } else if ((databaseSkipLockedSupported == null && DATABASE_TYPE_MYSQL.equals(databaseType))
+                || (isJdbcBatchFlushEnabled && DATABASE_TYPE_ORACLE.equals(databaseType))) {
+            initDatabaseCapabilities();
         }
     }
 
@@ -499,6 +533,8 @@ public abstract class AbstractEngineConfiguration {
             }
             logger.debug("using database type: {}", databaseType);
 
+            initDatabaseCapabilities(databaseProductName, databaseMetaData);
+
         } catch (SQLException e) {
             throw new RuntimeException("Exception while initializing Database connection", e);
         } finally {
@@ -518,6 +554,59 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    /**
+     * Initializes the settings that depend on the version of the database or of the JDBC driver,
+     * for when the database type is configured and thus not detected by {@link #initDatabaseType()}.
+     */
+    public void initDatabaseCapabilities() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            initDatabaseCapabilities(databaseMetaData.getDatabaseProductName(), databaseMetaData);
+        } catch (SQLException e) {
+            throw new RuntimeException("Exception while initializing Database connection", e);
+        }
+    }
+
+    protected void initDatabaseCapabilities(String databaseProductName, DatabaseMetaData databaseMetaData) throws SQLException {
+        if (databaseSkipLockedSupported == null) {
+            databaseSkipLockedSupported = isDatabaseSkipLockedSupported(databaseProductName, databaseMetaData);
+        }
+
+        if (isJdbcBatchFlushEnabled && !isJdbcBatchRowCountSupported(databaseMetaData)) {
+            logger.warn("The JDBC driver {} {} does not report the row counts of batched statements, JDBC batching of flushes is disabled",
+                    databaseMetaData.getDriverName(), databaseMetaData.getDriverVersion());
+            isJdbcBatchFlushEnabled = false;
+        }
+    }
+
+    /**
+     * Whether the driver reports the affected row count of every statement of a JDBC batch, instead of {@link java.sql.Statement#SUCCESS_NO_INFO}.
+     * Oracle drivers only do so for prepared statements as of version 12.
+     */
+    protected boolean isJdbcBatchRowCountSupported(DatabaseMetaData databaseMetaData) throws SQLException {
+        if (DATABASE_TYPE_ORACLE.equals(databaseType)) {
+            return databaseMetaData.getDriverMajorVersion() >= 12;
+        }
+        return true;
+    }
+
+    protected boolean isDatabaseSkipLockedSupported(String databaseProductName, DatabaseMetaData databaseMetaData) throws SQLException {
+        if (!DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            return true;
+        }
+
+        int majorVersion = databaseMetaData.getDatabaseMajorVersion();
+        boolean skipLockedSupported;
+        if ("MariaDB".equalsIgnoreCase(databaseProductName)) {
+            skipLockedSupported = majorVersion > 10 || (majorVersion == 10 && databaseMetaData.getDatabaseMinorVersion() >= 6);
+        } else {
+            skipLockedSupported = majorVersion >= 8;
+        }
+        logger.debug("{} version {}.{}, skip locked supported: {}", databaseProductName, majorVersion, databaseMetaData.getDatabaseMinorVersion(),
+                skipLockedSupported);
+        return skipLockedSupported;
+    }
+
     public void initSchemaManager() {
         if (this.commonSchemaManager == null) {
             this.commonSchemaManager = new CommonDbSchemaManager();
@@ -669,6 +758,27 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    public <T> DeploymentCache<T> createDeploymentCache(int limit) {
+        if (concurrentDeploymentCacheEnabled) {
+            return new ConcurrentDeploymentCache<>(limit);
+        } else if (limit <= 0) {
+            return new DefaultDeploymentCache<>();
+        } else {
+            return new DefaultDeploymentCache<>(limit);
+        }
+    }
+
+    /**
+     * Creates the cache of an expression manager. Contrary to {@link #createDeploymentCache(int)}, a size of 0 or less means that nothing is cached.
+     */
+    public <T> DeploymentCache<T> createExpressionCache(int size) {
+        if (concurrentDeploymentCacheEnabled && size > 0) {
+            return new ConcurrentDeploymentCache<>(size);
+        } else {
+            return new DefaultDeploymentCache<>(size);
+        }
+    }
+
     // Data managers ///////////////////////////////////////////////////////////
 
     public void initDataManagers() {
@@ -755,6 +865,7 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setJdbcBatchFlushEnabled(isJdbcBatchFlushEnabled);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1090,6 +1201,18 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isDatabaseSkipLockedSupported() {
+        if (databaseSkipLockedSupported != null) {
+            return databaseSkipLockedSupported;
+        }
+        return !DATABASE_TYPE_MYSQL.equals(databaseType);
+    }
+
+    public AbstractEngineConfiguration setDatabaseSkipLockedSupported(Boolean databaseSkipLockedSupported) {
+        this.databaseSkipLockedSupported = databaseSkipLockedSupported;
+        return this;
+    }
+
     public DataSource getDataSource() {
         return dataSource;
     }
@@ -1486,6 +1609,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isJdbcBatchFlushEnabled() {
+        return isJdbcBatchFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setJdbcBatchFlushEnabled(boolean isJdbcBatchFlushEnabled) {
+        this.isJdbcBatchFlushEnabled = isJdbcBatchFlushEnabled;
+        return this;
+    }
+
+    public boolean isEnableTwoPhaseRelatedEntitiesQueries() {
+        return enableTwoPhaseRelatedEntitiesQueries;
+    }
+
+    public AbstractEngineConfiguration setEnableTwoPhaseRelatedEntitiesQueries(boolean enableTwoPhaseRelatedEntitiesQueries) {
+        this.enableTwoPhaseRelatedEntitiesQueries = enableTwoPhaseRelatedEntitiesQueries;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -1629,6 +1770,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isConcurrentDeploymentCacheEnabled() {
+        return concurrentDeploymentCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setConcurrentDeploymentCacheEnabled(boolean concurrentDeploymentCacheEnabled) {
+        this.concurrentDeploymentCacheEnabled = concurrentDeploymentCacheEnabled;
+        return this;
+    }
+
     public boolean isFallbackToDefaultTenant() {
         return fallbackToDefaultTenant;
     }
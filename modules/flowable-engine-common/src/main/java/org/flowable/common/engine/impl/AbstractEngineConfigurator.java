@@ -270,6 +270,7 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
 
     protected void initDbProperties(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
         targetEngineConfiguration.setDatabaseType(engineConfiguration.getDatabaseType());
+        targetEngineConfiguration.setDatabaseSkipLockedSupported(engineConfiguration.isDatabaseSkipLockedSupported());
         targetEngineConfiguration.setDatabaseCatalog(engineConfiguration.getDatabaseCatalog());
         targetEngineConfiguration.setDatabaseSchema(engineConfiguration.getDatabaseSchema());
         targetEngineConfiguration.setDatabaseSchemaUpdate(engineConfiguration.getDatabaseSchemaUpdate());
@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.context.Context;
@@ -26,6 +27,7 @@ import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 
 /**
  * @author Joram Barrez
@@ -33,6 +35,11 @@ import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
  */
 public abstract class AbstractDataManager<EntityImpl extends Entity> implements DataManager<EntityImpl> {
 
+    /**
+     * The maximum number of ids in the 'in' clause of one query, below the limits of all supported databases (e.g. 1000 on Oracle).
+     */
+    protected static final int MAX_IDS_PER_QUERY = 500;
+
     public abstract Class<? extends EntityImpl> getManagedEntityClass();
 
     public List<Class<? extends EntityImpl>> getManagedEntitySubClasses() {
@@ -295,6 +302,21 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         }
     }
     
+    /**
+     * Executes the statement for consecutive partitions of the ids, which are passed as the idsParameterName parameter next to the other parameters.
+     * The results are not loaded into or merged with the entity cache.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> List<T> selectListByIdPartitions(String statement, String idsParameterName, Collection<String> ids, Map<String, Object> parameters) {
+        List<T> results = new ArrayList<>();
+        for (List<String> idPartition : CollectionUtil.partition(ids, MAX_IDS_PER_QUERY)) {
+            Map<String, Object> partitionParameters = new HashMap<>(parameters);
+            partitionParameters.put(idsParameterName, idPartition);
+            results.addAll(getDbSqlSession().selectListNoCacheLoadAndStore(statement, new ListQueryParameterObject(partitionParameters, -1, -1)));
+        }
+        return results;
+    }
+
     protected boolean isEntityInserted(DbSqlSession dbSqlSession, String entityLogicalName, String entityId) {
         Class<?> executionEntityClass = dbSqlSession.getDbSqlSessionFactory().getLogicalNameToClassMapping().get(entityLogicalName);
         return executionEntityClass != null && dbSqlSession.isEntityInserted(executionEntityClass, entityId);
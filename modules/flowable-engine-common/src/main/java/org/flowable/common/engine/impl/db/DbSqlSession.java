@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,7 +25,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
@@ -50,6 +59,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -226,6 +236,17 @@ public class DbSqlSession implements Session {
         return selectListWithRawParameter(statement, parameterToUse, false);
     }
 
+    /**
+     * Like {@link #selectListNoCacheLoadAndStore(String, ListQueryParameterObject)}, but stops reading the result set after maxRows rows.
+     * Meant for statements that can't limit their rows in SQL, e.g. 'for update skip locked' selects on Oracle, where the rows are locked when they are fetched.
+     */
+    @SuppressWarnings("rawtypes")
+    public List selectListNoCacheLoadAndStore(String statement, ListQueryParameterObject parameter, int maxRows) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        return sqlSession.selectList(statement, parameter, new RowBounds(0, maxRows));
+    }
+
     @SuppressWarnings("rawtypes")
     public List selectListWithRawParameter(String statement, Object parameter) {
         // All other selectList methods eventually end up here, passing it into the method
@@ -286,6 +307,15 @@ public class DbSqlSession implements Session {
         return result;
     }
 
+    /**
+     * Returns a cursor over the results of the statement, which keeps the underlying result set open until it is closed.
+     * The results are not put in the entity cache. The cursor must be closed before the command context is closed.
+     */
+    public <T> Cursor<T> selectCursor(String statement, Object parameter) {
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        return sqlSession.selectCursor(statement, parameter);
+    }
+
     public <T extends Entity> T selectById(Class<T> entityClass, String id) {
         return selectById(entityClass, id, true);
     }
@@ -562,13 +592,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+        if (dbSqlSessionFactory.isJdbcBatchFlushEnabled() && updatedObjects.size() > 1) {
+            flushBatchedUpdates();
+            return;
+        }
 
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
-            }
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
 
             LOGGER.debug("updating: {}", updatedObject);
 
@@ -586,6 +616,85 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Sends all updates through one JDBC batch. The updates are grouped per statement,
+     * as the batch executor of MyBatis can only reuse a prepared statement for consecutive executions of the same sql.
+     */
+    protected void flushBatchedUpdates() {
+        Map<String, List<Entity>> updatedObjectsByStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            updatedObjectsByStatement.computeIfAbsent(getMappedUpdateStatement(updatedObject), statement -> new ArrayList<>()).add(updatedObject);
+        }
+
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (Map.Entry<String, List<Entity>> entry : updatedObjectsByStatement.entrySet()) {
+            for (Entity updatedObject : entry.getValue()) {
+                LOGGER.debug("updating (batched): {}", updatedObject);
+                batchSqlSession.update(entry.getKey(), updatedObject);
+            }
+        }
+        verifyBatchResults(batchSqlSession.flushStatements(), false);
+
+        for (Entity updatedObject : updatedObjects) {
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+
+    /**
+     * Checks the row counts of a flushed batch: no affected row means the entity was updated or deleted by another transaction concurrently.
+     * As the batch bypasses the regular {@link SqlSession}, the local cache of the latter is cleared afterwards.
+     * <p>
+     * Drivers that can't report the row count of a batched statement return {@link Statement#SUCCESS_NO_INFO}, which would silently disable optimistic locking.
+     * Batching is disabled at engine init for the drivers known to do so, any other driver doing so is a configuration error.
+     */
+    protected void verifyBatchResults(List<BatchResult> batchResults, boolean onlyCheckEntitiesWithRevision) {
+        sqlSession.clearCache();
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object entity = parameterObjects.get(i);
+                if (onlyCheckEntitiesWithRevision && !(entity instanceof HasRevision)) {
+                    continue;
+                }
+
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    throw new FlowableException("The JDBC driver does not report the row count of batched statements, JDBC batching of flushes "
+                            + "(jdbcBatchFlushEnabled) needs to be disabled for it. Could not verify the update of " + entity);
+
+                } else if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link SqlSession} with a batch executor that shares the connection (and thus the transaction) of the regular {@link SqlSession}.
+     * The transaction is managed by the regular session: committing, rolling back or closing the batch session does not affect the connection.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            Configuration configuration = sqlSession.getConfiguration();
+            Executor batchExecutor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+            batchSqlSession = new DefaultSqlSession(configuration, batchExecutor, false);
+        }
+        return batchSqlSession;
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -628,12 +737,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isJdbcBatchFlushEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchedDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -648,17 +758,42 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Deletes the entities of one entity class through a JDBC batch. The batch is flushed before returning,
+     * so the deletion order between entity classes (and the bulk delete operations) is kept.
+     */
+    protected void flushBatchedDeleteEntities(Collection<Entity> entitiesToDelete) {
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            batchSqlSession.delete(getMappedDeleteStatement(entity), entity);
+        }
+        verifyBatchResults(batchSqlSession.flushStatements(), true);
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
     @Override
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
     public void commit() {
-        sqlSession.commit();
+        // Statements executed through the batch session don't mark the regular session as dirty, hence forcing the commit
+        sqlSession.commit(batchSqlSession != null);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchSqlSession != null);
     }
 
     public <T> T getCustomMapper(Class<T> type) {
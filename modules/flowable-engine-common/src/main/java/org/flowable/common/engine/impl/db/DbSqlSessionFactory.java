@@ -62,6 +62,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean isJdbcBatchFlushEnabled;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -202,6 +204,14 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isJdbcBatchFlushEnabled() {
+        return isJdbcBatchFlushEnabled;
+    }
+
+    public void setJdbcBatchFlushEnabled(boolean isJdbcBatchFlushEnabled) {
+        this.isJdbcBatchFlushEnabled = isJdbcBatchFlushEnabled;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
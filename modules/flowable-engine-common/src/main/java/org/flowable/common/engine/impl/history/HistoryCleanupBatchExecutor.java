@@ -0,0 +1,239 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes historic instances with their related data in batches, where every batch is deleted in its own transaction,
+ * instead of deleting all instances in one (potentially huge) transaction.
+ *
+ * The ids of the instances to delete are fetched in pages of the batch size times the parallelism. The batches of a page are
+ * deleted in parallel and the next page is fetched after the throttle delay, until no instances are left to delete.
+ * As every batch is committed on its own, a cleanup that is interrupted continues with the remaining instances when it is executed again.
+ *
+ * When a maximum number of batches per execution is set, the execution stops after the page in which that number is reached,
+ * without completing the cleanup. The caller then needs to execute it again (e.g. in a new job) to continue with the remaining instances.
+ */
+public abstract class HistoryCleanupBatchExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryCleanupBatchExecutor.class);
+
+    protected CommandExecutor commandExecutor;
+    protected int batchSize;
+    protected int parallelism;
+    protected long throttleDelayInMillis;
+    protected int maxBatchesPerExecution;
+    protected boolean completed;
+    protected String threadNamePattern = "flowable-history-cleanup-%d";
+
+    public HistoryCleanupBatchExecutor(CommandExecutor commandExecutor, int batchSize, int parallelism, long throttleDelayInMillis) {
+        if (batchSize < 1) {
+            throw new FlowableException("The history cleanup batch size must be at least 1, but was " + batchSize);
+        }
+        this.commandExecutor = commandExecutor;
+        this.batchSize = batchSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.throttleDelayInMillis = Math.max(0L, throttleDelayInMillis);
+    }
+
+    /**
+     * Deletes all instances in batches, or the instances of the maximum number of batches per execution, and returns the number
+     * of deleted rows per table, including the rows that were deleted before by an interrupted cleanup that is continued.
+     * Use {@link #isCompleted()} to know whether instances are left to delete.
+     */
+    public Map<String, Long> execute() {
+        CommandConfig commandConfig = new CommandConfig().transactionRequiresNew();
+        Map<String, Long> deletedRows = new TreeMap<>(commandExecutor.execute(commandConfig, this::start));
+
+        ExecutorService executorService = null;
+        if (parallelism > 1) {
+            executorService = Executors.newFixedThreadPool(parallelism, new BasicThreadFactory.Builder().namingPattern(threadNamePattern).build());
+        }
+
+        try {
+            int pageSize = batchSize * parallelism;
+            int nrOfBatches = 0;
+            while (true) {
+                List<String> instanceIds = commandExecutor.execute(commandConfig, commandContext -> findInstanceIds(pageSize, commandContext));
+                if (instanceIds.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+
+                List<Map<String, Long>> batchResults = deleteBatches(instanceIds, commandConfig, executorService);
+                for (Map<String, Long> batchResult : batchResults) {
+                    addDeletedRows(deletedRows, batchResult);
+                }
+                nrOfBatches += batchResults.size();
+                LOGGER.debug("Deleted {} historic instances in {} batches, {} batches deleted so far", instanceIds.size(), batchResults.size(), nrOfBatches);
+
+                if (instanceIds.size() < pageSize) {
+                    completed = true;
+                    break;
+                }
+                if (maxBatchesPerExecution > 0 && nrOfBatches >= maxBatchesPerExecution) {
+                    break;
+                }
+                throttle();
+            }
+
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+
+        if (!completed) {
+            LOGGER.info("History cleanup stopped after the maximum of {} batches per execution, deleted rows so far: {}", maxBatchesPerExecution, deletedRows);
+            return deletedRows;
+        }
+
+        commandExecutor.execute(commandConfig, commandContext -> {
+            complete(deletedRows, commandContext);
+            return null;
+        });
+
+        LOGGER.info("History cleanup completed, deleted rows: {}", deletedRows);
+        return deletedRows;
+    }
+
+    protected List<Map<String, Long>> deleteBatches(List<String> instanceIds, CommandConfig commandConfig, ExecutorService executorService) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < instanceIds.size(); i += batchSize) {
+            batches.add(new ArrayList<>(instanceIds.subList(i, Math.min(i + batchSize, instanceIds.size()))));
+        }
+
+        List<Map<String, Long>> batchResults = new ArrayList<>(batches.size());
+        if (executorService == null || batches.size() == 1) {
+            for (List<String> batch : batches) {
+                batchResults.add(commandExecutor.execute(commandConfig, commandContext -> deleteInstances(batch, commandContext)));
+            }
+            return batchResults;
+        }
+
+        List<Future<Map<String, Long>>> futures = new ArrayList<>(batches.size());
+        for (List<String> batch : batches) {
+            futures.add(executorService.submit(() -> commandExecutor.execute(commandConfig, commandContext -> deleteInstances(batch, commandContext))));
+        }
+
+        for (Future<Map<String, Long>> future : futures) {
+            try {
+                batchResults.add(future.get());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while deleting historic instances", e);
+
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new FlowableException("Could not delete historic instances", e.getCause());
+            }
+        }
+        return batchResults;
+    }
+
+    protected void throttle() {
+        if (throttleDelayInMillis > 0) {
+            try {
+                Thread.sleep(throttleDelayInMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while deleting historic instances", e);
+            }
+        }
+    }
+
+    protected void addDeletedRows(Map<String, Long> deletedRows, Map<String, Long> batchResult) {
+        for (Map.Entry<String, Long> entry : batchResult.entrySet()) {
+            deletedRows.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+    }
+
+    /**
+     * Starts (or continues) the cleanup, executed in its own transaction before any instance is deleted.
+     * Returns the number of deleted rows per table of a cleanup that is continued, or an empty map.
+     */
+    protected abstract Map<String, Long> start(CommandContext commandContext);
+
+    /**
+     * Returns the ids of at most the given number of instances that need to be deleted.
+     */
+    protected abstract List<String> findInstanceIds(int maxResults, CommandContext commandContext);
+
+    /**
+     * Deletes the instances with the given ids and their related data, returning the number of deleted rows per table.
+     * Every batch is deleted in its own transaction, which can be executed concurrently with the deletion of other batches.
+     */
+    protected abstract Map<String, Long> deleteInstances(List<String> instanceIds, CommandContext commandContext);
+
+    /**
+     * Completes the cleanup, executed in its own transaction after all instances are deleted.
+     */
+    protected abstract void complete(Map<String, Long> deletedRows, CommandContext commandContext);
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getThrottleDelayInMillis() {
+        return throttleDelayInMillis;
+    }
+
+    public int getMaxBatchesPerExecution() {
+        return maxBatchesPerExecution;
+    }
+
+    /**
+     * Sets the maximum number of batches that one execution deletes, 0 or lower to delete all instances in one execution.
+     */
+    public void setMaxBatchesPerExecution(int maxBatchesPerExecution) {
+        this.maxBatchesPerExecution = maxBatchesPerExecution;
+    }
+
+    /**
+     * Returns whether the last execution deleted all instances and completed the cleanup.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public String getThreadNamePattern() {
+        return threadNamePattern;
+    }
+
+    public void setThreadNamePattern(String threadNamePattern) {
+        this.threadNamePattern = threadNamePattern;
+    }
+}
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -37,6 +38,9 @@ public class CachedEntity {
         if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
+            if (entity instanceof DirtyTrackingEntity) {
+                ((DirtyTrackingEntity) entity).clearDirty();
+            }
         } else if (entity.getOriginalPersistentState() == null){
             entity.setOriginalPersistentState(new HashMap<>(1));
         }
@@ -59,6 +63,11 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
+        // No need to build the current persistent state when the entity itself knows it hasn't been touched since its original state was stored
+        if (originalPersistentState != null && entity instanceof DirtyTrackingEntity && !((DirtyTrackingEntity) entity).isDirty()) {
+            return false;
+        }
+
         Object currentPersistentState = entity.getPersistentState();
         return currentPersistentState != null && !entity.getPersistentState().equals(originalPersistentState)
                 || currentPersistentState == null && originalPersistentState != null;
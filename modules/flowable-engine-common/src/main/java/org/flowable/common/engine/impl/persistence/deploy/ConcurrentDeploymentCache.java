@@ -0,0 +1,242 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache that can be used concurrently without a global lock on reads, contrary to the {@link DefaultDeploymentCache}
+ * which synchronizes every access (an access ordered LinkedHashMap is modified on every get).
+ *
+ * Eviction is an approximate LRU: every entry keeps the time it was last accessed and when an add makes the cache exceed its limit,
+ * a few entries are sampled and the least recently accessed one of them is evicted, until the cache is within its limit again.
+ * The samples are taken round-robin over the cache, so an eviction costs the same for a small and a large cache.
+ * Access times are only updated when they are older than a millisecond, so a frequently used entry is not written to by every thread reading it.
+ *
+ * Optionally, a weigher can be passed. The limit then is the maximum total weight of the cached objects instead of
+ * the maximum number of cached objects (e.g. weigh process definitions by the number of flow elements in the model).
+ *
+ * Hits, misses and evictions are counted, which can be used to tune the limit.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final long ACCESS_TIME_GRANULARITY = TimeUnit.MILLISECONDS.toNanos(1);
+    protected static final int EVICTION_SAMPLE_SIZE = 8;
+
+    protected final Map<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+
+    protected final long maxWeight;
+    protected final ToIntFunction<T> weigher;
+    protected final AtomicLong totalWeight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+    // Guarded by the eviction lock. The iterator of a ConcurrentHashMap never fails on concurrent modifications, so it can be kept between evictions.
+    protected Iterator<CacheEntry<T>> evictionIterator;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(0, null);
+    }
+
+    /**
+     * Cache which has a limit on the number of cached elements.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache which has a limit on the total weight of the cached elements, as calculated by the given weigher.
+     * When the weigher is null, every element has weight 1. A max weight of 0 or less means no limit.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, ToIntFunction<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        long now = System.nanoTime();
+        if (now - entry.lastAccessTime > ACCESS_TIME_GRANULARITY) {
+            entry.lastAccessTime = now;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void add(String id, T obj) {
+        CacheEntry<T> entry = new CacheEntry<>(id, obj, weigh(obj), System.nanoTime());
+        CacheEntry<T> previous = cache.put(id, entry);
+        totalWeight.addAndGet(previous != null ? entry.weight - previous.weight : entry.weight);
+
+        if (maxWeight > 0 && totalWeight.get() > maxWeight) {
+            evict(entry);
+        }
+    }
+
+    protected int weigh(T obj) {
+        if (weigher == null) {
+            return 1;
+        }
+        return Math.max(1, weigher.applyAsInt(obj));
+    }
+
+    protected void evict(CacheEntry<T> addedEntry) {
+        evictionLock.lock();
+        try {
+            while (totalWeight.get() > maxWeight) {
+                CacheEntry<T> candidate = sampleEvictionCandidate(addedEntry);
+
+                // The element that was just added is only evicted when it exceeds the limit on its own
+                CacheEntry<T> entryToEvict = candidate != null ? candidate : addedEntry;
+                if (cache.remove(entryToEvict.key, entryToEvict)) {
+                    totalWeight.addAndGet(-entryToEvict.weight);
+                    evictionCount.increment();
+                    LOGGER.trace("Cache limit is reached, {} will be evicted", entryToEvict.key);
+                }
+
+                if (candidate == null) {
+                    break;
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the least recently accessed entry out of the next {@link #EVICTION_SAMPLE_SIZE} entries of the cache, other than the given one.
+     * Returns null when there are no other entries.
+     */
+    protected CacheEntry<T> sampleEvictionCandidate(CacheEntry<T> excludedEntry) {
+        CacheEntry<T> candidate = null;
+        int nrOfSampledEntries = 0;
+        boolean restarted = false;
+        while (nrOfSampledEntries < EVICTION_SAMPLE_SIZE) {
+            if (evictionIterator == null || !evictionIterator.hasNext()) {
+                if (restarted) {
+                    break; // All entries have been sampled
+                }
+                evictionIterator = cache.values().iterator();
+                restarted = true;
+                continue;
+            }
+
+            CacheEntry<T> entry = evictionIterator.next();
+            if (entry != excludedEntry) {
+                nrOfSampledEntries++;
+                if (candidate == null || entry.lastAccessTime < candidate.lastAccessTime) {
+                    candidate = entry;
+                }
+            }
+        }
+        return candidate;
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            totalWeight.addAndGet(-entry.weight);
+        }
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        for (String id : new ArrayList<>(cache.keySet())) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String key;
+        protected final T value;
+        protected final int weight;
+        protected volatile long lastAccessTime;
+
+        public CacheEntry(String key, T value, int weight, long lastAccessTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+
+}
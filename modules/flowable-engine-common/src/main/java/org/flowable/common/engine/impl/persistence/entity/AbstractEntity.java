@@ -29,6 +29,7 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     protected boolean isDeleted;
     
     protected Object originalPersistentState;
+    protected boolean isDirty;
 
     @Override
     public String getId() {
@@ -94,4 +95,19 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    /**
+     * Only used by subclasses implementing {@link DirtyTrackingEntity}.
+     */
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void clearDirty() {
+        this.isDirty = false;
+    }
+
+    protected void markDirty() {
+        this.isDirty = true;
+    }
 }
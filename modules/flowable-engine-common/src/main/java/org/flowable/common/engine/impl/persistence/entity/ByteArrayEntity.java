@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.InputStream;
+
 import org.flowable.common.engine.impl.db.HasRevision;
 
 /**
@@ -33,4 +35,13 @@ public interface ByteArrayEntity extends Entity, HasRevision {
 
     void setBytes(byte[] bytes);
 
+    InputStream getContentStream();
+
+    /**
+     * Sets the stream the bytes are inserted from, with {@link java.sql.PreparedStatement#setBinaryStream(int, InputStream)},
+     * instead of holding them in memory. The stream is read when the command context is flushed, so it needs to stay open until then.
+     * The bytes of such an entity are only available when it is loaded again in another command context.
+     */
+    void setContentStream(InputStream contentStream);
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 
@@ -28,6 +29,7 @@ public class ByteArrayEntityImpl extends AbstractEntity implements ByteArrayEnti
 
     protected String name;
     protected byte[] bytes;
+    protected transient InputStream contentStream;
     protected String deploymentId;
 
     public ByteArrayEntityImpl() {
@@ -76,6 +78,16 @@ public class ByteArrayEntityImpl extends AbstractEntity implements ByteArrayEnti
         this.bytes = bytes;
     }
 
+    @Override
+    public InputStream getContentStream() {
+        return contentStream;
+    }
+
+    @Override
+    public void setContentStream(InputStream contentStream) {
+        this.contentStream = contentStream;
+    }
+
     @Override
     public String toString() {
         return "ByteArrayEntity[id=" + id + ", name=" + name + ", size=" + (bytes != null ? bytes.length : 0) + "]";
@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,10 +26,30 @@ public interface ByteArrayEntityManager extends EntityManager<ByteArrayEntity> {
      */
     List<ByteArrayEntity> findAll();
 
+    /**
+     * Returns the {@link ByteArrayEntity} instances with the given ids, fetched with one query.
+     * The fetched entities are cached, so subsequent lookups of the same byte arrays in the same command context don't hit the database.
+     */
+    List<ByteArrayEntity> findByteArraysByIds(Collection<String> byteArrayIds);
+
     /**
      * Deletes the {@link ByteArrayEntity} with the given id from the database. Important: this operation will NOT do any optimistic locking, to avoid loading the bytes in memory. So use this method
      * only in conjunction with an entity that has optimistic locking!.
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Returns a stream over the bytes of the {@link ByteArrayEntity} with the given id, or null when it has no bytes.
+     * When the entity is not loaded in the current command context yet, the bytes are read from the open result set while the stream is consumed,
+     * instead of being loaded in memory at once. The stream must be closed before the command context is closed.
+     */
+    InputStream openContentStream(String byteArrayEntityId);
+
+    /**
+     * Returns a stream over the bytes of the {@link ByteArrayEntity} with the given id that can still be read after the command context is closed,
+     * or null when it has no bytes. The bytes are streamed from the database and copied in memory when they are small,
+     * or else to a temporary file that is deleted when the returned stream is closed.
+     */
+    InputStream openDetachedContentStream(String byteArrayEntityId);
+
 }
\ No newline at end of file
@@ -13,11 +13,15 @@
 
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.persistence.entity.data.ByteArrayDataManager;
+import org.flowable.common.engine.impl.util.IoUtil;
+
 /**
  * @author Joram Barrez
  * @author Marcus Klimstra (CGI)
@@ -28,6 +32,11 @@ public class ByteArrayEntityManagerImpl
 
     protected Supplier<FlowableEventDispatcher> eventDispatcherSupplier;
 
+    /**
+     * The maximum number of bytes of a detached content stream that are kept in memory, larger contents are copied to a temporary file.
+     */
+    protected int detachedContentMaxInMemorySize = 1024 * 1024;
+
     public ByteArrayEntityManagerImpl(ByteArrayDataManager byteArrayDataManager, String engineType, Supplier<FlowableEventDispatcher> eventDispatcherSupplier) {
         super(byteArrayDataManager, engineType);
         this.eventDispatcherSupplier = eventDispatcherSupplier;
@@ -38,11 +47,30 @@ public class ByteArrayEntityManagerImpl
         return dataManager.findAll();
     }
 
+    @Override
+    public List<ByteArrayEntity> findByteArraysByIds(Collection<String> byteArrayIds) {
+        return dataManager.findByteArraysByIds(byteArrayIds);
+    }
+
     @Override
     public void deleteByteArrayById(String byteArrayEntityId) {
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public InputStream openContentStream(String byteArrayEntityId) {
+        return dataManager.openContentStream(byteArrayEntityId);
+    }
+
+    @Override
+    public InputStream openDetachedContentStream(String byteArrayEntityId) {
+        InputStream contentStream = openContentStream(byteArrayEntityId);
+        if (contentStream == null) {
+            return null;
+        }
+        return IoUtil.copyToDetachedInputStream(contentStream, byteArrayEntityId, detachedContentMaxInMemorySize);
+    }
+
     @Override
     protected FlowableEventDispatcher getEventDispatcher() {
         return eventDispatcherSupplier.get();
@@ -51,4 +79,12 @@ public class ByteArrayEntityManagerImpl
     public void setEventDispatcherSupplier(Supplier<FlowableEventDispatcher> eventDispatcherSupplier) {
         this.eventDispatcherSupplier = eventDispatcherSupplier;
     }
+
+    public int getDetachedContentMaxInMemorySize() {
+        return detachedContentMaxInMemorySize;
+    }
+
+    public void setDetachedContentMaxInMemorySize(int detachedContentMaxInMemorySize) {
+        this.detachedContentMaxInMemorySize = detachedContentMaxInMemorySize;
+    }
 }
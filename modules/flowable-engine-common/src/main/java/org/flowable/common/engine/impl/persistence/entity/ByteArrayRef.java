@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 
@@ -61,6 +63,24 @@ public class ByteArrayRef implements Serializable {
         return (entity != null ? entity.getBytes() : null);
     }
 
+    /**
+     * Returns the bytes as a stream. Within a command context the bytes are streamed from the database, unless they have been loaded already,
+     * so they don't need to fit in memory at once. In that case the stream must be closed before the command context is closed.
+     * Outside of a command context the bytes are loaded and a stream over them is returned.
+     */
+    public InputStream getBytesAsStream(String engineType) {
+        if (id == null) {
+            return null;
+
+        } else if (entity == null && Context.getCommandContext() != null) {
+            return getEngineConfiguration(engineType).getByteArrayEntityManager().openContentStream(id);
+
+        } else {
+            byte[] bytes = getBytes(engineType);
+            return bytes != null ? new ByteArrayInputStream(bytes) : null;
+        }
+    }
+
     /**
      * Returns the byte array from the {@link #getBytes(String)} method as {@link StandardCharsets#UTF_8} {@link String}.
      *
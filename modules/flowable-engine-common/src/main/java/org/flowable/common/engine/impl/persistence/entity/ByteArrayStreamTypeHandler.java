@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+/**
+ * MyBatis TypeHandler that reads a binary column as an {@link InputStream}, instead of materializing it as a byte array.
+ * {@link ResultSet#getBinaryStream(String)} is used, as it works for both BLOB and binary (e.g. Postgres bytea) columns.
+ * The returned stream is only valid as long as the result set it comes from is open.
+ */
+public class ByteArrayStreamTypeHandler extends BaseTypeHandler<InputStream> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, InputStream parameter, JdbcType jdbcType) throws SQLException {
+        ps.setBinaryStream(i, parameter);
+    }
+
+    @Override
+    public InputStream getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return rs.getBinaryStream(columnName);
+    }
+
+    @Override
+    public InputStream getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return rs.getBinaryStream(columnIndex);
+    }
+
+    @Override
+    public InputStream getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        // CallableStatement has no getBinaryStream, so the output parameter needs to be a BLOB
+        Blob blob = cs.getBlob(columnIndex);
+        return blob != null ? blob.getBinaryStream() : null;
+    }
+
+}
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that keeps track of changes to the fields of its {@link #getPersistentState()} itself.
+ * <p>
+ * The entity cache uses this to skip building and comparing the persistent state of entities that weren't touched
+ * since they were loaded. Implementations must mark themselves dirty on every change of a field that is part of the persistent state:
+ * a change that isn't tracked will not be flushed to the database.
+ * Entities that don't implement this interface are always checked by comparing their persistent state.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    /**
+     * Returns true if a field of the persistent state has possibly been changed since the last call to {@link #clearDirty()}.
+     */
+    boolean isDirty();
+
+    /**
+     * Called when the persistent state of the entity has been stored as the original persistent state.
+     */
+    void clearDirty();
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.persistence.entity.data;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
@@ -23,6 +25,10 @@ public interface ByteArrayDataManager extends DataManager<ByteArrayEntity> {
 
     List<ByteArrayEntity> findAll();
 
+    List<ByteArrayEntity> findByteArraysByIds(Collection<String> byteArrayIds);
+
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    InputStream openContentStream(String byteArrayEntityId);
+
 }
@@ -12,8 +12,18 @@
  */
 package org.flowable.common.engine.impl.persistence.entity.data.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
@@ -47,13 +57,71 @@ public class MybatisByteArrayDataManager extends AbstractDataManager<ByteArrayEn
         return getDbSqlSession().selectList("selectByteArrays");
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ByteArrayEntity> findByteArraysByIds(Collection<String> byteArrayIds) {
+        Map<String, Object> params = new HashMap<>(1);
+        params.put("byteArrayIds", byteArrayIds);
+        return getDbSqlSession().selectListWithRawParameter("selectByteArraysByIds", params);
+    }
+
     @Override
     public void deleteByteArrayNoRevisionCheck(String byteArrayEntityId) {
         getDbSqlSession().delete("deleteByteArrayNoRevisionCheck", byteArrayEntityId, ByteArrayEntityImpl.class);
     }
 
+    @Override
+    public InputStream openContentStream(String byteArrayEntityId) {
+        ByteArrayEntity cachedEntity = getEntityCache().findInCache(getManagedEntityClass(), byteArrayEntityId);
+        if (cachedEntity != null) {
+            // The cached entity can have been changed in the current command context, so its bytes are used instead of the stored ones
+            byte[] bytes = cachedEntity.getBytes();
+            return bytes != null ? new ByteArrayInputStream(bytes) : null;
+        }
+
+        Cursor<Map<String, Object>> cursor = getDbSqlSession().selectCursor("selectByteArrayContentStream", byteArrayEntityId);
+        Iterator<Map<String, Object>> iterator = cursor.iterator();
+        Map<String, Object> row = iterator.hasNext() ? iterator.next() : null;
+        InputStream content = row != null ? (InputStream) row.get("content") : null;
+        if (content == null) {
+            closeCursor(cursor);
+            return null;
+        }
+        return new CursorClosingInputStream(content, cursor);
+    }
+
+    protected void closeCursor(Cursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw new FlowableException("Could not close byte array cursor", e);
+        }
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return idGenerator;
     }
+
+    /**
+     * Closes the cursor, and with it the result set the content is read from, when the stream is closed.
+     */
+    protected static class CursorClosingInputStream extends FilterInputStream {
+
+        protected final Cursor<?> cursor;
+
+        public CursorClosingInputStream(InputStream content, Cursor<?> cursor) {
+            super(content);
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                cursor.close();
+            }
+        }
+    }
 }
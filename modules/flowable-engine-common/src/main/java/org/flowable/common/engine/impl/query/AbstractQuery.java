@@ -14,10 +14,13 @@ package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.api.query.QueryBatchIterator;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.Direction;
 import org.flowable.common.engine.impl.context.Context;
@@ -25,6 +28,7 @@ import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
  * Abstract superclass for all query types.
@@ -38,6 +42,8 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    protected String afterId;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -135,6 +141,59 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    @Override
+    public List<U> listPageAfterId(String afterId, int maxResults) {
+        if (!isPagingByIdSupported()) {
+            throw new FlowableException(getClass().getName() + " does not support paging by id");
+        }
+        if (!isOrderedById()) {
+            throw new FlowableIllegalArgumentException("Paging by id can't be combined with ordering on other properties");
+        }
+
+        this.afterId = afterId;
+        try {
+            return listPage(0, maxResults);
+        } finally {
+            this.afterId = null;
+        }
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<U>> batchConsumer) {
+        createBatchIterator(batchSize).forEachRemaining(batchConsumer);
+    }
+
+    @Override
+    public Stream<U> stream(int batchSize) {
+        return createBatchIterator(batchSize).stream();
+    }
+
+    protected QueryBatchIterator<U> createBatchIterator(int batchSize) {
+        checkQueryOk();
+        if (isPagingByIdSupported() && isOrderedById()) {
+            return new IdPagingQueryBatchIterator<>(this, batchSize);
+        }
+        return new QueryBatchIterator<>(this, batchSize);
+    }
+
+    /**
+     * Queries that support {@link #listPageAfterId(String, int)} return true, their statement has to restrict the results to ids greater than {@link #getAfterId()}.
+     */
+    protected boolean isPagingByIdSupported() {
+        return false;
+    }
+
+    protected boolean isOrderedById() {
+        return orderByColumns == null || "RES.ID_ asc".equals(orderByColumns);
+    }
+
+    protected String getResultId(U result) {
+        if (result instanceof Entity) {
+            return ((Entity) result).getId();
+        }
+        throw new FlowableException("Cannot determine the id of query result " + result);
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
@@ -177,4 +236,8 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return null;
     }
 
+    public String getAfterId() {
+        return afterId;
+    }
+
 }
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.query.QueryBatchIterator;
+
+/**
+ * Fetches every batch with {@link AbstractQuery#listPageAfterId(String, int)}, starting after the id of the last result of the previous batch.
+ */
+public class IdPagingQueryBatchIterator<U> extends QueryBatchIterator<U> {
+
+    protected final AbstractQuery<?, U> abstractQuery;
+
+    public IdPagingQueryBatchIterator(AbstractQuery<?, U> query, int batchSize) {
+        super(query, batchSize);
+        this.abstractQuery = query;
+    }
+
+    @Override
+    protected List<U> fetchBatch(List<U> previousBatch) {
+        String afterId = null;
+        if (previousBatch != null) {
+            afterId = abstractQuery.getResultId(previousBatch.get(previousBatch.size() - 1));
+        }
+        return abstractQuery.listPageAfterId(afterId, batchSize);
+    }
+
+}
@@ -12,11 +12,14 @@
  */
 package org.flowable.common.engine.impl.scripting;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -24,6 +27,8 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
@@ -42,6 +47,19 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Scripts of cached scripting engines that implement {@link Compilable} are compiled once and the {@link CompiledScript} is reused,
+     * with at most compiledScriptCacheLimit compiled scripts per language.
+     */
+    protected boolean cacheCompiledScripts = true;
+    protected int compiledScriptCacheLimit = 1000;
+    protected Map<String, DeploymentCache<CompiledScript>> compiledScriptCaches = new ConcurrentHashMap<>();
+
+    protected final LongAdder compilationCount = new LongAdder();
+    protected final LongAdder compilationTimeInNanos = new LongAdder();
+    protected final LongAdder evaluationCount = new LongAdder();
+    protected final LongAdder evaluationTimeInNanos = new LongAdder();
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -49,7 +67,7 @@ public class ScriptingEngines {
 
     public ScriptingEngines(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
-        cachedEngines = new HashMap<>();
+        cachedEngines = new ConcurrentHashMap<>();
     }
 
     public ScriptingEngines addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
@@ -81,15 +99,98 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public void setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+    }
+
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
-            return scriptEngine.eval(script, bindings);
+            CompiledScript compiledScript = getCompiledScript(script, language, scriptEngine);
+            long start = System.nanoTime();
+            try {
+                if (compiledScript != null) {
+                    return compiledScript.eval(bindings);
+                } else {
+                    return scriptEngine.eval(script, bindings);
+                }
+            } finally {
+                evaluationCount.increment();
+                evaluationTimeInNanos.add(System.nanoTime() - start);
+            }
+
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Returns the compiled script, compiling it when it isn't cached yet, or null when the script isn't compiled.
+     * Only scripts of cached engines are compiled, as the compiled script is bound to the engine that compiled it
+     * and only thread safe engines are cached.
+     */
+    protected CompiledScript getCompiledScript(String script, String language, ScriptEngine scriptEngine) throws ScriptException {
+        if (!cacheCompiledScripts || !isCompilationSupported(language, scriptEngine) || cachedEngines.get(language) != scriptEngine) {
+            return null;
+        }
+
+        DeploymentCache<CompiledScript> compiledScriptCache = compiledScriptCaches.computeIfAbsent(language,
+                key -> new ConcurrentDeploymentCache<>(compiledScriptCacheLimit));
+        CompiledScript compiledScript = compiledScriptCache.get(script);
+        if (compiledScript == null) {
+            long start = System.nanoTime();
+            try {
+                compiledScript = ((Compilable) scriptEngine).compile(script);
+            } finally {
+                compilationCount.increment();
+                compilationTimeInNanos.add(System.nanoTime() - start);
+            }
+            compiledScriptCache.add(script, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    /**
+     * The juel script engine binds the variables of the script context when parsing, hence a compiled juel script can't be reused with other bindings.
+     */
+    protected boolean isCompilationSupported(String language, ScriptEngine scriptEngine) {
+        return scriptEngine instanceof Compilable && !DEFAULT_SCRIPTING_LANGUAGE.equals(language);
+    }
+
+    /**
+     * The number of scripts that were compiled into a {@link CompiledScript}.
+     */
+    public long getCompilationCount() {
+        return compilationCount.sum();
+    }
+
+    public long getCompilationTimeInNanos() {
+        return compilationTimeInNanos.sum();
+    }
+
+    /**
+     * The number of script evaluations. The evaluation time of scripts that are not compiled includes parsing the script.
+     */
+    public long getEvaluationCount() {
+        return evaluationCount.sum();
+    }
+
+    public long getEvaluationTimeInNanos() {
+        return evaluationTimeInNanos.sum();
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -12,8 +12,10 @@
  */
 package org.flowable.common.engine.impl.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -67,4 +69,25 @@ public class CollectionUtil {
         return !isEmpty(collection);
     }
 
+    /**
+     * Splits the values in consecutive lists of at most the given size,
+     * e.g. to keep the number of parameters of an sql 'in' clause below the limit of the database.
+     */
+    public static <T> List<List<T>> partition(Collection<T> values, int partitionSize) {
+        if (partitionSize <= 0) {
+            throw new FlowableIllegalArgumentException("The partition size should be positive");
+        }
+
+        List<List<T>> partitions = new ArrayList<>();
+        List<T> partition = null;
+        for (T value : values) {
+            if (partition == null || partition.size() == partitionSize) {
+                partition = new ArrayList<>(Math.min(partitionSize, values.size()));
+                partitions.add(partition);
+            }
+            partition.add(value);
+        }
+        return partitions;
+    }
+
 }
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.util;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -47,6 +48,52 @@ public class IoUtil {
         return outputStream.toByteArray();
     }
 
+    /**
+     * Copies the given stream, and closes it, into a stream that doesn't depend on the resources of the given stream (e.g. an open result set).
+     * Up to the given number of bytes are kept in memory, larger contents are copied to a temporary file that is deleted when the returned stream is closed.
+     */
+    public static InputStream copyToDetachedInputStream(InputStream inputStream, String inputStreamName, int maxInMemorySize) {
+        ByteArrayOutputStream memoryStream = new ByteArrayOutputStream();
+        File file = null;
+        OutputStream fileStream = null;
+        try {
+            byte[] buffer = new byte[16 * 1024];
+            int bytesRead = inputStream.read(buffer);
+            while (bytesRead != -1) {
+                if (fileStream == null && memoryStream.size() + bytesRead > maxInMemorySize) {
+                    file = File.createTempFile("flowable-content-", ".tmp");
+                    fileStream = new BufferedOutputStream(new FileOutputStream(file));
+                    memoryStream.writeTo(fileStream);
+                    memoryStream = null;
+                }
+
+                if (fileStream != null) {
+                    fileStream.write(buffer, 0, bytesRead);
+                } else {
+                    memoryStream.write(buffer, 0, bytesRead);
+                }
+                bytesRead = inputStream.read(buffer);
+            }
+
+            if (fileStream == null) {
+                return new ByteArrayInputStream(memoryStream.toByteArray());
+            }
+
+            fileStream.close();
+            return new TemporaryFileInputStream(file);
+
+        } catch (IOException e) {
+            closeSilently(fileStream);
+            if (file != null && !file.delete()) {
+                file.deleteOnExit();
+            }
+            throw new FlowableException("couldn't copy input stream " + inputStreamName, e);
+
+        } finally {
+            closeSilently(inputStream);
+        }
+    }
+
     public static String readFileAsString(String filePath) {
         byte[] buffer = new byte[(int) getFile(filePath).length()];
         BufferedInputStream inputStream = null;
@@ -108,4 +155,28 @@ public class IoUtil {
             // Exception is silently ignored
         }
     }
+
+    /**
+     * Stream over a temporary file, which is deleted when the stream is closed.
+     */
+    protected static class TemporaryFileInputStream extends FileInputStream {
+
+        protected final File file;
+
+        public TemporaryFileInputStream(File file) throws IOException {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!file.delete()) {
+                    file.deleteOnExit();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void testNoLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 1000; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(1000);
+        assertThat(cache.get("id0")).isEqualTo("value0");
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isZero();
+
+        cache.remove("id0");
+        assertThat(cache.contains("id0")).isFalse();
+        assertThat(cache.getTotalWeight()).isEqualTo(999);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getTotalWeight()).isZero();
+    }
+
+    @Test
+    void testLeastRecentlyAccessedIsEvicted() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "a");
+        cache.add("b", "b");
+        cache.add("c", "c");
+
+        // Access times are tracked with a granularity of a millisecond
+        Thread.sleep(5);
+        cache.get("a");
+        cache.get("c");
+        Thread.sleep(5);
+        cache.add("d", "d");
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.getAll()).containsExactlyInAnyOrder("a", "c", "d");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testEvictionKeepsLargeCacheWithinLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        for (int i = 0; i < 100; i++) {
+            cache.add("old" + i, "old" + i);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            cache.add("new" + i, "new" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getTotalWeight()).isEqualTo(100);
+        assertThat(cache.getEvictionCount()).isEqualTo(50);
+        assertThat(cache.contains("new49")).isTrue();
+    }
+
+    @Test
+    void testWeightLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10, String::length);
+        cache.add("a", "aaaa");
+        cache.add("b", "bbbb");
+        assertThat(cache.getTotalWeight()).isEqualTo(8);
+
+        cache.add("c", "cccc");
+        assertThat(cache.getTotalWeight()).isLessThanOrEqualTo(10);
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+
+        // Replacing an entry replaces its weight
+        cache.add("c", "cc");
+        assertThat(cache.getTotalWeight()).isEqualTo(6);
+
+        // An element that exceeds the limit on its own is not kept
+        cache.add("d", "ddddddddddddddd");
+        assertThat(cache.contains("d")).isFalse();
+        assertThat(cache.getTotalWeight()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(50);
+        int nrOfThreads = 8;
+        int nrOfOperations = 10000;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(nrOfThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < nrOfThreads; i++) {
+                int thread = i;
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < nrOfOperations; j++) {
+                        String id = "id" + ((thread * 7 + j) % 100);
+                        if (cache.get(id) == null) {
+                            cache.add(id, id);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo((long) nrOfThreads * nrOfOperations);
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.getTotalWeight()).isEqualTo(cache.size());
+        assertThat(cache.getEvictionCount()).isPositive();
+    }
+
+}
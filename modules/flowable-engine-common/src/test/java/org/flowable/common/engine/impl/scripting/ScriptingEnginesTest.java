@@ -0,0 +1,220 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptEngineManager;
+import javax.script.SimpleBindings;
+
+import org.junit.jupiter.api.Test;
+
+class ScriptingEnginesTest {
+
+    @Test
+    void testCompiledScriptIsReused() {
+        TestScriptEngineFactory scriptEngineFactory = new TestScriptEngineFactory("MULTITHREADED");
+        ScriptingEngines scriptingEngines = new ScriptingEngines(new ScriptEngineManager()).addScriptEngineFactory(scriptEngineFactory);
+
+        assertThat(scriptingEngines.evaluate("greeting", "test", bindings("greeting", "hello"))).isEqualTo("hello");
+        assertThat(scriptingEngines.evaluate("greeting", "test", bindings("greeting", "bye"))).isEqualTo("bye");
+        assertThat(scriptingEngines.evaluate("other", "test", bindings("other", "value"))).isEqualTo("value");
+
+        assertThat(scriptEngineFactory.compilations).hasValue(2);
+        assertThat(scriptEngineFactory.evaluations).hasValue(3);
+        assertThat(scriptingEngines.getCompilationCount()).isEqualTo(2);
+        assertThat(scriptingEngines.getEvaluationCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testCompiledScriptCacheLimit() {
+        TestScriptEngineFactory scriptEngineFactory = new TestScriptEngineFactory("MULTITHREADED");
+        ScriptingEngines scriptingEngines = new ScriptingEngines(new ScriptEngineManager()).addScriptEngineFactory(scriptEngineFactory);
+        scriptingEngines.setCompiledScriptCacheLimit(1);
+
+        scriptingEngines.evaluate("first", "test", bindings("first", 1));
+        scriptingEngines.evaluate("second", "test", bindings("second", 2));
+        scriptingEngines.evaluate("first", "test", bindings("first", 1));
+
+        assertThat(scriptEngineFactory.compilations).hasValue(3);
+    }
+
+    @Test
+    void testScriptsOfNotThreadSafeEngineAreNotCompiled() {
+        TestScriptEngineFactory scriptEngineFactory = new TestScriptEngineFactory(null);
+        ScriptingEngines scriptingEngines = new ScriptingEngines(new ScriptEngineManager()).addScriptEngineFactory(scriptEngineFactory);
+
+        assertThat(scriptingEngines.evaluate("greeting", "test", bindings("greeting", "hello"))).isEqualTo("hello");
+        assertThat(scriptingEngines.evaluate("greeting", "test", bindings("greeting", "bye"))).isEqualTo("bye");
+
+        assertThat(scriptEngineFactory.compilations).hasValue(0);
+        assertThat(scriptingEngines.getCompilationCount()).isZero();
+        assertThat(scriptingEngines.getEvaluationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testCompiledScriptCacheDisabled() {
+        TestScriptEngineFactory scriptEngineFactory = new TestScriptEngineFactory("MULTITHREADED");
+        ScriptingEngines scriptingEngines = new ScriptingEngines(new ScriptEngineManager()).addScriptEngineFactory(scriptEngineFactory);
+        scriptingEngines.setCacheCompiledScripts(false);
+
+        assertThat(scriptingEngines.evaluate("greeting", "test", bindings("greeting", "hello"))).isEqualTo("hello");
+        assertThat(scriptEngineFactory.compilations).hasValue(0);
+    }
+
+    protected Bindings bindings(String name, Object value) {
+        Bindings bindings = new SimpleBindings();
+        bindings.put(name, value);
+        return bindings;
+    }
+
+    /**
+     * Script engine of which a script is the name of the binding to return.
+     */
+    protected static class TestScriptEngine extends AbstractScriptEngine implements Compilable {
+
+        protected TestScriptEngineFactory factory;
+
+        public TestScriptEngine(TestScriptEngineFactory factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object eval(String script, ScriptContext context) {
+            factory.evaluations.incrementAndGet();
+            return context.getAttribute(script);
+        }
+
+        @Override
+        public Object eval(Reader reader, ScriptContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompiledScript compile(String script) {
+            factory.compilations.incrementAndGet();
+            return new CompiledScript() {
+
+                @Override
+                public Object eval(ScriptContext context) {
+                    factory.evaluations.incrementAndGet();
+                    return context.getAttribute(script);
+                }
+
+                @Override
+                public ScriptEngine getEngine() {
+                    return TestScriptEngine.this;
+                }
+            };
+        }
+
+        @Override
+        public CompiledScript compile(Reader script) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Bindings createBindings() {
+            return new SimpleBindings();
+        }
+
+        @Override
+        public ScriptEngineFactory getFactory() {
+            return factory;
+        }
+    }
+
+    protected static class TestScriptEngineFactory implements ScriptEngineFactory {
+
+        protected String threading;
+        protected AtomicInteger compilations = new AtomicInteger();
+        protected AtomicInteger evaluations = new AtomicInteger();
+
+        public TestScriptEngineFactory(String threading) {
+            this.threading = threading;
+        }
+
+        @Override
+        public String getEngineName() {
+            return "test";
+        }
+
+        @Override
+        public String getEngineVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public List<String> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getMimeTypes() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getNames() {
+            return Collections.singletonList("test");
+        }
+
+        @Override
+        public String getLanguageName() {
+            return "test";
+        }
+
+        @Override
+        public String getLanguageVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public Object getParameter(String key) {
+            return "THREADING".equals(key) ? threading : null;
+        }
+
+        @Override
+        public String getMethodCallSyntax(String obj, String m, String... args) {
+            return null;
+        }
+
+        @Override
+        public String getOutputStatement(String toDisplay) {
+            return null;
+        }
+
+        @Override
+        public String getProgram(String... statements) {
+            return null;
+        }
+
+        @Override
+        public ScriptEngine getScriptEngine() {
+            return new TestScriptEngine(this);
+        }
+    }
+
+}
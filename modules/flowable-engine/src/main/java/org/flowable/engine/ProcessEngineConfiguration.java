@@ -159,6 +159,29 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected HistoryCleaningManager historyCleaningManager;
 
+    /**
+     * The number of historic process instances that the history cleanup deletes per transaction.
+     * A batch size of 0 or lower deletes all historic process instances that need to be cleaned in one go.
+     */
+    protected int historyCleaningBatchSize = 100;
+
+    /**
+     * The number of batches of historic process instances that the history cleanup deletes concurrently.
+     */
+    protected int historyCleaningParallelism = 1;
+
+    /**
+     * The time in milliseconds that the history cleanup waits after deleting a page of batches, to limit the load on the database.
+     */
+    protected long historyCleaningThrottleDelayInMillis;
+
+    /**
+     * The maximum number of batches of historic process instances that one execution of the history cleanup job deletes.
+     * When more instances need to be deleted, the job schedules a new job that continues the cleanup.
+     * A value of 0 or lower deletes all historic process instances in one job execution.
+     */
+    protected int historyCleaningMaxBatchesPerExecution = 10;
+
 
     /** postprocessor for a task builder */
     protected TaskPostProcessor taskPostProcessor = null;
@@ -827,6 +850,42 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public ProcessEngineConfiguration setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    public int getHistoryCleaningParallelism() {
+        return historyCleaningParallelism;
+    }
+
+    public ProcessEngineConfiguration setHistoryCleaningParallelism(int historyCleaningParallelism) {
+        this.historyCleaningParallelism = historyCleaningParallelism;
+        return this;
+    }
+
+    public long getHistoryCleaningThrottleDelayInMillis() {
+        return historyCleaningThrottleDelayInMillis;
+    }
+
+    public ProcessEngineConfiguration setHistoryCleaningThrottleDelayInMillis(long historyCleaningThrottleDelayInMillis) {
+        this.historyCleaningThrottleDelayInMillis = historyCleaningThrottleDelayInMillis;
+        return this;
+    }
+
+    public int getHistoryCleaningMaxBatchesPerExecution() {
+        return historyCleaningMaxBatchesPerExecution;
+    }
+
+    public ProcessEngineConfiguration setHistoryCleaningMaxBatchesPerExecution(int historyCleaningMaxBatchesPerExecution) {
+        this.historyCleaningMaxBatchesPerExecution = historyCleaningMaxBatchesPerExecution;
+        return this;
+    }
+
     public HistoryCleaningManager getHistoryCleaningManager() {
         return historyCleaningManager;
     }
@@ -77,6 +77,11 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstancesByQueryCriteria(this);
     }
 
+    @Override
+    protected boolean isPagingByIdSupported() {
+        return true;
+    }
+
     @Override
     public HistoricActivityInstanceQueryImpl processInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
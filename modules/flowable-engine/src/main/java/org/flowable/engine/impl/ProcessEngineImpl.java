@@ -32,6 +32,7 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,6 +114,10 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (processEngineConfiguration.isEnableHistoryCleaning()) {
             managementService.handleHistoryCleanupTimerJob();
         }
+
+        if (processEngineConfiguration.getProcessDefinitionInfoCache() instanceof ProcessDefinitionInfoCache) {
+            ((ProcessDefinitionInfoCache) processEngineConfiguration.getProcessDefinitionInfoCache()).startRevalidation();
+        }
     }
 
     @Override
@@ -124,6 +129,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getProcessDefinitionInfoCache() instanceof ProcessDefinitionInfoCache) {
+            ((ProcessDefinitionInfoCache) processEngineConfiguration.getProcessDefinitionInfoCache()).stopRevalidation();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
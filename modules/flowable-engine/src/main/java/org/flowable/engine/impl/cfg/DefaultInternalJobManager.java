@@ -13,11 +13,17 @@
 
 package org.flowable.engine.impl.cfg;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Event;
@@ -49,6 +55,8 @@ import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tijs Rademakers
@@ -69,6 +77,75 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
         return null;
     }
 
+    @Override
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(List<Job> jobs, Collection<String> variableNames) {
+        // The executions of the process instances of the jobs are fetched in one query,
+        // and the variables of all executions from the jobs up to their process instances in another one
+        Set<String> processInstanceIds = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getExecutionId() != null && job.getProcessInstanceId() != null) {
+                processInstanceIds.add(job.getProcessInstanceId());
+            }
+        }
+
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        if (processInstanceIds.isEmpty()) {
+            return variablesByJobId;
+        }
+
+        Map<String, ExecutionEntity> executionsById = new HashMap<>();
+        for (ExecutionEntity execution : getExecutionEntityManager().findExecutionsByProcessInstanceIds(processInstanceIds)) {
+            executionsById.put(execution.getId(), execution);
+        }
+
+        Map<String, List<String>> executionIdsByJobId = new HashMap<>();
+        Set<String> executionIds = new HashSet<>();
+        for (Job job : jobs) {
+            ExecutionEntity execution = job.getExecutionId() != null ? executionsById.get(job.getExecutionId()) : null;
+            if (execution != null) {
+                List<String> jobExecutionIds = new ArrayList<>();
+                while (execution != null) {
+                    jobExecutionIds.add(execution.getId());
+                    execution = execution.getParentId() != null ? executionsById.get(execution.getParentId()) : null;
+                }
+                executionIdsByJobId.put(job.getId(), jobExecutionIds);
+                executionIds.addAll(jobExecutionIds);
+            }
+        }
+
+        if (executionIds.isEmpty()) {
+            return variablesByJobId;
+        }
+
+        InternalVariableInstanceQuery variableInstanceQuery = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .createInternalVariableInstanceQuery()
+                .executionIds(executionIds)
+                .withoutTaskId();
+        if (variableNames != null) {
+            variableInstanceQuery.names(variableNames);
+        }
+
+        Map<String, Map<String, Object>> variablesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableInstanceQuery.list()) {
+            variablesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), key -> new HashMap<>())
+                    .put(variableInstance.getName(), variableInstance.getValue());
+        }
+
+        for (Map.Entry<String, List<String>> entry : executionIdsByJobId.entrySet()) {
+            // Variables of child executions hide the variables of their parents with the same name
+            Map<String, Object> variables = new HashMap<>();
+            List<String> jobExecutionIds = entry.getValue();
+            for (int i = jobExecutionIds.size() - 1; i >= 0; i--) {
+                Map<String, Object> executionVariables = variablesByExecutionId.get(jobExecutionIds.get(i));
+                if (executionVariables != null) {
+                    variables.putAll(executionVariables);
+                }
+            }
+            variablesByJobId.put(entry.getKey(), variables);
+        }
+        return variablesByJobId;
+    }
+
     @Override
     protected boolean handleJobInsertInternal(Job job) {
         // add link to execution
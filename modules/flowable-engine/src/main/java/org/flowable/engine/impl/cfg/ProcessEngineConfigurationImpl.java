@@ -27,6 +27,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadFactory;
+import java.util.function.ToIntFunction;
 
 import javax.xml.namespace.QName;
 
@@ -90,7 +91,7 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
@@ -362,6 +363,7 @@ import org.flowable.entitylink.service.impl.db.EntityLinkDbSchemaManager;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.db.EventSubscriptionDbSchemaManager;
 import org.flowable.form.api.FormFieldHandler;
 import org.flowable.identitylink.service.IdentityLinkEventHandler;
@@ -557,9 +559,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * Optional weigher for the process definition cache entries (e.g. the number of flow elements of the process).
+     * When set, a {@link ConcurrentDeploymentCache} is used and the processDefinitionCacheLimit is the maximum total weight instead of the maximum number of process definitions.
+     */
+    protected ToIntFunction<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
 
+    /**
+     * The duration in milliseconds a cached process definition info (the dynamic BPMN overrides) is used without checking its revision in the database.
+     * The cached infos are revalidated in bulk in the background and a local save of the process definition info invalidates it immediately.
+     * By default 0, meaning that the revision is checked on every lookup.
+     */
+    protected long processDefinitionInfoCacheMaxStalenessInMillis;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -742,12 +757,49 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorResetExpiredJobsMaxTimeout = 24 * 60 * 60 * 1000;
 
+    /**
+     * When enabled, the async job and timer job acquisition lock all acquired jobs with one update statement,
+     * selecting them with SKIP LOCKED on the databases that support it (PostgreSQL, MySQL 8, Oracle and SQL Server).
+     * This avoids that multiple nodes acquiring jobs at the same time lose their acquisition cycle due to optimistic locking exceptions.
+     * <p>
+     * Disabled by default, in which case every acquired job is locked through a revision checked update.
+     */
+    protected boolean asyncExecutorBulkLockAcquisitionEnabled;
+
+    /**
+     * When enabled, the process instance of an exclusive job is locked, the job is executed and the process instance is unlocked in one transaction.
+     * The process instance row then stays locked until the job transaction commits, so other exclusive jobs of the same process instance wait for it.
+     * When the process instance is locked by another job, the lock is taken in a separate transaction first, as when this setting is disabled.
+     * <p>
+     * Disabled by default, in which case the process instance lock is committed in its own transaction before the job is executed.
+     */
+    protected boolean asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
+
     /**
      * The {@link AsyncExecutor} has a 'cleanup' thread that resets expired jobs so they can be re-acquired by other executors. This setting defines the size of the page being used when fetching these
      * expired jobs.
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
 
+    /**
+     * Whether timer jobs that are due within {@link #asyncExecutorTimerJobWheelHorizon} are moved to executable jobs at their due date by an in-memory timer wheel,
+     * instead of waiting for the next timer job acquisition. The timer job acquisition then only runs every {@link #asyncExecutorTimerJobWheelTimerJobAcquireWaitTime}
+     * as a safety net for the timer jobs that are not moved by the wheel. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerJobWheelEnabled;
+
+    /**
+     * The time (in milliseconds) ahead of which timer jobs are scheduled in the timer wheel. Default value = 5 minutes.
+     */
+    protected long asyncExecutorTimerJobWheelHorizon = 5 * 60 * 1000;
+
+    /**
+     * The time (in milliseconds) the timer acquisition thread will wait to execute the next acquirement query when the timer wheel is enabled. Default value = 60 seconds.
+     */
+    protected int asyncExecutorTimerJobWheelTimerJobAcquireWaitTime = 60 * 1000;
+
     /**
      * Flags to control which threads (when using the default threadpool-based async executor) are started.
      * This can be used to boot up engine instances that still execute jobs originating from this instance itself,
@@ -779,6 +831,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryExecutorAsyncJobLockTimeInMillis = 5 * 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsInterval = 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsPageSize = 3;
+
+    /**
+     * The number of history jobs that the async history executor executes together in one transaction.
+     * By default (1), every history job is executed in its own transaction.
+     * With a bigger batch size, the historic entities of a batch are inserted with bulk inserts, repeated updates of the same historic entity
+     * are flushed as one update and the history jobs are deleted together, which reduces the load on the database with a high history job volume.
+     */
+    protected int asyncHistoryExecutorBatchSize = 1;
+
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorTimerJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
@@ -915,6 +976,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected EventRegistryEventConsumer eventRegistryEventConsumer;
 
+    /**
+     * Enables an in-memory index of the configurations (correlation keys) of the event registry subscriptions,
+     * so that the event subscription query is narrowed to the correlation keys of an event that exist,
+     * and an event without any of them is discarded without querying the event subscriptions.
+     * Each event reads the revision of a property that is incremented by every transaction inserting event registry subscriptions,
+     * which serializes the commits of those transactions. All engines sharing the database (e.g. the nodes of a cluster)
+     * need to have the index enabled, otherwise their event subscriptions are missed.
+     */
+    protected boolean eventRegistryEventSubscriptionIndexEnabled;
+
+    /**
+     * The time in milliseconds after which an entry of the event subscription index is reloaded from the database,
+     * which bounds how long the correlation keys of deleted event subscriptions are still queried.
+     */
+    protected long eventRegistryEventSubscriptionIndexTimeToLive = 10_000L;
+
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
      * <p>
@@ -1579,6 +1656,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setIdGenerator(this.idGenerator);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        if (eventRegistryEventSubscriptionIndexEnabled) {
+            this.eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(
+                    new EventSubscriptionIndex(this.eventSubscriptionServiceConfiguration, eventRegistryEventSubscriptionIndexTimeToLive));
+        }
         
         this.eventSubscriptionServiceConfiguration.init();
         
@@ -1634,6 +1715,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
+        this.taskServiceConfiguration.setEnableTwoPhaseRelatedEntitiesQueries(this.enableTwoPhaseRelatedEntitiesQueries);
 
         this.taskServiceConfiguration.init();
 
@@ -1676,6 +1758,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setAsyncExecutorBulkLockAcquisitionEnabled(this.asyncExecutorBulkLockAcquisitionEnabled);
+            this.jobServiceConfiguration.setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(this.asyncExecutorSingleTransactionExclusiveJobExecutionEnabled);
 
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1706,6 +1790,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
+            this.jobServiceConfiguration.setDatabaseSkipLockedSupported(isDatabaseSkipLockedSupported());
             
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
@@ -1814,10 +1899,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
+            if (processDefinitionCacheWeigher != null) {
+                processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheLimit, processDefinitionCacheWeigher);
             } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
+                processDefinitionCache = createDeploymentCache(processDefinitionCacheLimit);
             }
         }
     }
@@ -1829,26 +1914,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            ((ProcessDefinitionInfoCache) processDefinitionInfoCache).setMaxStalenessInMillis(processDefinitionInfoCacheMaxStalenessInMillis);
         }
     }
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
-                appResourceCache = new DefaultDeploymentCache<>();
-            } else {
-                appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
-            }
+            appResourceCache = createDeploymentCache(appResourceCacheLimit);
         }
     }
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
-                knowledgeBaseCache = new DefaultDeploymentCache<>();
-            } else {
-                knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
-            }
+            knowledgeBaseCache = createDeploymentCache(knowledgeBaseCacheLimit);
         }
     }
 
@@ -2272,6 +2350,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             defaultAsyncExecutor.setResetExpiredJobsInterval(asyncExecutorResetExpiredJobsInterval);
             defaultAsyncExecutor.setResetExpiredJobsPageSize(asyncExecutorResetExpiredJobsPageSize);
 
+            // Timer job wheel
+            defaultAsyncExecutor.setTimerJobWheelEnabled(asyncExecutorTimerJobWheelEnabled);
+            defaultAsyncExecutor.setTimerJobWheelHorizonInMillis(asyncExecutorTimerJobWheelHorizon);
+            defaultAsyncExecutor.setTimerJobWheelTimerJobAcquireWaitTimeInMillis(asyncExecutorTimerJobWheelTimerJobAcquireWaitTime);
+
             // Tenant
             defaultAsyncExecutor.setTenantId(asyncExecutorTenantId);
             
@@ -2349,6 +2432,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 defaultAsyncHistoryExecutor.setResetExpiredJobsInterval(asyncHistoryExecutorResetExpiredJobsInterval);
                 defaultAsyncHistoryExecutor.setResetExpiredJobsPageSize(asyncHistoryExecutorResetExpiredJobsPageSize);
 
+                // Batch execution
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorBatchSize);
+                if (asyncHistoryExecutorBatchSize > 1) {
+                    // One acquisition fetches at least a full batch of history jobs
+                    defaultAsyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(asyncHistoryExecutorBatchSize);
+                }
+
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
 
                 if (asyncHistoryExecutor.getJobServiceConfiguration() == null) {
@@ -2538,7 +2628,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
 
             if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                processExpressionManager.setExpressionCache(createExpressionCache(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -3846,6 +3936,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ToIntFunction<ProcessDefinitionCacheEntry> getProcessDefinitionCacheWeigher() {
+        return processDefinitionCacheWeigher;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeigher(ToIntFunction<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher) {
+        this.processDefinitionCacheWeigher = processDefinitionCacheWeigher;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3864,6 +3963,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return processDefinitionInfoCache;
     }
 
+    public long getProcessDefinitionInfoCacheMaxStalenessInMillis() {
+        return processDefinitionInfoCacheMaxStalenessInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheMaxStalenessInMillis(long processDefinitionInfoCacheMaxStalenessInMillis) {
+        this.processDefinitionInfoCacheMaxStalenessInMillis = processDefinitionInfoCacheMaxStalenessInMillis;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -3978,6 +4086,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEventRegistryEventSubscriptionIndexEnabled() {
+        return eventRegistryEventSubscriptionIndexEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setEventRegistryEventSubscriptionIndexEnabled(boolean eventRegistryEventSubscriptionIndexEnabled) {
+        this.eventRegistryEventSubscriptionIndexEnabled = eventRegistryEventSubscriptionIndexEnabled;
+        return this;
+    }
+
+    public long getEventRegistryEventSubscriptionIndexTimeToLive() {
+        return eventRegistryEventSubscriptionIndexTimeToLive;
+    }
+
+    public ProcessEngineConfigurationImpl setEventRegistryEventSubscriptionIndexTimeToLive(long eventRegistryEventSubscriptionIndexTimeToLive) {
+        this.eventRegistryEventSubscriptionIndexTimeToLive = eventRegistryEventSubscriptionIndexTimeToLive;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -4929,6 +5055,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorBulkLockAcquisitionEnabled() {
+        return asyncExecutorBulkLockAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorBulkLockAcquisitionEnabled(boolean asyncExecutorBulkLockAcquisitionEnabled) {
+        this.asyncExecutorBulkLockAcquisitionEnabled = asyncExecutorBulkLockAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled() {
+        return asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(boolean asyncExecutorSingleTransactionExclusiveJobExecutionEnabled) {
+        this.asyncExecutorSingleTransactionExclusiveJobExecutionEnabled = asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
+        return this;
+    }
+
     public ExecuteAsyncRunnableFactory getAsyncExecutorExecuteAsyncRunnableFactory() {
         return asyncExecutorExecuteAsyncRunnableFactory;
     }
@@ -4947,6 +5091,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorTimerJobWheelEnabled() {
+        return asyncExecutorTimerJobWheelEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobWheelEnabled(boolean asyncExecutorTimerJobWheelEnabled) {
+        this.asyncExecutorTimerJobWheelEnabled = asyncExecutorTimerJobWheelEnabled;
+        return this;
+    }
+
+    public long getAsyncExecutorTimerJobWheelHorizon() {
+        return asyncExecutorTimerJobWheelHorizon;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobWheelHorizon(long asyncExecutorTimerJobWheelHorizon) {
+        this.asyncExecutorTimerJobWheelHorizon = asyncExecutorTimerJobWheelHorizon;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobWheelTimerJobAcquireWaitTime() {
+        return asyncExecutorTimerJobWheelTimerJobAcquireWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobWheelTimerJobAcquireWaitTime(int asyncExecutorTimerJobWheelTimerJobAcquireWaitTime) {
+        this.asyncExecutorTimerJobWheelTimerJobAcquireWaitTime = asyncExecutorTimerJobWheelTimerJobAcquireWaitTime;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -5109,6 +5280,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncHistoryExecutorBatchSize() {
+        return asyncHistoryExecutorBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorBatchSize(int asyncHistoryExecutorBatchSize) {
+        this.asyncHistoryExecutorBatchSize = asyncHistoryExecutorBatchSize;
+        return this;
+    }
+
     public boolean isAsyncExecutorMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
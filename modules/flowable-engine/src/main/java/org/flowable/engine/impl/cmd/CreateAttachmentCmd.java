@@ -23,7 +23,6 @@ import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
-import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -94,9 +93,9 @@ public class CreateAttachmentCmd implements Command<Attachment> {
         processEngineConfiguration.getAttachmentEntityManager().insert(attachment, false);
 
         if (content != null) {
-            byte[] bytes = IoUtil.readInputStream(content, attachmentName);
+            // The content is streamed to the database when the command context is flushed, instead of being read in memory first
             ByteArrayEntity byteArray = processEngineConfiguration.getByteArrayEntityManager().create();
-            byteArray.setBytes(bytes);
+            byteArray.setContentStream(content);
             processEngineConfiguration.getByteArrayEntityManager().insert(byteArray);
             attachment.setContentId(byteArray.getId());
             attachment.setContent(byteArray);
@@ -13,13 +13,11 @@
 
 package org.flowable.engine.impl.cmd;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
-import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
@@ -44,10 +42,7 @@ public class GetAttachmentContentCmd implements Command<InputStream>, Serializab
             return null;
         }
 
-        ByteArrayEntity byteArray = CommandContextUtil.getByteArrayEntityManager().findById(contentId);
-        byte[] bytes = byteArray.getBytes();
-
-        return new ByteArrayInputStream(bytes);
+        return CommandContextUtil.getByteArrayEntityManager().openDetachedContentStream(contentId);
     }
 
 }
@@ -12,7 +12,6 @@
  */
 package org.flowable.engine.impl.cmd;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 
@@ -20,7 +19,6 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
-import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.Deployment;
 
@@ -47,15 +45,17 @@ public class GetDeploymentResourceCmd implements Command<InputStream>, Serializa
             throw new FlowableIllegalArgumentException("resourceName is null");
         }
 
-        ResourceEntity resource = CommandContextUtil.getResourceEntityManager().findResourceByDeploymentIdAndResourceName(deploymentId, resourceName);
-        if (resource == null) {
+        String resourceId = CommandContextUtil.getResourceEntityManager().findResourceIdByDeploymentIdAndResourceName(deploymentId, resourceName);
+        if (resourceId == null) {
             if (CommandContextUtil.getDeploymentEntityManager(commandContext).findById(deploymentId) == null) {
                 throw new FlowableObjectNotFoundException("deployment does not exist: " + deploymentId, Deployment.class);
             } else {
                 throw new FlowableObjectNotFoundException("no resource found with name '" + resourceName + "' in deployment '" + deploymentId + "'", InputStream.class);
             }
         }
-        return new ByteArrayInputStream(resource.getBytes());
+
+        // Resources are stored as byte arrays, so their bytes can be streamed instead of loading the resource entity
+        return CommandContextUtil.getProcessEngineConfiguration(commandContext).getByteArrayEntityManager().openDetachedContentStream(resourceId);
     }
 
 }
@@ -0,0 +1,191 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DbIdGenerator} that doesn't synchronize on every id: ids are handed out from the current block with an atomic increment.
+ *
+ * When the remaining ids of the current block reach the low water mark (by default half of the block), the next block is fetched
+ * in the background, so that normally no thread has to wait for the database when the current block is exhausted.
+ *
+ * When a thread local block size is set, every thread takes that many ids at once from the current block and hands them out
+ * without any synchronization. Ids that are not used by a thread are lost, similar to the unused ids of a block when the engine is stopped.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    protected int lowWaterMark = -1;
+    protected int threadLocalBlockSize;
+
+    protected volatile IdRange currentRange;
+    protected volatile CompletableFuture<IdBlock> prefetchedBlock;
+    protected ExecutorService prefetchExecutorService;
+    protected String prefetchThreadName = "flowable-id-block-prefetcher-%d";
+
+    protected final ThreadLocal<ThreadLocalBlock> threadLocalBlock = ThreadLocal.withInitial(ThreadLocalBlock::new);
+
+    @Override
+    public String getNextId() {
+        if (threadLocalBlockSize > 1) {
+            ThreadLocalBlock block = threadLocalBlock.get();
+            if (block.nextId > block.lastId) {
+                takeIds(threadLocalBlockSize, block);
+            }
+            return Long.toString(block.nextId++);
+        }
+
+        return Long.toString(takeIds(1, null));
+    }
+
+    /**
+     * Takes the given number of ids from the current block, switching to the next block when the current one is exhausted.
+     * Returns the first taken id. When a thread local block is passed, it is set to the taken ids, which can be less than
+     * the requested number of ids at the end of a block.
+     */
+    protected long takeIds(int nrOfIds, ThreadLocalBlock block) {
+        while (true) {
+            IdRange range = currentRange;
+            if (range != null) {
+                long firstId = range.nextId.getAndAdd(nrOfIds);
+                if (firstId <= range.lastId) {
+                    long lastId = Math.min(firstId + nrOfIds - 1, range.lastId);
+                    if (firstId <= range.prefetchId && range.prefetchId <= lastId) {
+                        prefetchNewBlock();
+                    }
+                    if (block != null) {
+                        block.nextId = firstId;
+                        block.lastId = lastId;
+                    }
+                    return firstId;
+                }
+            }
+
+            switchToNewBlock(range);
+        }
+    }
+
+    protected synchronized void switchToNewBlock(IdRange exhaustedRange) {
+        if (currentRange != exhaustedRange) {
+            return; // Another thread has switched already
+        }
+
+        IdBlock idBlock = null;
+        CompletableFuture<IdBlock> prefetchedBlockFuture = prefetchedBlock;
+        if (prefetchedBlockFuture != null) {
+            prefetchedBlock = null;
+            try {
+                idBlock = prefetchedBlockFuture.join();
+            } catch (CompletionException e) {
+                LOGGER.warn("Prefetching the next id block failed, fetching it again", e.getCause());
+            }
+        }
+
+        if (idBlock == null) {
+            idBlock = fetchNewBlock();
+        }
+
+        long blockSize = idBlock.getLastId() - idBlock.getNextId() + 1;
+        long remainingIdsForPrefetch = lowWaterMark >= 0 ? Math.min(lowWaterMark, blockSize - 1) : blockSize / 2;
+        currentRange = new IdRange(idBlock.getNextId(), idBlock.getLastId(), idBlock.getLastId() - remainingIdsForPrefetch);
+    }
+
+    protected synchronized void prefetchNewBlock() {
+        if (prefetchedBlock == null) {
+            prefetchedBlock = CompletableFuture.supplyAsync(this::fetchNewBlock, getPrefetchExecutorService());
+        }
+    }
+
+    protected IdBlock fetchNewBlock() {
+        return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+    }
+
+    protected synchronized ExecutorService getPrefetchExecutorService() {
+        if (prefetchExecutorService == null) {
+            // The thread is stopped when it has been idle for a while, as there is no lifecycle to shut it down
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new BasicThreadFactory.Builder().namingPattern(prefetchThreadName).daemon(true).build());
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            prefetchExecutorService = threadPoolExecutor;
+        }
+        return prefetchExecutorService;
+    }
+
+    public int getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    /**
+     * The number of remaining ids in the current block at which the next block is fetched in the background. By default half of the block.
+     */
+    public void setLowWaterMark(int lowWaterMark) {
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    public int getThreadLocalBlockSize() {
+        return threadLocalBlockSize;
+    }
+
+    /**
+     * The number of ids a thread takes at once from the current block. By default 0, meaning that every id is taken from the current block.
+     */
+    public void setThreadLocalBlockSize(int threadLocalBlockSize) {
+        this.threadLocalBlockSize = threadLocalBlockSize;
+    }
+
+    public void setPrefetchExecutorService(ExecutorService prefetchExecutorService) {
+        this.prefetchExecutorService = prefetchExecutorService;
+    }
+
+    public String getPrefetchThreadName() {
+        return prefetchThreadName;
+    }
+
+    public void setPrefetchThreadName(String prefetchThreadName) {
+        this.prefetchThreadName = prefetchThreadName;
+    }
+
+    protected static class IdRange {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long prefetchId;
+
+        public IdRange(long nextId, long lastId, long prefetchId) {
+            this.nextId = new AtomicLong(nextId);
+            this.lastId = lastId;
+            this.prefetchId = prefetchId;
+        }
+    }
+
+    protected static class ThreadLocalBlock {
+
+        protected long nextId;
+        protected long lastId = -1;
+    }
+
+}
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.flowable.bpmn.constants.BpmnXMLConstants;
 import org.flowable.bpmn.model.BpmnModel;
@@ -35,6 +36,7 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +74,26 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         }
     }
 
+    @Override
+    protected boolean eventReceived(EventInstance eventInstance, Set<String> triggeredEventSubscriptionIds) {
+        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
+        List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.BPMN, eventInstance, correlationKeys);
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            if (triggeredEventSubscriptionIds.contains(eventSubscription.getId())) {
+                return false;
+            }
+        }
+
+        RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            if (eventSubscription.getExecutionId() != null) {
+                triggeredEventSubscriptionIds.add(eventSubscription.getId());
+            }
+            handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys);
+        }
+        return true;
+    }
+
     protected void handleEventSubscription(RuntimeService runtimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
 
@@ -152,6 +174,15 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected Collection<String> findEventSubscriptionConfigurations(String scopeType, String eventType, Collection<String> tenantIds) {
+        EventSubscriptionIndex eventSubscriptionIndex = processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionIndex();
+        if (eventSubscriptionIndex == null) {
+            return null;
+        }
+        return eventSubscriptionIndex.getConfigurations(scopeType, eventType, tenantIds);
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, processEngineConfiguration.getEventSubscriptionServiceConfiguration());
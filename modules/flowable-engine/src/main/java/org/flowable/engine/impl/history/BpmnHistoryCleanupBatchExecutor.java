@@ -0,0 +1,174 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.HistoryCleanupBatchExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic process instances of the history cleaning query in batches and keeps track of the progress in a {@link Batch}
+ * of type {@link Batch#HISTORIC_PROCESS_CLEANUP_TYPE}.
+ *
+ * Every deleted batch of instances is stored as a completed {@link BatchPart}, in the same transaction as the delete, with the number of
+ * deleted rows per table as result. When a cleanup is interrupted, its batch stays in progress and the next cleanup continues it.
+ * When all instances are deleted, the batch is completed with the total number of deleted rows per table in its batch document.
+ */
+public class BpmnHistoryCleanupBatchExecutor extends HistoryCleanupBatchExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnHistoryCleanupBatchExecutor.class);
+
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_COMPLETED = "completed";
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected HistoricProcessInstanceQueryImpl historicProcessInstanceQuery;
+    protected String batchId;
+
+    public BpmnHistoryCleanupBatchExecutor(ProcessEngineConfigurationImpl processEngineConfiguration, HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        super(processEngineConfiguration.getCommandExecutor(), processEngineConfiguration.getHistoryCleaningBatchSize(),
+                processEngineConfiguration.getHistoryCleaningParallelism(), processEngineConfiguration.getHistoryCleaningThrottleDelayInMillis());
+        this.processEngineConfiguration = processEngineConfiguration;
+        this.historicProcessInstanceQuery = historicProcessInstanceQuery;
+        this.maxBatchesPerExecution = processEngineConfiguration.getHistoryCleaningMaxBatchesPerExecution();
+    }
+
+    @Override
+    protected Map<String, Long> start(CommandContext commandContext) {
+        BatchService batchService = getBatchService();
+        Map<String, Long> deletedRows = new HashMap<>();
+
+        List<Batch> batches = batchService.findBatchesByQueryCriteria(new BatchQueryImpl()
+                .batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE)
+                .status(STATUS_IN_PROGRESS));
+        if (!batches.isEmpty()) {
+            batchId = batches.get(0).getId();
+            for (BatchPart batchPart : batchService.findBatchPartsByBatchId(batchId)) {
+                if (batchPart.isCompleted()) {
+                    addDeletedRows(deletedRows, readDeletedRows(batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey())));
+                }
+            }
+            LOGGER.info("Continuing history cleanup batch {}, deleted rows so far: {}", batchId, deletedRows);
+            return deletedRows;
+        }
+
+        ObjectNode batchDocument = processEngineConfiguration.getObjectMapper().createObjectNode();
+        batchDocument.put("batchSize", batchSize);
+        batchDocument.put("parallelism", parallelism);
+        batchDocument.put("throttleDelayInMillis", throttleDelayInMillis);
+
+        Batch batch = batchService.createBatchBuilder()
+                .batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE)
+                .status(STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchDocument.toString())
+                .create();
+        batchId = batch.getId();
+        return deletedRows;
+    }
+
+    @Override
+    protected List<String> findInstanceIds(int maxResults, CommandContext commandContext) {
+        historicProcessInstanceQuery.setFirstResult(0);
+        historicProcessInstanceQuery.setMaxResults(maxResults);
+        return CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).findHistoricProcessInstanceIdsByQueryCriteria(historicProcessInstanceQuery);
+    }
+
+    @Override
+    protected Map<String, Long> deleteInstances(List<String> instanceIds, CommandContext commandContext) {
+        Map<String, Long> deletedRows = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext)
+                .deleteHistoricProcessInstancesAndRelatedData(instanceIds);
+
+        BatchService batchService = getBatchService();
+        Batch batch = batchService.getBatch(batchId);
+        if (batch == null) {
+            throw new FlowableException("History cleanup batch " + batchId + " was removed");
+        }
+
+        ObjectNode result = processEngineConfiguration.getObjectMapper().createObjectNode();
+        deletedRows.forEach(result::put);
+        BatchPart batchPart = batchService.createBatchPart(batch, STATUS_IN_PROGRESS, instanceIds.get(0), null, ScopeTypes.BPMN);
+        batchService.completeBatchPart(batchPart.getId(), STATUS_COMPLETED, result.toString());
+        return deletedRows;
+    }
+
+    @Override
+    protected void complete(Map<String, Long> deletedRows, CommandContext commandContext) {
+        BatchService batchService = getBatchService();
+        BatchEntity batch = (BatchEntity) batchService.getBatch(batchId);
+        if (batch == null) {
+            return;
+        }
+
+        String engineCfgKey = processEngineConfiguration.getEngineCfgKey();
+        ObjectNode batchDocument;
+        try {
+            batchDocument = (ObjectNode) processEngineConfiguration.getObjectMapper().readTree(batch.getBatchDocumentJson(engineCfgKey));
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not read the document of history cleanup batch " + batchId, e);
+        }
+        ObjectNode deletedRowsNode = batchDocument.putObject("deletedRows");
+        deletedRows.forEach(deletedRowsNode::put);
+
+        batch.setBatchDocumentJson(batchDocument.toString(), engineCfgKey);
+        batch.setStatus(STATUS_COMPLETED);
+        batch.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+        batchService.updateBatch(batch);
+    }
+
+    protected Map<String, Long> readDeletedRows(String json) {
+        Map<String, Long> deletedRows = new HashMap<>();
+        if (json == null) {
+            return deletedRows;
+        }
+
+        try {
+            JsonNode resultNode = processEngineConfiguration.getObjectMapper().readTree(json);
+            Iterator<Map.Entry<String, JsonNode>> fields = resultNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                deletedRows.put(field.getKey(), field.getValue().asLong());
+            }
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not read the result of a batch part of history cleanup batch " + batchId, e);
+        }
+        return deletedRows;
+    }
+
+    protected BatchService getBatchService() {
+        return processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+}
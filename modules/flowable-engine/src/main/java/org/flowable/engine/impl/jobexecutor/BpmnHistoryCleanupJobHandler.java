@@ -12,17 +12,35 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
+import java.util.List;
+
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.BpmnHistoryCleanupBatchExecutor;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Deletes the historic process instances of the history cleaning query. When the cleanup is done in batches, one execution deletes
+ * at most the configured maximum number of batches and schedules an async job with the {@link #CONTINUE_CONFIGURATION} for the
+ * remaining instances, so a single job never runs for an unbounded time. The cleanup timer skips its execution while such a job exists.
+ */
 public class BpmnHistoryCleanupJobHandler implements JobHandler {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnHistoryCleanupJobHandler.class);
+
     public static final String TYPE = "bpmn-history-cleanup";
 
+    public static final String CONTINUE_CONFIGURATION = "continue";
+
     @Override
     public String getType() {
         return TYPE;
@@ -32,7 +50,46 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
 
-        processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+        if (!CONTINUE_CONFIGURATION.equals(configuration) && isContinueJobScheduled(job, jobService)) {
+            LOGGER.debug("Skipping history cleanup, a previous cleanup is continued by another job");
+            return;
+        }
+
+        HistoricProcessInstanceQuery cleaningQuery = processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery();
+        if (processEngineConfiguration.getHistoryCleaningBatchSize() > 0 && cleaningQuery instanceof HistoricProcessInstanceQueryImpl) {
+            BpmnHistoryCleanupBatchExecutor batchExecutor = createBatchExecutor(processEngineConfiguration, (HistoricProcessInstanceQueryImpl) cleaningQuery);
+            batchExecutor.execute();
+            if (!batchExecutor.isCompleted()) {
+                scheduleContinueJob(jobService);
+            }
+        } else {
+            cleaningQuery.deleteWithRelatedData();
+        }
+    }
+
+    protected boolean isContinueJobScheduled(JobEntity job, JobService jobService) {
+        List<Job> jobs = jobService.createJobQuery().handlerType(TYPE).list();
+        for (Job otherJob : jobs) {
+            if (!otherJob.getId().equals(job.getId()) && CONTINUE_CONFIGURATION.equals(otherJob.getJobHandlerConfiguration())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void scheduleContinueJob(JobService jobService) {
+        // The job is created in the transaction of the current job, so it only exists when this execution succeeded
+        JobEntity continueJob = jobService.createJob();
+        continueJob.setJobHandlerType(TYPE);
+        continueJob.setJobHandlerConfiguration(CONTINUE_CONFIGURATION);
+        jobService.createAsyncJob(continueJob, false);
+        jobService.scheduleAsyncJob(continueJob);
+    }
+
+    protected BpmnHistoryCleanupBatchExecutor createBatchExecutor(ProcessEngineConfigurationImpl processEngineConfiguration,
+            HistoricProcessInstanceQueryImpl cleaningQuery) {
+        return new BpmnHistoryCleanupBatchExecutor(processEngineConfiguration, cleaningQuery);
     }
     
 }
@@ -12,12 +12,19 @@
  */
 package org.flowable.engine.impl.persistence.deploy;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -35,6 +42,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Default cache: keep everything in memory, unless a limit is set.
+ *
+ * By default, every get checks the revision of the process definition info in the database. When a max staleness is set,
+ * cached objects are trusted for that duration and all cached objects are revalidated with one query per
+ * {@link #REVALIDATION_BATCH_SIZE} process definitions in the background, see {@link #startRevalidation()}.
  * 
  * @author Tijs Rademakers
  */
@@ -42,9 +53,17 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionInfoCache.class);
 
+    protected static final int REVALIDATION_BATCH_SIZE = 500;
+
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    /** The duration in milliseconds a cached object is used without checking its revision. 0 or less means the revision is checked on every get. */
+    protected long maxStalenessInMillis;
+    protected ScheduledExecutorService revalidationExecutorService;
+    protected final AtomicLong invalidationCount = new AtomicLong();
+    protected String revalidationThreadName = "flowable-process-definition-info-cache-revalidator-%d";
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -74,6 +93,13 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     @Override
     public ProcessDefinitionInfoCacheObject get(final String processDefinitionId) {
+        if (maxStalenessInMillis > 0) {
+            ProcessDefinitionInfoCacheObject cachedObject = cache.get(processDefinitionId);
+            if (cachedObject != null && !isStale(cachedObject)) {
+                return cachedObject;
+            }
+        }
+
         ProcessDefinitionInfoCacheObject infoCacheObject = null;
         Command<ProcessDefinitionInfoCacheObject> cacheCommand = new Command<ProcessDefinitionInfoCacheObject>() {
 
@@ -126,9 +152,11 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
+        long invalidationCountBeforeQuery = invalidationCount.get();
+        ProcessDefinitionInfoCacheObject cachedObjectBeforeQuery = cache.get(processDefinitionId);
         ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
+        if (cachedObjectBeforeQuery != null) {
+            cacheObject = cachedObjectBeforeQuery;
         } else {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
@@ -136,6 +164,26 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         }
 
         ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+        updateCacheObject(processDefinitionId, cacheObject, infoEntity, infoEntityManager, objectMapper);
+
+        if (maxStalenessInMillis > 0 && invalidationCount.get() == invalidationCountBeforeQuery) {
+            // Not cached when the object was invalidated or replaced in the meantime, as the query could have returned the revision from before the change
+            ProcessDefinitionInfoCacheObject cacheObjectToStore = cacheObject;
+            cache.compute(processDefinitionId, (id, currentObject) -> {
+                if (currentObject == cachedObjectBeforeQuery) {
+                    cacheObjectToStore.setValidationTime(System.currentTimeMillis());
+                    return cacheObjectToStore;
+                }
+                return currentObject;
+            });
+        }
+
+        return cacheObject;
+    }
+
+    protected void updateCacheObject(String processDefinitionId, ProcessDefinitionInfoCacheObject cacheObject, ProcessDefinitionInfoEntity infoEntity,
+            ProcessDefinitionInfoEntityManager infoEntityManager, ObjectMapper objectMapper) {
+
         if (infoEntity != null && infoEntity.getRevision() != cacheObject.getRevision()) {
             cacheObject.setRevision(infoEntity.getRevision());
             if (infoEntity.getInfoJsonId() != null) {
@@ -151,8 +199,107 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
+    }
 
-        return cacheObject;
+    protected boolean isStale(ProcessDefinitionInfoCacheObject cacheObject) {
+        return System.currentTimeMillis() - cacheObject.getValidationTime() > maxStalenessInMillis;
+    }
+
+    /**
+     * Forces the process definition info to be read from the database on the next get, e.g. after it has been changed.
+     * The cached object is removed, so a revalidation or get that queried the database before the change doesn't mark it as valid again.
+     */
+    public void invalidate(String processDefinitionId) {
+        invalidationCount.incrementAndGet();
+        cache.remove(processDefinitionId);
+    }
+
+    /**
+     * Checks the revisions of all cached objects against the database, fetching the revisions of
+     * {@link #REVALIDATION_BATCH_SIZE} process definitions with one query, and reloads the info of the changed ones.
+     */
+    public void revalidate(CommandContext commandContext) {
+        Map<String, ProcessDefinitionInfoCacheObject> cachedObjects;
+        synchronized (cache) {
+            cachedObjects = new HashMap<>(cache);
+        }
+        List<String> processDefinitionIds = new ArrayList<>(cachedObjects.keySet());
+
+        if (processDefinitionIds.isEmpty()) {
+            return;
+        }
+
+        ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+
+        for (int i = 0; i < processDefinitionIds.size(); i += REVALIDATION_BATCH_SIZE) {
+            List<String> batchProcessDefinitionIds = processDefinitionIds.subList(i, Math.min(i + REVALIDATION_BATCH_SIZE, processDefinitionIds.size()));
+            long validationTime = System.currentTimeMillis();
+
+            Map<String, ProcessDefinitionInfoEntity> infoEntities = new HashMap<>();
+            for (ProcessDefinitionInfoEntity infoEntity : infoEntityManager.findProcessDefinitionInfosByProcessDefinitionIds(batchProcessDefinitionIds)) {
+                infoEntities.put(infoEntity.getProcessDefinitionId(), infoEntity);
+            }
+
+            for (String processDefinitionId : batchProcessDefinitionIds) {
+                ProcessDefinitionInfoCacheObject cacheObject = cachedObjects.get(processDefinitionId);
+                updateCacheObject(processDefinitionId, cacheObject, infoEntities.get(processDefinitionId), infoEntityManager, objectMapper);
+
+                // Only marked as valid when it is still the same cached object: an invalidation during the query removes it from the cache
+                cache.computeIfPresent(processDefinitionId, (id, currentObject) -> {
+                    if (currentObject == cacheObject) {
+                        currentObject.setValidationTime(validationTime);
+                    }
+                    return currentObject;
+                });
+            }
+        }
+    }
+
+    /**
+     * Starts revalidating the cached objects in the background, at half the max staleness so that
+     * the objects are normally revalidated before they become stale. Does nothing when no max staleness is set.
+     */
+    public void startRevalidation() {
+        if (maxStalenessInMillis <= 0 || revalidationExecutorService != null) {
+            return;
+        }
+
+        long delayInMillis = Math.max(1L, maxStalenessInMillis / 2);
+        revalidationExecutorService = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder().namingPattern(revalidationThreadName).daemon(true).build());
+        revalidationExecutorService.scheduleWithFixedDelay(() -> {
+            try {
+                commandExecutor.execute(commandContext -> {
+                    revalidate(commandContext);
+                    return null;
+                });
+            } catch (Throwable t) {
+                LOGGER.warn("Exception while revalidating the process definition info cache", t);
+            }
+        }, delayInMillis, delayInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stopRevalidation() {
+        if (revalidationExecutorService != null) {
+            revalidationExecutorService.shutdownNow();
+            revalidationExecutorService = null;
+        }
+    }
+
+    public long getMaxStalenessInMillis() {
+        return maxStalenessInMillis;
+    }
+
+    public void setMaxStalenessInMillis(long maxStalenessInMillis) {
+        this.maxStalenessInMillis = maxStalenessInMillis;
+    }
+
+    public String getRevalidationThreadName() {
+        return revalidationThreadName;
+    }
+
+    public void setRevalidationThreadName(String revalidationThreadName) {
+        this.revalidationThreadName = revalidationThreadName;
     }
 
 }
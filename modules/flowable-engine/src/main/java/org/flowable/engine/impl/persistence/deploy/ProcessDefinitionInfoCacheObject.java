@@ -26,6 +26,7 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected transient volatile long validationTime;
 
     public String getId() {
         return id;
@@ -50,4 +51,12 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
-}
\ No newline at end of file
+
+    public long getValidationTime() {
+        return validationTime;
+    }
+
+    public void setValidationTime(long validationTime) {
+        this.validationTime = validationTime;
+    }
+}
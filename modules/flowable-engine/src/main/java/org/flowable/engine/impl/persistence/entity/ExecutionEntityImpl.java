@@ -31,6 +31,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.delegate.ReadOnlyDelegateExecution;
@@ -59,7 +60,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -322,6 +323,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
             this.activityId = null;
             this.activityName = null;
         }
+        markDirty();
     }
 
     @Override
@@ -377,6 +379,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setBusinessKey(String businessKey) {
         this.businessKey = businessKey;
+        markDirty();
     }
 
     @Override
@@ -389,6 +392,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -500,8 +504,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
         if (parent != null) {
             this.parentId = parent.getId();
+            markDirty();
         } else {
             this.parentId = null;
+            markDirty();
         }
     }
 
@@ -514,6 +520,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     
     public void setSuperExecutionId(String superExecutionId) {
         this.superExecutionId = superExecutionId;
+        markDirty();
     }
 
     @Override
@@ -531,8 +538,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
         if (superExecution != null) {
             this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
+            markDirty();
         } else {
             this.superExecutionId = null;
+            markDirty();
         }
     }
 
@@ -577,8 +586,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
         if (rootProcessInstance != null) {
             this.rootProcessInstanceId = rootProcessInstance.getId();
+            markDirty();
         } else {
             this.rootProcessInstanceId = null;
+            markDirty();
         }
     }
 
@@ -590,6 +601,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
         this.rootProcessInstanceId = rootProcessInstanceId;
+        markDirty();
     }
 
     // scopes ///////////////////////////////////////////////////////////////////
@@ -602,11 +614,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setScope(boolean isScope) {
         this.isScope = isScope;
+        markDirty();
     }
 
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        markDirty();
     }
 
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
@@ -949,6 +963,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setParentId(String parentId) {
         this.parentId = parentId;
+        markDirty();
     }
 
     @Override
@@ -958,6 +973,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     
     public void setActivityId(String activityId) {
         this.activityId = activityId;
+        markDirty();
     }
 
     @Override
@@ -968,6 +984,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setConcurrent(boolean isConcurrent) {
         this.isConcurrent = isConcurrent;
+        markDirty();
     }
 
     @Override
@@ -978,11 +995,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setActive(boolean isActive) {
         this.isActive = isActive;
+        markDirty();
     }
 
     @Override
     public void inactivate() {
         this.isActive = false;
+        markDirty();
     }
 
     @Override
@@ -1023,6 +1042,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        markDirty();
     }
 
     @Override
@@ -1038,6 +1058,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setEventScope(boolean isEventScope) {
         this.isEventScope = isEventScope;
+        markDirty();
     }
 
     @Override
@@ -1048,6 +1069,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
         this.isMultiInstanceRoot = isMultiInstanceRoot;
+        markDirty();
     }
 
     @Override
@@ -1058,6 +1080,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     @Override
@@ -1077,6 +1100,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -1131,6 +1155,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setLockTime(Date lockTime) {
         this.lockTime = lockTime;
+        markDirty();
     }
 
     @Override
@@ -1141,6 +1166,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setLockOwner(String lockOwner) {
         this.lockOwner = lockOwner;
+        markDirty();
     }
 
     @Override
@@ -1194,6 +1220,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartActivityId(String startActivityId) {
         this.startActivityId = startActivityId;
+        markDirty();
     }
 
     @Override
@@ -1204,6 +1231,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartUserId(String startUserId) {
         this.startUserId = startUserId;
+        markDirty();
     }
 
     @Override
@@ -1214,6 +1242,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartTime(Date startTime) {
         this.startTime = startTime;
+        markDirty();
     }
 
     @Override
@@ -1224,6 +1253,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
         this.eventSubscriptionCount = eventSubscriptionCount;
+        markDirty();
     }
 
     @Override
@@ -1234,6 +1264,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setTaskCount(int taskCount) {
         this.taskCount = taskCount;
+        markDirty();
     }
 
     @Override
@@ -1244,6 +1275,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setJobCount(int jobCount) {
         this.jobCount = jobCount;
+        markDirty();
     }
 
     @Override
@@ -1254,6 +1286,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setTimerJobCount(int timerJobCount) {
         this.timerJobCount = timerJobCount;
+        markDirty();
     }
 
     @Override
@@ -1264,6 +1297,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
         this.suspendedJobCount = suspendedJobCount;
+        markDirty();
     }
 
     @Override
@@ -1274,6 +1308,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
         this.deadLetterJobCount = deadLetterJobCount;
+        markDirty();
     }
 
     @Override
@@ -1284,6 +1319,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setExternalWorkerJobCount(int externalWorkerJobCount) {
         this.externalWorkerJobCount = externalWorkerJobCount;
+        markDirty();
     }
 
     @Override
@@ -1294,6 +1330,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        markDirty();
     }
 
     @Override
@@ -1304,6 +1341,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        markDirty();
     }
     
     @Override
@@ -1314,6 +1352,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCallbackId(String callbackId) {
         this.callbackId = callbackId;
+        markDirty();
     }
 
     @Override
@@ -1324,6 +1363,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCallbackType(String callbackType) {
         this.callbackType = callbackType;
+        markDirty();
     }
 
     @Override
@@ -1334,6 +1374,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setReferenceId(String referenceId) {
         this.referenceId = referenceId;
+        markDirty();
     }
 
     @Override
@@ -1344,11 +1385,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setReferenceType(String referenceType) {
         this.referenceType = referenceType;
+        markDirty();
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
         this.propagatedStageInstanceId = propagatedStageInstanceId;
+        markDirty();
     }
 
     @Override
@@ -50,6 +50,11 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ExecutionEntity> findChildExecutionsByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Returns all executions, including the process instances, of the given process instances.
+     */
+    List<ExecutionEntity> findExecutionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(String parentExecutionId, Collection<String> activityIds);
 
     long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery);
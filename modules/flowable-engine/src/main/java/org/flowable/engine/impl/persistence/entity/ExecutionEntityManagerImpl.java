@@ -121,6 +121,11 @@ public class ExecutionEntityManagerImpl
         return dataManager.findChildExecutionsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return dataManager.findExecutionsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds) {
         return dataManager.findExecutionsByParentExecutionAndActivityIds(parentExecutionId, activityIds);
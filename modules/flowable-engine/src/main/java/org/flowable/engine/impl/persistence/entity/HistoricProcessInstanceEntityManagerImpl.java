@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,15 @@ public class HistoricProcessInstanceEntityManagerImpl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            return dataManager.findHistoricProcessInstanceIdsByQueryCriteria(historicProcessInstanceQuery);
+        }
+        return Collections.EMPTY_LIST;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -91,6 +101,11 @@ public class HistoricProcessInstanceEntityManagerImpl
         dataManager.deleteHistoricProcessInstances(historicProcessInstanceQuery);
     }
 
+    @Override
+    public Map<String, Long> deleteHistoricProcessInstancesAndRelatedData(Collection<String> processInstanceIds) {
+        return dataManager.deleteHistoricProcessInstancesAndRelatedData(processInstanceIds, engineConfiguration.isEnableEntityLinks());
+    }
+
     protected HistoryManager getHistoryManager() {
         return engineConfiguration.getHistoryManager();
     }
@@ -12,6 +12,9 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 
 /**
@@ -34,6 +37,8 @@ public interface ProcessDefinitionInfoEntityManager extends EntityManager<Proces
 
     ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId);
 
+    List<ProcessDefinitionInfoEntity> findProcessDefinitionInfosByProcessDefinitionIds(Collection<String> processDefinitionIds);
+
     byte[] findInfoJsonById(String infoJsonId);
 
 }
\ No newline at end of file
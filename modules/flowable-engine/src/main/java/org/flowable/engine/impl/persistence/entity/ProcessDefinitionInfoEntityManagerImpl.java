@@ -13,6 +13,9 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionInfoDataManager;
@@ -77,6 +80,11 @@ public class ProcessDefinitionInfoEntityManagerImpl
         return dataManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public List<ProcessDefinitionInfoEntity> findProcessDefinitionInfosByProcessDefinitionIds(Collection<String> processDefinitionIds) {
+        return dataManager.findProcessDefinitionInfosByProcessDefinitionIds(processDefinitionIds);
+    }
+
     @Override
     public byte[] findInfoJsonById(String infoJsonId) {
         ByteArrayRef ref = new ByteArrayRef(infoJsonId, null);
@@ -25,6 +25,11 @@ public interface ResourceEntityManager extends EntityManager<ResourceEntity> {
 
     ResourceEntity findResourceByDeploymentIdAndResourceName(String deploymentId, String resourceName);
 
+    /**
+     * Returns the id of the resource with the given name in the given deployment, without loading its bytes.
+     */
+    String findResourceIdByDeploymentIdAndResourceName(String deploymentId, String resourceName);
+
     void deleteResourcesByDeploymentId(String deploymentId);
 
 }
\ No newline at end of file
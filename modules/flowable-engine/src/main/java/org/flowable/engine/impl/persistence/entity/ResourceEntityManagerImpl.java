@@ -40,6 +40,11 @@ public class ResourceEntityManagerImpl
         return dataManager.findResourceByDeploymentIdAndResourceName(deploymentId, resourceName);
     }
 
+    @Override
+    public String findResourceIdByDeploymentIdAndResourceName(String deploymentId, String resourceName) {
+        return dataManager.findResourceIdByDeploymentIdAndResourceName(deploymentId, resourceName);
+    }
+
     @Override
     public List<ResourceEntity> findResourcesByDeploymentId(String deploymentId) {
         return dataManager.findResourcesByDeploymentId(deploymentId);
@@ -35,6 +35,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<ExecutionEntity> findChildExecutionsByProcessInstanceId(final String processInstanceId);
 
+    List<ExecutionEntity> findExecutionsByProcessInstanceIds(final Collection<String> processInstanceIds);
+
     List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds);
 
     long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery);
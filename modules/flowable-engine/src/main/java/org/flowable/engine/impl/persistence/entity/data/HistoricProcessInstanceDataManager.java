@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +37,8 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    List<String> findHistoricProcessInstanceIdsByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -44,4 +47,10 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
     
     void deleteHistoricProcessInstances(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    /**
+     * Directly deletes the historic process instances with the given ids and their related historic data (tasks, activities, identity links,
+     * task log entries, variables and details, and entity links when enabled), returning the number of deleted rows per table.
+     */
+    Map<String, Long> deleteHistoricProcessInstancesAndRelatedData(Collection<String> processInstanceIds, boolean deleteEntityLinks);
+
 }
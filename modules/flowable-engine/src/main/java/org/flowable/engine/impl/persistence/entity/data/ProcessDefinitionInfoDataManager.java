@@ -12,6 +12,9 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 
@@ -21,4 +24,6 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 public interface ProcessDefinitionInfoDataManager extends DataManager<ProcessDefinitionInfoEntity> {
 
     ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId);
+
+    List<ProcessDefinitionInfoEntity> findProcessDefinitionInfosByProcessDefinitionIds(Collection<String> processDefinitionIds);
 }
@@ -26,6 +26,8 @@ public interface ResourceDataManager extends DataManager<ResourceEntity> {
 
     ResourceEntity findResourceByDeploymentIdAndResourceName(String deploymentId, String resourceName);
 
+    String findResourceIdByDeploymentIdAndResourceName(String deploymentId, String resourceName);
+
     List<ResourceEntity> findResourcesByDeploymentId(String deploymentId);
 
 }
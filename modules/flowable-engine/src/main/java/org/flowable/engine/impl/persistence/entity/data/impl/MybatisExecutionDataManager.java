@@ -16,12 +16,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.PerformanceSettings;
@@ -34,6 +36,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.Execut
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsByParentExecutionIdAndActivityIdEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsByParentExecutionIdEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsByProcessInstanceIdEntityMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsByProcessInstanceIdsEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsByRootProcessInstanceMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsWithSameRootProcessInstanceIdMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.InactiveExecutionsByProcInstMatcher;
@@ -44,6 +47,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SubPro
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -56,6 +60,8 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     protected CachedEntityMatcher<ExecutionEntity> executionsByProcessInstanceIdMatcher = new ExecutionsByProcessInstanceIdEntityMatcher();
 
+    protected CachedEntityMatcher<ExecutionEntity> executionsByProcessInstanceIdsMatcher = new ExecutionsByProcessInstanceIdsEntityMatcher();
+
     protected SingleCachedEntityMatcher<ExecutionEntity> subProcessInstanceBySuperExecutionIdMatcher = new SubProcessInstanceExecutionBySuperExecutionIdMatcher();
 
     protected CachedEntityMatcher<ExecutionEntity> executionsWithSameRootProcessInstanceIdMatcher = new ExecutionsWithSameRootProcessInstanceIdMatcher();
@@ -157,6 +163,11 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsByProcessInstanceIds(final Collection<String> processInstanceIds) {
+        return getList("selectExecutionsByProcessInstanceIds", processInstanceIds, executionsByProcessInstanceIdsMatcher, true);
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds) {
         Map<String, Object> parameters = new HashMap<>(2);
@@ -258,6 +269,10 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
     @Override
     @SuppressWarnings("unchecked")
     public List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
+        if (getProcessEngineConfiguration().isEnableTwoPhaseRelatedEntitiesQueries()) {
+            return findProcessInstanceAndVariablesInTwoPhases(executionQuery);
+        }
+
         // paging doesn't work for combining process instances and variables due
         // to an outer join, so doing it in-memory
 
@@ -291,6 +306,38 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return Collections.EMPTY_LIST;
     }
 
+    /**
+     * Selects the requested page of process instances in sql and then fetches the variables of exactly those process instances.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<ProcessInstance> findProcessInstanceAndVariablesInTwoPhases(ProcessInstanceQueryImpl executionQuery) {
+        List<ProcessInstance> processInstances = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                "selectProcessInstanceByQueryCriteria", executionQuery, getManagedEntityClass());
+
+        if (!executionQuery.isIncludeProcessVariables()) {
+            return processInstances;
+        }
+
+        Map<String, ExecutionEntity> processInstancesById = new LinkedHashMap<>();
+        for (ProcessInstance processInstance : processInstances) {
+            ExecutionEntity processInstanceEntity = (ExecutionEntity) processInstance;
+            // A process instance from the entity cache has already been enhanced by the query
+            if (processInstanceEntity != getEntityCache().findInCache(getManagedEntityClass(), processInstanceEntity.getId())) {
+                processInstancesById.put(processInstanceEntity.getId(), processInstanceEntity);
+            }
+        }
+
+        if (!processInstancesById.isEmpty()) {
+            List<VariableInstanceEntity> variables = selectListByIdPartitions("selectVariablesByQuery", "executionIds", processInstancesById.keySet(),
+                    CollectionUtil.singletonMap("withoutTaskId", true));
+            for (VariableInstanceEntity variable : variables) {
+                processInstancesById.get(variable.getExecutionId()).getQueryVariables().add(variable);
+            }
+        }
+
+        return processInstances;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap) {
@@ -12,7 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -72,6 +75,12 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, getManagedEntityClass());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectHistoricProcessInstanceIdsByQueryCriteria", historicProcessInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -125,4 +134,31 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         getDbSqlSession().delete("bulkDeleteHistoricProcessInstances", historicProcessInstanceQuery, HistoricProcessInstanceEntityImpl.class);
     }
 
+    @Override
+    public Map<String, Long> deleteHistoricProcessInstancesAndRelatedData(Collection<String> processInstanceIds, boolean deleteEntityLinks) {
+        List<String> ids = new ArrayList<>(processInstanceIds);
+        Map<String, Long> deletedRows = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return deletedRows;
+        }
+
+        // The task identity links are deleted before the tasks, as they are found through the tasks
+        deletedRows.put("ACT_HI_IDENTITYLINK", deleteByProcessInstanceIds("deleteHistoricTaskIdentityLinksByProcessInstanceIds", ids)
+                + deleteByProcessInstanceIds("deleteHistoricIdentityLinksByProcessInstanceIds", ids));
+        if (deleteEntityLinks) {
+            deletedRows.put("ACT_HI_ENTITYLINK", deleteByProcessInstanceIds("deleteHistoricEntityLinksByProcessInstanceIds", ids));
+        }
+        deletedRows.put("ACT_HI_TSK_LOG", deleteByProcessInstanceIds("deleteHistoricTaskLogEntriesByProcessInstanceIds", ids));
+        deletedRows.put("ACT_HI_TASKINST", deleteByProcessInstanceIds("deleteHistoricTaskInstancesByProcessInstanceIds", ids));
+        deletedRows.put("ACT_HI_ACTINST", deleteByProcessInstanceIds("deleteHistoricActivityInstancesByProcessInstanceIds", ids));
+        deletedRows.put("ACT_HI_DETAIL", deleteByProcessInstanceIds("deleteHistoricDetailsByProcessInstanceIds", ids));
+        deletedRows.put("ACT_HI_VARINST", deleteByProcessInstanceIds("deleteHistoricVariableInstancesByProcessInstanceIds", ids));
+        deletedRows.put("ACT_HI_PROCINST", deleteByProcessInstanceIds("deleteHistoricProcessInstancesByIds", ids));
+        return deletedRows;
+    }
+
+    protected long deleteByProcessInstanceIds(String statement, List<String> processInstanceIds) {
+        return getDbSqlSession().getSqlSession().delete(statement, processInstanceIds);
+    }
+
 }
@@ -54,6 +54,14 @@ public class MybatisResourceDataManager extends AbstractProcessDataManager<Resou
         return (ResourceEntity) getDbSqlSession().selectOne("selectResourceByDeploymentIdAndResourceName", params);
     }
 
+    @Override
+    public String findResourceIdByDeploymentIdAndResourceName(String deploymentId, String resourceName) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("deploymentId", deploymentId);
+        params.put("resourceName", resourceName);
+        return (String) getDbSqlSession().selectOne("selectResourceIdByDeploymentIdAndResourceName", params);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<ResourceEntity> findResourcesByDeploymentId(String deploymentId) {
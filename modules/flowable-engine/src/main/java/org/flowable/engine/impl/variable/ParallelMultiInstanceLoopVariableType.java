@@ -49,6 +49,11 @@ public class ParallelMultiInstanceLoopVariableType implements VariableType {
         return value instanceof ParallelMultiInstanceLoopVariable;
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         if (value instanceof ParallelMultiInstanceLoopVariable) {
@@ -314,6 +314,52 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/task/TaskAndVariablesQueryTest.testQuery.bpmn20.xml")
+    public void testQueryWithPagingAndRelatedEntitiesInTwoPhases() {
+        processEngineConfiguration.setEnableTwoPhaseRelatedEntitiesQueries(true);
+        processEngineConfiguration.getTaskServiceConfiguration().setEnableTwoPhaseRelatedEntitiesQueries(true);
+        try {
+            List<Task> tasks = taskService.createTaskQuery().includeProcessVariables().includeTaskLocalVariables().includeIdentityLinks()
+                    .orderByTaskPriority().asc().listPage(1, 2);
+            assertThat(tasks).hasSize(2);
+            assertThat(tasks.get(0).getTaskLocalVariables())
+                    .containsOnly(
+                            entry("test", "test"),
+                            entry("testBinary", "This is a binary variable".getBytes())
+                    );
+            assertThat(tasks.get(0).getIdentityLinks()).hasSize(1);
+            assertThat(tasks.get(1).getTaskLocalVariables()).containsOnlyKeys("testVar", "testVar2", "testVarBinary");
+            assertThat(tasks.get(1).getIdentityLinks()).isEmpty();
+
+            assertThat(taskService.createTaskQuery().includeTaskLocalVariables().orderByTaskPriority().asc().listPage(4, 2)).isEmpty();
+
+            Map<String, Object> startMap = new HashMap<>();
+            startMap.put("processVar", true);
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+            String taskId = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId();
+            taskService.setVariableLocal(taskId, "localVar", "test");
+
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).includeProcessVariables().listPage(0, 1).get(0);
+            assertThat(task.getProcessVariables()).containsOnly(entry("processVar", true));
+            assertThat(task.getTaskLocalVariables()).isEmpty();
+
+            ProcessInstance queriedProcessInstance = runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                    .includeProcessVariables().listPage(0, 1).get(0);
+            assertThat(queriedProcessInstance.getProcessVariables()).containsOnly(entry("processVar", true));
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+                HistoricTaskInstance historicTask = historyService.createHistoricTaskInstanceQuery().taskId(taskId)
+                        .includeProcessVariables().includeTaskLocalVariables().listPage(0, 1).get(0);
+                assertThat(historicTask.getProcessVariables()).containsOnly(entry("processVar", true));
+                assertThat(historicTask.getTaskLocalVariables()).containsOnly(entry("localVar", "test"));
+            }
+        } finally {
+            processEngineConfiguration.setEnableTwoPhaseRelatedEntitiesQueries(false);
+            processEngineConfiguration.getTaskServiceConfiguration().setEnableTwoPhaseRelatedEntitiesQueries(false);
+        }
+    }
+
     @Test
     @Deployment
     public void testOrQuery() {
@@ -21,6 +21,8 @@ import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.flowable.engine.impl.test.HistoryTestHelper.isHistoryLevelAtLeast;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -31,6 +33,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -44,6 +47,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricDetail;
 import org.flowable.engine.history.HistoricVariableUpdate;
@@ -504,6 +508,32 @@ public class TaskServiceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testTaskAttachmentContent() throws Exception {
+        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            Task task = taskService.newTask();
+            taskService.saveTask(task);
+            String taskId = task.getId();
+
+            // The large content is bigger than the in memory size of a detached content stream, so it is read through a temporary file
+            byte[] smallContent = "temperatures and more".getBytes();
+            byte[] largeContent = new byte[2 * 1024 * 1024 + 17];
+            new Random().nextBytes(largeContent);
+
+            Attachment smallAttachment = taskService.createAttachment("text", taskId, null, "small", null, new ByteArrayInputStream(smallContent));
+            Attachment largeAttachment = taskService.createAttachment("binary", taskId, null, "large", null, new ByteArrayInputStream(largeContent));
+
+            try (InputStream content = taskService.getAttachmentContent(smallAttachment.getId())) {
+                assertThat(IoUtil.readInputStream(content, "small")).isEqualTo(smallContent);
+            }
+            try (InputStream content = taskService.getAttachmentContent(largeAttachment.getId())) {
+                assertThat(IoUtil.readInputStream(content, "large")).isEqualTo(largeContent);
+            }
+
+            taskService.deleteTask(taskId, true);
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
     public void testTaskAttachmentWithProcessInstanceId() {
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class VariableTypeResolutionTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+    protected DefaultVariableTypes variableTypes;
+
+    @BeforeEach
+    public void setUp() {
+        variableTypes = new DefaultVariableTypes()
+            .addType(new NullType())
+            .addType(new StringType(10))
+            .addType(new LongStringType(11))
+            .addType(new IntegerType())
+            .addType(new JsonType(10, objectMapper, false))
+            .addType(new SerializableType());
+    }
+
+    @Test
+    public void testValuesOfTheSameClass() {
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(2).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(objectMapper.createObjectNode()).getTypeName()).isEqualTo(JsonType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(objectMapper.createArrayNode()).getTypeName()).isEqualTo(JsonType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(null).getTypeName()).isEqualTo(NullType.TYPE_NAME);
+    }
+
+    @Test
+    public void testTypeDependsOnValue() {
+        assertThat(variableTypes.findVariableType("short").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType("a longer string").getTypeName()).isEqualTo(LongStringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType("short").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+    }
+
+    @Test
+    public void testTypesChanged() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        assertThat(variableTypes.findVariableType(list).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+
+        variableTypes.addTypeBefore(new NonEmptyListType(), SerializableType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(list).getTypeName()).isEqualTo(NonEmptyListType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(new ArrayList<>()).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+
+        variableTypes.removeType(variableTypes.getVariableType(SerializableType.TYPE_NAME));
+        assertThatThrownBy(() -> variableTypes.findVariableType(new ArrayList<>()))
+            .isInstanceOf(FlowableException.class);
+        assertThat(variableTypes.findVariableType(list).getTypeName()).isEqualTo(NonEmptyListType.TYPE_NAME);
+    }
+
+    @Test
+    public void testNoTypeForValue() {
+        assertThatThrownBy(() -> variableTypes.findVariableType(new Object()))
+            .isInstanceOf(FlowableException.class)
+            .hasMessageContaining("couldn't find a variable type");
+    }
+
+    protected static class NonEmptyListType implements VariableType {
+
+        protected static final String TYPE_NAME = "nonEmptyList";
+
+        @Override
+        public String getTypeName() {
+            return TYPE_NAME;
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof List && !((List<?>) value).isEmpty();
+        }
+
+        @Override
+        public void setValue(Object value, ValueFields valueFields) {
+        }
+
+        @Override
+        public Object getValue(ValueFields valueFields) {
+            return null;
+        }
+    }
+}
@@ -15,6 +15,7 @@ package org.flowable.engine.test.api.variables;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -25,18 +26,24 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.task.api.Task;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 /**
  * Testing various constructs with variables. Created to test the changes done in https://jira.codehaus.org/browse/ACT-1900.
  *
@@ -254,6 +261,35 @@ public class VariablesTest extends PluggableFlowableTestCase {
         assertThat(value).isEqualTo("stringVarValue-3");
     }
 
+    @Test
+    public void testGetBytesAsStream() {
+        byte[] bytes = new byte[20000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        runtimeService.setVariable(processInstanceId, "bytesVar", bytes);
+
+        ObjectNode longJsonValue = processEngineConfiguration.getObjectMapper().createObjectNode();
+        longJsonValue.put("text", StringUtils.repeat("a", 5000));
+        runtimeService.setVariable(processInstanceId, "longJsonVar", longJsonValue);
+
+        // Within a command the bytes are streamed from the database
+        byte[] streamedBytes = managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = CommandContextUtil.getVariableService(commandContext).createInternalVariableInstanceQuery()
+                    .executionId(processInstanceId).name("bytesVar").singleResult();
+            InputStream bytesStream = variableInstance.getBytesAsStream();
+            try {
+                return IoUtil.readInputStream(bytesStream, "bytesVar");
+            } finally {
+                IoUtil.closeSilently(bytesStream);
+            }
+        });
+        assertThat(streamedBytes).isEqualTo(bytes);
+
+        // Long json values are parsed from the streamed bytes
+        assertThat(runtimeService.getVariable(processInstanceId, "longJsonVar")).isEqualTo(longJsonValue);
+    }
+
     @Test
     public void testGetVariablesLocal2() {
 
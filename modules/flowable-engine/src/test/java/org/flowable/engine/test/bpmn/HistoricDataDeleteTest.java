@@ -19,6 +19,7 @@ import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
@@ -292,6 +293,9 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
         } finally {
             processEngineConfiguration.setEnableHistoryCleaning(false);
             processEngineConfiguration.resetClock();
+            for (Batch batch : managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE).list()) {
+                managementService.deleteBatch(batch.getId());
+            }
         }
     }
 }
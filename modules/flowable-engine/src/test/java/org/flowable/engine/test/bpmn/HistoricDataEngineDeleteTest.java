@@ -17,9 +17,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Map;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.history.BpmnHistoryCleanupBatchExecutor;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.ResourceFlowableTestCase;
@@ -29,6 +34,8 @@ import org.flowable.job.api.Job;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
 
     public HistoricDataEngineDeleteTest() {
@@ -93,6 +100,155 @@ public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
         
         } finally {
             processEngineConfiguration.resetClock();
+            deleteHistoryCleanupBatches();
+        }
+    }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupInBatches() throws Exception {
+        int originalBatchSize = processEngineConfiguration.getHistoryCleaningBatchSize();
+        int originalParallelism = processEngineConfiguration.getHistoryCleaningParallelism();
+        try {
+            processEngineConfiguration.setHistoryCleaningBatchSize(3);
+            processEngineConfiguration.setHistoryCleaningParallelism(2);
+
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                // An interrupted cleanup is continued
+                Batch interruptedBatch = managementService.createBatchBuilder()
+                        .batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE)
+                        .status(BpmnHistoryCleanupBatchExecutor.STATUS_IN_PROGRESS)
+                        .batchDocumentJson("{}")
+                        .create();
+
+                for (int i = 0; i < 10; i++) {
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.complete(task.getId());
+                }
+
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(2);
+                assertThat(historyService.createHistoricTaskInstanceQuery().count()).isEqualTo(2);
+                for (int i = 0; i < 12; i++) {
+                    long expectedCount = i < 10 ? 0 : 1;
+                    assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count()).isEqualTo(expectedCount);
+                    assertThat(historyService.createHistoricTaskLogEntryQuery().processInstanceId(processInstanceIds.get(i)).count()).isEqualTo(expectedCount);
+                }
+
+                List<Batch> batches = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE).list();
+                assertThat(batches).extracting(Batch::getId).containsExactly(interruptedBatch.getId());
+                assertThat(batches.get(0).getStatus()).isEqualTo(BpmnHistoryCleanupBatchExecutor.STATUS_COMPLETED);
+                assertThat(batches.get(0).getCompleteTime()).isNotNull();
+
+                // 10 instances in batches of 3
+                List<BatchPart> batchParts = managementService.findBatchPartsByBatchId(interruptedBatch.getId());
+                assertThat(batchParts).hasSize(4);
+                assertThat(batchParts).extracting(BatchPart::isCompleted).containsOnly(true);
+                long deletedProcessInstances = 0;
+                for (BatchPart batchPart : batchParts) {
+                    deletedProcessInstances += processEngineConfiguration.getObjectMapper()
+                            .readTree(managementService.getBatchPartDocument(batchPart.getId())).path("ACT_HI_PROCINST").asLong();
+                }
+                assertThat(deletedProcessInstances).isEqualTo(10);
+
+                JsonNode deletedRows = processEngineConfiguration.getObjectMapper()
+                        .readTree(managementService.getBatchDocument(interruptedBatch.getId())).path("deletedRows");
+                assertThat(deletedRows.path("ACT_HI_PROCINST").asLong()).isEqualTo(10);
+                assertThat(deletedRows.path("ACT_HI_TASKINST").asLong()).isEqualTo(10);
+                assertThat(deletedRows.path("ACT_HI_ACTINST").asLong()).isEqualTo(50);
+                assertThat(deletedRows.path("ACT_HI_VARINST").asLong()).isEqualTo(10);
+
+                // A next cleanup starts a new batch
+                Map<String, Long> nextDeletedRows = new BpmnHistoryCleanupBatchExecutor(processEngineConfiguration,
+                        (HistoricProcessInstanceQueryImpl) processEngineConfiguration.getHistoryCleaningManager()
+                                .createHistoricProcessInstanceCleaningQuery()).execute();
+                assertThat(nextDeletedRows.get("ACT_HI_PROCINST")).isNull();
+                assertThat(managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE).count()).isEqualTo(2);
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.resetClock();
+            processEngineConfiguration.setHistoryCleaningBatchSize(originalBatchSize);
+            processEngineConfiguration.setHistoryCleaningParallelism(originalParallelism);
+            deleteHistoryCleanupBatches();
+        }
+    }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupContinuedInNewJob() {
+        int originalBatchSize = processEngineConfiguration.getHistoryCleaningBatchSize();
+        int originalMaxBatchesPerExecution = processEngineConfiguration.getHistoryCleaningMaxBatchesPerExecution();
+        try {
+            processEngineConfiguration.setHistoryCleaningBatchSize(2);
+            processEngineConfiguration.setHistoryCleaningMaxBatchesPerExecution(2);
+
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 7; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                managementService.handleHistoryCleanupTimerJob();
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                // 2 batches of 2 instances per execution, the remaining instances are deleted by a new job
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(3);
+                Job continueJob = managementService.createJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult();
+                assertThat(continueJob).isNotNull();
+                assertThat(continueJob.getJobHandlerConfiguration()).isEqualTo(BpmnHistoryCleanupJobHandler.CONTINUE_CONFIGURATION);
+                assertThat(managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE).singleResult().getStatus())
+                        .isEqualTo(BpmnHistoryCleanupBatchExecutor.STATUS_IN_PROGRESS);
+
+                // The timer doesn't start another cleanup while the cleanup is continued
+                executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(3);
+
+                managementService.executeJob(continueJob.getId());
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+                assertThat(managementService.createJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).count()).isZero();
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(BpmnHistoryCleanupBatchExecutor.STATUS_COMPLETED);
+                assertThat(managementService.findBatchPartsByBatchId(batch.getId())).hasSize(4);
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.resetClock();
+            processEngineConfiguration.setHistoryCleaningBatchSize(originalBatchSize);
+            processEngineConfiguration.setHistoryCleaningMaxBatchesPerExecution(originalMaxBatchesPerExecution);
+            deleteHistoryCleanupBatches();
+        }
+    }
+
+    protected void deleteHistoryCleanupBatches() {
+        for (Batch batch : managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_CLEANUP_TYPE).list()) {
+            managementService.deleteBatch(batch.getId());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes exclusive jobs with the scope lock, job execution and unlock in one transaction.
+ */
+public class AsyncExclusiveJobsSingleTransactionTest extends PluggableFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncExclusiveJobsSingleTransactionTest.class);
+
+    protected boolean originalSingleTransactionExclusiveJobExecutionEnabled;
+
+    @BeforeEach
+    protected void enableSingleTransactionExclusiveJobExecution() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        originalSingleTransactionExclusiveJobExecutionEnabled = jobServiceConfiguration.isAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled();
+        jobServiceConfiguration.setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetSingleTransactionExclusiveJobExecution() {
+        processEngineConfiguration.getJobServiceConfiguration()
+                .setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(originalSingleTransactionExclusiveJobExecutionEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncExclusiveJobsSingleTransactionTest.testParallelExclusiveJobs.bpmn20.xml")
+    public void testParallelExclusiveJobs() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        int nrOfProcessInstances = 50;
+
+        jobServiceConfiguration.setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(false);
+        long separateLockTransactionMillis = executeProcessInstances(nrOfProcessInstances);
+
+        jobServiceConfiguration.setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(true);
+        long singleTransactionMillis = executeProcessInstances(nrOfProcessInstances);
+
+        int nrOfJobs = 3 * nrOfProcessInstances;
+        LOGGER.info("Executed {} exclusive jobs in {} ms with a separate lock transaction ({} jobs/sec) and in {} ms with a single transaction ({} jobs/sec)",
+                nrOfJobs, separateLockTransactionMillis, nrOfJobs * 1000L / Math.max(1L, separateLockTransactionMillis),
+                singleTransactionMillis, nrOfJobs * 1000L / Math.max(1L, singleTransactionMillis));
+    }
+
+    protected long executeProcessInstances(int nrOfProcessInstances) {
+        for (int i = 0; i < nrOfProcessInstances; i++) {
+            runtimeService.startProcessInstanceByKey("parallelExclusiveJobs");
+        }
+        assertThat(managementService.createJobQuery().count()).isEqualTo(3L * nrOfProcessInstances);
+
+        long start = System.currentTimeMillis();
+        waitForJobExecutorToProcessAllJobs(30000L, 100L);
+        long duration = System.currentTimeMillis() - start;
+
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("waitState").count()).isEqualTo(nrOfProcessInstances);
+        assertThat(runtimeService.createExecutionQuery().activityId("join").count()).isZero();
+
+        for (ProcessInstance processInstance : runtimeService.createProcessInstanceQuery().list()) {
+            assertThat(getProcessInstanceExecution(processInstance.getId()).getLockTime()).isNull();
+            runtimeService.deleteProcessInstance(processInstance.getId(), null);
+        }
+        return duration;
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncExclusiveJobsSingleTransactionTest.testParallelExclusiveJobs.bpmn20.xml")
+    public void testLockConflictFallsBackToSeparateLockTransaction() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelExclusiveJobs");
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).list().get(0);
+
+        // Another job of the same process instance holds the lock
+        Date lockTime = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 60000L);
+        managementService.executeCommand(commandContext -> {
+            CommandContextUtil.getExecutionEntityManager(commandContext).updateProcessInstanceLockTime(processInstance.getId(), "otherNode", lockTime);
+            return null;
+        });
+
+        createExecuteAsyncRunnable(job).run();
+
+        // The job is not executed, but released again (as a new job) so it can be acquired later
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(3);
+        Job releasedJob = managementService.createJobQuery().executionId(job.getExecutionId()).singleResult();
+        assertThat(releasedJob).isNotNull();
+        assertThat(getProcessInstanceExecution(processInstance.getId()).getLockOwner()).isEqualTo("otherNode");
+
+        managementService.executeCommand(commandContext -> {
+            CommandContextUtil.getExecutionEntityManager(commandContext).clearProcessInstanceLockTime(processInstance.getId());
+            return null;
+        });
+
+        createExecuteAsyncRunnable(releasedJob).run();
+
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(2);
+        assertThat(managementService.createJobQuery().executionId(job.getExecutionId()).singleResult()).isNull();
+        assertThat(getProcessInstanceExecution(processInstance.getId()).getLockTime()).isNull();
+    }
+
+    protected ExecuteAsyncRunnable createExecuteAsyncRunnable(Job job) {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), null);
+    }
+
+    protected ExecutionEntity getProcessInstanceExecution(String processInstanceId) {
+        // The process instance query result includes the lock columns
+        return (ExecutionEntity) runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+    }
+
+}
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.usertask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.SaveProcessDefinitionInfoCmd;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class StaleDefinitionInfoCacheTest extends CustomConfigurationFlowableTestCase {
+
+    public StaleDefinitionInfoCacheTest() {
+        super(StaleDefinitionInfoCacheTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        // Long enough for the background revalidation not to run during the test
+        processEngineConfiguration.setProcessDefinitionInfoCacheMaxStalenessInMillis(60 * 60 * 1000L);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/usertask/DynamicUserTaskTest.testChangeFormKey.bpmn20.xml")
+    public void testCachedInfoIsTrustedUntilRevalidated() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("dynamicUserTask").singleResult().getId();
+        assertThat(startAndGetFormKey()).isEqualTo("test");
+
+        // A change made by another engine doesn't invalidate the local cache
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test2");
+        managementService.executeCommand(new SaveProcessDefinitionInfoCmd(processDefinitionId, infoNode) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void invalidateProcessDefinitionInfoCache(CommandContext commandContext) {
+            }
+        });
+        assertThat(startAndGetFormKey()).isEqualTo("test");
+
+        ProcessDefinitionInfoCache processDefinitionInfoCache = (ProcessDefinitionInfoCache) processEngineConfiguration.getProcessDefinitionInfoCache();
+        managementService.executeCommand(commandContext -> {
+            processDefinitionInfoCache.revalidate(commandContext);
+            return null;
+        });
+        assertThat(startAndGetFormKey()).isEqualTo("test2");
+
+        // A local save invalidates the cached info immediately
+        infoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test3");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertThat(startAndGetFormKey()).isEqualTo("test3");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/usertask/DynamicUserTaskTest.testChangeFormKey.bpmn20.xml")
+    public void testInvalidationDuringRevalidationIsKept() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("dynamicUserTask").singleResult().getId();
+
+        AtomicBoolean invalidateDuringRevalidation = new AtomicBoolean();
+        ProcessDefinitionInfoCache processDefinitionInfoCache = new ProcessDefinitionInfoCache(processEngineConfiguration.getCommandExecutor()) {
+
+            @Override
+            protected void updateCacheObject(String id, ProcessDefinitionInfoCacheObject cacheObject, ProcessDefinitionInfoEntity infoEntity,
+                    ProcessDefinitionInfoEntityManager infoEntityManager, ObjectMapper objectMapper) {
+                if (invalidateDuringRevalidation.getAndSet(false)) {
+                    // A change committed by another thread after the revalidation query
+                    invalidate(id);
+                }
+                super.updateCacheObject(id, cacheObject, infoEntity, infoEntityManager, objectMapper);
+            }
+        };
+        processDefinitionInfoCache.setMaxStalenessInMillis(60 * 60 * 1000L);
+
+        assertThat(processDefinitionInfoCache.get(processDefinitionId)).isNotNull();
+        assertThat(processDefinitionInfoCache.contains(processDefinitionId)).isTrue();
+
+        invalidateDuringRevalidation.set(true);
+        managementService.executeCommand(commandContext -> {
+            processDefinitionInfoCache.revalidate(commandContext);
+            return null;
+        });
+
+        // Not marked as valid by the revalidation, the next get reads the info from the database
+        assertThat(processDefinitionInfoCache.contains(processDefinitionId)).isFalse();
+        assertThat(processDefinitionInfoCache.get(processDefinitionId)).isNotNull();
+        assertThat(processDefinitionInfoCache.contains(processDefinitionId)).isTrue();
+    }
+
+    protected String startAndGetFormKey() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        return task.getFormKey();
+    }
+
+}
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class DirtyTrackingEntityTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLoadedEntitiesAreNotDirty() {
+        ProcessInstance processInstance = startProcessInstanceWithVariables();
+
+        managementService.executeCommand(commandContext -> {
+            CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId()).getVariables();
+            CommandContextUtil.getTaskService(commandContext).findTasksByProcessInstanceId(processInstance.getId());
+
+            int nrOfDirtyTrackingEntities = 0;
+            for (Map<String, CachedEntity> cachedEntities : commandContext.getSession(EntityCache.class).getAllCachedEntities().values()) {
+                for (CachedEntity cachedEntity : cachedEntities.values()) {
+                    if (cachedEntity.getEntity() instanceof DirtyTrackingEntity) {
+                        assertThat(((DirtyTrackingEntity) cachedEntity.getEntity()).isDirty()).isFalse();
+                        assertThat(cachedEntity.hasChanged()).isFalse();
+                        nrOfDirtyTrackingEntities++;
+                    }
+                }
+            }
+
+            // execution, task and 3 variables
+            assertThat(nrOfDirtyTrackingEntities).isEqualTo(5);
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOnlyChangedEntitiesAreUpdated() {
+        ProcessInstance processInstance = startProcessInstanceWithVariables();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        int taskRevision = getRevision(task);
+        int stringVarRevision = getRevision(runtimeService.getVariableInstance(processInstance.getId(), "stringVar"));
+        int longVarRevision = getRevision(runtimeService.getVariableInstance(processInstance.getId(), "longVar"));
+        int bytesVarRevision = getRevision(runtimeService.getVariableInstance(processInstance.getId(), "bytesVar"));
+
+        runtimeService.setVariable(processInstance.getId(), "stringVar", "changed");
+        taskService.setAssignee(task.getId(), "kermit");
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "stringVar")).isEqualTo("changed");
+        assertThat(getRevision(runtimeService.getVariableInstance(processInstance.getId(), "stringVar"))).isEqualTo(stringVarRevision + 1);
+        assertThat(getRevision(runtimeService.getVariableInstance(processInstance.getId(), "longVar"))).isEqualTo(longVarRevision);
+        assertThat(getRevision(runtimeService.getVariableInstance(processInstance.getId(), "bytesVar"))).isEqualTo(bytesVarRevision);
+
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getAssignee()).isEqualTo("kermit");
+        assertThat(getRevision(task)).isEqualTo(taskRevision + 1);
+
+        // Setting the same value marks the entity dirty, but the persistent state comparison still prevents an update
+        taskService.setAssignee(task.getId(), "kermit");
+        assertThat(getRevision(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult())).isEqualTo(taskRevision + 1);
+    }
+
+    protected ProcessInstance startProcessInstanceWithVariables() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("stringVar", "test");
+        variables.put("longVar", 123L);
+        variables.put("bytesVar", "test".getBytes());
+        return runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+    }
+
+    protected int getRevision(Object entity) {
+        return ((HasRevision) entity).getRevision();
+    }
+
+}
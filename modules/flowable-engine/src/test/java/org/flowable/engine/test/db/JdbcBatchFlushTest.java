@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.junit.jupiter.api.Test;
+
+public class JdbcBatchFlushTest extends CustomConfigurationFlowableTestCase {
+
+    public JdbcBatchFlushTest() {
+        super(JdbcBatchFlushTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setJdbcBatchFlushEnabled(true);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testParallelMultiInstanceWithBatchedFlush() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelMultiInstance", Collections.singletonMap("nrOfLoops", 10));
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("parallelTasks").list();
+        assertThat(tasks).hasSize(10);
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testBatchedUpdateOfStaleEntityThrowsOptimisticLockingException() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelMultiInstance", Collections.singletonMap("nrOfLoops", 2));
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        List<Task> staleTasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(staleTasks).hasSize(2);
+        taskService.setAssignee(staleTasks.get(1).getId(), "kermit");
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+            for (Task staleTask : staleTasks) {
+                TaskEntity taskEntity = (TaskEntity) staleTask;
+                taskEntity.setName("updated");
+                dbSqlSession.update(taskEntity);
+            }
+            return null;
+        }))
+                .isInstanceOf(FlowableOptimisticLockingException.class)
+                .hasMessageContaining(staleTasks.get(1).getId());
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskName("updated").count()).isZero();
+    }
+
+    @Test
+    public void testBatchWithoutRowCountsFails() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        TaskEntity task = (TaskEntity) taskService.newTask();
+        BatchResult batchResult = new BatchResult(null, "update", task);
+        batchResult.setUpdateCounts(new int[] { Statement.SUCCESS_NO_INFO });
+
+        RowCountVerifyingDbSqlSession dbSqlSession = new RowCountVerifyingDbSqlSession(dbSqlSessionFactory);
+        try {
+            assertThatThrownBy(() -> dbSqlSession.verify(batchResult))
+                    .isExactlyInstanceOf(FlowableException.class)
+                    .hasMessageContaining("jdbcBatchFlushEnabled");
+            assertThat(dbSqlSessionFactory.isJdbcBatchFlushEnabled()).isTrue();
+
+        } finally {
+            dbSqlSession.close();
+        }
+    }
+
+    @Test
+    public void testBatchingDisabledAtInitForDriverWithoutBatchRowCounts() throws Exception {
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDriverName()).thenReturn("Oracle JDBC driver");
+
+        when(databaseMetaData.getDriverMajorVersion()).thenReturn(11);
+        assertThat(initDatabaseCapabilities(databaseMetaData).isJdbcBatchFlushEnabled()).isFalse();
+
+        when(databaseMetaData.getDriverMajorVersion()).thenReturn(12);
+        assertThat(initDatabaseCapabilities(databaseMetaData).isJdbcBatchFlushEnabled()).isTrue();
+    }
+
+    protected DatabaseCapabilitiesProcessEngineConfiguration initDatabaseCapabilities(DatabaseMetaData databaseMetaData) throws SQLException {
+        DatabaseCapabilitiesProcessEngineConfiguration engineConfiguration = new DatabaseCapabilitiesProcessEngineConfiguration();
+        engineConfiguration.setDatabaseType(ProcessEngineConfigurationImpl.DATABASE_TYPE_ORACLE);
+        engineConfiguration.setJdbcBatchFlushEnabled(true);
+        engineConfiguration.initDatabaseCapabilities("Oracle", databaseMetaData);
+        return engineConfiguration;
+    }
+
+    protected static class DatabaseCapabilitiesProcessEngineConfiguration extends StandaloneInMemProcessEngineConfiguration {
+
+        @Override
+        public void initDatabaseCapabilities(String databaseProductName, DatabaseMetaData databaseMetaData) throws SQLException {
+            super.initDatabaseCapabilities(databaseProductName, databaseMetaData);
+        }
+    }
+
+    protected static class RowCountVerifyingDbSqlSession extends DbSqlSession {
+
+        public RowCountVerifyingDbSqlSession(DbSqlSessionFactory dbSqlSessionFactory) {
+            super(dbSqlSessionFactory, new EntityCacheImpl());
+        }
+
+        public void verify(BatchResult batchResult) {
+            verifyBatchResults(Collections.singletonList(batchResult), false);
+        }
+    }
+
+}
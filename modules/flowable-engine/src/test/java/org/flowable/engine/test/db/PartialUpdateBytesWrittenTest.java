@@ -0,0 +1,171 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.flowable.variable.api.types.VariableType;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the bytes sent for the column-sparse updates of the runtime tables with the bytes a full row update would send,
+ * using the insert statement of the same entity as the full row image.
+ */
+public class PartialUpdateBytesWrittenTest extends CustomConfigurationFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartialUpdateBytesWrittenTest.class);
+
+    protected static final int NR_OF_PROCESS_INSTANCES = 50;
+
+    protected UpdateBytesWrittenInterceptor interceptor = new UpdateBytesWrittenInterceptor();
+
+    public PartialUpdateBytesWrittenTest() {
+        super(PartialUpdateBytesWrittenTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setCustomMybatisInterceptors(Collections.singletonList(interceptor));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+    public void testBytesWrittenPerCompletedTask() {
+        for (int i = 0; i < NR_OF_PROCESS_INSTANCES; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("counter", 0L);
+            variables.put("status", "new");
+            variables.put("description", "A description that is not changed during the process");
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess", variables);
+
+            interceptor.enabled = true;
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.claim(task.getId(), "kermit");
+            runtimeService.setVariable(processInstance.getId(), "counter", 1L);
+            taskService.complete(task.getId(), Collections.singletonMap("status", "done"));
+            interceptor.enabled = false;
+        }
+
+        assertThat(interceptor.updateBytes).isNotEmpty();
+        long totalUpdateBytes = 0;
+        long totalFullRowBytes = 0;
+        for (String statement : interceptor.updateBytes.keySet()) {
+            long updateBytes = interceptor.updateBytes.get(statement).get();
+            long fullRowBytes = interceptor.fullRowBytes.get(statement).get();
+            LOGGER.info("{}: {} bytes per completed task written, {} bytes per completed task for full row updates", statement,
+                    updateBytes / NR_OF_PROCESS_INSTANCES, fullRowBytes / NR_OF_PROCESS_INSTANCES);
+            assertThat(updateBytes).as(statement).isLessThan(fullRowBytes);
+            totalUpdateBytes += updateBytes;
+            totalFullRowBytes += fullRowBytes;
+        }
+
+        LOGGER.info("Total: {} bytes per completed task written, {} bytes per completed task for full row updates",
+                totalUpdateBytes / NR_OF_PROCESS_INSTANCES, totalFullRowBytes / NR_OF_PROCESS_INSTANCES);
+    }
+
+    @Intercepts({ @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }) })
+    public static class UpdateBytesWrittenInterceptor implements Interceptor {
+
+        protected static final Map<String, String> FULL_ROW_STATEMENTS = new HashMap<>();
+
+        static {
+            FULL_ROW_STATEMENTS.put("updateExecution", "insertExecution");
+            FULL_ROW_STATEMENTS.put("updateTask", "insertTask");
+            FULL_ROW_STATEMENTS.put("updateVariableInstance", "insertVariableInstance");
+            FULL_ROW_STATEMENTS.put("updateJob", "insertJob");
+        }
+
+        protected volatile boolean enabled;
+        protected Map<String, AtomicLong> updateBytes = new ConcurrentHashMap<>();
+        protected Map<String, AtomicLong> fullRowBytes = new ConcurrentHashMap<>();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+            Object parameter = invocation.getArgs()[1];
+            String statement = mappedStatement.getId().substring(mappedStatement.getId().lastIndexOf('.') + 1);
+
+            if (enabled && mappedStatement.getSqlCommandType() == SqlCommandType.UPDATE && FULL_ROW_STATEMENTS.containsKey(statement)) {
+                Configuration configuration = mappedStatement.getConfiguration();
+                MappedStatement fullRowStatement = configuration.getMappedStatement(FULL_ROW_STATEMENTS.get(statement));
+                updateBytes.computeIfAbsent(statement, key -> new AtomicLong()).addAndGet(countBytes(configuration, mappedStatement, parameter));
+                fullRowBytes.computeIfAbsent(statement, key -> new AtomicLong()).addAndGet(countBytes(configuration, fullRowStatement, parameter));
+            }
+
+            return invocation.proceed();
+        }
+
+        protected long countBytes(Configuration configuration, MappedStatement mappedStatement, Object parameter) {
+            BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+            MetaObject metaObject = configuration.newMetaObject(parameter);
+            long bytes = 0;
+            List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+            for (ParameterMapping parameterMapping : parameterMappings) {
+                String property = parameterMapping.getProperty();
+                Object value = boundSql.hasAdditionalParameter(property) ? boundSql.getAdditionalParameter(property) : metaObject.getValue(property);
+                bytes += countBytes(value);
+            }
+            return bytes;
+        }
+
+        protected long countBytes(Object value) {
+            if (value == null) {
+                return 0;
+            } else if (value instanceof String) {
+                return ((String) value).getBytes(StandardCharsets.UTF_8).length;
+            } else if (value instanceof Boolean) {
+                return 1;
+            } else if (value instanceof Integer) {
+                return 4;
+            } else if (value instanceof Number || value instanceof Date) {
+                return 8;
+            } else if (value instanceof VariableType) {
+                return countBytes(((VariableType) value).getTypeName());
+            } else if (value instanceof ByteArrayRef) {
+                return countBytes(((ByteArrayRef) value).getId());
+            } else if (value instanceof byte[]) {
+                return ((byte[]) value).length;
+            }
+            return countBytes(value.toString());
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEventChannelAdapter;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class BatchEventProcessingTest extends FlowableEventRegistryBpmnTestCase {
+
+    protected TestInboundEventChannelAdapter inboundEventChannelAdapter;
+
+    @BeforeEach
+    public void setUp() {
+        inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
+        getEventRegistryEngineConfiguration().getExpressionManager().getBeans()
+            .put("inboundEventChannelAdapter", inboundEventChannelAdapter);
+
+        getEventRepositoryService().createInboundChannelModelBuilder()
+            .key("test-channel")
+            .resourceName("testChannel.channel")
+            .channelAdapter("${inboundEventChannelAdapter}")
+            .jsonDeserializer()
+            .detectEventKeyUsingJsonField("type")
+            .jsonFieldsMapDirectlyToPayload()
+            .deploy();
+
+        getEventRepositoryService().createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .correlationParameter("customerId", EventPayloadTypes.STRING)
+            .payload("payload1", EventPayloadTypes.STRING)
+            .deploy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        EventRepositoryService eventRepositoryService = getEventRepositoryService();
+        List<EventDeployment> deployments = eventRepositoryService.createDeploymentQuery().list();
+        for (EventDeployment eventDeployment : deployments) {
+            eventRepositoryService.deleteDeployment(eventDeployment.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventsInBatch() {
+        List<ProcessInstance> processInstances = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            processInstances.add(runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "customer" + i)));
+        }
+
+        List<String> customerIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            customerIds.add("customer" + i);
+        }
+        // Events for the same customer are handled in a separate transaction, after the first one
+        customerIds.add("customer0");
+        customerIds.add("unknownCustomer");
+        inboundEventChannelAdapter.triggerTestEvents(customerIds);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(getTaskDefinitionKey(processInstances.get(i))).isEqualTo(i < 5 ? "taskAfterBoundary" : "task");
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testStartOnlyOneInstanceInBatch() {
+        inboundEventChannelAdapter.triggerTestEvents(Arrays.asList("testCustomer", "testCustomer", "anotherTestCustomer", "testCustomer", "anotherTestCustomer"));
+
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(ProcessInstance::getReferenceId)
+            .doesNotHaveDuplicates()
+            .hasSize(2);
+    }
+
+    protected String getTaskDefinitionKey(ProcessInstance processInstance) {
+        return taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey();
+    }
+
+    protected static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
+
+        protected InboundChannelModel inboundChannelModel;
+        protected EventRegistry eventRegistry;
+        protected ObjectMapper objectMapper = new ObjectMapper();
+
+        @Override
+        public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+            this.inboundChannelModel = inboundChannelModel;
+        }
+
+        @Override
+        public void setEventRegistry(EventRegistry eventRegistry) {
+            this.eventRegistry = eventRegistry;
+        }
+
+        public void triggerTestEvents(List<String> customerIds) {
+            List<String> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                ObjectNode json = objectMapper.createObjectNode();
+                json.put("type", "myEvent");
+                json.put("customerId", customerId);
+                json.put("payload1", "Hello World");
+                try {
+                    events.add(objectMapper.writeValueAsString(json));
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+    }
+}
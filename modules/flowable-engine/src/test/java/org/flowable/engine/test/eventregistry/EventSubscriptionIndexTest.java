@@ -0,0 +1,214 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEventChannelAdapter;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class EventSubscriptionIndexTest extends FlowableEventRegistryBpmnTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSubscriptionIndexTest.class);
+
+    protected static final String PROCESS_RESOURCE = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml";
+
+    protected TestInboundEventChannelAdapter inboundEventChannelAdapter;
+    protected EventSubscriptionIndex eventSubscriptionIndex;
+
+    @BeforeEach
+    public void setUp() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        eventSubscriptionIndex = new EventSubscriptionIndex(eventSubscriptionServiceConfiguration, 60_000L);
+        eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(eventSubscriptionIndex);
+
+        inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
+        getEventRegistryEngineConfiguration().getExpressionManager().getBeans()
+            .put("inboundEventChannelAdapter", inboundEventChannelAdapter);
+
+        getEventRepositoryService().createInboundChannelModelBuilder()
+            .key("test-channel")
+            .resourceName("testChannel.channel")
+            .channelAdapter("${inboundEventChannelAdapter}")
+            .jsonDeserializer()
+            .detectEventKeyUsingJsonField("type")
+            .jsonFieldsMapDirectlyToPayload()
+            .deploy();
+
+        getEventRepositoryService().createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .correlationParameter("customerId", EventPayloadTypes.STRING)
+            .payload("payload1", EventPayloadTypes.STRING)
+            .deploy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngineConfiguration.getEventSubscriptionServiceConfiguration().setEventSubscriptionIndex(null);
+
+        EventRepositoryService eventRepositoryService = getEventRepositoryService();
+        List<EventDeployment> deployments = eventRepositoryService.createDeploymentQuery().list();
+        for (EventDeployment eventDeployment : deployments) {
+            eventRepositoryService.deleteDeployment(eventDeployment.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = PROCESS_RESOURCE)
+    public void testCorrelationWithIndex() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+
+        // The first event loads the index entry, the event doesn't match any configuration
+        inboundEventChannelAdapter.triggerTestEvent("fozzie");
+        assertThat(getTaskDefinitionKey(kermitProcessInstance)).isEqualTo("task");
+        assertThat(getConfigurations()).hasSize(1);
+
+        // Event subscriptions created after the entry is loaded are seen by the index
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+        assertThat(getConfigurations()).hasSize(2);
+
+        inboundEventChannelAdapter.triggerTestEvent("gonzo");
+        assertThat(getTaskDefinitionKey(kermitProcessInstance)).isEqualTo("task");
+        assertThat(getTaskDefinitionKey(gonzoProcessInstance)).isEqualTo("taskAfterBoundary");
+
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(getTaskDefinitionKey(kermitProcessInstance)).isEqualTo("taskAfterBoundary");
+
+        // Deleted event subscriptions stay in the index until the entry expires, the event is then matched against the database
+        assertThat(runtimeService.createEventSubscriptionQuery().eventType("myEvent").count()).isZero();
+        assertThat(getConfigurations()).hasSize(2);
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+
+        eventSubscriptionIndex.clear();
+        assertThat(getConfigurations()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = PROCESS_RESOURCE)
+    public void testEventSubscriptionInsertedByOtherEngine() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        inboundEventChannelAdapter.triggerTestEvent("fozzie");
+        assertThat(getConfigurations()).hasSize(1);
+
+        // Another engine sharing the database (e.g. another node of a cluster) has its own index, which increments the revision on commit
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(new EventSubscriptionIndex(eventSubscriptionServiceConfiguration, 60_000L));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+        eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(eventSubscriptionIndex);
+
+        // The entry of this index is reloaded because of the changed revision
+        assertThat(getConfigurations()).hasSize(2);
+
+        inboundEventChannelAdapter.triggerTestEvent("gonzo");
+        assertThat(getTaskDefinitionKey(gonzoProcessInstance)).isEqualTo("taskAfterBoundary");
+        assertThat(getTaskDefinitionKey(kermitProcessInstance)).isEqualTo("task");
+
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(getTaskDefinitionKey(kermitProcessInstance)).isEqualTo("taskAfterBoundary");
+    }
+
+    @Test
+    @Deployment(resources = PROCESS_RESOURCE)
+    public void testEventReceivedThroughput() {
+        int nrOfProcessInstances = 100;
+        for (int i = 0; i < nrOfProcessInstances; i++) {
+            runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "customer" + i));
+        }
+
+        int nrOfEvents = 2000;
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+
+        eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(null);
+        long withoutIndexMillis = triggerNonMatchingEvents(nrOfEvents);
+
+        eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(eventSubscriptionIndex);
+        long withIndexMillis = triggerNonMatchingEvents(nrOfEvents);
+
+        LOGGER.info("Received {} non-matching events in {} ms without event subscription index ({} events/sec) and in {} ms with event subscription index ({} events/sec)",
+                nrOfEvents, withoutIndexMillis, nrOfEvents * 1000L / Math.max(1L, withoutIndexMillis),
+                withIndexMillis, nrOfEvents * 1000L / Math.max(1L, withIndexMillis));
+
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("task").count()).isEqualTo(nrOfProcessInstances);
+
+        inboundEventChannelAdapter.triggerTestEvent("customer42");
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("taskAfterBoundary").count()).isEqualTo(1);
+    }
+
+    protected long triggerNonMatchingEvents(int nrOfEvents) {
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < nrOfEvents; i++) {
+            inboundEventChannelAdapter.triggerTestEvent("unknownCustomer" + i);
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    protected Collection<String> getConfigurations() {
+        return managementService.executeCommand(commandContext -> eventSubscriptionIndex.getConfigurations(ScopeTypes.BPMN, "myEvent", (String) null));
+    }
+
+    protected String getTaskDefinitionKey(ProcessInstance processInstance) {
+        return taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey();
+    }
+
+    protected static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
+
+        protected InboundChannelModel inboundChannelModel;
+        protected EventRegistry eventRegistry;
+        protected ObjectMapper objectMapper = new ObjectMapper();
+
+        @Override
+        public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+            this.inboundChannelModel = inboundChannelModel;
+        }
+
+        @Override
+        public void setEventRegistry(EventRegistry eventRegistry) {
+            this.eventRegistry = eventRegistry;
+        }
+
+        public void triggerTestEvent(String customerId) {
+            ObjectNode json = objectMapper.createObjectNode();
+            json.put("type", "myEvent");
+            json.put("customerId", customerId);
+            json.put("payload1", "Hello World");
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
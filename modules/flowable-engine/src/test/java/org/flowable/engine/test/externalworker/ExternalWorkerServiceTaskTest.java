@@ -20,10 +20,16 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -1219,6 +1225,163 @@ public class ExternalWorkerServiceTaskTest extends PluggableFlowableTestCase {
         managementService.createExternalWorkerJobFailureBuilder(noTenantJob.getId(), "testWorker").fail();
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithVariableNames() {
+        ProcessInstance processInstance1 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("amount", 10)
+                .variable("order", "order1")
+                .start();
+
+        ProcessInstance processInstance2 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "fozzie")
+                .variable("amount", 20)
+                .start();
+
+        // A local variable of the job execution hides the process variable
+        ExternalWorkerJob externalWorkerJob = managementService.createExternalWorkerJobQuery().processInstanceId(processInstance2.getId()).singleResult();
+        runtimeService.setVariableLocal(externalWorkerJob.getExecutionId(), "name", "gonzo");
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Arrays.asList("name", "order"))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs).hasSize(2);
+        assertThat(acquiredJobs)
+                .filteredOn(acquiredJob -> processInstance1.getId().equals(acquiredJob.getProcessInstanceId()))
+                .singleElement()
+                .satisfies(acquiredJob -> assertThat(acquiredJob.getVariables()).containsOnly(entry("name", "kermit"), entry("order", "order1")));
+        assertThat(acquiredJobs)
+                .filteredOn(acquiredJob -> processInstance2.getId().equals(acquiredJob.getProcessInstanceId()))
+                .singleElement()
+                .satisfies(acquiredJob -> assertThat(acquiredJob.getVariables()).containsOnly(entry("name", "gonzo")));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithVariablesOfExecutionHierarchy() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("amount", 10)
+                .start();
+
+        ExternalWorkerJob externalWorkerJob = managementService.createExternalWorkerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        runtimeService.setVariableLocal(externalWorkerJob.getExecutionId(), "amount", 20);
+        runtimeService.setVariableLocal(externalWorkerJob.getExecutionId(), "order", "order1");
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs).hasSize(1);
+        assertThat(acquiredJobs.get(0).getVariables())
+                .containsOnly(
+                        entry("name", "kermit"),
+                        entry("amount", 20),
+                        entry("order", "order1")
+                );
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWaitsForJobCreation() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = executorService.submit(() -> managementService.createExternalWorkerJobAcquireBuilder()
+                    .topic("simple", Duration.ofMinutes(30))
+                    .waitTimeout(Duration.ofMinutes(1))
+                    .acquireAndLock(1, "testWorker"));
+
+            ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                    .processDefinitionKey("simpleExternalWorker")
+                    .variable("name", "kermit")
+                    .start();
+
+            // The acquisition is woken up by the job creation, long before the wait timeout
+            List<AcquiredExternalWorkerJob> acquiredJobs = acquiredJobsFuture.get(20, TimeUnit.SECONDS);
+            assertThat(acquiredJobs)
+                    .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getLockOwner)
+                    .containsExactly(tuple(processInstance.getId(), "testWorker"));
+            assertThat(acquiredJobs.get(0).getVariables()).containsOnly(entry("name", "kermit"));
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireAsyncWaitsForJobCreation() throws Exception {
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .waitTimeout(Duration.ofMinutes(1))
+                .acquireAndLockAsync(1, "testWorker", 5);
+
+        // The calling thread doesn't wait for the job creation
+        assertThat(acquiredJobsFuture).isNotDone();
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .start();
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = acquiredJobsFuture.get(20, TimeUnit.SECONDS);
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getLockOwner)
+                .containsExactly(tuple(processInstance.getId(), "testWorker"));
+        assertThat(acquiredJobs.get(0).getVariables()).containsOnly(entry("name", "kermit"));
+    }
+
+    @Test
+    void testAcquireAsyncWaitTimeoutExpires() throws Exception {
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .waitTimeout(Duration.ofMillis(200))
+                .acquireAndLockAsync(1, "testWorker", 5)
+                .get(20, TimeUnit.SECONDS);
+
+        assertThat(acquiredJobs).isEmpty();
+    }
+
+    @Test
+    void testAcquireWaitTimeoutExpires() {
+        long start = System.currentTimeMillis();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .waitTimeout(Duration.ofMillis(200))
+                .acquireAndLock(1, "testWorker");
+
+        assertThat(acquiredJobs).isEmpty();
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(150);
+
+        assertThatThrownBy(() -> managementService.createExternalWorkerJobAcquireBuilder().waitTimeout(Duration.ofMillis(-1)))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("waitTimeout must not be negative");
+    }
+
+    @Test
+    void testAcquireWaitTimeoutIsLimitedToMaxWaitTimeout() {
+        Duration originalMaxWaitTimeout = processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobMaxWaitTimeout();
+        processEngineConfiguration.getJobServiceConfiguration().setExternalWorkerJobMaxWaitTimeout(Duration.ofMillis(200));
+        try {
+            long start = System.currentTimeMillis();
+            List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                    .topic("simple", Duration.ofMinutes(30))
+                    .waitTimeout(Duration.ofHours(1))
+                    .acquireAndLock(1, "testWorker");
+
+            assertThat(acquiredJobs).isEmpty();
+            assertThat(System.currentTimeMillis() - start).isLessThan(20_000);
+        } finally {
+            processEngineConfiguration.getJobServiceConfiguration().setExternalWorkerJobMaxWaitTimeout(originalMaxWaitTimeout);
+        }
+    }
+
     protected void addUserIdentityLinkToJob(Job job, String userId) {
         managementService.executeCommand(commandContext -> {
                     processEngineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkService()
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
@@ -245,6 +246,54 @@ public class HistoricActivityInstanceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/history/HistoricActivityInstanceTest.testHistoricActivityInstanceQuery.bpmn20.xml")
+    public void testHistoricActivityInstanceQueryInBatches() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        runtimeService.startProcessInstanceByKey("noopProcess");
+        runtimeService.startProcessInstanceByKey("noopProcess");
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        List<String> ids = historyService.createHistoricActivityInstanceQuery().list().stream()
+                .map(HistoricActivityInstance::getId)
+                .collect(Collectors.toList());
+        assertThat(ids).hasSize(10);
+
+        List<HistoricActivityInstance> page = historyService.createHistoricActivityInstanceQuery().listPageAfterId(null, 3);
+        assertThat(page).extracting(HistoricActivityInstance::getId).containsExactlyElementsOf(ids.subList(0, 3));
+        page = historyService.createHistoricActivityInstanceQuery().listPageAfterId(page.get(2).getId(), 3);
+        assertThat(page).extracting(HistoricActivityInstance::getId).containsExactlyElementsOf(ids.subList(3, 6));
+        assertThat(historyService.createHistoricActivityInstanceQuery().listPageAfterId(ids.get(9), 3)).isEmpty();
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<String> batchIds = new ArrayList<>();
+        historyService.createHistoricActivityInstanceQuery().forEachBatch(3, batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(historicActivityInstance -> batchIds.add(historicActivityInstance.getId()));
+        });
+        assertThat(batchSizes).containsExactly(3, 3, 3, 1);
+        assertThat(batchIds).containsExactlyElementsOf(ids);
+
+        assertThat(historyService.createHistoricActivityInstanceQuery().stream(4).map(HistoricActivityInstance::getId))
+                .containsExactlyElementsOf(ids);
+        assertThat(historyService.createHistoricActivityInstanceQuery().activityType("serviceTask").stream(1)).hasSize(2);
+
+        // Other orderings are paged by index
+        List<String> idsByActivityId = historyService.createHistoricActivityInstanceQuery().orderByActivityId().asc()
+                .orderByHistoricActivityInstanceId().asc().list().stream()
+                .map(HistoricActivityInstance::getId)
+                .collect(Collectors.toList());
+        assertThat(historyService.createHistoricActivityInstanceQuery().orderByActivityId().asc().orderByHistoricActivityInstanceId().asc()
+                .stream(3).map(HistoricActivityInstance::getId))
+                .containsExactlyElementsOf(idsByActivityId);
+        assertThatThrownBy(() -> historyService.createHistoricActivityInstanceQuery().orderByActivityId().asc().listPageAfterId(null, 3))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
     @Test
     @Deployment
     public void testHistoricActivityInstanceForEventsQuery() {
@@ -0,0 +1,193 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsWithBulkLockCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithBulkLockCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Simulates multiple nodes acquiring jobs from the same job table at the same time, with bulk lock acquisition enabled.
+ * Every job must be acquired by exactly one node. The acquired jobs per second are logged for the number of nodes.
+ */
+class AcquireJobsWithBulkLockMultiNodeTest extends JobExecutorTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcquireJobsWithBulkLockMultiNodeTest.class);
+
+    protected static final int NR_OF_JOBS = 400;
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super.configureConfiguration(processEngineConfiguration);
+        processEngineConfiguration.setAsyncExecutorBulkLockAcquisitionEnabled(true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 4, 8 })
+    void testAsyncJobsAcquiredByExactlyOneNode(int nrOfNodes) throws Exception {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandContext -> {
+            for (int i = 0; i < NR_OF_JOBS; i++) {
+                jobServiceConfiguration.getJobManager().scheduleAsyncJob(createTweetMessage("message-" + i));
+            }
+            return null;
+        });
+
+        Map<String, String> lockOwnerByJobId = acquireOnAllNodes(nrOfNodes, "async jobs",
+                node -> new AcquireJobsWithBulkLockCmd(node, Integer.MAX_VALUE, jobServiceConfiguration.getJobEntityManager()),
+                acquiredJobs -> ((AcquiredJobEntities) acquiredJobs).getJobs());
+
+        assertThat(lockOwnerByJobId).hasSize(NR_OF_JOBS);
+        List<Job> jobs = managementService.createJobQuery().list();
+        assertThat(jobs).hasSize(NR_OF_JOBS);
+        for (Job job : jobs) {
+            assertThat(((JobEntity) job).getLockOwner()).isEqualTo(lockOwnerByJobId.get(job.getId()));
+        }
+
+        commandExecutor.execute(commandContext -> {
+            for (Job job : jobServiceConfiguration.getJobEntityManager().findJobsByQueryCriteria(new JobQueryImpl(commandContext, jobServiceConfiguration))) {
+                jobServiceConfiguration.getJobEntityManager().delete((JobEntity) job);
+            }
+            return null;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4 })
+    void testJobsAcquiredByExactlyOneNodeWithoutSkipLocked(int nrOfNodes) throws Exception {
+        // As for MySQL before version 8: the regular select is used instead of the skip locked select
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        boolean databaseSkipLockedSupported = jobServiceConfiguration.isDatabaseSkipLockedSupported();
+        jobServiceConfiguration.setDatabaseSkipLockedSupported(false);
+        try {
+            testAsyncJobsAcquiredByExactlyOneNode(nrOfNodes);
+            testTimerJobsAcquiredByExactlyOneNode(nrOfNodes);
+        } finally {
+            jobServiceConfiguration.setDatabaseSkipLockedSupported(databaseSkipLockedSupported);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 4, 8 })
+    void testTimerJobsAcquiredByExactlyOneNode(int nrOfNodes) throws Exception {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        Date dueDate = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() - 1000L);
+        commandExecutor.execute(commandContext -> {
+            for (int i = 0; i < NR_OF_JOBS; i++) {
+                jobServiceConfiguration.getTimerJobEntityManager().insert(createTweetTimer("timer-" + i, dueDate));
+            }
+            return null;
+        });
+
+        Map<String, String> lockOwnerByJobId = acquireOnAllNodes(nrOfNodes, "timer jobs",
+                AcquireTimerJobsWithBulkLockCmd::new,
+                acquiredJobs -> ((AcquiredTimerJobEntities) acquiredJobs).getJobs());
+
+        assertThat(lockOwnerByJobId).hasSize(NR_OF_JOBS);
+        List<Job> timerJobs = managementService.createTimerJobQuery().list();
+        assertThat(timerJobs).hasSize(NR_OF_JOBS);
+        for (Job timerJob : timerJobs) {
+            assertThat(((TimerJobEntity) timerJob).getLockOwner()).isEqualTo(lockOwnerByJobId.get(timerJob.getId()));
+        }
+
+        commandExecutor.execute(commandContext -> {
+            for (Job timerJob : jobServiceConfiguration.getTimerJobEntityManager()
+                    .findJobsByQueryCriteria(new TimerJobQueryImpl(commandContext, jobServiceConfiguration))) {
+                jobServiceConfiguration.getTimerJobEntityManager().delete((TimerJobEntity) timerJob);
+            }
+            return null;
+        });
+    }
+
+    protected Map<String, String> acquireOnAllNodes(int nrOfNodes, String jobDescription, Function<DefaultAsyncJobExecutor, Command<?>> acquireCommandFactory,
+            Function<Object, Iterable<? extends JobInfo>> acquiredJobsExtractor) throws Exception {
+
+        Map<String, String> lockOwnerByJobId = new ConcurrentHashMap<>();
+        List<String> doubleAcquiredJobIds = new CopyOnWriteArrayList<>();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(nrOfNodes);
+        try {
+            List<Future<?>> futures = new ArrayList<>(nrOfNodes);
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.SECONDS.toNanos(30);
+            for (int i = 0; i < nrOfNodes; i++) {
+                DefaultAsyncJobExecutor node = new DefaultAsyncJobExecutor();
+                node.setJobServiceConfiguration(processEngineConfiguration.getJobServiceConfiguration());
+                node.setLockOwner("node-" + i);
+                node.setMaxAsyncJobsDuePerAcquisition(10);
+                node.setMaxTimerJobsPerAcquisition(10);
+
+                futures.add(executorService.submit(() -> {
+                    // Without SKIP LOCKED (e.g. on H2) an acquisition can come back empty while other nodes still hold unacquired jobs,
+                    // hence looping until all jobs are acquired instead of until the first empty acquisition
+                    while (lockOwnerByJobId.size() < NR_OF_JOBS && System.nanoTime() < deadline) {
+                        Object acquiredJobs = commandExecutor.execute(acquireCommandFactory.apply(node));
+                        for (JobInfo job : acquiredJobsExtractor.apply(acquiredJobs)) {
+                            if (lockOwnerByJobId.putIfAbsent(job.getId(), node.getLockOwner()) != null) {
+                                doubleAcquiredJobIds.add(job.getId());
+                            }
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            long durationInMillis = Math.max(1L, (System.nanoTime() - start) / 1_000_000L);
+            LOGGER.info("{} nodes acquired {} {} in {} ms: {} jobs/sec", nrOfNodes, lockOwnerByJobId.size(), jobDescription,
+                    durationInMillis, (lockOwnerByJobId.size() * 1000L) / durationInMillis);
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(doubleAcquiredJobIds).isEmpty();
+        return lockOwnerByJobId;
+    }
+
+}
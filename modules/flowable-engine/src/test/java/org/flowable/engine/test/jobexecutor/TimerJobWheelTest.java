@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.TimerJobWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link TimerJobWheel} of the async executor.
+ */
+public class TimerJobWheelTest {
+
+    protected ProcessEngine processEngine;
+
+    @AfterEach
+    public void closeProcessEngine() {
+        if (processEngine != null) {
+            for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+                processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            }
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testTimerJobMovedByWheelAtDueDate() {
+        processEngine = createProcessEngine(5 * 60 * 1000);
+        deploy();
+
+        AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        assertThat(asyncExecutor.getTimerJobWheel()).isNotNull();
+        assertThat(asyncExecutor.getTimerJobWheel().isActive()).isTrue();
+
+        processEngine.getRuntimeService().startProcessInstanceByKey("timerJobWheel");
+        assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(1);
+
+        // The timer job acquisition waits a minute, so the timer can only fire this early through the wheel
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count() == 1);
+
+        assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isZero();
+        assertThat(asyncExecutor.getTimerJobWheel().getNumberOfScheduledTimerJobs()).isZero();
+        assertThat(asyncExecutor.getTimerJobLatencyHistogram().getCount()).isEqualTo(1);
+        assertThat(asyncExecutor.getTimerJobLatencyHistogram().getMaxLatencyInMillis()).isLessThan(10000);
+    }
+
+    @Test
+    public void testTimerJobBeyondHorizonNotScheduled() throws InterruptedException {
+        processEngine = createProcessEngine(100);
+        deploy();
+
+        processEngine.getRuntimeService().startProcessInstanceByKey("timerJobWheel");
+        assertThat(processEngine.getProcessEngineConfiguration().getAsyncExecutor().getTimerJobWheel().getNumberOfScheduledTimerJobs()).isZero();
+
+        // The timer job is left for the timer job acquisition
+        Thread.sleep(2000);
+        assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(1);
+        assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count()).isZero();
+    }
+
+    protected ProcessEngine createProcessEngine(long timerJobWheelHorizon) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-TimerJobWheelTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+        processEngineConfiguration.setAsyncExecutorTimerJobWheelEnabled(true);
+        processEngineConfiguration.setAsyncExecutorTimerJobWheelHorizon(timerJobWheelHorizon);
+        processEngineConfiguration.setAsyncExecutorTimerJobWheelTimerJobAcquireWaitTime(60 * 1000);
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        // The wheel moves the timer jobs in real time, so the clock must not be fixed by another test
+        processEngine.getProcessEngineConfiguration().getClock().reset();
+        return processEngine;
+    }
+
+    protected void deploy() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/TimerJobWheelTest.testTimerJob.bpmn20.xml")
+                .deploy();
+    }
+}
@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncHistoryJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the execution of async history jobs in batches.
+ */
+public class AsyncHistoryBatchTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncHistoryBatchTest() {
+        super("asyncHistoryBatchTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryExecutorBatchSize(10);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+    }
+
+    @Test
+    public void testHistoryJobsExecutedInBatches() {
+        DefaultAsyncHistoryJobExecutor asyncHistoryExecutor = (DefaultAsyncHistoryJobExecutor) processEngineConfiguration.getAsyncHistoryExecutor();
+        assertThat(asyncHistoryExecutor.getHistoryJobBatchSize()).isEqualTo(10);
+        assertThat(asyncHistoryExecutor.getMaxAsyncJobsDuePerAcquisition()).isEqualTo(10);
+
+        deployOneTaskTestProcess();
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+
+        // Repeated updates of the same historic task and activity, which are executed in one batch
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.setAssignee(task.getId(), "fozzie");
+            taskService.setPriority(task.getId(), 10);
+            taskService.setDueDate(task.getId(), new Date());
+            taskService.complete(task.getId());
+        }
+
+        assertThat(managementService.createHistoryJobQuery().count()).isGreaterThan(10);
+
+        HistoryTestHelper.waitForJobExecutorToProcessAllHistoryJobs(processEngineConfiguration, managementService, 10000L, 100L, false);
+        assertThat(asyncHistoryExecutor.getAsyncJobsDueRunnable()).isInstanceOf(AcquireAsyncHistoryJobsDueRunnable.class);
+        asyncHistoryExecutor.shutdown();
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+
+        for (String processInstanceId : processInstanceIds) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+                    .processInstanceId(processInstanceId).singleResult();
+            assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+            HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery()
+                    .processInstanceId(processInstanceId).singleResult();
+            assertThat(historicTaskInstance.getAssignee()).isEqualTo("fozzie");
+            assertThat(historicTaskInstance.getPriority()).isEqualTo(10);
+            assertThat(historicTaskInstance.getDueDate()).isNotNull();
+            assertThat(historicTaskInstance.getEndTime()).isNotNull();
+
+            HistoricActivityInstance historicActivityInstance = historyService.createHistoricActivityInstanceQuery()
+                    .processInstanceId(processInstanceId).activityId("theTask").singleResult();
+            assertThat(historicActivityInstance.getEndTime()).isNotNull();
+
+            assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list()).hasSize(5);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.service.impl.history.async.segment.FileSegmentAsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.segment.HistorySegmentLog;
+import org.flowable.job.service.impl.history.async.segment.HistorySegmentLogConsumer;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests async history written to a {@link HistorySegmentLog} instead of history jobs.
+ */
+public class FileSegmentAsyncHistoryTest extends CustomConfigurationFlowableTestCase {
+
+    protected HistorySegmentLog historySegmentLog;
+    protected HistorySegmentLogConsumer historySegmentLogConsumer;
+
+    public FileSegmentAsyncHistoryTest() {
+        super("fileSegmentAsyncHistoryTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            historySegmentLog = new HistorySegmentLog(Files.createTempDirectory("flowable-history-segments"));
+        } catch (IOException e) {
+            throw new FlowableException("Could not create history segment directory", e);
+        }
+        historySegmentLog.open();
+
+        FileSegmentAsyncHistoryListener asyncHistoryListener = new FileSegmentAsyncHistoryListener(historySegmentLog);
+        asyncHistoryListener.setCompressionEnabled(true);
+
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryListener(asyncHistoryListener);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @BeforeEach
+    protected void createConsumer() {
+        historySegmentLogConsumer = new HistorySegmentLogConsumer(historySegmentLog, processEngineConfiguration.getJobServiceConfiguration());
+        historySegmentLogConsumer.setPollIntervalInMillis(50);
+    }
+
+    @AfterEach
+    protected void closeHistorySegmentLog() throws IOException {
+        historySegmentLogConsumer.stop();
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        // Apply the history of the deployment deletion, so the DB is clean
+        while (historySegmentLogConsumer.consumeRecords() > 0) {
+            // consume until the end of the log
+        }
+
+        historySegmentLog.close();
+        Path directory = historySegmentLog.getDirectory();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testHistoryAppliedFromSegmentLog() {
+        deployOneTaskTestProcess();
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.complete(task.getId());
+        }
+
+        // The history is only in the segment log, no history jobs are created
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+        assertThat(historySegmentLog.getWritePosition().getOffset()).isPositive();
+
+        historySegmentLogConsumer.start();
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> historyService.createHistoricProcessInstanceQuery().finished().count() == 3);
+
+        for (String processInstanceId : processInstanceIds) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+                    .processInstanceId(processInstanceId).singleResult();
+            assertThat(historicProcessInstance.getEndTime()).isNotNull();
+            assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).finished().count()).isEqualTo(1);
+            assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list()).hasSize(5);
+        }
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> historySegmentLog.getWritePosition().equals(historySegmentLogConsumer.getCheckpoint()));
+        assertThat(managementService.getProperties())
+                .containsEntry(HistorySegmentLogConsumer.CHECKPOINT_PROPERTY_NAME_PREFIX + historySegmentLog.getId(),
+                        historySegmentLog.getWritePosition().toString());
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+
+        // A new consumer continues from the checkpoint stored with the applied history, so nothing is applied twice
+        historySegmentLogConsumer.stop();
+        HistorySegmentLogConsumer restartedConsumer = new HistorySegmentLogConsumer(historySegmentLog, processEngineConfiguration.getJobServiceConfiguration());
+        assertThat(restartedConsumer.consumeRecords()).isZero();
+        assertThat(restartedConsumer.getCheckpoint()).isEqualTo(historySegmentLog.getWritePosition());
+    }
+}
@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
+import org.flowable.engine.impl.db.DbIdGenerator;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks that the {@link PrefetchingDbIdGenerator} hands out unique ids from concurrent threads. The disabled throughput
+ * test logs the id throughput of the id generators for a number of threads and can be enabled locally.
+ */
+public class PrefetchingDbIdGeneratorTest extends PluggableFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGeneratorTest.class);
+
+    protected static final int NR_OF_IDS_PER_THREAD_FOR_THROUGHPUT = 100000;
+
+    @Test
+    public void testUniqueIdsWithSmallBlocks() throws Exception {
+        PrefetchingDbIdGenerator idGenerator = createPrefetchingDbIdGenerator(10, 0);
+        idGenerator.setLowWaterMark(3);
+        assertUniqueIds(idGenerator, 8, 2000);
+    }
+
+    @Test
+    public void testUniqueIdsWithThreadLocalBlocks() throws Exception {
+        // Thread local blocks that don't fit the blocks from the database
+        assertUniqueIds(createPrefetchingDbIdGenerator(25, 7), 8, 2000);
+    }
+
+    @Disabled("Benchmark without assertions, run manually")
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 8, 64 })
+    public void testThroughput(int nrOfThreads) throws Exception {
+        int idBlockSize = processEngineConfiguration.getIdBlockSize();
+        Map<String, IdGenerator> idGenerators = new LinkedHashMap<>();
+        idGenerators.put("DbIdGenerator", createDbIdGenerator(new DbIdGenerator(), idBlockSize));
+        idGenerators.put("PrefetchingDbIdGenerator", createPrefetchingDbIdGenerator(idBlockSize, 0));
+        idGenerators.put("PrefetchingDbIdGenerator (thread local blocks of 100)", createPrefetchingDbIdGenerator(idBlockSize, 100));
+        idGenerators.put("StrongUuidGenerator", new StrongUuidGenerator());
+
+        for (Map.Entry<String, IdGenerator> idGenerator : idGenerators.entrySet()) {
+            // Warm up
+            generateIds(idGenerator.getValue(), nrOfThreads, NR_OF_IDS_PER_THREAD_FOR_THROUGHPUT / 10, id -> { });
+
+            long start = System.nanoTime();
+            generateIds(idGenerator.getValue(), nrOfThreads, NR_OF_IDS_PER_THREAD_FOR_THROUGHPUT, id -> { });
+            long durationInMillis = Math.max(1L, (System.nanoTime() - start) / 1_000_000L);
+            LOGGER.info("{} with {} threads: {} ids/sec", idGenerator.getKey(), nrOfThreads,
+                    ((long) nrOfThreads * NR_OF_IDS_PER_THREAD_FOR_THROUGHPUT * 1000L) / durationInMillis);
+        }
+    }
+
+    protected void assertUniqueIds(IdGenerator idGenerator, int nrOfThreads, int nrOfIdsPerThread) throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        generateIds(idGenerator, nrOfThreads, nrOfIdsPerThread, ids::add);
+        assertThat(ids).hasSize(nrOfThreads * nrOfIdsPerThread);
+    }
+
+    protected void generateIds(IdGenerator idGenerator, int nrOfThreads, int nrOfIdsPerThread, Consumer<String> idConsumer) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(nrOfThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(nrOfThreads);
+            for (int i = 0; i < nrOfThreads; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < nrOfIdsPerThread; j++) {
+                        idConsumer.accept(idGenerator.getNextId());
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected PrefetchingDbIdGenerator createPrefetchingDbIdGenerator(int idBlockSize, int threadLocalBlockSize) {
+        PrefetchingDbIdGenerator idGenerator = createDbIdGenerator(new PrefetchingDbIdGenerator(), idBlockSize);
+        idGenerator.setThreadLocalBlockSize(threadLocalBlockSize);
+        return idGenerator;
+    }
+
+    protected <T extends DbIdGenerator> T createDbIdGenerator(T idGenerator, int idBlockSize) {
+        idGenerator.setIdBlockSize(idBlockSize);
+        idGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        idGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+        return idGenerator;
+    }
+
+}
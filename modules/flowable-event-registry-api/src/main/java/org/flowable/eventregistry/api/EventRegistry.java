@@ -70,12 +70,23 @@ public interface EventRegistry {
      * Events received in adapters should call this method to process events.
      */
     void eventReceived(InboundChannelModel channelModel, String event);
+
+    /**
+     * Adapters that receive events in batches should call this method to process the batch at once.
+     * The events are processed in the order of the collection.
+     */
+    void eventsReceived(InboundChannelModel channelModel, Collection<String> events);
     
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     */
+    void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents);
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
@@ -12,12 +12,25 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     void eventReceived(EventRegistryEvent event);
+
+    /**
+     * Handles a batch of events, in the order of the collection.
+     * Implementations can handle the batch in fewer transactions than the events one by one,
+     * as long as the events that correlate to the same instances are handled in order.
+     */
+    default void eventsReceived(Collection<EventRegistryEvent> events) {
+        for (EventRegistryEvent event : events) {
+            eventReceived(event);
+        }
+    }
     
     String getConsumerKey();
 }
@@ -12,7 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * @author Joram Barrez
@@ -21,5 +23,17 @@ import java.util.Collection;
 public interface InboundEventProcessingPipeline {
 
     Collection<EventRegistryEvent> run(String channelKey, String rawEvent);
-    
+
+    /**
+     * Runs the pipeline for a batch of raw events received on the same channel.
+     * The returned events are in the order of the raw events they were created from.
+     */
+    default List<EventRegistryEvent> run(String channelKey, Collection<String> rawEvents) {
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>();
+        for (String rawEvent : rawEvents) {
+            eventRegistryEvents.addAll(run(channelKey, rawEvent));
+        }
+        return eventRegistryEvents;
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -21,4 +23,13 @@ public interface InboundEventProcessor {
 
     void eventReceived(InboundChannelModel channelModel, String event);
 
+    /**
+     * Handles a batch of events received on the same channel, in the order of the collection.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<String> events) {
+        for (String event : events) {
+            eventReceived(channelModel, event);
+        }
+    }
+
 }
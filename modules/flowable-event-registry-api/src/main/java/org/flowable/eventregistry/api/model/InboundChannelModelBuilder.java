@@ -188,6 +188,12 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Sets whether the records of a poll are passed to the event registry as one batch (a boolean or an expression resolving to one).
+         * The batch size is limited by the max.poll.records consumer property.
+         */
+        InboundKafkaChannelBuilder batchListener(String batchListener);
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
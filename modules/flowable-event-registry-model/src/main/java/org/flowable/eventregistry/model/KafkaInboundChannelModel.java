@@ -30,6 +30,7 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
     protected String topicPattern;
     protected String clientIdPrefix;
     protected String concurrency;
+    protected String batchListener;
     protected List<CustomProperty> customProperties;
     
     public KafkaInboundChannelModel() {
@@ -77,6 +78,14 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public String getBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(String batchListener) {
+        this.batchListener = batchListener;
+    }
+
     public List<CustomProperty> getCustomProperties() {
         return customProperties;
     }
@@ -12,6 +12,10 @@
  */
 package org.flowable.eventregistry.spring.jms;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.Session;
@@ -44,6 +48,21 @@ public class JmsChannelMessageListenerAdapter extends AbstractAdaptableMessageLi
         }
     }
 
+    /**
+     * Passes a batch of messages, e.g. received in one session by a custom listener container, to the event registry at once.
+     */
+    public void onMessages(Collection<? extends Message> messages) throws JMSException {
+        List<String> events = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            if (message instanceof TextMessage) {
+                events.add(((TextMessage) message).getText());
+            } else {
+                throw new UnsupportedOperationException("Can only received TextMessage. Received: " + message);
+            }
+        }
+        eventRegistry.eventsReceived(inboundChannelModel, events);
+    }
+
     public EventRegistry getEventRegistry() {
         return eventRegistry;
     }
@@ -43,6 +43,7 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerEndpoint;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.BatchMessageListener;
 import org.springframework.kafka.listener.GenericMessageListener;
 import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.util.Assert;
@@ -106,7 +107,12 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         endpoint.setConcurrency(resolveExpressionAsInteger(channelModel.getConcurrency(), "concurrency"));
         endpoint.setConsumerProperties(resolveProperties(channelModel.getCustomProperties()));
 
-        endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        if (Boolean.TRUE.equals(resolveExpressionAsBoolean(channelModel.getBatchListener(), "batchListener"))) {
+            endpoint.setBatchListener(true);
+            endpoint.setBatchMessageListener(createBatchMessageListener(eventRegistry, channelModel));
+        } else {
+            endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        }
         return endpoint;
     }
 
@@ -133,6 +139,22 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         return result;
     }
 
+    protected Boolean resolveExpressionAsBoolean(String value, String attribute) {
+        if (!StringUtils.hasLength(value)) {
+            return null;
+        }
+        Object resolved = resolveExpression(value);
+        if (resolved instanceof String) {
+            return Boolean.parseBoolean((String) resolved);
+        } else if (resolved instanceof Boolean) {
+            return (Boolean) resolved;
+        } else {
+            throw new IllegalStateException(
+                "The [" + attribute + "] must resolve to a Boolean or a String that can be parsed as a Boolean. "
+                    + "Resolved to [" + resolved.getClass() + "] for [" + value + "]");
+        }
+    }
+
     protected String resolveExpressionAsString(String value, String attribute) {
         if (!StringUtils.hasLength(value)) {
             return null;
@@ -207,6 +229,10 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         return kafkaChannelMessageListenerAdapter;
     }
 
+    protected BatchMessageListener<String, String> createBatchMessageListener(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        return new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+    }
+
     @Override
     public void unregisterChannelModel(ChannelModel channelModel, String tenantId, EventRepositoryService eventRepositoryService) {
         String endpointId = getEndpointId(channelModel, tenantId);
@@ -18,6 +18,7 @@ import java.util.regex.Pattern;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.config.KafkaListenerEndpoint;
+import org.springframework.kafka.listener.BatchMessageListener;
 import org.springframework.kafka.listener.GenericMessageListener;
 import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.kafka.support.TopicPartitionOffset;
@@ -37,8 +38,10 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint
     protected Integer concurrency;
     protected Properties consumerProperties;
     protected boolean splitIterables = true;
+    protected boolean batchListener;
 
     protected GenericMessageListener<ConsumerRecord<K, V>> messageListener;
+    protected BatchMessageListener<?, ?> batchMessageListener;
 
     public void setMessageListener(GenericMessageListener<ConsumerRecord<K, V>> messageListener) {
         this.messageListener = messageListener;
@@ -48,6 +51,26 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint
         return messageListener;
     }
 
+    public void setBatchMessageListener(BatchMessageListener<?, ?> batchMessageListener) {
+        this.batchMessageListener = batchMessageListener;
+    }
+
+    public BatchMessageListener<?, ?> getBatchMessageListener() {
+        return batchMessageListener;
+    }
+
+    /**
+     * Whether the records of a poll are passed to the {@link #getBatchMessageListener() batch message listener}
+     * instead of one by one to the {@link #getMessageListener() message listener}.
+     */
+    public boolean isBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(boolean batchListener) {
+        this.batchListener = batchListener;
+    }
+
     @Override
     public String getId() {
         return id;
@@ -128,7 +151,7 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint
 
     @Override
     public void setupListenerContainer(MessageListenerContainer listenerContainer, MessageConverter messageConverter) {
-        GenericMessageListener<ConsumerRecord<K, V>> messageListener = getMessageListener();
+        Object messageListener = batchListener ? getBatchMessageListener() : getMessageListener();
         Assert.state(messageListener != null, () -> "Endpoint [" + this + "] must provide a non null message listener");
         listenerContainer.setupMessageListener(messageListener);
     }
@@ -147,6 +170,6 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint
         return getClass().getSimpleName() + "[" + this.id
             + "] topics=" + this.topics
             + "' | topicPattern='" + this.topicPattern + "'"
-            + " | messageListener='" + messageListener + "'";
+            + " | messageListener='" + (batchListener ? batchMessageListener : messageListener) + "'";
     }
 }
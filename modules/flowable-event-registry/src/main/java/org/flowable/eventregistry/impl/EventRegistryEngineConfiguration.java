@@ -27,7 +27,6 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.FullDeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -58,6 +57,7 @@ import org.flowable.eventregistry.impl.persistence.deploy.ChannelDefinitionCache
 import org.flowable.eventregistry.impl.persistence.deploy.Deployer;
 import org.flowable.eventregistry.impl.persistence.deploy.EventDefinitionCacheEntry;
 import org.flowable.eventregistry.impl.persistence.deploy.EventDeploymentManager;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestModelCache;
 import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityManager;
@@ -82,6 +82,8 @@ import org.flowable.eventregistry.impl.pipeline.InboundChannelModelProcessor;
 import org.flowable.eventregistry.impl.pipeline.OutboundChannelModelProcessor;
 import org.flowable.eventregistry.json.converter.ChannelJsonConverter;
 import org.flowable.eventregistry.json.converter.EventJsonConverter;
+import org.flowable.eventregistry.model.ChannelModel;
+import org.flowable.eventregistry.model.EventModel;
 
 import liquibase.Liquibase;
 import liquibase.database.Database;
@@ -142,6 +144,14 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected DeploymentCache<EventDefinitionCacheEntry> eventDefinitionCache;
     protected DeploymentCache<ChannelDefinitionCacheEntry> channelDefinitionCache;
 
+    /**
+     * Caches the event and channel models of the latest definitions by key and tenant, so that inbound events are resolved without a query.
+     * Deployments of other nodes are only seen through the change detection, which should be enabled when the database is shared.
+     */
+    protected boolean enableLatestModelCache;
+    protected LatestModelCache<EventModel> latestEventModelCache;
+    protected LatestModelCache<ChannelModel> latestChannelModelCache;
+
     protected Collection<ChannelModelProcessor> channelModelProcessors = new ArrayList<>();
 
     // Event registry
@@ -247,6 +257,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         initSystemOutboundEventProcessor();
         initChannelDefinitionProcessors();
         initDeployers();
+        initLatestModelCaches();
         initChangeDetectionManager();
         initChangeDetectionExecutor();
     }
@@ -440,11 +451,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         }
 
         if (eventDefinitionCache == null) {
-            if (eventDefinitionCacheLimit <= 0) {
-                eventDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                eventDefinitionCache = new DefaultDeploymentCache<>(eventDefinitionCacheLimit);
-            }
+            eventDefinitionCache = createDeploymentCache(eventDefinitionCacheLimit);
         }
         
         if (channelDefinitionCache == null) {
@@ -458,6 +465,17 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         deploymentManager.setChannelDefinitionEntityManager(channelDefinitionEntityManager);
     }
 
+    public void initLatestModelCaches() {
+        if (enableLatestModelCache) {
+            if (latestEventModelCache == null) {
+                latestEventModelCache = new LatestModelCache<>();
+            }
+            if (latestChannelModelCache == null) {
+                latestChannelModelCache = new LatestModelCache<>();
+            }
+        }
+    }
+
     public Collection<? extends Deployer> getDefaultDeployers() {
         List<Deployer> defaultDeployers = new ArrayList<>();
 
@@ -729,6 +747,33 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
     
+    public boolean isEnableLatestModelCache() {
+        return enableLatestModelCache;
+    }
+
+    public EventRegistryEngineConfiguration setEnableLatestModelCache(boolean enableLatestModelCache) {
+        this.enableLatestModelCache = enableLatestModelCache;
+        return this;
+    }
+
+    public LatestModelCache<EventModel> getLatestEventModelCache() {
+        return latestEventModelCache;
+    }
+
+    public EventRegistryEngineConfiguration setLatestEventModelCache(LatestModelCache<EventModel> latestEventModelCache) {
+        this.latestEventModelCache = latestEventModelCache;
+        return this;
+    }
+
+    public LatestModelCache<ChannelModel> getLatestChannelModelCache() {
+        return latestChannelModelCache;
+    }
+
+    public EventRegistryEngineConfiguration setLatestChannelModelCache(LatestModelCache<ChannelModel> latestChannelModelCache) {
+        this.latestChannelModelCache = latestChannelModelCache;
+        return this;
+    }
+
     public Collection<ChannelModelProcessor> getChannelModelProcessors() {
         return channelModelProcessors;
     }
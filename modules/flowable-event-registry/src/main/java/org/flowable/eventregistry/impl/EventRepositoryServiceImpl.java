@@ -47,6 +47,7 @@ import org.flowable.eventregistry.impl.cmd.SetEventDefinitionCategoryCmd;
 import org.flowable.eventregistry.impl.model.EventModelBuilderImpl;
 import org.flowable.eventregistry.impl.model.InboundChannelDefinitionBuilderImpl;
 import org.flowable.eventregistry.impl.model.OutboundChannelDefinitionBuilderImpl;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestModelCache;
 import org.flowable.eventregistry.impl.repository.EventDeploymentBuilderImpl;
 import org.flowable.eventregistry.model.ChannelModel;
 import org.flowable.eventregistry.model.EventModel;
@@ -160,11 +161,19 @@ public class EventRepositoryServiceImpl extends CommonEngineServiceImpl<EventReg
 
     @Override
     public EventModel getEventModelByKey(String eventDefinitionKey) {
+        EventModel eventModel = getCachedEventModel(eventDefinitionKey, null);
+        if (eventModel != null) {
+            return eventModel;
+        }
         return commandExecutor.execute(new GetEventModelCmd(eventDefinitionKey, null));
     }
     
     @Override
     public EventModel getEventModelByKey(String eventDefinitionKey, String tenantId) {
+        EventModel eventModel = getCachedEventModel(eventDefinitionKey, tenantId);
+        if (eventModel != null) {
+            return eventModel;
+        }
         return commandExecutor.execute(new GetEventModelCmd(eventDefinitionKey, tenantId, null));
     }
 
@@ -185,11 +194,19 @@ public class EventRepositoryServiceImpl extends CommonEngineServiceImpl<EventReg
 
     @Override
     public ChannelModel getChannelModelByKey(String channelDefinitionKey) {
+        ChannelModel channelModel = getCachedChannelModel(channelDefinitionKey, null);
+        if (channelModel != null) {
+            return channelModel;
+        }
         return commandExecutor.execute(new GetChannelModelCmd(channelDefinitionKey, null));
     }
 
     @Override
     public ChannelModel getChannelModelByKey(String channelDefinitionKey, String tenantId) {
+        ChannelModel channelModel = getCachedChannelModel(channelDefinitionKey, tenantId);
+        if (channelModel != null) {
+            return channelModel;
+        }
         return commandExecutor.execute(new GetChannelModelCmd(channelDefinitionKey, tenantId, null));
     }
 
@@ -203,6 +220,16 @@ public class EventRepositoryServiceImpl extends CommonEngineServiceImpl<EventReg
         return commandExecutor.execute(new GetChannelModelCmd(channelDefinitionKey, tenantId, parentDeploymentId));
     }
 
+    protected EventModel getCachedEventModel(String eventDefinitionKey, String tenantId) {
+        LatestModelCache<EventModel> latestEventModelCache = eventRegistryEngineConfiguration.getLatestEventModelCache();
+        return latestEventModelCache != null && eventDefinitionKey != null ? latestEventModelCache.get(eventDefinitionKey, tenantId) : null;
+    }
+
+    protected ChannelModel getCachedChannelModel(String channelDefinitionKey, String tenantId) {
+        LatestModelCache<ChannelModel> latestChannelModelCache = eventRegistryEngineConfiguration.getLatestChannelModelCache();
+        return latestChannelModelCache != null && channelDefinitionKey != null ? latestChannelModelCache.get(channelDefinitionKey, tenantId) : null;
+    }
+
     @Override
     public EventModelBuilder createEventModelBuilder() {
         return new EventModelBuilderImpl(this, eventRegistryEngineConfiguration.getEventJsonConverter());
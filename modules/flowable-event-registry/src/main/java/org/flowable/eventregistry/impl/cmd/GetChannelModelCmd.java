@@ -25,6 +25,7 @@ import org.flowable.eventregistry.impl.EventDeploymentQueryImpl;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.persistence.deploy.ChannelDefinitionCacheEntry;
 import org.flowable.eventregistry.impl.persistence.deploy.EventDeploymentManager;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestModelCache;
 import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntity;
 import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntityManager;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
@@ -59,6 +60,16 @@ public class GetChannelModelCmd implements Command<ChannelModel>, Serializable {
         EventDeploymentManager deploymentManager = eventEngineConfiguration.getDeploymentManager();
         ChannelDefinitionEntityManager channelDefinitionEntityManager = eventEngineConfiguration.getChannelDefinitionEntityManager();
 
+        // Only the latest definition by key is cached, the version is read before querying it
+        LatestModelCache<ChannelModel> latestChannelModelCache = null;
+        long latestChannelModelCacheVersion = 0;
+        if (channelDefinitionId == null && channelDefinitionKey != null && parentDeploymentId == null) {
+            latestChannelModelCache = eventEngineConfiguration.getLatestChannelModelCache();
+            if (latestChannelModelCache != null) {
+                latestChannelModelCacheVersion = latestChannelModelCache.getVersion();
+            }
+        }
+
         // Find the channel definition
         ChannelDefinitionEntity channelDefinitionEntity = null;
         if (channelDefinitionId != null) {
@@ -145,6 +156,10 @@ public class GetChannelModelCmd implements Command<ChannelModel>, Serializable {
         }
 
         ChannelDefinitionCacheEntry channelDefinitionCacheEntry = deploymentManager.resolveChannelDefinition(channelDefinitionEntity);
-        return channelDefinitionCacheEntry.getChannelModel();
+        ChannelModel channelModel = channelDefinitionCacheEntry.getChannelModel();
+        if (latestChannelModelCache != null) {
+            latestChannelModelCache.put(channelDefinitionKey, tenantId, channelDefinitionEntity.getId(), channelModel, latestChannelModelCacheVersion);
+        }
+        return channelModel;
     }
 }
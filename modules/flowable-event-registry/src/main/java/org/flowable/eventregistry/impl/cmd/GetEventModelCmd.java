@@ -25,6 +25,7 @@ import org.flowable.eventregistry.impl.EventDeploymentQueryImpl;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.persistence.deploy.EventDefinitionCacheEntry;
 import org.flowable.eventregistry.impl.persistence.deploy.EventDeploymentManager;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestModelCache;
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityManager;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
@@ -59,6 +60,16 @@ public class GetEventModelCmd implements Command<EventModel>, Serializable {
         EventDeploymentManager deploymentManager = eventEngineConfiguration.getDeploymentManager();
         EventDefinitionEntityManager eventDefinitionEntityManager = eventEngineConfiguration.getEventDefinitionEntityManager();
 
+        // Only the latest definition by key is cached, the version is read before querying it
+        LatestModelCache<EventModel> latestEventModelCache = null;
+        long latestEventModelCacheVersion = 0;
+        if (eventDefinitionId == null && eventDefinitionKey != null && parentDeploymentId == null) {
+            latestEventModelCache = eventEngineConfiguration.getLatestEventModelCache();
+            if (latestEventModelCache != null) {
+                latestEventModelCacheVersion = latestEventModelCache.getVersion();
+            }
+        }
+
         // Find the event definition
         EventDefinitionEntity eventDefinitionEntity = null;
         if (eventDefinitionId != null) {
@@ -145,6 +156,10 @@ public class GetEventModelCmd implements Command<EventModel>, Serializable {
         }
 
         EventDefinitionCacheEntry eventDefinitionCacheEntry = deploymentManager.resolveEventDefinition(eventDefinitionEntity);
-        return eventEngineConfiguration.getEventJsonConverter().convertToEventModel(eventDefinitionCacheEntry.getEventDefinitionJson());
+        EventModel eventModel = eventEngineConfiguration.getEventJsonConverter().convertToEventModel(eventDefinitionCacheEntry.getEventDefinitionJson());
+        if (latestEventModelCache != null) {
+            latestEventModelCache.put(eventDefinitionKey, tenantId, eventDefinitionEntity.getId(), eventModel, latestEventModelCacheVersion);
+        }
+        return eventModel;
     }
 }
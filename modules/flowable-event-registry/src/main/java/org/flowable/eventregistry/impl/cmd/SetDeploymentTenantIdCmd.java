@@ -13,6 +13,7 @@
 package org.flowable.eventregistry.impl.cmd;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -62,6 +63,7 @@ public class SetDeploymentTenantIdCmd implements Command<Void>, Serializable {
         for (EventDefinition eventDefinition : eventDefinitions) {
             CommandContextUtil.getEventRegistryConfiguration().getEventDefinitionCache().remove(eventDefinition.getId());
         }
+        CommandContextUtil.getEventRegistryConfiguration().getDeploymentManager().invalidateLatestModels(eventDefinitions, Collections.emptyList());
 
         CommandContextUtil.getDeploymentEntityManager(commandContext).update(deployment);
 
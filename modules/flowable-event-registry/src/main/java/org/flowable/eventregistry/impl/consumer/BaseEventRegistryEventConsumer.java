@@ -12,12 +12,16 @@
  */
 package org.flowable.eventregistry.impl.consumer;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +40,8 @@ import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -43,6 +49,8 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseEventRegistryEventConsumer.class);
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -53,8 +61,85 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public void eventReceived(EventRegistryEvent event) {
+        eventReceived(getEventInstance(event));
+    }
+
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        if (events.size() == 1) {
+            eventReceived(events.iterator().next());
+            return;
+        }
+
+        // The events are grouped by correlation key, keeping the order of the events within a group.
+        // Every round handles the next event of each group in one transaction, which means that
+        // events with the same correlation key are never handled in the same transaction and keep their order.
+        Map<String, Deque<EventInstance>> eventInstancesByCorrelationKey = new LinkedHashMap<>();
+        for (EventRegistryEvent event : events) {
+            EventInstance eventInstance = getEventInstance(event);
+            eventInstancesByCorrelationKey.computeIfAbsent(getBatchCorrelationKey(eventInstance), key -> new ArrayDeque<>()).add(eventInstance);
+        }
+
+        while (!eventInstancesByCorrelationKey.isEmpty()) {
+            List<EventInstance> eventInstances = new ArrayList<>(eventInstancesByCorrelationKey.size());
+            for (Deque<EventInstance> correlatedEventInstances : eventInstancesByCorrelationKey.values()) {
+                eventInstances.add(correlatedEventInstances.peekFirst());
+            }
+
+            Set<EventInstance> handledEventInstances = handleEventsInTransaction(eventInstances);
+
+            Iterator<Deque<EventInstance>> iterator = eventInstancesByCorrelationKey.values().iterator();
+            while (iterator.hasNext()) {
+                Deque<EventInstance> correlatedEventInstances = iterator.next();
+                if (handledEventInstances.contains(correlatedEventInstances.peekFirst())) {
+                    correlatedEventInstances.removeFirst();
+                    if (correlatedEventInstances.isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles the given events, which all have a different correlation key, in one transaction.
+     * Events that match an event subscription that was already triggered by another event in the transaction are not handled,
+     * they are handled in a next transaction instead, where the changes of this transaction are visible.
+     * When the transaction fails, the events are handled one by one, as when they were not received in a batch,
+     * so that the handling of one event subscription doesn't roll back the handling of the others.
+     *
+     * @return the handled events
+     */
+    protected Set<EventInstance> handleEventsInTransaction(List<EventInstance> eventInstances) {
+        if (eventInstances.size() == 1) {
+            eventReceived(eventInstances.get(0));
+            return Collections.singleton(eventInstances.get(0));
+        }
+
+        try {
+            return commandExecutor.execute(commandContext -> {
+                Set<String> triggeredEventSubscriptionIds = new HashSet<>();
+                Set<EventInstance> handledEventInstances = new HashSet<>();
+                for (EventInstance eventInstance : eventInstances) {
+                    if (eventReceived(eventInstance, triggeredEventSubscriptionIds)) {
+                        handledEventInstances.add(eventInstance);
+                    }
+                }
+                return handledEventInstances;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Handling {} events in one transaction failed, handling them one by one", eventInstances.size(), e);
+            for (EventInstance eventInstance : eventInstances) {
+                eventReceived(eventInstance);
+            }
+            return new HashSet<>(eventInstances);
+        }
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -64,8 +149,25 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         }
     }
 
+    /**
+     * Returns the key used to group the events of a batch: events with the same key are handled in order, in separate transactions.
+     */
+    protected String getBatchCorrelationKey(EventInstance eventInstance) {
+        CorrelationKey correlationKey = getCorrelationKeyWithAllParameters(generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+        return eventInstance.getTenantId() + '|' + eventInstance.getEventKey() + '|' + (correlationKey != null ? correlationKey.getValue() : "");
+    }
+
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles the event as part of a transaction in which other events of the same batch are handled.
+     *
+     * @param triggeredEventSubscriptionIds the ids of the event subscriptions of waiting instances that were triggered in the transaction,
+     *                                      to which the ids of the event subscriptions triggered by this event should be added
+     * @return false when the event wasn't handled because it matches one of the triggered event subscriptions, true otherwise
+     */
+    protected abstract boolean eventReceived(EventInstance eventInstance, Set<String> triggeredEventSubscriptionIds);
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -121,19 +223,11 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
                 .eventType(eventInstance.getEventKey())
                 .scopeType(scopeType);
 
-            if (!correlationKeys.isEmpty()) {
-
-                Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+            Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue)
+                .collect(Collectors.toCollection(HashSet::new));
 
-                eventSubscriptionQuery.or()
-                    .withoutConfiguration()
-                    .configurations(allCorrelationKeyValues)
-                    .endOr();
-
-            } else {
-                eventSubscriptionQuery.withoutConfiguration();
-
-            }
+            // The tenants of the event subscriptions, null for all tenants
+            Collection<String> tenantIds = null;
 
             String eventInstanceTenantId = eventInstance.getTenantId();
             if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
@@ -155,18 +249,66 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
                     }
 
+                    tenantIds = Arrays.asList(eventInstanceTenantId, defaultTenant);
+
                 } else {
                     eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+                    tenantIds = Collections.singletonList(eventInstanceTenantId);
 
                 }
 
             }
 
+            Collection<String> existingConfigurations = findEventSubscriptionConfigurations(scopeType, eventInstance.getEventKey(), tenantIds);
+            if (existingConfigurations != null) {
+                // The known configurations contain all committed event subscriptions, so only those are queried
+                // and the event is discarded without a query when none of them match
+                Set<String> existingCorrelationKeyValues = new HashSet<>(allCorrelationKeyValues);
+                existingCorrelationKeyValues.retainAll(existingConfigurations);
+                boolean withoutConfiguration = existingConfigurations.contains(null);
+
+                if (!withoutConfiguration) {
+                    if (existingCorrelationKeyValues.isEmpty()) {
+                        return Collections.emptyList();
+                    }
+
+                    eventSubscriptionQuery.configurations(existingCorrelationKeyValues);
+                    return eventSubscriptionQuery.list();
+                }
+
+                allCorrelationKeyValues = existingCorrelationKeyValues;
+            }
+
+            if (!allCorrelationKeyValues.isEmpty()) {
+
+                eventSubscriptionQuery.or()
+                    .withoutConfiguration()
+                    .configurations(allCorrelationKeyValues)
+                    .endOr();
+
+            } else {
+                eventSubscriptionQuery.withoutConfiguration();
+
+            }
+
             return eventSubscriptionQuery.list();
 
         });
     }
 
+    /**
+     * Returns the configurations of the event subscriptions for the given event type, containing null when there are event subscriptions
+     * without configuration, or null when they are not known without querying the event subscriptions.
+     * The returned configurations contain the configurations of all committed event subscriptions, but a returned configuration
+     * doesn't guarantee that an event subscription with that configuration still exists.
+     *
+     * @param tenantIds the tenants of the event subscriptions, where {@link AbstractEngineConfiguration#NO_TENANT_ID} stands for the event subscriptions
+     *                  without tenant, or null for the event subscriptions of all tenants
+     */
+    protected Collection<String> findEventSubscriptionConfigurations(String scopeType, String eventType, Collection<String> tenantIds) {
+        return null;
+    }
+
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
 }
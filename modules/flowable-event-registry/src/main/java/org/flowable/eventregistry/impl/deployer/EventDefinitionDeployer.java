@@ -73,6 +73,9 @@ public class EventDefinitionDeployer implements Deployer {
                 cachingAndArtifactsManager.removeChannelDefinitionFromCache(previousChannelDefinition.getId());
             }
 
+            CommandContextUtil.getEventRegistryConfiguration().getDeploymentManager()
+                .invalidateLatestModels(parsedDeployment.getAllEventDefinitions(), parsedDeployment.getAllChannelDefinitions());
+
         } else {
             makeEventDefinitionsConsistentWithPersistedVersions(parsedDeployment);
             makeChannelDefinitionsConsistentWithPersistedVersions(parsedDeployment);
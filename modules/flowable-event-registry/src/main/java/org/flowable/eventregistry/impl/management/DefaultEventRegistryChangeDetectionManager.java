@@ -13,16 +13,23 @@
 package org.flowable.eventregistry.impl.management;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.flowable.eventregistry.api.ChannelDefinition;
+import org.flowable.eventregistry.api.EventDefinition;
 import org.flowable.eventregistry.api.management.EventRegistryChangeDetectionManager;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.persistence.deploy.ChannelDefinitionCacheEntry;
 import org.flowable.eventregistry.impl.persistence.deploy.EventDeploymentManager;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestModelCache;
+import org.flowable.eventregistry.model.ChannelModel;
+import org.flowable.eventregistry.model.EventModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +42,10 @@ public class DefaultEventRegistryChangeDetectionManager implements EventRegistry
 
     protected EventRegistryEngineConfiguration eventRegistryEngineConfiguration;
 
+    // The ids of the latest definitions per key at the previous detection, null before the first detection
+    protected Map<String, Set<String>> latestEventDefinitionIdsByKey;
+    protected Map<String, Set<String>> latestChannelDefinitionIdsByKey;
+
     public DefaultEventRegistryChangeDetectionManager(EventRegistryEngineConfiguration eventRegistryEngineConfiguration) {
         this.eventRegistryEngineConfiguration = eventRegistryEngineConfiguration;
     }
@@ -75,6 +86,54 @@ public class DefaultEventRegistryChangeDetectionManager implements EventRegistry
                 deploymentManager.removeChannelDefinitionFromCache(channelDefinitionCacheEntry.getChannelDefinitionEntity());
             }
         }
+
+        LatestModelCache<ChannelModel> latestChannelModelCache = eventRegistryEngineConfiguration.getLatestChannelModelCache();
+        if (latestChannelModelCache != null) {
+            Map<String, Set<String>> channelDefinitionIdsByKey = new HashMap<>();
+            for (ChannelDefinition channelDefinition : channelDefinitions) {
+                channelDefinitionIdsByKey.computeIfAbsent(channelDefinition.getKey(), key -> new HashSet<>()).add(channelDefinition.getId());
+            }
+            invalidateChangedKeys(latestChannelModelCache, latestChannelDefinitionIdsByKey, channelDefinitionIdsByKey);
+            latestChannelDefinitionIdsByKey = channelDefinitionIdsByKey;
+        }
+
+        LatestModelCache<EventModel> latestEventModelCache = eventRegistryEngineConfiguration.getLatestEventModelCache();
+        if (latestEventModelCache != null) {
+            List<EventDefinition> eventDefinitions = eventRegistryEngineConfiguration.getEventRepositoryService()
+                .createEventDefinitionQuery()
+                .latestVersion()
+                .list();
+
+            Map<String, Set<String>> eventDefinitionIdsByKey = new HashMap<>();
+            for (EventDefinition eventDefinition : eventDefinitions) {
+                eventDefinitionIdsByKey.computeIfAbsent(eventDefinition.getKey(), key -> new HashSet<>()).add(eventDefinition.getId());
+            }
+            invalidateChangedKeys(latestEventModelCache, latestEventDefinitionIdsByKey, eventDefinitionIdsByKey);
+            latestEventDefinitionIdsByKey = eventDefinitionIdsByKey;
+        }
+    }
+
+    /**
+     * Invalidates the cached models of the keys for which the latest definitions (of any tenant) changed since the previous detection,
+     * e.g. because of a deployment on another node. On the first detection, the changes since the models were cached are not known,
+     * so the whole cache is cleared.
+     */
+    protected void invalidateChangedKeys(LatestModelCache<?> latestModelCache, Map<String, Set<String>> previousDefinitionIdsByKey,
+            Map<String, Set<String>> definitionIdsByKey) {
+
+        if (previousDefinitionIdsByKey == null) {
+            latestModelCache.clear();
+            return;
+        }
+
+        Set<String> keys = new HashSet<>(previousDefinitionIdsByKey.keySet());
+        keys.addAll(definitionIdsByKey.keySet());
+        for (String key : keys) {
+            if (!Objects.equals(previousDefinitionIdsByKey.get(key), definitionIdsByKey.get(key))) {
+                LOGGER.debug("Latest definitions of key {} changed, invalidating the cached model", key);
+                latestModelCache.invalidate(key);
+            }
+        }
     }
 
 }
@@ -12,7 +12,10 @@
  */
 package org.flowable.eventregistry.impl.persistence.deploy;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
@@ -31,6 +34,7 @@ import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntity;
 import org.flowable.eventregistry.model.ChannelModel;
+import org.flowable.eventregistry.model.EventModel;
 
 /**
  * @author Tijs Rademakers
@@ -236,6 +240,31 @@ public class EventDeploymentManager {
         for (ChannelDefinition channelDefinition : channelDefinitions) {
             removeChannelDefinitionFromCache(channelDefinition);
         }
+
+        invalidateLatestModels(eventDefinitions, channelDefinitions);
+    }
+
+    /**
+     * Removes the cached latest models for the keys of the given definitions, when the latest model cache is enabled.
+     */
+    public void invalidateLatestModels(Collection<? extends EventDefinition> eventDefinitions, Collection<? extends ChannelDefinition> channelDefinitions) {
+        LatestModelCache<EventModel> latestEventModelCache = engineConfig.getLatestEventModelCache();
+        if (latestEventModelCache != null && !eventDefinitions.isEmpty()) {
+            Set<String> eventDefinitionKeys = new HashSet<>();
+            for (EventDefinition eventDefinition : eventDefinitions) {
+                eventDefinitionKeys.add(eventDefinition.getKey());
+            }
+            latestEventModelCache.invalidateAfterTransaction(eventDefinitionKeys);
+        }
+
+        LatestModelCache<ChannelModel> latestChannelModelCache = engineConfig.getLatestChannelModelCache();
+        if (latestChannelModelCache != null && !channelDefinitions.isEmpty()) {
+            Set<String> channelDefinitionKeys = new HashSet<>();
+            for (ChannelDefinition channelDefinition : channelDefinitions) {
+                channelDefinitionKeys.add(channelDefinition.getKey());
+            }
+            latestChannelModelCache.invalidateAfterTransaction(channelDefinitionKeys);
+        }
     }
     
     public void removeChannelDefinitionFromCache(ChannelDefinition channelDefinition) {
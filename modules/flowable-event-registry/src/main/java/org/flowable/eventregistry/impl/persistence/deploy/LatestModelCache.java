@@ -0,0 +1,161 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.deploy;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+
+/**
+ * Cache of the models of the latest definition version per key and tenant (event or channel models),
+ * so that resolving a model by key doesn't need a command or a query.
+ *
+ * The cache has a version that is incremented on every invalidation. A model is loaded after reading the version
+ * and is only kept when the version didn't change in the meantime, so a model loaded concurrently with a deployment
+ * can't be cached after the deployment invalidated the key.
+ *
+ * Deployments and deletions of deployments through this engine invalidate the keys of their definitions.
+ * Deployments done by other engines sharing the same database (e.g. other nodes of a cluster) are only seen when
+ * the {@link org.flowable.eventregistry.api.management.EventRegistryChangeDetectionManager} detects them.
+ */
+public class LatestModelCache<M> {
+
+    protected final Map<String, Map<String, CachedModel<M>>> cache = new ConcurrentHashMap<>();
+    protected final AtomicLong version = new AtomicLong();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+
+    /**
+     * Returns the cached model for the key and tenant, or null when it isn't cached.
+     */
+    public M get(String key, String tenantId) {
+        Map<String, CachedModel<M>> modelsByTenant = cache.get(key);
+        CachedModel<M> cachedModel = modelsByTenant != null ? modelsByTenant.get(normalizeTenantId(tenantId)) : null;
+        if (cachedModel == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return cachedModel.getModel();
+    }
+
+    /**
+     * The version to read before loading a model that will be passed to {@link #put(String, String, String, Object, long)}.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Caches the model of the latest definition for the key and tenant, unless the cache was invalidated since the given version was read.
+     */
+    public void put(String key, String tenantId, String definitionId, M model, long loadVersion) {
+        if (version.get() != loadVersion) {
+            return;
+        }
+
+        CachedModel<M> cachedModel = new CachedModel<>(definitionId, model);
+        Map<String, CachedModel<M>> modelsByTenant = cache.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        String normalizedTenantId = normalizeTenantId(tenantId);
+        modelsByTenant.put(normalizedTenantId, cachedModel);
+
+        if (version.get() != loadVersion) {
+            // Invalidated while putting, the invalidation might not have seen the model
+            modelsByTenant.remove(normalizedTenantId, cachedModel);
+        }
+    }
+
+    /**
+     * Removes the models of the key for all tenants (a definition of one tenant can be the fallback of other tenants).
+     */
+    public void invalidate(String key) {
+        version.incrementAndGet();
+        cache.remove(key);
+    }
+
+    /**
+     * Invalidates the keys now and again when the current transaction is committed or rolled back.
+     * The definitions of a new deployment are only visible for other transactions after the commit,
+     * and a model of a rolled back deployment could have been cached by the transaction itself.
+     */
+    public void invalidateAfterTransaction(Collection<String> keys) {
+        for (String key : keys) {
+            invalidate(key);
+        }
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            TransactionListener transactionListener = commandContext -> {
+                for (String key : keys) {
+                    invalidate(key);
+                }
+            };
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, transactionListener);
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, transactionListener);
+        }
+    }
+
+    public void clear() {
+        version.incrementAndGet();
+        cache.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, CachedModel<M>> modelsByTenant : cache.values()) {
+            size += modelsByTenant.size();
+        }
+        return size;
+    }
+
+    protected String normalizeTenantId(String tenantId) {
+        return tenantId != null ? tenantId : EventRegistryEngineConfiguration.NO_TENANT_ID;
+    }
+
+    protected static class CachedModel<M> {
+
+        protected final String definitionId;
+        protected final M model;
+
+        public CachedModel(String definitionId, M model) {
+            this.definitionId = definitionId;
+            this.model = model;
+        }
+
+        public String getDefinitionId() {
+            return definitionId;
+        }
+
+        public M getModel() {
+            return model;
+        }
+    }
+}
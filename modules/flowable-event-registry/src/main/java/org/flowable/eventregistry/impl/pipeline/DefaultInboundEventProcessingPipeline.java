@@ -12,7 +12,11 @@
  */
 package org.flowable.eventregistry.impl.pipeline;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -81,6 +85,43 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
         return transform(eventInstance);
     }
 
+    @Override
+    public List<EventRegistryEvent> run(String channelKey, Collection<String> rawEvents) {
+        // The event and channel models are resolved once per batch, instead of once per event
+        Map<String, EventModel> eventModels = new HashMap<>();
+        Map<String, ChannelModel> channelModels = new HashMap<>();
+
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(rawEvents.size());
+        for (String rawEvent : rawEvents) {
+            T event = deserialize(rawEvent);
+            String eventKey = detectEventDefinitionKey(event);
+
+            boolean multiTenant = false;
+            String tenantId = AbstractEngineConfiguration.NO_TENANT_ID;
+            if (inboundEventTenantDetector != null) {
+                tenantId = inboundEventTenantDetector.detectTenantId(event);
+                multiTenant = true;
+            }
+
+            String finalTenantId = tenantId;
+            boolean finalMultiTenant = multiTenant;
+            EventModel eventModel = eventModels.computeIfAbsent(tenantId + '|' + eventKey,
+                key -> finalMultiTenant ? eventRepositoryService.getEventModelByKey(eventKey, finalTenantId) : eventRepositoryService.getEventModelByKey(eventKey));
+            channelModels.computeIfAbsent(tenantId,
+                key -> finalMultiTenant ? eventRepositoryService.getChannelModelByKey(channelKey, finalTenantId) : eventRepositoryService.getChannelModelByKey(channelKey));
+
+            EventInstanceImpl eventInstance = new EventInstanceImpl(
+                eventModel.getKey(),
+                extractPayload(eventModel, event),
+                tenantId
+            );
+
+            eventRegistryEvents.addAll(transform(eventInstance));
+        }
+
+        return eventRegistryEvents;
+    }
+
     public T deserialize(String rawEvent) {
         return inboundEventDeserializer.deserialize(rawEvent);
     }
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestModelCache;
+import org.flowable.eventregistry.model.ChannelModel;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventregistry.model.EventPayload;
+import org.flowable.eventregistry.test.AbstractFlowableEventTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LatestModelCacheTest extends AbstractFlowableEventTest {
+
+    protected LatestModelCache<EventModel> latestEventModelCache;
+    protected LatestModelCache<ChannelModel> latestChannelModelCache;
+
+    @BeforeEach
+    public void setUp() {
+        latestEventModelCache = new LatestModelCache<>();
+        latestChannelModelCache = new LatestModelCache<>();
+        eventEngineConfiguration.setLatestEventModelCache(latestEventModelCache);
+        eventEngineConfiguration.setLatestChannelModelCache(latestChannelModelCache);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventEngineConfiguration.setLatestEventModelCache(null);
+        eventEngineConfiguration.setLatestChannelModelCache(null);
+
+        List<EventDeployment> deployments = repositoryService.createDeploymentQuery().list();
+        for (EventDeployment deployment : deployments) {
+            repositoryService.deleteDeployment(deployment.getId());
+        }
+    }
+
+    @Test
+    public void testEventModelInvalidatedByDeployments() {
+        deployEventModel("payload1");
+
+        EventModel eventModel = repositoryService.getEventModelByKey("myEvent");
+        assertThat(eventModel.getPayload()).extracting(EventPayload::getName).containsExactly("payload1");
+        assertThat(repositoryService.getEventModelByKey("myEvent")).isSameAs(eventModel);
+        assertThat(latestEventModelCache.getMissCount()).isEqualTo(1);
+        assertThat(latestEventModelCache.getHitCount()).isEqualTo(1);
+
+        EventDeployment secondDeployment = deployEventModel("payload2");
+        assertThat(latestEventModelCache.size()).isZero();
+        assertThat(repositoryService.getEventModelByKey("myEvent").getPayload()).extracting(EventPayload::getName).containsExactly("payload2");
+
+        repositoryService.deleteDeployment(secondDeployment.getId());
+        assertThat(repositoryService.getEventModelByKey("myEvent").getPayload()).extracting(EventPayload::getName).containsExactly("payload1");
+    }
+
+    @Test
+    public void testEventModelPerTenant() {
+        deployEventModel("payload1");
+        repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .deploymentTenantId("tenantA")
+            .payload("tenantPayload", EventPayloadTypes.STRING)
+            .deploy();
+
+        assertThat(repositoryService.getEventModelByKey("myEvent").getPayload()).extracting(EventPayload::getName).containsExactly("payload1");
+        assertThat(repositoryService.getEventModelByKey("myEvent", "tenantA").getPayload()).extracting(EventPayload::getName).containsExactly("tenantPayload");
+        assertThat(repositoryService.getEventModelByKey("myEvent").getPayload()).extracting(EventPayload::getName).containsExactly("payload1");
+        assertThat(latestEventModelCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testChangeDetection() {
+        repositoryService.createDeployment()
+            .addClasspathResource("org/flowable/eventregistry/test/deployment/simpleChannel.channel")
+            .deploy();
+
+        ChannelModel channelModel = repositoryService.getChannelModelByKey("myChannel");
+        assertThat(repositoryService.getChannelModelByKey("myChannel")).isSameAs(channelModel);
+        assertThat(latestChannelModelCache.size()).isEqualTo(1);
+
+        // The first detection doesn't know what changed before, the next ones only invalidate changed keys
+        eventEngineConfiguration.getEventRegistryChangeDetectionManager().detectChanges();
+        assertThat(latestChannelModelCache.size()).isZero();
+
+        assertThat(repositoryService.getChannelModelByKey("myChannel")).isSameAs(channelModel);
+        eventEngineConfiguration.getEventRegistryChangeDetectionManager().detectChanges();
+        assertThat(latestChannelModelCache.size()).isEqualTo(1);
+    }
+
+    protected EventDeployment deployEventModel(String payloadName) {
+        return repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .payload(payloadName, EventPayloadTypes.STRING)
+            .deploy();
+    }
+}
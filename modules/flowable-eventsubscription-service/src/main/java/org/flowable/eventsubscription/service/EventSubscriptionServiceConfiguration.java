@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
@@ -40,6 +41,12 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     protected EventSubscriptionEntityManager eventSubscriptionEntityManager;
     
     protected ObjectMapper objectMapper;
+
+    /**
+     * Optional in-memory index of the event subscription configurations, used by the event registry consumers
+     * to discard events that can't match any event subscription without querying the database.
+     */
+    protected EventSubscriptionIndex eventSubscriptionIndex;
     
     public EventSubscriptionServiceConfiguration(String engineName) {
         super(engineName);
@@ -102,6 +109,15 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         return this;
     }
     
+    public EventSubscriptionIndex getEventSubscriptionIndex() {
+        return eventSubscriptionIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionIndex(EventSubscriptionIndex eventSubscriptionIndex) {
+        this.eventSubscriptionIndex = eventSubscriptionIndex;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
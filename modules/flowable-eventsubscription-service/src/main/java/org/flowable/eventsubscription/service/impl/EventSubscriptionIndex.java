@@ -0,0 +1,319 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.GenericEventSubscriptionEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory index of the configurations (the correlation keys for event registry subscriptions) of the event subscriptions
+ * per scope type, event type and tenant. It is used to discard events that don't match any event subscription without querying
+ * the event subscriptions, and to narrow the event subscription query to the configurations of an event that exist.
+ *
+ * The index is shared by all engines using the same database (e.g. the nodes of a cluster) through the revision of the
+ * {@link #REVISION_PROPERTY_NAME} property: every transaction that inserts an event registry subscription or changes the tenant of
+ * event subscriptions increments it just before it commits. An entry of the index is only used while the revision is the same
+ * as the one read before the entry was loaded, so an entry never misses an event subscription that was committed since.
+ * This costs a primary key lookup of the property per event, and it serializes the commits of the transactions inserting event registry
+ * subscriptions on the row of the property. Every engine inserting event registry subscriptions in the database therefore needs the index.
+ *
+ * The index is a filter and not a cache of the event subscriptions: a configuration in the index doesn't mean an event subscription
+ * with that configuration still exists, as deleted event subscriptions are only removed from the index when the entry expires.
+ */
+public class EventSubscriptionIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSubscriptionIndex.class);
+
+    public static final String REVISION_PROPERTY_NAME = "eventsubscription.index.revision";
+
+    protected final EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
+    protected final long timeToLiveInMillis;
+
+    protected final ConcurrentMap<IndexKey, IndexEntry> entries = new ConcurrentHashMap<>();
+
+    protected volatile boolean revisionPropertyCreated;
+
+    public EventSubscriptionIndex(EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration, long timeToLiveInMillis) {
+        this.eventSubscriptionServiceConfiguration = eventSubscriptionServiceConfiguration;
+        this.timeToLiveInMillis = timeToLiveInMillis;
+    }
+
+    /**
+     * Returns the configurations of the event subscriptions with the given scope type and event type.
+     * The returned collection contains null when there are event subscriptions without configuration.
+     * Returns null when the configurations are not known without querying the event subscriptions.
+     * Needs to be called with an active command context.
+     *
+     * @param tenantId the tenant of the event subscriptions, {@link AbstractEngineConfiguration#NO_TENANT_ID} for the event subscriptions without tenant
+     *                 or null for the event subscriptions of all tenants
+     */
+    public Collection<String> getConfigurations(String scopeType, String eventType, String tenantId) {
+        Integer revision = findRevision();
+        if (revision == null) {
+            return null;
+        }
+        return getConfigurations(new IndexKey(scopeType, eventType, tenantId), revision);
+    }
+
+    /**
+     * Returns the configurations of the event subscriptions with the given scope type and event type of any of the given tenants.
+     *
+     * @param tenantIds the tenants of the event subscriptions, or null for the event subscriptions of all tenants
+     * @see #getConfigurations(String, String, String)
+     */
+    public Collection<String> getConfigurations(String scopeType, String eventType, Collection<String> tenantIds) {
+        if (tenantIds == null) {
+            return getConfigurations(scopeType, eventType, (String) null);
+        }
+
+        Integer revision = findRevision();
+        if (revision == null) {
+            return null;
+        }
+
+        Set<String> configurations = new HashSet<>();
+        for (String tenantId : tenantIds) {
+            IndexKey key = new IndexKey(scopeType, eventType, tenantId != null ? tenantId : AbstractEngineConfiguration.NO_TENANT_ID);
+            configurations.addAll(getConfigurations(key, revision));
+        }
+        return configurations;
+    }
+
+    protected Collection<String> getConfigurations(IndexKey key, int revision) {
+        IndexEntry entry = entries.get(key);
+        if (entry == null || entry.revision != revision || entry.isExpired(System.currentTimeMillis(), timeToLiveInMillis)) {
+            // The entry is loaded after the revision is read, any event subscription committed later on increments the revision
+            entry = new IndexEntry(revision, System.currentTimeMillis());
+            entries.put(key, entry);
+        }
+
+        entry.ensureLoaded(this, key);
+        return entry.getConfigurations();
+    }
+
+    /**
+     * Adds the configuration of the event subscription to the entries of its tenant and of all tenants, if they exist,
+     * for the lookups in the same transaction. For event registry subscriptions, the revision is incremented when the transaction commits.
+     */
+    public void eventSubscriptionInserted(EventSubscriptionEntity eventSubscription) {
+        String tenantId = eventSubscription.getTenantId() != null ? eventSubscription.getTenantId() : AbstractEngineConfiguration.NO_TENANT_ID;
+        addConfiguration(new IndexKey(eventSubscription.getScopeType(), eventSubscription.getEventType(), tenantId), eventSubscription.getConfiguration());
+        addConfiguration(new IndexKey(eventSubscription.getScopeType(), eventSubscription.getEventType(), null), eventSubscription.getConfiguration());
+
+        if (eventSubscription instanceof GenericEventSubscriptionEntity) {
+            incrementRevisionOnCommit();
+        }
+    }
+
+    /**
+     * Removes all entries for the lookups in the same transaction and increments the revision when the transaction commits,
+     * for changes to the event subscriptions that can't be added to the entries (e.g. a changed tenant).
+     */
+    public void eventSubscriptionsChanged() {
+        entries.clear();
+        incrementRevisionOnCommit();
+    }
+
+    /**
+     * Removes all entries, they are reloaded on the next lookup.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    protected void addConfiguration(IndexKey key, String configuration) {
+        IndexEntry entry = entries.get(key);
+        if (entry != null) {
+            entry.addConfiguration(configuration);
+        }
+    }
+
+    protected void incrementRevisionOnCommit() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            commandContext.addCloseListener(new IncrementRevisionCloseListener());
+        }
+    }
+
+    protected List<String> loadConfigurations(IndexKey key) {
+        return eventSubscriptionServiceConfiguration.getEventSubscriptionEntityManager()
+                .findEventSubscriptionConfigurations(key.scopeType, key.eventType, key.tenantId);
+    }
+
+    protected Integer findRevision() {
+        CommandContext commandContext = Context.getCommandContext();
+        PropertyEntity revisionProperty = commandContext.getSession(DbSqlSession.class).selectById(PropertyEntityImpl.class, REVISION_PROPERTY_NAME);
+        if (revisionProperty != null) {
+            return revisionProperty.getRevision();
+        }
+
+        if (!revisionPropertyCreated) {
+            revisionPropertyCreated = true;
+            createRevisionProperty(commandContext);
+        }
+        return null;
+    }
+
+    protected void createRevisionProperty(CommandContext commandContext) {
+        try {
+            commandContext.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), newCommandContext -> {
+                PropertyEntityImpl revisionProperty = new PropertyEntityImpl();
+                revisionProperty.setName(REVISION_PROPERTY_NAME);
+                newCommandContext.getSession(DbSqlSession.class).insert(revisionProperty, eventSubscriptionServiceConfiguration.getIdGenerator());
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            // Most likely created concurrently by another engine sharing the database
+            LOGGER.debug("Could not create the event subscription index revision property", e);
+        }
+    }
+
+    public long getTimeToLiveInMillis() {
+        return timeToLiveInMillis;
+    }
+
+    protected static class IndexEntry {
+
+        protected final int revision;
+        protected final long creationTime;
+        protected final Set<String> configurations = ConcurrentHashMap.newKeySet();
+        protected volatile boolean withoutConfiguration;
+        protected volatile boolean loaded;
+
+        protected IndexEntry(int revision, long creationTime) {
+            this.revision = revision;
+            this.creationTime = creationTime;
+        }
+
+        protected boolean isExpired(long now, long timeToLiveInMillis) {
+            return now - creationTime > timeToLiveInMillis;
+        }
+
+        protected void ensureLoaded(EventSubscriptionIndex index, IndexKey key) {
+            if (loaded) {
+                return;
+            }
+
+            synchronized (this) {
+                if (!loaded) {
+                    for (String configuration : index.loadConfigurations(key)) {
+                        addConfiguration(configuration);
+                    }
+                    loaded = true;
+                }
+            }
+        }
+
+        protected void addConfiguration(String configuration) {
+            if (configuration == null) {
+                withoutConfiguration = true;
+            } else {
+                configurations.add(configuration);
+            }
+        }
+
+        protected Collection<String> getConfigurations() {
+            Set<String> result = new HashSet<>(configurations);
+            if (withoutConfiguration) {
+                result.add(null);
+            }
+            return result;
+        }
+    }
+
+    protected static class IndexKey {
+
+        protected final String scopeType;
+        protected final String eventType;
+        protected final String tenantId;
+
+        protected IndexKey(String scopeType, String eventType, String tenantId) {
+            this.scopeType = scopeType;
+            this.eventType = eventType;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IndexKey that = (IndexKey) o;
+            return Objects.equals(scopeType, that.scopeType) && Objects.equals(eventType, that.eventType) && Objects.equals(tenantId, that.tenantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scopeType, eventType, tenantId);
+        }
+    }
+
+    /**
+     * Increments the revision once per command, just before the sessions are flushed,
+     * so the row of the property is only locked while the transaction commits.
+     */
+    protected static class IncrementRevisionCloseListener implements CommandContextCloseListener {
+
+        @Override
+        public void closing(CommandContext commandContext) {
+            if (commandContext.getException() == null) {
+                commandContext.getSession(DbSqlSession.class).update("incrementPropertyRevision", REVISION_PROPERTY_NAME);
+            }
+        }
+
+        @Override
+        public void afterSessionsFlush(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closed(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closeFailure(CommandContext commandContext) {
+        }
+
+        @Override
+        public Integer order() {
+            return 0;
+        }
+
+        @Override
+        public boolean multipleAllowed() {
+            return false;
+        }
+    }
+}
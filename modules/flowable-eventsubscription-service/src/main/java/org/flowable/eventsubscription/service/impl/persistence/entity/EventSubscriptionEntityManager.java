@@ -84,6 +84,15 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String name, String executionId);
 
+    /**
+     * Returns the distinct configurations of the event subscriptions with the given scope type and event type, including null
+     * when there are event subscriptions without configuration.
+     *
+     * @param tenantId the tenant of the event subscriptions, the empty tenant for the event subscriptions without tenant
+     *                 or null for the event subscriptions of all tenants
+     */
+    List<String> findEventSubscriptionConfigurations(String scopeType, String eventType, String tenantId);
+
     /* Find (message) */
 
     MessageEventSubscriptionEntity findMessageStartEventSubscriptionByName(String messageName, String tenantId);
@@ -22,6 +22,7 @@ import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineE
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
 
@@ -39,6 +40,16 @@ public class EventSubscriptionEntityManagerImpl
         super(eventSubscriptionServiceConfiguration, eventSubscriptionServiceConfiguration.getEngineName(), eventSubscriptionDataManager);
     }
 
+    @Override
+    public void insert(EventSubscriptionEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+
+        EventSubscriptionIndex eventSubscriptionIndex = serviceConfiguration.getEventSubscriptionIndex();
+        if (eventSubscriptionIndex != null) {
+            eventSubscriptionIndex.eventSubscriptionInserted(entity);
+        }
+    }
+
     @Override
     public CompensateEventSubscriptionEntity createCompensateEventSubscription() {
         return dataManager.createCompensateEventSubscription();
@@ -179,9 +190,20 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.findMessageStartEventSubscriptionByName(messageName, tenantId);
     }
 
+    @Override
+    public List<String> findEventSubscriptionConfigurations(String scopeType, String eventType, String tenantId) {
+        return dataManager.findEventSubscriptionConfigurations(scopeType, eventType, tenantId);
+    }
+
     @Override
     public void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId) {
         dataManager.updateEventSubscriptionTenantId(oldTenantId, newTenantId);
+
+        EventSubscriptionIndex eventSubscriptionIndex = serviceConfiguration.getEventSubscriptionIndex();
+        if (eventSubscriptionIndex != null) {
+            // The event subscriptions of the old tenant are not known, so the whole index is reloaded
+            eventSubscriptionIndex.eventSubscriptionsChanged();
+        }
     }
 
     @Override
@@ -40,6 +40,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<EventSubscription> findEventSubscriptionsByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl);
 
+    List<String> findEventSubscriptionConfigurations(String scopeType, String eventType, String tenantId);
+
     List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName);
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId);
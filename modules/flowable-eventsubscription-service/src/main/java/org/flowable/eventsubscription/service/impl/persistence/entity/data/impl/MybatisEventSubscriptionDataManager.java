@@ -141,6 +141,21 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return getDbSqlSession().selectList(query, eventSubscriptionQueryImpl, getManagedEntityClass());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findEventSubscriptionConfigurations(String scopeType, String eventType, String tenantId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeType", scopeType);
+        params.put("eventType", eventType);
+        if (EventSubscriptionServiceConfiguration.NO_TENANT_ID.equals(tenantId)) {
+            params.put("withoutTenantId", true);
+        } else {
+            params.put("tenantId", tenantId);
+            params.put("withoutTenantId", false);
+        }
+        return (List<String>) getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectEventSubscriptionConfigurationsByEventType", params);
+    }
+
     @Override
     public List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         Map<String, String> params = new HashMap<>();
@@ -55,7 +55,10 @@ public class ExternalJobRestResponseFactory {
     }
 
     public List<AcquiredExternalWorkerJobResponse> createAcquiredExternalWorkerJobResponseList(List<AcquiredExternalWorkerJob> jobs) {
-        RestUrlBuilder urlBuilder = createUrlBuilder();
+        return createAcquiredExternalWorkerJobResponseList(jobs, createUrlBuilder());
+    }
+
+    public List<AcquiredExternalWorkerJobResponse> createAcquiredExternalWorkerJobResponseList(List<AcquiredExternalWorkerJob> jobs, RestUrlBuilder urlBuilder) {
         List<AcquiredExternalWorkerJobResponse> responseList = new ArrayList<>(jobs.size());
         for (AcquiredExternalWorkerJob job : jobs) {
             responseList.add(createAcquiredExternalWorkerJobResponse(job, urlBuilder));
@@ -176,7 +179,7 @@ public class ExternalJobRestResponseFactory {
         return value;
     }
 
-    protected RestUrlBuilder createUrlBuilder() {
+    public RestUrlBuilder createUrlBuilder() {
         return RestUrlBuilder.fromCurrentRequest();
     }
 
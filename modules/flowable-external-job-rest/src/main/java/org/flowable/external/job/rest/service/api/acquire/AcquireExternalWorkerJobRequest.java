@@ -13,6 +13,7 @@
 package org.flowable.external.job.rest.service.api.acquire;
 
 import java.time.Duration;
+import java.util.List;
 
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -43,6 +44,14 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(value = "Only return the variables with the given names for the acquired jobs. By default all variables are returned.", example = "[\"orderId\"]")
+    protected List<String> variableNames;
+
+    @ApiModelProperty(
+            value = "Wait at most this duration for a job to be created on the topic when there are no jobs to acquire. ISO-8601 duration format PnDTnHnMn.nS with days considered to be exactly 24 hours. The wait is limited by the server to the configured maximum wait timeout (by default one minute). By default the request returns immediately.",
+            example = "PT30S", dataType = "string")
+    protected Duration waitTimeout;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +99,20 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public void setVariableNames(List<String> variableNames) {
+        this.variableNames = variableNames;
+    }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
 }
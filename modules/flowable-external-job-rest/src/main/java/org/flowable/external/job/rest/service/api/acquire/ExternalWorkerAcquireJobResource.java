@@ -16,16 +16,17 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableForbiddenException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.rest.util.RestUrlBuilder;
 import org.flowable.common.rest.variable.EngineRestVariable;
 import org.flowable.external.job.rest.service.api.ExternalJobRestResponseFactory;
 import org.flowable.external.job.rest.service.api.ExternalWorkerJobBaseResource;
-import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJobAcquireBuilder;
 import org.flowable.job.api.ExternalWorkerJobFailureBuilder;
@@ -34,6 +35,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -47,6 +49,8 @@ import io.swagger.annotations.ApiResponses;
 @Api(tags = { "Acquire and Execute" })
 public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResource {
 
+    protected static final long ASYNC_REQUEST_TIMEOUT_MARGIN_IN_MILLIS = 10_000L;
+
     protected final ExternalJobRestResponseFactory restResponseFactory;
 
     public ExternalWorkerAcquireJobResource(ExternalJobRestResponseFactory restResponseFactory) {
@@ -60,7 +64,7 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             @ApiResponse(code = 403, message = "Indicates the user does not have the rights acquire the jobs."),
     })
     @PostMapping(value = "/acquire/jobs", produces = "application/json")
-    public List<AcquiredExternalWorkerJobResponse> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
+    public DeferredResult<List<AcquiredExternalWorkerJobResponse>> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
         ExternalWorkerJobAcquireBuilder acquireBuilder = createExternalWorkerAcquireBuilder();
 
         if (restApiInterceptor != null) {
@@ -81,13 +85,41 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             acquireBuilder.scopeType(request.getScopeType());
         }
 
-        if (StringUtils.isNotEmpty(request.getWorkerId())) {
-            List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
-                    .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
-            return restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs);
-        } else {
+        if (request.getVariableNames() != null) {
+            acquireBuilder.variableNames(request.getVariableNames());
+        }
+
+        if (request.getWaitTimeout() != null) {
+            acquireBuilder.waitTimeout(request.getWaitTimeout());
+        }
+
+        if (StringUtils.isEmpty(request.getWorkerId())) {
             throw new FlowableIllegalArgumentException("workerId is required");
         }
+
+        // The servlet thread is released while waiting for jobs, the response is completed when the jobs are acquired.
+        // The urls are built from the current request, which is not available anymore in the thread completing the response.
+        RestUrlBuilder urlBuilder = restResponseFactory.createUrlBuilder();
+        DeferredResult<List<AcquiredExternalWorkerJobResponse>> result = createDeferredResult(request);
+        acquireBuilder.acquireAndLockAsync(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries())
+                .thenApply(acquiredJobs -> restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs, urlBuilder))
+                .whenComplete((responses, exception) -> {
+                    if (exception != null) {
+                        result.setErrorResult(exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception);
+                    } else {
+                        result.setResult(responses);
+                    }
+                });
+        return result;
+    }
+
+    protected DeferredResult<List<AcquiredExternalWorkerJobResponse>> createDeferredResult(AcquireExternalWorkerJobRequest request) {
+        if (request.getWaitTimeout() == null) {
+            return new DeferredResult<>();
+        }
+
+        // The engine completes the wait itself, the timeout of the async request only needs to be longer than the wait
+        return new DeferredResult<>(request.getWaitTimeout().toMillis() + ASYNC_REQUEST_TIMEOUT_MARGIN_IN_MILLIS, Collections.emptyList());
     }
 
     @ApiOperation(value = "Complete an External Worker Jobs", code = 204, tags = { "Acquire and Execute" })
@@ -23,6 +23,8 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
@@ -204,6 +206,54 @@ class ExternalWorkerAcquireJobResourceTest {
                         + "]");
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
+    void acquireJobsWaitsForJobCreation() throws Exception {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker1");
+        request.put("waitTimeout", "PT30S");
+
+        CompletableFuture<ResponseEntity<String>> responseFuture = CompletableFuture
+                .supplyAsync(() -> restTemplate.postForEntity("/service/acquire/jobs", request, String.class));
+
+        Thread.sleep(500);
+        assertThat(responseFuture).isNotDone();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        ResponseEntity<String> response = responseFuture.get(20, TimeUnit.SECONDS);
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        String body = response.getBody();
+        assertThat(body).isNotNull();
+        assertThatJson(body)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("["
+                        + "  {"
+                        + "    processInstanceId: '" + processInstance.getId() + "',"
+                        + "    elementId: 'externalWorkerTask',"
+                        + "    lockOwner: 'testWorker1'"
+                        + "  }"
+                        + "]");
+    }
+
+    @Test
+    void acquireJobsWithWaitTimeoutWithoutJobCreation() {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker1");
+        request.put("waitTimeout", "PT0.5S");
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/service/acquire/jobs", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        String body = response.getBody();
+        assertThat(body).isNotNull();
+        assertThatJson(body).isEqualTo("[]");
+    }
+
     @Test
     @CmmnDeployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.cmmn")
     void acquireJobsReturnsCaseVariables() {
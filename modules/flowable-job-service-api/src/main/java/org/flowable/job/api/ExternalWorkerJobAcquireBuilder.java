@@ -15,6 +15,7 @@ package org.flowable.job.api;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Filip Hrisafov
@@ -57,6 +58,21 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     ExternalWorkerJobAcquireBuilder forUserOrGroups(String userId, Collection<String> groups);
 
+    /**
+     * Only fetch the variables with the given names for the acquired jobs, instead of all variables.
+     * The variables of all acquired jobs are fetched at once.
+     */
+    ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames);
+
+    /**
+     * Wait at most the given timeout for a job to be created on the topic when there are no jobs to acquire,
+     * instead of returning an empty list immediately.
+     * Only the creation of jobs on this node wakes up the waiting request,
+     * jobs that are created on other nodes are acquired with the next request.
+     * The timeout is limited to the maximum wait timeout of the job service configuration.
+     */
+    ExternalWorkerJobAcquireBuilder waitTimeout(Duration waitTimeout);
+
     /**
      * Acquire and lock the given number of jobs for the given worker id.
      * By default it will try to acquire jobs 5 times.
@@ -80,4 +96,15 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries);
 
+    /**
+     * Acquire and lock the given number of jobs for the given worker id, like {@link #acquireAndLock(int, String, int)},
+     * but without blocking the calling thread while waiting for a job to be created on the topic (see {@link #waitTimeout(Duration)}).
+     * The first acquisition is done by the calling thread, the acquisitions after a wait are done asynchronously.
+     *
+     * @param numberOfTasks the number of jobs to acquire
+     * @param workerId the id of the worker acquiring the jobs
+     * @param numberOfRetries the number of retries if an optimistic lock exception occurs during acquiring
+     */
+    CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries);
+
 }
@@ -13,6 +13,10 @@
 
 package org.flowable.job.service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -26,6 +30,24 @@ public interface InternalJobManager {
     void registerScopedInternalJobManager(String scopeType, InternalJobManager internalJobManager);
 
     VariableScope resolveVariableScope(Job job);
+
+    /**
+     * Returns the variables of the variable scopes of the given jobs, mapped by job id.
+     * Jobs without a variable scope are not contained in the result.
+     *
+     * @param jobs the jobs to resolve the variables for
+     * @param variableNames the names of the variables to resolve, or null to resolve all variables
+     */
+    default Map<String, Map<String, Object>> resolveVariables(Collection<? extends Job> jobs, Collection<String> variableNames) {
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        for (Job job : jobs) {
+            VariableScope variableScope = resolveVariableScope(job);
+            if (variableScope != null) {
+                variablesByJobId.put(job.getId(), variableNames != null ? variableScope.getVariables(variableNames) : variableScope.getVariables());
+            }
+        }
+        return variablesByJobId;
+    }
     
     boolean handleJobInsert(Job job);
     
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,6 +24,7 @@ import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -107,11 +109,42 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected InternalJobCompatibilityManager internalJobCompatibilityManager;
     protected InternalJobParentStateResolver jobParentStateResolver;
 
+    /**
+     * Wakes up the external worker job acquisitions that wait for a job to be created on their topic.
+     */
+    protected ExternalWorkerJobNotifier externalWorkerJobNotifier;
+
+    /**
+     * The maximum time an external worker job acquisition waits for a job to be created.
+     * Longer wait timeouts requested by the workers are limited to this value.
+     */
+    protected Duration externalWorkerJobMaxWaitTimeout = Duration.ofMinutes(1);
+
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+
+    /**
+     * When enabled, the acquisition threads lock all acquired jobs with one update statement
+     * (selecting them with SKIP LOCKED when the database supports it)
+     * instead of one revision checked update per job.
+     */
+    protected boolean asyncExecutorBulkLockAcquisitionEnabled;
+
+    /**
+     * When enabled, the scope of an exclusive job is locked, the job is executed and the scope is unlocked in one transaction,
+     * instead of committing the scope lock in a separate transaction before the job is executed.
+     */
+    protected boolean asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
     
     protected String jobExecutionScope;
+
+    /**
+     * Whether the bulk lock job acquisition can select the jobs with 'for update skip locked'.
+     * Set by the engine configuration, as MySQL only supports it as of version 8. When disabled, the regular select is used.
+     */
+    protected boolean databaseSkipLockedSupported = true;
+
     protected Map<String, JobHandler> jobHandlers;
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
@@ -145,6 +178,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         initJobManager();
         initDataManagers();
         initEntityManagers();
+        initExternalWorkerJobNotifier();
     }
 
     @Override
@@ -164,6 +198,12 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return historyLevel != HistoryLevel.NONE;
     }
 
+    public void initExternalWorkerJobNotifier() {
+        if (externalWorkerJobNotifier == null) {
+            externalWorkerJobNotifier = new ExternalWorkerJobNotifier();
+        }
+    }
+
     // Job manager ///////////////////////////////////////////////////////////
 
     public void initJobManager() {
@@ -384,6 +424,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public void setInternalJobManager(InternalJobManager internalJobManager) {
         this.internalJobManager = internalJobManager;
     }
+
+    public ExternalWorkerJobNotifier getExternalWorkerJobNotifier() {
+        return externalWorkerJobNotifier;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobNotifier(ExternalWorkerJobNotifier externalWorkerJobNotifier) {
+        this.externalWorkerJobNotifier = externalWorkerJobNotifier;
+        return this;
+    }
+
+    public Duration getExternalWorkerJobMaxWaitTimeout() {
+        return externalWorkerJobMaxWaitTimeout;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobMaxWaitTimeout(Duration externalWorkerJobMaxWaitTimeout) {
+        this.externalWorkerJobMaxWaitTimeout = externalWorkerJobMaxWaitTimeout;
+        return this;
+    }
     
     public InternalJobCompatibilityManager getInternalJobCompatibilityManager() {
         return internalJobCompatibilityManager;
@@ -429,6 +487,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
     
+    public boolean isDatabaseSkipLockedSupported() {
+        return databaseSkipLockedSupported;
+    }
+
+    public JobServiceConfiguration setDatabaseSkipLockedSupported(boolean databaseSkipLockedSupported) {
+        this.databaseSkipLockedSupported = databaseSkipLockedSupported;
+        return this;
+    }
+
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
     }
@@ -566,6 +633,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isAsyncExecutorBulkLockAcquisitionEnabled() {
+        return asyncExecutorBulkLockAcquisitionEnabled;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorBulkLockAcquisitionEnabled(boolean asyncExecutorBulkLockAcquisitionEnabled) {
+        this.asyncExecutorBulkLockAcquisitionEnabled = asyncExecutorBulkLockAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled() {
+        return asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled(boolean asyncExecutorSingleTransactionExclusiveJobExecutionEnabled) {
+        this.asyncExecutorSingleTransactionExclusiveJobExecutionEnabled = asyncExecutorSingleTransactionExclusiveJobExecutionEnabled;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
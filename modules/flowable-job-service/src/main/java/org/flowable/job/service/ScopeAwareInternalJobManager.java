@@ -12,7 +12,11 @@
  */
 package org.flowable.job.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -49,6 +53,44 @@ public abstract class ScopeAwareInternalJobManager implements InternalJobManager
 
     protected abstract VariableScope resolveVariableScopeInternal(Job job);
 
+    @Override
+    public final Map<String, Map<String, Object>> resolveVariables(Collection<? extends Job> jobs, Collection<String> variableNames) {
+        List<Job> internalJobs = new ArrayList<>();
+        Map<InternalJobManager, List<Job>> jobsByInternalJobManager = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            InternalJobManager internalJobManager = findInternalJobManager(job);
+            if (internalJobManager == null) {
+                internalJobs.add(job);
+            } else {
+                jobsByInternalJobManager.computeIfAbsent(internalJobManager, key -> new ArrayList<>()).add(job);
+            }
+        }
+
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        if (!internalJobs.isEmpty()) {
+            variablesByJobId.putAll(resolveVariablesInternal(internalJobs, variableNames));
+        }
+        for (Map.Entry<InternalJobManager, List<Job>> entry : jobsByInternalJobManager.entrySet()) {
+            variablesByJobId.putAll(entry.getKey().resolveVariables(entry.getValue(), variableNames));
+        }
+        return variablesByJobId;
+    }
+
+    /**
+     * Resolves the variables of the given jobs one variable scope at a time.
+     * Subclasses can override this to fetch the variables of all jobs at once.
+     */
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(List<Job> jobs, Collection<String> variableNames) {
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        for (Job job : jobs) {
+            VariableScope variableScope = resolveVariableScopeInternal(job);
+            if (variableScope != null) {
+                variablesByJobId.put(job.getId(), variableNames != null ? variableScope.getVariables(variableNames) : variableScope.getVariables());
+            }
+        }
+        return variablesByJobId;
+    }
+
     @Override
     public final boolean handleJobInsert(Job job) {
         InternalJobManager internalJobManager = findInternalJobManager(job);
@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -40,6 +41,8 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     protected String tenantId;
     protected String authorizedUser;
     protected Collection<String> authorizedGroups;
+    protected Collection<String> variableNames;
+    protected Duration waitTimeout;
 
     public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor, JobServiceConfiguration jobServiceConfiguration) {
         this.commandExecutor = commandExecutor;
@@ -109,8 +112,95 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return this;
     }
 
+    @Override
+    public ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("variableNames is null");
+        }
+
+        this.variableNames = variableNames;
+        return this;
+    }
+
+    @Override
+    public ExternalWorkerJobAcquireBuilder waitTimeout(Duration waitTimeout) {
+        if (waitTimeout == null) {
+            throw new FlowableIllegalArgumentException("waitTimeout is null");
+        }
+
+        if (waitTimeout.isNegative()) {
+            throw new FlowableIllegalArgumentException("waitTimeout must not be negative");
+        }
+
+        this.waitTimeout = waitTimeout;
+        return this;
+    }
+
     @Override
     public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
+        ExternalWorkerJobNotifier externalWorkerJobNotifier = jobServiceConfiguration.getExternalWorkerJobNotifier();
+        if (!isWaitForJobs(externalWorkerJobNotifier)) {
+            return acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries);
+        }
+
+        long deadline = getWaitDeadline();
+        while (true) {
+            // The version is read before acquiring, so a job created in the meantime wakes up the wait immediately
+            long topicVersion = externalWorkerJobNotifier.getTopicVersion(topic);
+            List<AcquiredExternalWorkerJob> acquiredJobs = acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries);
+            if (!acquiredJobs.isEmpty()) {
+                return acquiredJobs;
+            }
+
+            long remainingMillis = deadline - System.currentTimeMillis();
+            if (remainingMillis <= 0 || !externalWorkerJobNotifier.waitForJobCreated(topic, topicVersion, remainingMillis)) {
+                return acquiredJobs;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries) {
+        ExternalWorkerJobNotifier externalWorkerJobNotifier = jobServiceConfiguration.getExternalWorkerJobNotifier();
+        if (!isWaitForJobs(externalWorkerJobNotifier)) {
+            return CompletableFuture.completedFuture(acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries));
+        }
+
+        return acquireAndLockOrWaitAsync(externalWorkerJobNotifier, numberOfTasks, workerId, numberOfRetries, getWaitDeadline());
+    }
+
+    protected CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockOrWaitAsync(ExternalWorkerJobNotifier externalWorkerJobNotifier,
+            int numberOfTasks, String workerId, int numberOfRetries, long deadline) {
+
+        // The version is read before acquiring, so a job created in the meantime completes the wait immediately
+        long topicVersion = externalWorkerJobNotifier.getTopicVersion(topic);
+        List<AcquiredExternalWorkerJob> acquiredJobs = acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries);
+        long remainingMillis = deadline - System.currentTimeMillis();
+        if (!acquiredJobs.isEmpty() || remainingMillis <= 0) {
+            return CompletableFuture.completedFuture(acquiredJobs);
+        }
+
+        // The next acquisition is not done by the thread completing the wait, which is the thread that created the job or a timer thread
+        return externalWorkerJobNotifier.jobCreatedFuture(topic, topicVersion, remainingMillis)
+                .thenComposeAsync(jobCreated -> jobCreated
+                        ? acquireAndLockOrWaitAsync(externalWorkerJobNotifier, numberOfTasks, workerId, numberOfRetries, deadline)
+                        : CompletableFuture.completedFuture(Collections.emptyList()));
+    }
+
+    protected boolean isWaitForJobs(ExternalWorkerJobNotifier externalWorkerJobNotifier) {
+        return waitTimeout != null && !waitTimeout.isZero() && externalWorkerJobNotifier != null && topic != null;
+    }
+
+    protected long getWaitDeadline() {
+        Duration effectiveWaitTimeout = waitTimeout;
+        Duration maxWaitTimeout = jobServiceConfiguration.getExternalWorkerJobMaxWaitTimeout();
+        if (maxWaitTimeout != null && effectiveWaitTimeout.compareTo(maxWaitTimeout) > 0) {
+            effectiveWaitTimeout = maxWaitTimeout;
+        }
+        return System.currentTimeMillis() + effectiveWaitTimeout.toMillis();
+    }
+
+    protected List<AcquiredExternalWorkerJob> acquireAndLockWithRetries(int numberOfTasks, String workerId, int numberOfRetries) {
         while (numberOfRetries > 0) {
             try {
                 return commandExecutor.execute(new AcquireExternalWorkerJobsCmd(workerId, numberOfTasks, this, jobServiceConfiguration));
@@ -146,4 +236,12 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     public Collection<String> getAuthorizedGroups() {
         return authorizedGroups;
     }
+
+    public Collection<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
 }
@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wakes up the requests that are waiting for external worker jobs on a topic when a job is created on that topic.
+ *
+ * Every topic has a version that is incremented when a job is created. A request reads the version before it tries to acquire jobs
+ * and waits until the version changes, so a job that is created between the acquisition and the wait is not missed.
+ * Requests can either block their thread with {@link #waitForJobCreated(String, long, long)}
+ * or get a future with {@link #jobCreatedFuture(String, long, long)}, which doesn't occupy a thread while waiting.
+ */
+public class ExternalWorkerJobNotifier {
+
+    protected final ConcurrentMap<String, AtomicLong> topicVersions = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, Set<CompletableFuture<Boolean>>> topicFutures = new ConcurrentHashMap<>();
+    protected volatile ScheduledExecutorService timeoutExecutor;
+
+    /**
+     * Returns the current version of the given topic, to be passed to {@link #waitForJobCreated(String, long, long)}.
+     */
+    public long getTopicVersion(String topic) {
+        return getTopicVersionCounter(topic).get();
+    }
+
+    /**
+     * Notifies the waiting requests that a job was created on the given topic.
+     */
+    public void jobCreated(String topic) {
+        AtomicLong topicVersion = getTopicVersionCounter(topic);
+        synchronized (topicVersion) {
+            topicVersion.incrementAndGet();
+            topicVersion.notifyAll();
+        }
+
+        Set<CompletableFuture<Boolean>> futures = topicFutures.get(topic);
+        if (futures != null) {
+            for (CompletableFuture<Boolean> future : futures) {
+                futures.remove(future);
+                future.complete(true);
+            }
+        }
+    }
+
+    /**
+     * Waits until a job is created on the given topic after the given version was read, or until the timeout expires.
+     *
+     * @return true if a job was created, false if the timeout expired or the thread was interrupted
+     */
+    public boolean waitForJobCreated(String topic, long topicVersion, long timeoutInMillis) {
+        AtomicLong currentTopicVersion = getTopicVersionCounter(topic);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        synchronized (currentTopicVersion) {
+            while (currentTopicVersion.get() == topicVersion) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+
+                try {
+                    currentTopicVersion.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a future that is completed with true when a job is created on the given topic after the given version was read,
+     * or with false when the timeout expires. The future is completed by the thread creating the job, after its transaction committed,
+     * or by a timer thread, so any longer running action depending on it needs to be executed asynchronously.
+     */
+    public CompletableFuture<Boolean> jobCreatedFuture(String topic, long topicVersion, long timeoutInMillis) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        Set<CompletableFuture<Boolean>> futures = topicFutures.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet());
+        futures.add(future);
+
+        // The version is checked after the future is registered, so a job created in between completes the future either way
+        if (getTopicVersion(topic) != topicVersion) {
+            futures.remove(future);
+            future.complete(true);
+            return future;
+        }
+
+        ScheduledFuture<?> timeout = getTimeoutExecutor().schedule(() -> {
+            futures.remove(future);
+            future.complete(false);
+        }, timeoutInMillis, TimeUnit.MILLISECONDS);
+        future.whenComplete((jobCreated, exception) -> timeout.cancel(false));
+        return future;
+    }
+
+    protected ScheduledExecutorService getTimeoutExecutor() {
+        if (timeoutExecutor == null) {
+            synchronized (this) {
+                if (timeoutExecutor == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                        Thread thread = new Thread(runnable, "flowable-external-worker-job-notifier");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    // The timeouts of futures that are completed by a created job are removed right away
+                    executor.setRemoveOnCancelPolicy(true);
+                    timeoutExecutor = executor;
+                }
+            }
+        }
+        return timeoutExecutor;
+    }
+
+    protected AtomicLong getTopicVersionCounter(String topic) {
+        return topicVersions.computeIfAbsent(topic, key -> new AtomicLong());
+    }
+}
@@ -66,6 +66,13 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
+    protected boolean timerJobWheelEnabled;
+    protected long timerJobWheelHorizonInMillis = 5 * 60 * 1000;
+    protected long timerJobWheelTickDurationInMillis = 50;
+    protected int timerJobWheelTimerJobAcquireWaitTimeInMillis = 60 * 1000;
+    protected TimerJobWheel timerJobWheel;
+    protected TimerJobLatencyHistogram timerJobLatencyHistogram = new TimerJobLatencyHistogram();
+
     // Job queue used when async executor is not yet started and jobs are already added.
     // This is mainly used for testing purpose.
     protected LinkedList<JobInfo> temporaryJobQueue = new LinkedList<>();
@@ -118,6 +125,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
         initializeJobEntityManager();
         initializeRunnables();
+        startTimerJobWheel();
         startAdditionalComponents();
         executeTemporaryJobs();
     }
@@ -149,6 +157,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         }
     }
 
+    protected void startTimerJobWheel() {
+        if (timerRunnableNeeded && timerJobWheelEnabled) {
+            if (timerJobWheel == null) {
+                timerJobWheel = new TimerJobWheel(this, timerJobLatencyHistogram, timerJobWheelTickDurationInMillis, timerJobWheelHorizonInMillis);
+                timerJobWheel.setTimerJobAcquireWaitTimeInMillis(timerJobWheelTimerJobAcquireWaitTimeInMillis);
+            }
+            timerJobWheel.start();
+        }
+    }
+
     protected abstract ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName);
 
     protected abstract void startAdditionalComponents();
@@ -169,6 +187,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         LOGGER.info("Shutting down the async job executor [{}].", getClass().getName());
 
         stopRunnables();
+        stopTimerJobWheel();
         shutdownAdditionalComponents();
 
         isActive = false;
@@ -190,6 +209,13 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         resetExpiredJobsRunnable = null;
     }
 
+    protected void stopTimerJobWheel() {
+        if (timerJobWheel != null) {
+            timerJobWheel.stop();
+        }
+        timerJobWheel = null;
+    }
+
     protected abstract void shutdownAdditionalComponents();
 
     /* getters and setters */
@@ -412,4 +438,54 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.tenantId = tenantId;
     }
     
+    @Override
+    public TimerJobWheel getTimerJobWheel() {
+        return timerJobWheel;
+    }
+
+    public void setTimerJobWheel(TimerJobWheel timerJobWheel) {
+        this.timerJobWheel = timerJobWheel;
+    }
+
+    @Override
+    public TimerJobLatencyHistogram getTimerJobLatencyHistogram() {
+        return timerJobLatencyHistogram;
+    }
+
+    public void setTimerJobLatencyHistogram(TimerJobLatencyHistogram timerJobLatencyHistogram) {
+        this.timerJobLatencyHistogram = timerJobLatencyHistogram;
+    }
+
+    public boolean isTimerJobWheelEnabled() {
+        return timerJobWheelEnabled;
+    }
+
+    public void setTimerJobWheelEnabled(boolean timerJobWheelEnabled) {
+        this.timerJobWheelEnabled = timerJobWheelEnabled;
+    }
+
+    public long getTimerJobWheelHorizonInMillis() {
+        return timerJobWheelHorizonInMillis;
+    }
+
+    public void setTimerJobWheelHorizonInMillis(long timerJobWheelHorizonInMillis) {
+        this.timerJobWheelHorizonInMillis = timerJobWheelHorizonInMillis;
+    }
+
+    public long getTimerJobWheelTickDurationInMillis() {
+        return timerJobWheelTickDurationInMillis;
+    }
+
+    public void setTimerJobWheelTickDurationInMillis(long timerJobWheelTickDurationInMillis) {
+        this.timerJobWheelTickDurationInMillis = timerJobWheelTickDurationInMillis;
+    }
+
+    public int getTimerJobWheelTimerJobAcquireWaitTimeInMillis() {
+        return timerJobWheelTimerJobAcquireWaitTimeInMillis;
+    }
+
+    public void setTimerJobWheelTimerJobAcquireWaitTimeInMillis(int timerJobWheelTimerJobAcquireWaitTimeInMillis) {
+        this.timerJobWheelTimerJobAcquireWaitTimeInMillis = timerJobWheelTimerJobAcquireWaitTimeInMillis;
+    }
+
 }
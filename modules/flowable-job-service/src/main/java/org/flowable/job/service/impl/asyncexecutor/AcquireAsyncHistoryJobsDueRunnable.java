@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquires history jobs and offers them to the {@link DefaultAsyncHistoryJobExecutor} in batches of {@link DefaultAsyncHistoryJobExecutor#getHistoryJobBatchSize()},
+ * which are each executed in one transaction by an {@link ExecuteAsyncHistoryJobsBatchRunnable}.
+ */
+public class AcquireAsyncHistoryJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public AcquireAsyncHistoryJobsDueRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager, AcquireAsyncJobsDueLifecycleListener lifecycleListener) {
+        super(name, asyncHistoryExecutor, jobEntityManager, lifecycleListener);
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    protected Command<AcquiredJobEntities> createAcquireJobsCmd(int remainingCapacity) {
+        // A batch of history jobs only takes one place in the queue of the task executor
+        long remainingJobCapacity = (long) remainingCapacity * asyncHistoryExecutor.getHistoryJobBatchSize();
+        return super.createAcquireJobsCmd((int) Math.min(Integer.MAX_VALUE, remainingJobCapacity));
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+        // The history jobs of a batch are executed in creation order, as the history data of later jobs can depend on earlier jobs
+        List<JobInfoEntity> jobs = new ArrayList<>(acquiredJobs.getJobs());
+        jobs.sort(Comparator.comparing(this::getCreateTime, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int batchSize = Math.max(1, asyncHistoryExecutor.getHistoryJobBatchSize());
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i += batchSize) {
+            List<JobInfoEntity> batch = new ArrayList<>(jobs.subList(i, Math.min(i + batchSize, jobs.size())));
+            if (!asyncHistoryExecutor.executeAsyncHistoryJobs(batch)) {
+                rejected.addAll(batch);
+            }
+        }
+        return rejected;
+    }
+
+    protected Date getCreateTime(JobInfoEntity job) {
+        return job instanceof HistoryJob ? ((HistoryJob) job).getCreateTime() : null;
+    }
+
+}
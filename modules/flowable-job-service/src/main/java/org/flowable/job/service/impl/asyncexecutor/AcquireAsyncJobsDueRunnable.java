@@ -17,8 +17,10 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireJobsWithBulkLockCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -107,7 +109,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
-            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(createAcquireJobsCmd(remainingCapacity));
 
             lifecycleListener.acquiredJobs(getEngineName(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
@@ -137,6 +139,13 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    protected Command<AcquiredJobEntities> createAcquireJobsCmd(int remainingCapacity) {
+        if (asyncExecutor.getJobServiceConfiguration().isAsyncExecutorBulkLockAcquisitionEnabled()) {
+            return new AcquireJobsWithBulkLockCmd(asyncExecutor, remainingCapacity, jobEntityManager);
+        }
+        return new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager);
+    }
+
     protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs.getJobs()) {
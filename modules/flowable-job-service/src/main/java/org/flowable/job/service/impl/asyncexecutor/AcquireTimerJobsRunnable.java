@@ -14,11 +14,18 @@ package org.flowable.job.service.impl.asyncexecutor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithBulkLockCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
 import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -60,6 +67,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
     protected long millisToWait;
+    protected int timerJobWheelPageSize = 500;
 
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager) {
         this(asyncExecutor, jobManager, null);
@@ -84,20 +92,23 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
             Collection<TimerJobEntity> timerJobs = Collections.emptyList();
             try {
-                AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(createAcquireTimerJobsCmd());
 
                 timerJobs = acquiredJobs.getJobs();
 
                 if (!timerJobs.isEmpty()) {
                     commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
+                    recordLatencies(timerJobs);
                 }
 
                 // if all jobs were executed
-                millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+                millisToWait = getTimerJobAcquireWaitTimeInMillis();
                 int jobsAcquired = acquiredJobs.size();
                 lifecycleListener.acquiredJobs(getEngineName(), jobsAcquired, asyncExecutor.getMaxTimerJobsPerAcquisition());
                 if (jobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
                     millisToWait = 0;
+                } else {
+                    scheduleTimerJobsInWheel(commandExecutor);
                 }
 
             } catch (FlowableOptimisticLockingException optimisticLockingException) {
@@ -112,7 +123,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 unlockTimerJobs(commandExecutor, timerJobs);
             } catch (Throwable e) {
                 LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
-                millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+                millisToWait = getTimerJobAcquireWaitTimeInMillis();
 
                 unlockTimerJobs(commandExecutor, timerJobs);
             }
@@ -153,6 +164,61 @@ public class AcquireTimerJobsRunnable implements Runnable {
         return asyncExecutor.getJobServiceConfiguration().getEngineName();
     }
 
+    protected long getTimerJobAcquireWaitTimeInMillis() {
+        TimerJobWheel timerJobWheel = asyncExecutor.getTimerJobWheel();
+        if (timerJobWheel != null && timerJobWheel.isActive()) {
+            return timerJobWheel.getTimerJobAcquireWaitTimeInMillis();
+        }
+        return asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+    }
+
+    protected void recordLatencies(Collection<TimerJobEntity> timerJobs) {
+        TimerJobLatencyHistogram latencyHistogram = asyncExecutor.getTimerJobLatencyHistogram();
+        if (latencyHistogram != null) {
+            long now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+            for (TimerJobEntity timerJob : timerJobs) {
+                if (timerJob.getDuedate() != null) {
+                    latencyHistogram.record(timerJob.getDuedate().getTime(), now);
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedules the timer jobs that are due within the horizon of the timer job wheel, which includes the timer jobs
+     * that were created by other nodes or that were beyond the horizon when they were created.
+     */
+    protected void scheduleTimerJobsInWheel(CommandExecutor commandExecutor) {
+        TimerJobWheel timerJobWheel = asyncExecutor.getTimerJobWheel();
+        if (timerJobWheel == null || !timerJobWheel.isActive()) {
+            return;
+        }
+
+        try {
+            JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+            Date horizon = new Date(jobServiceConfiguration.getClock().getCurrentTime().getTime() + timerJobWheel.getHorizonInMillis());
+            List<Job> timerJobs = new TimerJobQueryImpl(commandExecutor, jobServiceConfiguration)
+                    .duedateLowerThan(horizon)
+                    .orderByJobDuedate()
+                    .asc()
+                    .listPage(0, timerJobWheelPageSize);
+
+            for (Job timerJob : timerJobs) {
+                timerJobWheel.schedule(timerJob.getId(), timerJob.getDuedate());
+            }
+
+        } catch (Throwable e) {
+            LOGGER.warn("exception while scheduling timer jobs in the timer job wheel: {}", e.getMessage(), e);
+        }
+    }
+
+    protected Command<AcquiredTimerJobEntities> createAcquireTimerJobsCmd() {
+        if (asyncExecutor.getJobServiceConfiguration().isAsyncExecutorBulkLockAcquisitionEnabled()) {
+            return new AcquireTimerJobsWithBulkLockCmd(asyncExecutor);
+        }
+        return new AcquireTimerJobsCmd(asyncExecutor);
+    }
+
     protected void unlockTimerJobs(CommandExecutor commandExecutor, Collection<TimerJobEntity> timerJobs) {
         try {
             if (!timerJobs.isEmpty()) {
@@ -181,4 +247,12 @@ public class AcquireTimerJobsRunnable implements Runnable {
     public void setMillisToWait(long millisToWait) {
         this.millisToWait = millisToWait;
     }
+
+    public int getTimerJobWheelPageSize() {
+        return timerJobWheelPageSize;
+    }
+
+    public void setTimerJobWheelPageSize(int timerJobWheelPageSize) {
+        this.timerJobWheelPageSize = timerJobWheelPageSize;
+    }
 }
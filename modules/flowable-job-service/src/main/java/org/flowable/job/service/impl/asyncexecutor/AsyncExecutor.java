@@ -107,4 +107,20 @@ public interface AsyncExecutor {
      */
     void setTaskExecutor(AsyncTaskExecutor taskExecutor);
 
+    /**
+     * The optional timer job wheel that moves timer jobs which are due within its horizon at their due date.
+     * @return the timer job wheel, or null when this async executor has no active timer job wheel
+     */
+    default TimerJobWheel getTimerJobWheel() {
+        return null;
+    }
+
+    /**
+     * The optional histogram of the latency between the due date of a timer job and the moment it was moved to an executable job.
+     * @return the timer job latency histogram, or null when this async executor does not record the latency
+     */
+    default TimerJobLatencyHistogram getTimerJobLatencyHistogram() {
+        return null;
+    }
+
 }
@@ -12,8 +12,19 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.job.api.JobInfo;
+
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
     
+    /**
+     * The number of history jobs that are executed together in one transaction.
+     * By default (1), every history job is executed in its own transaction.
+     */
+    protected int historyJobBatchSize = 1;
+
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
         setAcquireRunnableThreadName("flowable-acquire-history-jobs");
@@ -28,8 +39,55 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    protected void initializeRunnables() {
+        if (historyJobBatchSize > 1 && !isMessageQueueMode && asyncJobsDueRunnable == null) {
+            asyncJobsDueRunnable = new AcquireAsyncHistoryJobsDueRunnable(acquireRunnableThreadName, this, jobEntityManager, asyncJobsDueLifecycleListener);
+        }
+        super.initializeRunnables();
+    }
+
     @Override
     protected ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName) {
         return new ResetExpiredJobsRunnable(resetRunnableName, this, jobServiceConfiguration.getHistoryJobEntityManager());
     }
+
+    /**
+     * Offers the provided history jobs to be executed together in one transaction.
+     * If the offering does not work because the job queue is full, the history jobs are unacquired and false is returned.
+     */
+    public boolean executeAsyncHistoryJobs(List<? extends JobInfo> jobs) {
+        if (isMessageQueueMode) {
+            // When running with a message queue based job executor,
+            // the jobs are not executed here.
+            return true;
+        }
+
+        if (!isActive) {
+            temporaryJobQueue.addAll(jobs);
+            return true;
+        }
+
+        try {
+            taskExecutor.execute(new ExecuteAsyncHistoryJobsBatchRunnable(jobs, this));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            for (JobInfo job : jobs) {
+                sendRejectedEvent(job);
+                unacquireJobAfterRejection(job);
+            }
+
+            // Job queue full, returning false so (if wanted) the acquiring can be throttled
+            return false;
+        }
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
 }
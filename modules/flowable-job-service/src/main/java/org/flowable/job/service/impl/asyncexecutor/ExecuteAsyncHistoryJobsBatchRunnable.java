@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.cmd.ExecuteHistoryJobsBatchCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction with an {@link ExecuteHistoryJobsBatchCmd}.
+ *
+ * When the batch fails, for example because one of the history jobs is not applicable yet, the transaction is rolled back
+ * and the history jobs are executed one by one, so the failing history job is unacquired or retried on its own
+ * and the other history jobs of the batch are not delayed.
+ */
+public class ExecuteAsyncHistoryJobsBatchRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobsBatchRunnable.class);
+
+    protected final List<? extends JobInfo> jobs;
+    protected final AbstractAsyncExecutor asyncExecutor;
+
+    public ExecuteAsyncHistoryJobsBatchRunnable(List<? extends JobInfo> jobs, AbstractAsyncExecutor asyncExecutor) {
+        this.jobs = jobs;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public void run() {
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (JobInfo job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        try {
+            asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new ExecuteHistoryJobsBatchCmd(jobIds, asyncExecutor.getJobServiceConfiguration()));
+            return;
+
+        } catch (FlowableOptimisticLockingException e) {
+            LOGGER.debug("Optimistic locking exception while executing a batch of {} history jobs, executing them one by one. Exception message: {}",
+                    jobs.size(), e.getMessage());
+
+        } catch (Throwable e) {
+            LOGGER.debug("Could not execute a batch of {} history jobs, executing them one by one", jobs.size(), e);
+        }
+
+        executeJobsOneByOne();
+    }
+
+    protected void executeJobsOneByOne() {
+        for (JobInfo job : jobs) {
+            try {
+                asyncExecutor.createRunnableForJob(job).run();
+
+            } catch (Throwable e) {
+                LOGGER.error("Exception while executing history job {}", job.getId(), e);
+            }
+        }
+    }
+
+    public List<? extends JobInfo> getJobs() {
+        return jobs;
+    }
+}
@@ -26,6 +26,7 @@ import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.InternalJobCompatibilityManager;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobCmd;
+import org.flowable.job.service.impl.cmd.LockAndExecuteExclusiveJobCmd;
 import org.flowable.job.service.impl.cmd.LockExclusiveJobCmd;
 import org.flowable.job.service.impl.cmd.UnlockExclusiveJobCmd;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -107,6 +108,12 @@ public class ExecuteAsyncRunnable implements Runnable {
         if (job instanceof AbstractRuntimeJobEntity) {
 
             boolean lockingNeeded = ((AbstractRuntimeJobEntity) job).isExclusive();
+            if (lockingNeeded && jobServiceConfiguration.isAsyncExecutorSingleTransactionExclusiveJobExecutionEnabled()) {
+                if (lockAndExecuteJob()) {
+                    return;
+                }
+            }
+
             boolean executeJob = true;
             if (lockingNeeded) {
                 executeJob = lockJob();
@@ -147,6 +154,36 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    /**
+     * Locks the scope of the exclusive job, executes the job and unlocks the scope in one transaction.
+     * Returns false when the scope could not be locked, in which case the job still needs to be executed.
+     */
+    protected boolean lockAndExecuteJob() {
+        try {
+            Object executed = jobServiceConfiguration.getCommandExecutor().execute(
+                new LockAndExecuteExclusiveJobCmd(jobId, jobEntityManager, jobServiceConfiguration));
+            return !Boolean.FALSE.equals(executed);
+
+        } catch (final FlowableOptimisticLockingException e) {
+
+            try {
+                handleFailedJob(e, false);
+            } catch (Exception fe) {
+                // no additional handling is needed
+            }
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Optimistic locking exception during exclusive job execution. Exception message: {}", e.getMessage());
+            }
+
+        } catch (Throwable exception) {
+            // The scope lock was rolled back together with the job transaction, so there is nothing to unlock
+            handleFailedJob(exception, false);
+        }
+
+        return true;
+    }
+
     protected void unlockJobIfNeeded() {
         if (this.job instanceof HistoryJob) {
             return;
@@ -207,11 +244,17 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void handleFailedJob(final Throwable exception) {
+        handleFailedJob(exception, true);
+    }
+
+    protected void handleFailedJob(final Throwable exception, boolean unlockJob) {
         for (AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler : asyncRunnableExecutionExceptionHandlers) {
             if (asyncRunnableExecutionExceptionHandler.handleException(this.jobServiceConfiguration, this.job, exception)) {
                 
                 // Needs to run in a separate transaction as the original transaction has been marked for rollback
-                unlockJobIfNeeded();
+                if (unlockJob) {
+                    unlockJobIfNeeded();
+                }
                 
                 return;
             }
@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of the latency between the due date of a timer job and the moment it was moved to an executable job,
+ * recorded by the timer job acquisition and the {@link TimerJobWheel}.
+ *
+ * Every bucket counts the latencies up to and including its upper bound (in milliseconds),
+ * the last bucket counts all latencies above the highest upper bound.
+ */
+public class TimerJobLatencyHistogram {
+
+    public static final long[] DEFAULT_BUCKET_UPPER_BOUNDS_IN_MILLIS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000 };
+
+    protected final long[] bucketUpperBoundsInMillis;
+    protected final AtomicLongArray bucketCounts;
+    protected final AtomicLong count = new AtomicLong();
+    protected final AtomicLong totalLatencyInMillis = new AtomicLong();
+    protected final AtomicLong maxLatencyInMillis = new AtomicLong();
+
+    public TimerJobLatencyHistogram() {
+        this(DEFAULT_BUCKET_UPPER_BOUNDS_IN_MILLIS);
+    }
+
+    public TimerJobLatencyHistogram(long[] bucketUpperBoundsInMillis) {
+        this.bucketUpperBoundsInMillis = bucketUpperBoundsInMillis.clone();
+        this.bucketCounts = new AtomicLongArray(bucketUpperBoundsInMillis.length + 1);
+    }
+
+    /**
+     * Records the latency of a timer job that was due at the given time and was moved to an executable job at the given time.
+     * Timer jobs that were moved before their due date are recorded with a latency of 0.
+     */
+    public void record(long dueTimeInMillis, long actualTimeInMillis) {
+        long latencyInMillis = Math.max(0L, actualTimeInMillis - dueTimeInMillis);
+
+        int bucket = 0;
+        while (bucket < bucketUpperBoundsInMillis.length && latencyInMillis > bucketUpperBoundsInMillis[bucket]) {
+            bucket++;
+        }
+        bucketCounts.incrementAndGet(bucket);
+
+        count.incrementAndGet();
+        totalLatencyInMillis.addAndGet(latencyInMillis);
+        maxLatencyInMillis.accumulateAndGet(latencyInMillis, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded latencies per bucket, keyed by the upper bound of the bucket in milliseconds.
+     * The bucket with all latencies above the highest upper bound has {@link Long#MAX_VALUE} as key.
+     */
+    public Map<Long, Long> getBucketCounts() {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < bucketUpperBoundsInMillis.length; i++) {
+            counts.put(bucketUpperBoundsInMillis[i], bucketCounts.get(i));
+        }
+        counts.put(Long.MAX_VALUE, bucketCounts.get(bucketUpperBoundsInMillis.length));
+        return counts;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxLatencyInMillis() {
+        return maxLatencyInMillis.get();
+    }
+
+    public double getAverageLatencyInMillis() {
+        long currentCount = count.get();
+        return currentCount > 0 ? (double) totalLatencyInMillis.get() / currentCount : 0.0;
+    }
+
+    public void reset() {
+        for (int i = 0; i < bucketCounts.length(); i++) {
+            bucketCounts.set(i, 0L);
+        }
+        count.set(0L);
+        totalLatencyInMillis.set(0L);
+        maxLatencyInMillis.set(0L);
+    }
+
+    @Override
+    public String toString() {
+        return "TimerJobLatencyHistogram[count=" + getCount() + ", averageLatencyInMillis=" + getAverageLatencyInMillis()
+                + ", maxLatencyInMillis=" + getMaxLatencyInMillis() + ", bucketCounts=" + getBucketCounts() + "]";
+    }
+}
@@ -0,0 +1,280 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.MoveDueTimerJobToExecutableJobCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timer wheel that moves timer jobs to executable jobs at their due date, instead of waiting for the next timer job acquisition.
+ *
+ * Timer jobs that are due within the horizon are scheduled in the bucket of the tick in which they are due. A single thread advances the wheel
+ * every tick and moves the timer jobs of the current bucket to executable jobs with a {@link MoveDueTimerJobToExecutableJobCmd},
+ * so a timer job that is also acquired by another node (or by the timer job acquisition) is only moved once.
+ *
+ * The wheel only lives in memory: timer jobs that are not moved by the wheel (for example because the node stopped)
+ * are still acquired by the timer job acquisition.
+ */
+public class TimerJobWheel implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerJobWheel.class);
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final TimerJobLatencyHistogram latencyHistogram;
+    protected final long tickDurationInMillis;
+    protected final long horizonInMillis;
+    protected int timerJobAcquireWaitTimeInMillis = 60 * 1000;
+
+    protected final List<List<ScheduledTimerJob>> buckets;
+    protected final Queue<ScheduledTimerJob> pendingTimerJobs = new ConcurrentLinkedQueue<>();
+    protected final ConcurrentMap<String, ScheduledTimerJob> scheduledTimerJobs = new ConcurrentHashMap<>();
+
+    protected final Object MONITOR = new Object();
+    protected volatile boolean isInterrupted = true;
+    protected Thread thread;
+    protected long startTimeInMillis;
+    protected long tick;
+
+    public TimerJobWheel(AsyncExecutor asyncExecutor, TimerJobLatencyHistogram latencyHistogram, long tickDurationInMillis, long horizonInMillis) {
+        if (tickDurationInMillis < 1) {
+            throw new FlowableException("The timer wheel tick duration must be at least 1 millisecond, but was " + tickDurationInMillis);
+        }
+
+        this.asyncExecutor = asyncExecutor;
+        this.latencyHistogram = latencyHistogram;
+        this.tickDurationInMillis = tickDurationInMillis;
+        this.horizonInMillis = horizonInMillis;
+
+        // One bucket per tick of the horizon, so a timer job never needs more than one round of the wheel
+        int nrOfBuckets = (int) Math.min(1 << 16, Math.max(1L, horizonInMillis / tickDurationInMillis + 1));
+        this.buckets = new ArrayList<>(nrOfBuckets);
+        for (int i = 0; i < nrOfBuckets; i++) {
+            buckets.add(new LinkedList<>());
+        }
+    }
+
+    public synchronized void start() {
+        if (!isInterrupted) {
+            return;
+        }
+
+        isInterrupted = false;
+        startTimeInMillis = System.currentTimeMillis();
+        tick = 0;
+        thread = new Thread(this, "flowable-" + getJobServiceConfiguration().getEngineName() + "-timer-job-wheel");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        if (isInterrupted) {
+            return;
+        }
+
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            MONITOR.notifyAll();
+        }
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the timer job wheel thread to terminate", e);
+            Thread.currentThread().interrupt();
+        }
+
+        thread = null;
+        pendingTimerJobs.clear();
+        scheduledTimerJobs.clear();
+        for (List<ScheduledTimerJob> bucket : buckets) {
+            bucket.clear();
+        }
+    }
+
+    /**
+     * Returns whether a timer job with the given due date would be scheduled by {@link #schedule(String, Date)}.
+     */
+    public boolean isWithinHorizon(Date dueDate) {
+        return !isInterrupted && dueDate != null && dueDate.getTime() - getJobServiceConfiguration().getClock().getCurrentTime().getTime() <= horizonInMillis;
+    }
+
+    /**
+     * Schedules the timer job with the given id to be moved to an executable job at the given due date.
+     * Returns false when the wheel is not running or when the due date is beyond the horizon, in which case the timer job
+     * is acquired by the timer job acquisition. Scheduling a timer job that is already scheduled has no effect.
+     */
+    public boolean schedule(String timerJobId, Date dueDate) {
+        if (!isWithinHorizon(dueDate)) {
+            return false;
+        }
+
+        long delayInMillis = Math.max(0L, dueDate.getTime() - getJobServiceConfiguration().getClock().getCurrentTime().getTime());
+        ScheduledTimerJob scheduledTimerJob = new ScheduledTimerJob(timerJobId, dueDate.getTime(), System.currentTimeMillis() + delayInMillis);
+        if (scheduledTimerJobs.putIfAbsent(timerJobId, scheduledTimerJob) != null) {
+            return true;
+        }
+
+        pendingTimerJobs.add(scheduledTimerJob);
+        if (delayInMillis < tickDurationInMillis) {
+            // Due now, wake up the wheel instead of waiting for the next tick
+            synchronized (MONITOR) {
+                MONITOR.notifyAll();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("starting timer job wheel");
+
+        while (!isInterrupted) {
+            try {
+                transferPendingTimerJobs();
+                List<ScheduledTimerJob> dueTimerJobs = collectDueTimerJobs();
+                for (ScheduledTimerJob dueTimerJob : dueTimerJobs) {
+                    if (isInterrupted) {
+                        break;
+                    }
+                    moveTimerJob(dueTimerJob);
+                }
+                waitForNextTick();
+
+            } catch (Throwable e) {
+                LOGGER.error("exception in the timer job wheel: {}", e.getMessage(), e);
+            }
+        }
+
+        LOGGER.info("stopped timer job wheel");
+    }
+
+    protected void transferPendingTimerJobs() {
+        ScheduledTimerJob scheduledTimerJob = pendingTimerJobs.poll();
+        while (scheduledTimerJob != null) {
+            long dueTick = Math.max(tick, (scheduledTimerJob.fireTimeInMillis - startTimeInMillis + tickDurationInMillis - 1) / tickDurationInMillis);
+            scheduledTimerJob.remainingRounds = (dueTick - tick) / buckets.size();
+            buckets.get((int) (dueTick % buckets.size())).add(scheduledTimerJob);
+            scheduledTimerJob = pendingTimerJobs.poll();
+        }
+    }
+
+    protected List<ScheduledTimerJob> collectDueTimerJobs() {
+        List<ScheduledTimerJob> dueTimerJobs = new ArrayList<>();
+        long currentTick = (System.currentTimeMillis() - startTimeInMillis) / tickDurationInMillis;
+
+        // Process every bucket up to the current tick, as ticks can be skipped when moving timer jobs takes longer than a tick
+        while (tick <= currentTick) {
+            Iterator<ScheduledTimerJob> iterator = buckets.get((int) (tick % buckets.size())).iterator();
+            while (iterator.hasNext()) {
+                ScheduledTimerJob scheduledTimerJob = iterator.next();
+                if (scheduledTimerJob.remainingRounds <= 0) {
+                    iterator.remove();
+                    dueTimerJobs.add(scheduledTimerJob);
+                } else {
+                    scheduledTimerJob.remainingRounds--;
+                }
+            }
+            tick++;
+        }
+        return dueTimerJobs;
+    }
+
+    protected void moveTimerJob(ScheduledTimerJob scheduledTimerJob) {
+        scheduledTimerJobs.remove(scheduledTimerJob.timerJobId);
+        JobServiceConfiguration jobServiceConfiguration = getJobServiceConfiguration();
+        try {
+            JobEntity executableJob = jobServiceConfiguration.getCommandExecutor()
+                    .execute(new MoveDueTimerJobToExecutableJobCmd(scheduledTimerJob.timerJobId, jobServiceConfiguration));
+            if (executableJob != null && latencyHistogram != null) {
+                latencyHistogram.record(scheduledTimerJob.dueTimeInMillis, jobServiceConfiguration.getClock().getCurrentTime().getTime());
+            }
+
+        } catch (FlowableOptimisticLockingException e) {
+            LOGGER.debug("Timer job {} was moved concurrently by another node or the timer job acquisition", scheduledTimerJob.timerJobId);
+
+        } catch (Throwable e) {
+            LOGGER.warn("Could not move timer job {} to an executable job, it will be acquired by the timer job acquisition", scheduledTimerJob.timerJobId, e);
+        }
+    }
+
+    protected void waitForNextTick() throws InterruptedException {
+        long nextTickTimeInMillis = startTimeInMillis + tick * tickDurationInMillis;
+        synchronized (MONITOR) {
+            long millisToWait = nextTickTimeInMillis - System.currentTimeMillis();
+            if (millisToWait > 0 && !isInterrupted && pendingTimerJobs.isEmpty()) {
+                MONITOR.wait(millisToWait);
+            }
+        }
+    }
+
+    protected JobServiceConfiguration getJobServiceConfiguration() {
+        return asyncExecutor.getJobServiceConfiguration();
+    }
+
+    public int getNumberOfScheduledTimerJobs() {
+        return scheduledTimerJobs.size();
+    }
+
+    public long getTickDurationInMillis() {
+        return tickDurationInMillis;
+    }
+
+    public long getHorizonInMillis() {
+        return horizonInMillis;
+    }
+
+    /**
+     * The time the timer job acquisition waits between acquisitions while the wheel is active.
+     * As timer jobs that are due within the horizon are moved by the wheel, this is typically much longer than the default wait time.
+     */
+    public int getTimerJobAcquireWaitTimeInMillis() {
+        return timerJobAcquireWaitTimeInMillis;
+    }
+
+    public void setTimerJobAcquireWaitTimeInMillis(int timerJobAcquireWaitTimeInMillis) {
+        this.timerJobAcquireWaitTimeInMillis = timerJobAcquireWaitTimeInMillis;
+    }
+
+    public boolean isActive() {
+        return !isInterrupted;
+    }
+
+    protected static class ScheduledTimerJob {
+
+        protected final String timerJobId;
+        protected final long dueTimeInMillis;
+        protected final long fireTimeInMillis;
+        protected long remainingRounds;
+
+        protected ScheduledTimerJob(String timerJobId, long dueTimeInMillis, long fireTimeInMillis) {
+            this.timerJobId = timerJobId;
+            this.dueTimeInMillis = dueTimeInMillis;
+            this.fireTimeInMillis = fireTimeInMillis;
+        }
+    }
+}
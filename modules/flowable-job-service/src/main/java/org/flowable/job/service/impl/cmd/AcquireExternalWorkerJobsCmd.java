@@ -14,7 +14,10 @@ package org.flowable.job.service.impl.cmd;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,7 +33,6 @@ import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntity;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
-import org.flowable.variable.api.delegate.VariableScope;
 
 /**
  * @author Filip Hrisafov
@@ -76,24 +78,37 @@ public class AcquireExternalWorkerJobsCmd implements Command<List<AcquiredExtern
 
         for (ExternalWorkerJobEntity job : jobs) {
             lockJob(commandContext, job, lockTimeInMillis);
-            Map<String, Object> variables = null;
-            if (internalJobManager != null) {
-                VariableScope variableScope = internalJobManager.resolveVariableScope(job);
-                if (variableScope != null) {
-                    variables = variableScope.getVariables();
-                }
-
-                if (job.isExclusive()) {
-                    internalJobManager.lockJobScope(job);
-                }
+            if (internalJobManager != null && job.isExclusive()) {
+                internalJobManager.lockJobScope(job);
             }
+        }
 
-            acquiredJobs.add(new AcquiredExternalWorkerJobImpl(job, variables));
+        Map<String, Map<String, Object>> variablesByJobId = resolveVariables(jobs, internalJobManager);
+        for (ExternalWorkerJobEntity job : jobs) {
+            acquiredJobs.add(new AcquiredExternalWorkerJobImpl(job, variablesByJobId.get(job.getId())));
         }
 
         return acquiredJobs;
     }
 
+    protected Map<String, Map<String, Object>> resolveVariables(List<ExternalWorkerJobEntity> jobs, InternalJobManager internalJobManager) {
+        if (internalJobManager == null || jobs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Collection<String> variableNames = builder.getVariableNames();
+        if (variableNames != null && variableNames.isEmpty()) {
+            Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+            for (ExternalWorkerJobEntity job : jobs) {
+                variablesByJobId.put(job.getId(), new HashMap<>());
+            }
+            return variablesByJobId;
+        }
+
+        // The variables of all acquired jobs are resolved at once instead of per job
+        return internalJobManager.resolveVariables(jobs, variableNames);
+    }
+
     protected void lockJob(CommandContext commandContext, JobInfoEntity job, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(jobServiceConfiguration.getClock().getCurrentTime());
@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.job.service.impl.util.JobLockUtil;
+
+/**
+ * Alternative for the {@link AcquireJobsCmd} that locks all acquired jobs with one update statement,
+ * instead of relying on a revision checked update for every job when the command context is flushed.
+ * 
+ * On databases that support it, the jobs are selected with SKIP LOCKED semantics, so concurrent acquisition threads
+ * (on the same or on other nodes) never select the same jobs. On other databases the bulk update only locks the jobs
+ * that are still unlocked, and the jobs locked by another acquisition thread in the meantime are left out of the result.
+ * Either way, contention between nodes does not lead to an optimistic locking exception and a lost acquisition cycle.
+ */
+public class AcquireJobsWithBulkLockCmd implements Command<AcquiredJobEntities> {
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final int remainingCapacity;
+    protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+
+    public AcquireJobsWithBulkLockCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this.asyncExecutor = asyncExecutor;
+        this.remainingCapacity = remainingCapacity;
+        this.jobEntityManager = jobEntityManager;
+    }
+
+    @Override
+    public AcquiredJobEntities execute(CommandContext commandContext) {
+        int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
+        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecuteSkipLocked(enabledCategories, new Page(0, maxResults));
+
+        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
+        if (jobs.isEmpty()) {
+            return acquiredJobs;
+        }
+
+        Date lockExpirationTime = JobLockUtil.getLockExpirationTime(asyncExecutor.getAsyncJobLockTimeInMillis(), jobServiceConfiguration);
+        for (JobInfoEntity job : lockJobs(jobs, lockExpirationTime)) {
+            acquiredJobs.addJob(job);
+        }
+
+        return acquiredJobs;
+    }
+
+    protected List<JobInfoEntity> lockJobs(List<? extends JobInfoEntity> jobs, Date lockExpirationTime) {
+        String lockOwner = asyncExecutor.getLockOwner();
+
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (JobInfoEntity job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        int nrOfLockedJobs = jobEntityManager.bulkUpdateJobLockIfUnlocked(jobIds, lockOwner, lockExpirationTime);
+
+        Set<String> lockedJobIds = null;
+        if (nrOfLockedJobs < jobs.size()) {
+            // Some jobs were locked concurrently by another acquisition thread, only keep the ones locked by this one
+            lockedJobIds = new HashSet<>(jobEntityManager.findJobIdsLockedBy(jobIds, lockOwner));
+        }
+
+        List<JobInfoEntity> lockedJobs = new ArrayList<>(nrOfLockedJobs);
+        for (JobInfoEntity job : jobs) {
+            if (lockedJobIds == null || lockedJobIds.contains(job.getId())) {
+                job.setLockOwner(lockOwner);
+                job.setLockExpirationTime(lockExpirationTime);
+                job.setRevision(job.getRevisionNext()); // revision was incremented by the bulk update
+                lockedJobs.add(job);
+            }
+        }
+        return lockedJobs;
+    }
+}
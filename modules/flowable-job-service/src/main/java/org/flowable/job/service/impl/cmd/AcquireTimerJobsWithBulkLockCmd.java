@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
+import org.flowable.job.service.impl.util.JobLockUtil;
+
+/**
+ * Alternative for the {@link AcquireTimerJobsCmd} that locks all acquired timer jobs with one update statement.
+ * See {@link AcquireJobsWithBulkLockCmd} for the details.
+ */
+public class AcquireTimerJobsWithBulkLockCmd implements Command<AcquiredTimerJobEntities> {
+
+    protected final AsyncExecutor asyncExecutor;
+
+    public AcquireTimerJobsWithBulkLockCmd(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public AcquiredTimerJobEntities execute(CommandContext commandContext) {
+        AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        TimerJobEntityManager timerJobEntityManager = jobServiceConfiguration.getTimerJobEntityManager();
+        List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
+        List<TimerJobEntity> timerJobs = timerJobEntityManager
+                .findJobsToExecuteSkipLocked(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+
+        if (timerJobs.isEmpty()) {
+            return acquiredJobs;
+        }
+
+        String lockOwner = asyncExecutor.getLockOwner();
+        Date lockExpirationTime = JobLockUtil.getLockExpirationTime(asyncExecutor.getAsyncJobLockTimeInMillis(), jobServiceConfiguration);
+
+        List<String> jobIds = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            jobIds.add(timerJob.getId());
+        }
+
+        int nrOfLockedJobs = timerJobEntityManager.bulkUpdateJobLockIfUnlocked(jobIds, lockOwner, lockExpirationTime);
+
+        Set<String> lockedJobIds = null;
+        if (nrOfLockedJobs < timerJobs.size()) {
+            // Some timer jobs were locked concurrently by another acquisition thread, only keep the ones locked by this one
+            lockedJobIds = new HashSet<>(timerJobEntityManager.findJobIdsLockedBy(jobIds, lockOwner));
+        }
+
+        for (TimerJobEntity timerJob : timerJobs) {
+            if (lockedJobIds == null || lockedJobIds.contains(timerJob.getId())) {
+                timerJob.setLockOwner(lockOwner);
+                timerJob.setLockExpirationTime(lockExpirationTime);
+                timerJob.setRevision(timerJob.getRevisionNext()); // revision was incremented by the bulk update
+                acquiredJobs.addJob(timerJob);
+            }
+        }
+
+        return acquiredJobs;
+    }
+}
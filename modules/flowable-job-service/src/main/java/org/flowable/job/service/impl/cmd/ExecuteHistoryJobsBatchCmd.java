@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction.
+ *
+ * The history jobs and their json byte arrays are fetched with one query each, after which the history jobs are executed in the given order.
+ * As all history jobs share the same command context, repeated updates of the same historic entity are flushed as one update,
+ * new historic entities are flushed with bulk inserts and the history jobs and byte arrays are deleted in one flush.
+ *
+ * When one of the history jobs fails, the whole batch is rolled back.
+ *
+ * @see org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncHistoryJobsBatchRunnable
+ */
+public class ExecuteHistoryJobsBatchCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteHistoryJobsBatchCmd.class);
+
+    protected List<String> historyJobIds;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteHistoryJobsBatchCmd(List<String> historyJobIds, JobServiceConfiguration jobServiceConfiguration) {
+        this.historyJobIds = historyJobIds;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (historyJobIds == null || historyJobIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("historyJobIds is null or empty");
+        }
+
+        // History jobs that don't exist anymore were executed or deleted concurrently and are skipped, as for a single history job
+        List<HistoryJobEntity> historyJobs = new ArrayList<>(jobServiceConfiguration.getHistoryJobEntityManager().findJobsByIds(historyJobIds));
+        if (historyJobs.size() < historyJobIds.size()) {
+            LOGGER.debug("{} of {} history jobs do not exist anymore and will not be executed", historyJobIds.size() - historyJobs.size(), historyJobIds.size());
+        }
+
+        // The history jobs are acquired in creation order, which needs to be kept as the history data of later jobs can depend on earlier jobs
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < historyJobIds.size(); i++) {
+            positions.put(historyJobIds.get(i), i);
+        }
+        historyJobs.sort(Comparator.comparing(historyJob -> positions.get(historyJob.getId())));
+
+        fetchByteArrays(commandContext, historyJobs);
+
+        FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
+        for (HistoryJobEntity historyJob : historyJobs) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Executing history job {} in batch", historyJob.getId());
+            }
+
+            jobServiceConfiguration.getJobManager().execute(historyJob);
+
+            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, historyJob),
+                        jobServiceConfiguration.getEngineName());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Fetches the json byte arrays of all history jobs with one query. The byte arrays are stored in the entity cache,
+     * where the history job handlers find them when reading the json of a history job.
+     */
+    protected void fetchByteArrays(CommandContext commandContext, List<HistoryJobEntity> historyJobs) {
+        List<String> byteArrayIds = new ArrayList<>(historyJobs.size());
+        for (HistoryJobEntity historyJob : historyJobs) {
+            ByteArrayRef byteArrayRef = historyJob.getAdvancedJobHandlerConfigurationByteArrayRef();
+            if (byteArrayRef != null && byteArrayRef.getId() != null) {
+                byteArrayIds.add(byteArrayRef.getId());
+            }
+        }
+
+        AbstractEngineConfiguration engineConfiguration = commandContext.getEngineConfigurations().get(jobServiceConfiguration.getEngineName());
+        if (!byteArrayIds.isEmpty() && engineConfiguration != null && engineConfiguration.getByteArrayEntityManager() != null) {
+            engineConfiguration.getByteArrayEntityManager().findByteArraysByIds(byteArrayIds);
+        }
+    }
+
+    public List<String> getHistoryJobIds() {
+        return historyJobIds;
+    }
+
+    public void setHistoryJobIds(List<String> historyJobIds) {
+        this.historyJobIds = historyJobIds;
+    }
+}
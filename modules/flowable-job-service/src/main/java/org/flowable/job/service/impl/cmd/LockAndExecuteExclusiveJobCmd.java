@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Locks the scope (process or case instance) of an exclusive job, executes the job and unlocks the scope again in one transaction,
+ * instead of committing the scope lock in a separate {@link LockExclusiveJobCmd} transaction first.
+ *
+ * The lock update keeps the row of the process or case instance locked until the transaction ends, so other exclusive jobs
+ * of the same scope can't lock it during the execution of this job.
+ *
+ * Returns {@link Boolean#FALSE} without executing the job when the scope is locked by another job, in which case
+ * nothing was changed and the caller can fall back to the separate lock transaction.
+ */
+public class LockAndExecuteExclusiveJobCmd extends ExecuteAsyncRunnableJobCmd {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LockAndExecuteExclusiveJobCmd.class);
+
+    public LockAndExecuteExclusiveJobCmd(String jobId, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            JobServiceConfiguration jobServiceConfiguration) {
+        super(jobId, jobEntityManager, jobServiceConfiguration, true);
+    }
+
+    @Override
+    public Object execute(CommandContext commandContext) {
+        if (jobEntityManager == null) {
+            throw new FlowableIllegalArgumentException("jobEntityManager is null");
+        }
+
+        if (jobId == null) {
+            throw new FlowableIllegalArgumentException("jobId is null");
+        }
+
+        JobInfoEntity job = jobEntityManager.findById(jobId);
+        if (job instanceof Job) {
+            try {
+                new LockExclusiveJobCmd((Job) job, jobServiceConfiguration).execute(commandContext);
+
+            } catch (FlowableOptimisticLockingException e) {
+                LOGGER.debug("Could not lock the scope of exclusive job {} in the job transaction: {}", jobId, e.getMessage());
+                return Boolean.FALSE;
+            }
+        }
+
+        // The job is fetched from the entity cache again, or not executed when it does not exist anymore
+        super.execute(commandContext);
+        return Boolean.TRUE;
+    }
+
+}
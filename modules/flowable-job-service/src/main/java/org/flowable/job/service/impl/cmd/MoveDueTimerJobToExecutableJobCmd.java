@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Moves the timer job with the given id to an executable job when it is due and not acquired by a timer job acquisition,
+ * applying the same criteria as the timer job acquisition query.
+ *
+ * The timer job is deleted with a revision check, so a concurrent acquisition or move of the same timer job
+ * fails with an optimistic locking exception and the timer job is only moved once.
+ * Returns the executable job, or null when the timer job was not moved.
+ */
+public class MoveDueTimerJobToExecutableJobCmd implements Command<JobEntity> {
+
+    protected final String timerJobId;
+    protected final JobServiceConfiguration jobServiceConfiguration;
+
+    public MoveDueTimerJobToExecutableJobCmd(String timerJobId, JobServiceConfiguration jobServiceConfiguration) {
+        this.timerJobId = timerJobId;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public JobEntity execute(CommandContext commandContext) {
+        // The timer job does not exist anymore when it was already moved, deleted or suspended
+        TimerJobEntity timerJob = jobServiceConfiguration.getTimerJobEntityManager().findById(timerJobId);
+        if (timerJob == null || !isDue(timerJob) || timerJob.getLockOwner() != null || !isInJobExecutionScope(timerJob)) {
+            return null;
+        }
+
+        return jobServiceConfiguration.getJobManager().moveTimerJobToExecutableJob(timerJob);
+    }
+
+    protected boolean isDue(TimerJobEntity timerJob) {
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+        return timerJob.getDuedate() != null && !timerJob.getDuedate().after(now);
+    }
+
+    protected boolean isInJobExecutionScope(TimerJobEntity timerJob) {
+        String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
+        if (jobExecutionScope == null) {
+            if (timerJob.getScopeType() != null) {
+                return false;
+            }
+        } else if (!JobServiceConfiguration.JOB_EXECUTION_SCOPE_ALL.equals(jobExecutionScope) && !jobExecutionScope.equals(timerJob.getScopeType())) {
+            return false;
+        }
+
+        List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
+        return enabledCategories == null || enabledCategories.isEmpty() || enabledCategories.contains(timerJob.getCategory());
+    }
+}
@@ -128,6 +128,22 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    /**
+     * Applies history json that is not stored as the configuration of the given history job,
+     * for example history json read from a {@link org.flowable.job.service.impl.history.async.segment.HistorySegmentLog}.
+     * Unlike {@link #execute(HistoryJobEntity, String, CommandContext, JobServiceConfiguration)}, grouped history json
+     * is applied completely or not at all.
+     */
+    public void executeHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
+        if (historyNode.isArray()) {
+            for (JsonNode jsonNode : historyNode) {
+                processHistoryJson(commandContext, job, jsonNode);
+            }
+        } else {
+            processHistoryJson(commandContext, job, historyNode);
+        }
+    }
+
     protected byte[] getJobBytes(HistoryJobEntity job) {
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(job.getScopeType());
     }
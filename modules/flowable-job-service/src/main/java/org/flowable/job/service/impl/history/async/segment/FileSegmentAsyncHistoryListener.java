@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.segment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * An {@link AsyncHistoryListener} that appends the history json of a transaction to a local {@link HistorySegmentLog}
+ * when the transaction is committed, instead of inserting history jobs and their json byte arrays in the runtime database.
+ *
+ * The history json is applied to the history tables by a {@link HistorySegmentLogConsumer} reading the same log.
+ * Note that history json that is appended but not yet forced to disk is lost when the machine crashes.
+ */
+public class FileSegmentAsyncHistoryListener implements AsyncHistoryListener {
+
+    protected HistorySegmentLog historySegmentLog;
+    protected boolean compressionEnabled;
+
+    public FileSegmentAsyncHistoryListener(HistorySegmentLog historySegmentLog) {
+        this.historySegmentLog = historySegmentLog;
+    }
+
+    @Override
+    public List<HistoryJobEntity> historyDataGenerated(JobServiceConfiguration jobServiceConfiguration, List<ObjectNode> historyObjectNodes) {
+        ArrayNode arrayNode = jobServiceConfiguration.getObjectMapper().createArrayNode();
+        for (ObjectNode historyObjectNode : historyObjectNodes) {
+            arrayNode.add(historyObjectNode);
+        }
+
+        byte[] bytes;
+        try {
+            bytes = jobServiceConfiguration.getObjectMapper().writeValueAsBytes(arrayNode);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not serialize historic data for async history", e);
+        }
+
+        byte[] payload = compressionEnabled ? compress(bytes) : bytes;
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            // Only history of committed transactions is appended
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> historySegmentLog.append(payload, compressionEnabled));
+        } else {
+            historySegmentLog.append(payload, compressionEnabled);
+        }
+
+        return Collections.emptyList();
+    }
+
+    protected byte[] compress(final byte[] bytes) {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+                gos.write(bytes);
+            }
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new FlowableException("Error while compressing json", e);
+        }
+    }
+
+    public HistorySegmentLog getHistorySegmentLog() {
+        return historySegmentLog;
+    }
+
+    public void setHistorySegmentLog(HistorySegmentLog historySegmentLog) {
+        this.historySegmentLog = historySegmentLog;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+}
@@ -0,0 +1,454 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.segment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only log of history json, stored in memory-mapped segment files in a local directory.
+ *
+ * Every record consists of a header (payload length, CRC32 checksum and flags) followed by the payload.
+ * The length is written last, so a record only becomes visible once it is complete. A length of 0 marks the end of a segment.
+ * When a record does not fit in the current segment anymore, a new segment is started.
+ *
+ * Appended records are written to the memory-mapped segment and forced to disk in batches by a background thread
+ * every {@link #getFsyncIntervalInMillis()}, so appending never waits for the disk.
+ * When the log is opened again, the last segment is scanned and everything after the last complete record is discarded.
+ *
+ * Every log has a generated id, stored in the directory, which identifies the checkpoint of the log stored
+ * in the database by the {@link HistorySegmentLogConsumer}. Segments before the checkpoint are deleted.
+ */
+public class HistorySegmentLog implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistorySegmentLog.class);
+
+    public static final int RECORD_HEADER_SIZE = 9;
+    public static final byte FLAG_COMPRESSED = 1;
+
+    protected static final String SEGMENT_FILE_SUFFIX = ".segment";
+    protected static final String ID_FILE_NAME = "id";
+
+    protected final Path directory;
+    protected String id;
+    protected int segmentSize = 64 * 1024 * 1024;
+    protected long fsyncIntervalInMillis = 100L;
+
+    protected long writeSegment;
+    protected FileChannel writeChannel;
+    protected MappedByteBuffer writeBuffer;
+    protected volatile HistorySegmentPosition writePosition;
+    protected boolean dirty;
+
+    protected volatile boolean isOpen;
+    protected Thread fsyncThread;
+    protected final Object MONITOR = new Object();
+
+    public HistorySegmentLog(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Opens the log, recovering the write position from the last segment, and starts forcing appended records to disk.
+     */
+    public synchronized void open() {
+        if (isOpen) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            id = readOrCreateId();
+            List<Long> segments = listSegments();
+            if (segments.isEmpty()) {
+                openWriteSegment(0L, segmentSize);
+            } else {
+                long lastSegment = segments.get(segments.size() - 1);
+                int lastSegmentSize = (int) Files.size(getSegmentPath(lastSegment));
+                openWriteSegment(lastSegment, Math.max(lastSegmentSize, RECORD_HEADER_SIZE));
+                recoverWritePosition();
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not open history segment log in " + directory, e);
+        }
+
+        isOpen = true;
+        fsyncThread = new Thread(this, "flowable-history-segment-log-fsync");
+        fsyncThread.setDaemon(true);
+        fsyncThread.start();
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (!isOpen) {
+                return;
+            }
+            isOpen = false;
+        }
+
+        synchronized (MONITOR) {
+            MONITOR.notifyAll();
+        }
+        try {
+            fsyncThread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the history segment log fsync thread to terminate", e);
+            Thread.currentThread().interrupt();
+        }
+        fsyncThread = null;
+
+        synchronized (this) {
+            writeBuffer.force();
+            closeWriteChannel();
+            writeBuffer = null;
+        }
+    }
+
+    /**
+     * Appends a record with the given payload and returns its position.
+     * The record is visible to {@link #read(HistorySegmentPosition, int)} immediately and forced to disk with the next batch.
+     */
+    public synchronized HistorySegmentPosition append(byte[] payload, boolean compressed) {
+        if (!isOpen) {
+            throw new FlowableException("History segment log in " + directory + " is not open");
+        }
+        if (payload == null || payload.length == 0) {
+            throw new FlowableIllegalArgumentException("payload is null or empty");
+        }
+
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        if (writeBuffer.remaining() < recordSize) {
+            startNextSegment(recordSize);
+        }
+
+        byte flags = compressed ? FLAG_COMPRESSED : 0;
+        int offset = writeBuffer.position();
+        ByteBuffer record = writeBuffer.duplicate();
+        record.position(offset + 4);
+        record.putInt(checksum(flags, payload, 0, payload.length));
+        record.put(flags);
+        record.put(payload);
+
+        // The length is written last, which makes the record visible
+        writeBuffer.putInt(offset, payload.length);
+        writeBuffer.position(offset + recordSize);
+        dirty = true;
+
+        HistorySegmentPosition position = new HistorySegmentPosition(writeSegment, offset);
+        writePosition = new HistorySegmentPosition(writeSegment, offset + recordSize);
+        return position;
+    }
+
+    /**
+     * Reads at most maxRecords records, starting at the given position.
+     */
+    public List<HistorySegmentRecord> read(HistorySegmentPosition from, int maxRecords) {
+        HistorySegmentPosition end = writePosition;
+        List<HistorySegmentRecord> records = new ArrayList<>();
+        if (end == null) {
+            return records;
+        }
+
+        HistorySegmentPosition position = from;
+        while (records.size() < maxRecords && position.compareTo(end) < 0) {
+            Path segmentPath = getSegmentPath(position.getSegment());
+            if (!Files.exists(segmentPath)) {
+                throw new FlowableException("History segment " + segmentPath + " does not exist");
+            }
+
+            try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+                int segmentEnd = position.getSegment() == end.getSegment() ? end.getOffset() : (int) channel.size();
+                while (records.size() < maxRecords) {
+                    HistorySegmentRecord record = readRecord(channel, position, segmentEnd);
+                    if (record == null) {
+                        break;
+                    }
+                    records.add(record);
+                    position = record.getNextPosition();
+                }
+
+            } catch (IOException e) {
+                throw new FlowableException("Could not read history segment " + segmentPath, e);
+            }
+
+            if (records.size() < maxRecords) {
+                if (position.getSegment() >= end.getSegment()) {
+                    break;
+                }
+
+                // The rest of this segment is empty, continue with the next segment
+                position = new HistorySegmentPosition(position.getSegment() + 1, 0);
+            }
+        }
+        return records;
+    }
+
+    protected HistorySegmentRecord readRecord(FileChannel channel, HistorySegmentPosition position, int segmentEnd) throws IOException {
+        int offset = position.getOffset();
+        if (offset + RECORD_HEADER_SIZE > segmentEnd) {
+            return null;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(channel, header, offset);
+        int length = header.getInt(0);
+        if (length == 0) {
+            return null;
+        }
+        if (length < 0 || offset + RECORD_HEADER_SIZE + length > segmentEnd) {
+            throw new FlowableException("Invalid record length " + length + " at position " + position + " of history segment log " + directory);
+        }
+
+        byte flags = header.get(8);
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(channel, payload, offset + RECORD_HEADER_SIZE);
+        if (checksum(flags, payload.array(), 0, length) != header.getInt(4)) {
+            throw new FlowableException("Invalid checksum for the record at position " + position + " of history segment log " + directory);
+        }
+
+        return new HistorySegmentRecord(position, new HistorySegmentPosition(position.getSegment(), offset + RECORD_HEADER_SIZE + length),
+                payload.array(), (flags & FLAG_COMPRESSED) != 0);
+    }
+
+    protected void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of history segment at " + (position + buffer.position()));
+            }
+        }
+    }
+
+    /**
+     * Forces the appended records to disk.
+     */
+    public void flush() {
+        MappedByteBuffer bufferToForce;
+        synchronized (this) {
+            if (!dirty || writeBuffer == null) {
+                return;
+            }
+            bufferToForce = writeBuffer;
+            dirty = false;
+        }
+
+        // Forcing outside of the lock, so appending doesn't wait for the disk
+        bufferToForce.force();
+    }
+
+    @Override
+    public void run() {
+        while (isOpen) {
+            try {
+                synchronized (MONITOR) {
+                    if (isOpen) {
+                        MONITOR.wait(fsyncIntervalInMillis);
+                    }
+                }
+                flush();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+
+            } catch (Throwable e) {
+                LOGGER.error("exception while forcing history segment log {} to disk: {}", directory, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Returns the start of the first segment, where a consumer without checkpoint starts reading.
+     */
+    public HistorySegmentPosition getFirstPosition() {
+        try {
+            List<Long> segments = listSegments();
+            return new HistorySegmentPosition(segments.isEmpty() ? 0L : segments.get(0), 0);
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not list the segments of history segment log " + directory, e);
+        }
+    }
+
+    /**
+     * Deletes the segments before the given checkpoint of the consumer, as they are completely applied.
+     */
+    public void deleteSegmentsBefore(HistorySegmentPosition checkpoint) {
+        try {
+            for (Long segment : listSegments()) {
+                if (segment < checkpoint.getSegment() && segment < writeSegment) {
+                    Files.deleteIfExists(getSegmentPath(segment));
+                }
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not delete the segments before " + checkpoint + " of history segment log " + directory, e);
+        }
+    }
+
+    protected String readOrCreateId() throws IOException {
+        Path idPath = directory.resolve(ID_FILE_NAME);
+        if (Files.exists(idPath)) {
+            return new String(Files.readAllBytes(idPath), StandardCharsets.UTF_8).trim();
+        }
+
+        String newId = UUID.randomUUID().toString();
+        Path temporaryIdPath = directory.resolve(ID_FILE_NAME + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryIdPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(newId.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporaryIdPath, idPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return newId;
+    }
+
+    protected void startNextSegment(int recordSize) {
+        writeBuffer.force();
+        closeWriteChannel();
+
+        try {
+            openWriteSegment(writeSegment + 1, Math.max(segmentSize, recordSize));
+        } catch (IOException e) {
+            throw new FlowableException("Could not start segment " + (writeSegment + 1) + " of history segment log " + directory, e);
+        }
+        writePosition = new HistorySegmentPosition(writeSegment, 0);
+    }
+
+    protected void openWriteSegment(long segment, int size) throws IOException {
+        writeChannel = FileChannel.open(getSegmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writeBuffer = writeChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        writeSegment = segment;
+        writePosition = new HistorySegmentPosition(segment, 0);
+    }
+
+    protected void closeWriteChannel() {
+        try {
+            writeChannel.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close segment {} of history segment log {}", writeSegment, directory, e);
+        }
+    }
+
+    /**
+     * Positions the write buffer after the last complete record of the last segment
+     * and clears everything after it, so a record that was only partially forced to disk is never read.
+     */
+    protected void recoverWritePosition() {
+        int offset = 0;
+        while (offset + RECORD_HEADER_SIZE <= writeBuffer.capacity()) {
+            int length = writeBuffer.getInt(offset);
+            if (length <= 0 || offset + RECORD_HEADER_SIZE + length > writeBuffer.capacity()) {
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            ByteBuffer record = writeBuffer.duplicate();
+            record.position(offset + RECORD_HEADER_SIZE);
+            record.get(payload);
+            if (checksum(writeBuffer.get(offset + 8), payload, 0, length) != writeBuffer.getInt(offset + 4)) {
+                LOGGER.warn("Discarding incomplete record at position {}:{} of history segment log {}", writeSegment, offset, directory);
+                break;
+            }
+            offset += RECORD_HEADER_SIZE + length;
+        }
+
+        for (int i = offset; i < writeBuffer.capacity(); i++) {
+            writeBuffer.put(i, (byte) 0);
+        }
+        writeBuffer.force();
+        writeBuffer.position(offset);
+        writePosition = new HistorySegmentPosition(writeSegment, offset);
+    }
+
+    protected int checksum(byte flags, byte[] payload, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(flags);
+        crc.update(payload, offset, length);
+        return (int) crc.getValue();
+    }
+
+    protected List<Long> listSegments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(SEGMENT_FILE_SUFFIX))
+                    .map(fileName -> Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    protected Path getSegmentPath(long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_FILE_SUFFIX));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the id of the log, which is only available once the log is opened.
+     */
+    public String getId() {
+        return id;
+    }
+
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    /**
+     * The position right after the last appended record.
+     */
+    public HistorySegmentPosition getWritePosition() {
+        return writePosition;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public long getFsyncIntervalInMillis() {
+        return fsyncIntervalInMillis;
+    }
+
+    public void setFsyncIntervalInMillis(long fsyncIntervalInMillis) {
+        this.fsyncIntervalInMillis = fsyncIntervalInMillis;
+    }
+}
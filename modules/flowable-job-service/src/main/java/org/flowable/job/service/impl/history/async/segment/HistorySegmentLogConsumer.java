@@ -0,0 +1,290 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.segment;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Tails a {@link HistorySegmentLog} and applies the history json to the history tables with the async history job handler.
+ *
+ * The records are applied in batches of {@link #getBatchSize()} in one transaction, which also stores the checkpoint of the log
+ * in a property, so a record is never applied twice. When a batch fails, its records are applied one by one.
+ * A record that can't be applied, for example because the history json of a concurrent transaction it depends on is not applied yet,
+ * is handed over to the {@link DefaultAsyncHistoryJobProducer}, so it is retried as a regular history job by the async history executor.
+ */
+public class HistorySegmentLogConsumer implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistorySegmentLogConsumer.class);
+
+    public static final String CHECKPOINT_PROPERTY_NAME_PREFIX = "histsegment.checkpoint.";
+
+    protected final HistorySegmentLog historySegmentLog;
+    protected final JobServiceConfiguration jobServiceConfiguration;
+    protected AsyncHistoryListener failedRecordAsyncHistoryListener = new DefaultAsyncHistoryJobProducer();
+
+    protected int batchSize = 100;
+    protected long pollIntervalInMillis = 100L;
+
+    protected HistorySegmentPosition checkpoint;
+    protected volatile boolean isInterrupted = true;
+    protected Thread thread;
+    protected final Object MONITOR = new Object();
+
+    public HistorySegmentLogConsumer(HistorySegmentLog historySegmentLog, JobServiceConfiguration jobServiceConfiguration) {
+        this.historySegmentLog = historySegmentLog;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    public synchronized void start() {
+        if (!isInterrupted) {
+            return;
+        }
+
+        checkpoint = readCheckpoint();
+        isInterrupted = false;
+        thread = new Thread(this, "flowable-" + jobServiceConfiguration.getEngineName() + "-history-segment-consumer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        if (isInterrupted) {
+            return;
+        }
+
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            MONITOR.notifyAll();
+        }
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the history segment consumer thread to terminate", e);
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("starting to consume history segment log {}", historySegmentLog.getDirectory());
+
+        while (!isInterrupted) {
+            int nrOfRecords = 0;
+            try {
+                nrOfRecords = consumeRecords();
+
+            } catch (Throwable e) {
+                LOGGER.error("exception while consuming history segment log {}: {}", historySegmentLog.getDirectory(), e.getMessage(), e);
+            }
+
+            if (nrOfRecords < batchSize) {
+                waitForNextPoll();
+            }
+        }
+
+        LOGGER.info("stopped consuming history segment log {}", historySegmentLog.getDirectory());
+    }
+
+    /**
+     * Applies the next batch of records after the checkpoint and returns the number of consumed records.
+     */
+    public int consumeRecords() {
+        if (checkpoint == null) {
+            checkpoint = readCheckpoint();
+        }
+
+        List<HistorySegmentRecord> records = historySegmentLog.read(checkpoint, batchSize);
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        HistorySegmentPosition nextCheckpoint = records.get(records.size() - 1).getNextPosition();
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(commandContext -> {
+                for (HistorySegmentRecord record : records) {
+                    applyRecord(commandContext, record);
+                }
+                storeCheckpoint(commandContext, nextCheckpoint);
+                return null;
+            });
+            checkpointStored(nextCheckpoint);
+
+        } catch (Throwable e) {
+            LOGGER.debug("Could not apply a batch of {} history segment records, applying them one by one", records.size(), e);
+            for (HistorySegmentRecord record : records) {
+                applyRecordOrCreateHistoryJob(record);
+                checkpointStored(record.getNextPosition());
+            }
+        }
+
+        return records.size();
+    }
+
+    protected void applyRecordOrCreateHistoryJob(HistorySegmentRecord record) {
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(commandContext -> {
+                applyRecord(commandContext, record);
+                storeCheckpoint(commandContext, record.getNextPosition());
+                return null;
+            });
+
+        } catch (Throwable e) {
+            LOGGER.debug("Could not apply history segment record at {}, creating a history job for it", record.getPosition(), e);
+            jobServiceConfiguration.getCommandExecutor().execute(commandContext -> {
+                List<ObjectNode> historyObjectNodes = new ArrayList<>();
+                for (JsonNode historyNode : readHistoryJson(commandContext, record)) {
+                    historyObjectNodes.add((ObjectNode) historyNode);
+                }
+                failedRecordAsyncHistoryListener.historyDataGenerated(jobServiceConfiguration, historyObjectNodes);
+                storeCheckpoint(commandContext, record.getNextPosition());
+                return null;
+            });
+        }
+    }
+
+    protected void applyRecord(CommandContext commandContext, HistorySegmentRecord record) {
+        HistoryJobHandler historyJobHandler = jobServiceConfiguration.getHistoryJobHandlers().get(jobServiceConfiguration.getJobTypeAsyncHistory());
+        if (!(historyJobHandler instanceof AbstractAsyncHistoryJobHandler)) {
+            throw new FlowableException("No async history job handler registered for job type " + jobServiceConfiguration.getJobTypeAsyncHistory());
+        }
+
+        // The history job is never inserted, it only provides the context for the history json transformers
+        HistoryJobEntity historyJob = jobServiceConfiguration.getHistoryJobEntityManager().create();
+        historyJob.setJobHandlerType(jobServiceConfiguration.getJobTypeAsyncHistory());
+        historyJob.setScopeType(jobServiceConfiguration.getHistoryJobExecutionScope());
+        historyJob.setCreateTime(jobServiceConfiguration.getClock().getCurrentTime());
+
+        ((AbstractAsyncHistoryJobHandler) historyJobHandler).executeHistoryJson(commandContext, historyJob, readHistoryJson(commandContext, record));
+    }
+
+    protected JsonNode readHistoryJson(CommandContext commandContext, HistorySegmentRecord record) {
+        try {
+            byte[] bytes = record.isCompressed() ? decompress(record.getPayload()) : record.getPayload();
+            return commandContext.getObjectMapper().readTree(bytes);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize history json of history segment record at " + record.getPosition(), e);
+        }
+    }
+
+    protected byte[] decompress(final byte[] compressed) throws IOException {
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(compressed)) {
+            try (GZIPInputStream gis = new GZIPInputStream(bais)) {
+                return IoUtil.readInputStream(gis, "history-segment-record");
+            }
+        }
+    }
+
+    /**
+     * Returns the stored checkpoint of the log, or the start of the first segment when there is no checkpoint yet.
+     */
+    protected HistorySegmentPosition readCheckpoint() {
+        PropertyEntity checkpointProperty = jobServiceConfiguration.getCommandExecutor().execute(commandContext -> commandContext
+                .getSession(DbSqlSession.class).selectById(PropertyEntityImpl.class, getCheckpointPropertyName()));
+
+        if (checkpointProperty != null) {
+            return HistorySegmentPosition.fromString(checkpointProperty.getValue());
+        }
+        return historySegmentLog.getFirstPosition();
+    }
+
+    /**
+     * Stores the checkpoint in the transaction that applies the records before it.
+     */
+    protected void storeCheckpoint(CommandContext commandContext, HistorySegmentPosition checkpoint) {
+        DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+        PropertyEntity checkpointProperty = dbSqlSession.selectById(PropertyEntityImpl.class, getCheckpointPropertyName());
+        if (checkpointProperty != null) {
+            checkpointProperty.setValue(checkpoint.toString());
+
+        } else {
+            checkpointProperty = new PropertyEntityImpl();
+            checkpointProperty.setName(getCheckpointPropertyName());
+            checkpointProperty.setValue(checkpoint.toString());
+            dbSqlSession.insert(checkpointProperty, jobServiceConfiguration.getIdGenerator());
+        }
+    }
+
+    protected void checkpointStored(HistorySegmentPosition checkpoint) {
+        this.checkpoint = checkpoint;
+        historySegmentLog.deleteSegmentsBefore(checkpoint);
+    }
+
+    protected String getCheckpointPropertyName() {
+        return CHECKPOINT_PROPERTY_NAME_PREFIX + historySegmentLog.getId();
+    }
+
+    protected void waitForNextPoll() {
+        try {
+            synchronized (MONITOR) {
+                if (!isInterrupted) {
+                    MONITOR.wait(pollIntervalInMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            isInterrupted = true;
+        }
+    }
+
+    public HistorySegmentPosition getCheckpoint() {
+        return checkpoint;
+    }
+
+    public AsyncHistoryListener getFailedRecordAsyncHistoryListener() {
+        return failedRecordAsyncHistoryListener;
+    }
+
+    public void setFailedRecordAsyncHistoryListener(AsyncHistoryListener failedRecordAsyncHistoryListener) {
+        this.failedRecordAsyncHistoryListener = failedRecordAsyncHistoryListener;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPollIntervalInMillis() {
+        return pollIntervalInMillis;
+    }
+
+    public void setPollIntervalInMillis(long pollIntervalInMillis) {
+        this.pollIntervalInMillis = pollIntervalInMillis;
+    }
+}
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.segment;
+
+import java.util.Objects;
+
+/**
+ * A position in a {@link HistorySegmentLog}: the sequence number of a segment and the offset of a record in that segment.
+ */
+public class HistorySegmentPosition implements Comparable<HistorySegmentPosition> {
+
+    protected final long segment;
+    protected final int offset;
+
+    public HistorySegmentPosition(long segment, int offset) {
+        this.segment = segment;
+        this.offset = offset;
+    }
+
+    /**
+     * Parses a position in the format of {@link #toString()}.
+     */
+    public static HistorySegmentPosition fromString(String position) {
+        String[] parts = position.trim().split(":");
+        return new HistorySegmentPosition(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    public long getSegment() {
+        return segment;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public int compareTo(HistorySegmentPosition other) {
+        int result = Long.compare(segment, other.segment);
+        return result != 0 ? result : Integer.compare(offset, other.offset);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HistorySegmentPosition that = (HistorySegmentPosition) o;
+        return segment == that.segment && offset == that.offset;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(segment, offset);
+    }
+
+    @Override
+    public String toString() {
+        return segment + ":" + offset;
+    }
+}
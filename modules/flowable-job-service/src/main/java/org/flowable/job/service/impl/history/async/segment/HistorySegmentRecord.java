@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.segment;
+
+/**
+ * A record read from a {@link HistorySegmentLog}, holding the history json of one transaction.
+ */
+public class HistorySegmentRecord {
+
+    protected final HistorySegmentPosition position;
+    protected final HistorySegmentPosition nextPosition;
+    protected final byte[] payload;
+    protected final boolean compressed;
+
+    public HistorySegmentRecord(HistorySegmentPosition position, HistorySegmentPosition nextPosition, byte[] payload, boolean compressed) {
+        this.position = position;
+        this.nextPosition = nextPosition;
+        this.payload = payload;
+        this.compressed = compressed;
+    }
+
+    public HistorySegmentPosition getPosition() {
+        return position;
+    }
+
+    /**
+     * The position right after this record, which is the checkpoint once this record is applied.
+     */
+    public HistorySegmentPosition getNextPosition() {
+        return nextPosition;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Whether the payload is gzip compressed.
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+}
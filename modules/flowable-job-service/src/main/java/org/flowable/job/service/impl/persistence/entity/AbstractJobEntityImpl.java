@@ -20,6 +20,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 
@@ -28,7 +29,7 @@ import org.flowable.job.service.JobServiceConfiguration;
  *
  * @author Tijs Rademakers
  */
-public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity implements AbstractRuntimeJobEntity, Serializable {
+public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity implements AbstractRuntimeJobEntity, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -104,6 +105,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        markDirty();
     }
 
     @Override
@@ -114,6 +116,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setDuedate(Date duedate) {
         this.duedate = duedate;
+        markDirty();
     }
 
     @Override
@@ -134,6 +137,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setRetries(int retries) {
         this.retries = retries;
+        markDirty();
     }
 
     @Override
@@ -164,6 +168,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
     
     @Override
@@ -174,6 +179,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setElementId(String elementId) {
         this.elementId = elementId;
+        markDirty();
     }
 
     @Override
@@ -184,6 +190,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setElementName(String elementName) {
         this.elementName = elementName;
+        markDirty();
     }
 
     @Override
@@ -234,6 +241,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setCorrelationId(String correlationId) {
         this.correlationId = correlationId;
+        markDirty();
     }
     
     @Override
@@ -244,6 +252,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setCategory(String category) {
         this.category = category;
+        markDirty();
     }
 
     @Override
@@ -254,6 +263,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setJobType(String jobType) {
         this.jobType = jobType;
+        markDirty();
     }
     
     @Override
@@ -294,6 +304,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setJobHandlerType(String jobHandlerType) {
         this.jobHandlerType = jobHandlerType;
+        markDirty();
     }
 
     @Override
@@ -314,6 +325,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setCustomValuesByteArrayRef(ByteArrayRef customValuesByteArrayRef) {
         this.customValuesByteArrayRef = customValuesByteArrayRef;
+        markDirty();
     }
 
     @Override
@@ -327,6 +339,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
             customValuesByteArrayRef = new ByteArrayRef();
         }
         customValuesByteArrayRef.setValue("jobCustomValues", customValues, getEngineType());
+        markDirty();
     }
 
     @Override
@@ -351,6 +364,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
         }
 
         exceptionByteArrayRef.setValue("stacktrace", exception, getEngineType());
+        markDirty();
     }
 
     @Override
@@ -361,6 +375,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setExceptionMessage(String exceptionMessage) {
         this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, JobInfo.MAX_EXCEPTION_MESSAGE_LENGTH);
+        markDirty();
     }
 
     @Override
@@ -371,6 +386,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setExceptionByteArrayRef(ByteArrayRef exceptionByteArrayRef) {
         this.exceptionByteArrayRef = exceptionByteArrayRef;
+        markDirty();
     }
 
     private String getJobByteArrayRefAsString(ByteArrayRef jobByteArrayRef) {
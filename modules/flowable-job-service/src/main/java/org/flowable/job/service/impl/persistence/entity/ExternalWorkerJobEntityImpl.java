@@ -45,6 +45,7 @@ public class ExternalWorkerJobEntityImpl extends AbstractJobEntityImpl implement
     @Override
     public void setLockOwner(String claimedBy) {
         this.lockOwner = claimedBy;
+        markDirty();
     }
 
     @Override
@@ -55,6 +56,7 @@ public class ExternalWorkerJobEntityImpl extends AbstractJobEntityImpl implement
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
         this.lockExpirationTime = claimedUntil;
+        markDirty();
     }
 
     @Override
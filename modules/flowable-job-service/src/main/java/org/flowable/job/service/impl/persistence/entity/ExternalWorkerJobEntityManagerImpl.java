@@ -15,9 +15,13 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
@@ -55,9 +59,26 @@ public class ExternalWorkerJobEntityManagerImpl
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
         super.insert(jobEntity, fireCreateEvent);
+        notifyJobCreated(jobEntity);
         return true;
     }
 
+    protected void notifyJobCreated(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobNotifier externalWorkerJobNotifier = serviceConfiguration.getExternalWorkerJobNotifier();
+        String topic = jobEntity.getJobHandlerConfiguration();
+        if (externalWorkerJobNotifier == null || topic == null) {
+            return;
+        }
+
+        // Waiting acquisitions are only woken up when the job is committed, otherwise they would not find it
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> externalWorkerJobNotifier.jobCreated(topic));
+        } else {
+            externalWorkerJobNotifier.jobCreated(topic);
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -35,6 +36,11 @@ public interface HistoryJobEntityManager extends EntityManager<HistoryJobEntity>
      */
     long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl jobQuery);
 
+    /**
+     * Returns the {@link HistoryJobEntity} instances with the given ids, fetched with one query.
+     */
+    List<HistoryJobEntity> findJobsByIds(Collection<String> jobIds);
+
     /**
      * The default delete method will cascade to the references entities.
      * This delete doesn't delete the referenced byte array entities (configuration and exception).
@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
@@ -49,6 +50,11 @@ public class HistoryJobEntityManagerImpl
         return dataManager.findHistoryJobCountByQueryCriteria(jobQuery);
     }
 
+    @Override
+    public List<HistoryJobEntity> findJobsByIds(Collection<String> jobIds) {
+        return dataManager.findJobsByIds(jobIds);
+    }
+
     @Override
     public void delete(HistoryJobEntity jobEntity) {
         super.delete(jobEntity, false);
@@ -48,6 +48,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
     @Override
     public void setLockOwner(String claimedBy) {
         this.lockOwner = claimedBy;
+        markDirty();
     }
 
     @Override
@@ -58,6 +59,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
         this.lockExpirationTime = claimedUntil;
+        markDirty();
     }
 
     @Override
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -28,6 +30,28 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(List<String> enabledCategories, Page page);
 
+    /**
+     * Returns {@link JobEntity} that are eligible to be executed, without storing them in the entity cache.
+     * On databases that support it, the rows are locked with SKIP LOCKED semantics (or READPAST on SQL Server),
+     * meaning that concurrent acquisition transactions will never return the same rows.
+     * 
+     * Used together with {@link #bulkUpdateJobLockIfUnlocked(Collection, String, Date)} when bulk lock acquisition is enabled.
+     */
+    List<T> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page);
+
+    /**
+     * Locks the jobs with the given ids in one statement, but only the ones that are not locked yet.
+     * The revision of the locked jobs is incremented.
+     * 
+     * @return the number of jobs that were locked
+     */
+    int bulkUpdateJobLockIfUnlocked(Collection<String> jobIds, String lockOwner, Date lockExpirationTime);
+
+    /**
+     * Returns the ids (out of the given ids) of the jobs that are currently locked by the given lock owner.
+     */
+    List<String> findJobIdsLockedBy(Collection<String> jobIds, String lockOwner);
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
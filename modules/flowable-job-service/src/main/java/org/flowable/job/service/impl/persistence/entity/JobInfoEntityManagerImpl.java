@@ -13,6 +13,8 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -37,6 +39,21 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity, DM exten
         return dataManager.findJobsToExecute(enabledCategories, page);
     }
 
+    @Override
+    public List<T> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        return dataManager.findJobsToExecuteSkipLocked(enabledCategories, page);
+    }
+
+    @Override
+    public int bulkUpdateJobLockIfUnlocked(Collection<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        return dataManager.bulkUpdateJobLockIfUnlocked(jobIds, lockOwner, lockExpirationTime);
+    }
+
+    @Override
+    public List<String> findJobIdsLockedBy(Collection<String> jobIds, String lockOwner) {
+        return dataManager.findJobIdsLockedBy(jobIds, lockOwner);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return dataManager.findJobsByExecutionId(executionId);
@@ -47,6 +47,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
     @Override
     public void setLockOwner(String claimedBy) {
         this.lockOwner = claimedBy;
+        markDirty();
     }
 
     @Override
@@ -57,6 +58,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
         this.lockExpirationTime = claimedUntil;
+        markDirty();
     }
 
     @Override
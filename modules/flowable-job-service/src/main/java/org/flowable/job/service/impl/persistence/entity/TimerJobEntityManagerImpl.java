@@ -20,10 +20,15 @@ import java.util.List;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.TimerJobWheel;
 import org.flowable.job.service.impl.persistence.entity.data.TimerJobDataManager;
 import org.flowable.variable.api.delegate.VariableScope;
 import org.slf4j.Logger;
@@ -137,9 +142,28 @@ public class TimerJobEntityManagerImpl
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
         super.insert(jobEntity, fireCreateEvent);
+        scheduleInTimerJobWheel(jobEntity);
         return true;
     }
 
+    protected void scheduleInTimerJobWheel(TimerJobEntity jobEntity) {
+        AsyncExecutor asyncExecutor = serviceConfiguration.getAsyncExecutor();
+        TimerJobWheel timerJobWheel = asyncExecutor != null ? asyncExecutor.getTimerJobWheel() : null;
+        if (timerJobWheel == null || !timerJobWheel.isWithinHorizon(jobEntity.getDuedate())) {
+            return;
+        }
+
+        // The timer job can only be moved by the wheel when it is committed
+        String timerJobId = jobEntity.getId();
+        Date duedate = jobEntity.getDuedate();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> timerJobWheel.schedule(timerJobId, duedate));
+        } else {
+            timerJobWheel.schedule(timerJobId, duedate);
+        }
+    }
+
     @Override
     public void delete(TimerJobEntity jobEntity) {
         delete(jobEntity, false);
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -27,5 +28,7 @@ public interface HistoryJobDataManager extends DataManager<HistoryJobEntity>, Jo
     List<HistoryJob> findHistoryJobsByQueryCriteria(HistoryJobQueryImpl query);
 
     long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl query);
+
+    List<HistoryJobEntity> findJobsByIds(Collection<String> jobIds);
     
 }
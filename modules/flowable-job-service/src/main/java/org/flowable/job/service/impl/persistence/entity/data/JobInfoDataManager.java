@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -22,6 +24,12 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     List<T> findJobsToExecute(List<String> enabledCategories, Page page);
 
+    List<T> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page);
+
+    int bulkUpdateJobLockIfUnlocked(Collection<String> jobIds, String lockOwner, Date lockExpirationTime);
+
+    List<String> findJobIdsLockedBy(Collection<String> jobIds, String lockOwner);
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -70,6 +71,21 @@ public class MybatisExternalWorkerJobDataManager extends AbstractDataManager<Ext
         throw new FlowableException("Use dedicated method for finding external worker jobs to execute");
     }
 
+    @Override
+    public List<ExternalWorkerJobEntity> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        throw new FlowableException("Use dedicated method for finding external worker jobs to execute");
+    }
+
+    @Override
+    public int bulkUpdateJobLockIfUnlocked(Collection<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        throw new FlowableException("Use dedicated method for locking external worker jobs");
+    }
+
+    @Override
+    public List<String> findJobIdsLockedBy(Collection<String> jobIds, String lockOwner) {
+        throw new FlowableException("Use dedicated method for locking external worker jobs");
+    }
+
     @Override
     public List<ExternalWorkerJobEntity> findJobsByExecutionId(final String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
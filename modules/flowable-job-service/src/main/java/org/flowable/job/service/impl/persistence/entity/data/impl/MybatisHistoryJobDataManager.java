@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -63,6 +64,48 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        ListQueryParameterObject params = new ListQueryParameterObject();
+        params.setParameter(jobServiceConfiguration.getHistoryJobExecutionScope());
+        params.setFirstResult(page.getFirstResult());
+        params.setMaxResults(page.getMaxResults());
+        params.setOrderByColumns("CREATE_TIME_ ASC");
+
+        // Not stored in the entity cache: the lock is applied through a bulk update, not by a revision checked update of each entity
+        // The row limit is applied while fetching as well, for databases that can't limit a 'for update skip locked' select in SQL
+        // MySQL only supports 'for update skip locked' as of version 8, older versions use the regular select
+        String statement = jobServiceConfiguration.isDatabaseSkipLockedSupported() ? "selectHistoryJobsToExecuteSkipLocked" : "selectHistoryJobsToExecute";
+        return getDbSqlSession().selectListNoCacheLoadAndStore(statement, params, page.getMaxResults());
+    }
+
+    @Override
+    public int bulkUpdateJobLockIfUnlocked(Collection<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("bulkUpdateHistoryJobLockIfUnlocked", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobIdsLockedBy(Collection<String> jobIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectHistoryJobIdsLockedBy", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> findJobsByIds(Collection<String> jobIds) {
+        Map<String, Object> params = new HashMap<>(1);
+        params.put("jobIds", jobIds);
+        return getDbSqlSession().selectListWithRawParameter("selectHistoryJobsByIds", params);
+    }
+
     @Override
     public List<HistoryJobEntity> findJobsByExecutionId(final String executionId) {
         return getDbSqlSession().selectList("selectHistoryJobsByExecutionId", executionId);
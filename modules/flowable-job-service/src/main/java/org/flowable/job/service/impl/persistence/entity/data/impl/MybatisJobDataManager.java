@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,7 @@ import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
@@ -69,6 +71,42 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", params, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+
+        if (enabledCategories != null && enabledCategories.size() > 0) {
+            params.put("enabledCategories", enabledCategories);
+        }
+
+        // Not stored in the entity cache: the lock is applied through a bulk update, not by a revision checked update of each entity
+        // The row limit is applied while fetching as well, for databases that can't limit a 'for update skip locked' select in SQL
+        // MySQL only supports 'for update skip locked' as of version 8, older versions use the regular select
+        String statement = jobServiceConfiguration.isDatabaseSkipLockedSupported() ? "selectJobsToExecuteSkipLocked" : "selectJobsToExecute";
+        return getDbSqlSession().selectListNoCacheLoadAndStore(statement,
+                new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults()), page.getMaxResults());
+    }
+
+    @Override
+    public int bulkUpdateJobLockIfUnlocked(Collection<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("bulkUpdateJobLockIfUnlocked", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobIdsLockedBy(Collection<String> jobIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectJobIdsLockedBy", params);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HistorySegmentLogTest {
+
+    @TempDir
+    Path directory;
+
+    protected HistorySegmentLog historySegmentLog;
+
+    @AfterEach
+    void closeLog() {
+        if (historySegmentLog != null) {
+            historySegmentLog.close();
+        }
+    }
+
+    @Test
+    void appendAndRead() {
+        historySegmentLog = openLog(1024);
+        HistorySegmentPosition first = historySegmentLog.append(bytes("first"), false);
+        historySegmentLog.append(bytes("second"), true);
+
+        List<HistorySegmentRecord> records = historySegmentLog.read(historySegmentLog.getFirstPosition(), 10);
+        assertThat(records)
+                .extracting(record -> new String(record.getPayload(), StandardCharsets.UTF_8), HistorySegmentRecord::isCompressed)
+                .containsExactly(
+                        tuple("first", false),
+                        tuple("second", true));
+        assertThat(records.get(0).getPosition()).isEqualTo(first);
+        assertThat(records.get(1).getNextPosition()).isEqualTo(historySegmentLog.getWritePosition());
+
+        assertThat(historySegmentLog.read(records.get(0).getNextPosition(), 10)).hasSize(1);
+        assertThat(historySegmentLog.read(historySegmentLog.getWritePosition(), 10)).isEmpty();
+    }
+
+    @Test
+    void readAcrossSegmentsAndDeleteAppliedSegments() throws Exception {
+        historySegmentLog = openLog(64);
+        for (int i = 0; i < 10; i++) {
+            historySegmentLog.append(bytes("record-" + i + "-with-some-padding"), false);
+        }
+        assertThat(listSegments()).hasSizeGreaterThan(1);
+
+        List<HistorySegmentRecord> records = historySegmentLog.read(historySegmentLog.getFirstPosition(), 100);
+        assertThat(records)
+                .extracting(record -> new String(record.getPayload(), StandardCharsets.UTF_8))
+                .startsWith("record-0-with-some-padding")
+                .endsWith("record-9-with-some-padding")
+                .hasSize(10);
+
+        // A record bigger than the segment size gets its own segment
+        historySegmentLog.append(new byte[200], false);
+        assertThat(historySegmentLog.read(records.get(9).getNextPosition(), 10)).hasSize(1);
+
+        historySegmentLog.deleteSegmentsBefore(records.get(9).getNextPosition());
+        assertThat(historySegmentLog.getFirstPosition()).isEqualTo(new HistorySegmentPosition(records.get(9).getNextPosition().getSegment(), 0));
+        assertThat(listSegments()).hasSize(2);
+    }
+
+    @Test
+    void incompleteRecordDiscardedWhenReopened() throws Exception {
+        historySegmentLog = openLog(1024);
+        historySegmentLog.append(bytes("complete"), false);
+        HistorySegmentPosition incomplete = historySegmentLog.append(bytes("incomplete"), false);
+        String id = historySegmentLog.getId();
+        historySegmentLog.close();
+
+        // Corrupt the payload of the last record, as if it was only partially written to disk
+        try (RandomAccessFile file = new RandomAccessFile(listSegments().get(0).toFile(), "rw")) {
+            file.seek(incomplete.getOffset() + HistorySegmentLog.RECORD_HEADER_SIZE);
+            file.write('X');
+        }
+
+        historySegmentLog = openLog(1024);
+        assertThat(historySegmentLog.getId()).isEqualTo(id);
+        assertThat(historySegmentLog.getWritePosition()).isEqualTo(incomplete);
+        historySegmentLog.append(bytes("after reopen"), false);
+
+        assertThat(historySegmentLog.read(historySegmentLog.getFirstPosition(), 10))
+                .extracting(record -> new String(record.getPayload(), StandardCharsets.UTF_8))
+                .containsExactly("complete", "after reopen");
+    }
+
+    protected HistorySegmentLog openLog(int segmentSize) {
+        HistorySegmentLog log = new HistorySegmentLog(directory);
+        log.setSegmentSize(segmentSize);
+        log.open();
+        return log;
+    }
+
+    protected List<Path> listSegments() throws Exception {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".segment")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    protected byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -13,7 +13,9 @@
 
 package org.flowable.rest.service.api.history;
 
+import static org.flowable.common.rest.api.PaginateListUtil.isContinuationTokenRequested;
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
+import static org.flowable.common.rest.api.PaginateListUtil.paginateListById;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,6 +23,7 @@ import java.util.Map;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
 import org.flowable.engine.HistoryService;
+import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryProperty;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
@@ -118,6 +121,11 @@ public class HistoricActivityInstanceBaseResource {
             restApiInterceptor.accessHistoryActivityInfoWithQuery(query, queryRequest);
         }
 
+        if (isContinuationTokenRequested(allRequestParams, queryRequest)) {
+            return paginateListById(allRequestParams, queryRequest, query, HistoricActivityInstance::getId,
+                restResponseFactory::createHistoricActivityInstanceResponseList);
+        }
+
         return paginateList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties,
             restResponseFactory::createHistoricActivityInstanceResponseList);
     }
@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.repository;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
@@ -41,9 +42,9 @@ public class ProcessDefinitionResourceDataResource extends BaseDeploymentResourc
             @ApiResponse(code = 404, message = "Indicates the requested process definition was not found or there is no resource with the given id present in the process definition. The status-description contains additional information.")
     })
     @GetMapping(value = "/repository/process-definitions/{processDefinitionId}/resourcedata")
-    public byte[] getProcessDefinitionResource(@ApiParam(name = "processDefinitionId") @PathVariable String processDefinitionId, HttpServletResponse response) {
+    public void getProcessDefinitionResource(@ApiParam(name = "processDefinitionId") @PathVariable String processDefinitionId, HttpServletRequest request, HttpServletResponse response) {
         ProcessDefinition processDefinition = getProcessDefinitionFromRequest(processDefinitionId);
-        return getDeploymentResourceData(processDefinition.getDeploymentId(), processDefinition.getResourceName(), response);
+        writeDeploymentResourceData(processDefinition.getDeploymentId(), processDefinition.getResourceName(), request, response);
     }
 
     /**
@@ -20,7 +20,6 @@ import org.flowable.engine.runtime.Execution;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.Api;
@@ -42,13 +41,12 @@ public class ProcessInstanceVariableDataResource extends BaseExecutionVariableRe
             @ApiResponse(code = 200, message = "Indicates the process instance was found and the requested variables are returned."),
             @ApiResponse(code = 404, message = "Indicates the requested task was not found or the task does not have a variable with the given name (in the given scope). Status message provides additional information.")
     })
-    @ResponseBody
     @GetMapping(value = "/runtime/process-instances/{processInstanceId}/variables/{variableName}/data")
-    public byte[] getVariableData(@ApiParam(name = "processInstanceId") @PathVariable("processInstanceId") String processInstanceId, @ApiParam(name = "variableName") @PathVariable("variableName") String variableName,
+    public void getVariableData(@ApiParam(name = "processInstanceId") @PathVariable("processInstanceId") String processInstanceId, @ApiParam(name = "variableName") @PathVariable("variableName") String variableName,
             @RequestParam(value = "scope", required = false) String scope,
             HttpServletRequest request, HttpServletResponse response) {
 
         Execution execution = getProcessInstanceFromRequest(processInstanceId);
-        return getVariableDataByteArray(execution, variableName, scope, response);
+        writeVariableData(execution, variableName, scope, request, response);
     }
 }
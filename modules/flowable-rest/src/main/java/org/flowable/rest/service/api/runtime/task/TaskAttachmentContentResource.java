@@ -15,17 +15,14 @@ package org.flowable.rest.service.api.runtime.task;
 
 import java.io.InputStream;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.flowable.engine.task.Attachment;
 import org.flowable.task.api.history.HistoricTaskInstance;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
@@ -45,13 +42,18 @@ import io.swagger.annotations.Authorization;
 public class TaskAttachmentContentResource extends TaskBaseResource {
 
     @ApiOperation(value = "Get the content for an attachment", tags = { "Task Attachments" },
-            notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the attachment type contains a valid Content-type.")
+            notes = "The response body contains the binary content, which is streamed without buffering it. By default, the content-type of the response is set to application/octet-stream unless the attachment type contains a valid Content-type. "
+                    + "A single byte range can be requested with the Range header. The ETag of the response can be passed in the If-None-Match header.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the task and attachment was found and the requested content is returned."),
-            @ApiResponse(code = 404, message = "Indicates the requested task was not found or the task does not have an attachment with the given id or the attachment does not have a binary stream available. Status message provides additional information.")
+            @ApiResponse(code = 206, message = "Indicates the task and attachment was found and the requested range of the content is returned."),
+            @ApiResponse(code = 304, message = "Indicates the content didn't change since the version with the ETag given in the If-None-Match header."),
+            @ApiResponse(code = 404, message = "Indicates the requested task was not found or the task does not have an attachment with the given id or the attachment does not have a binary stream available. Status message provides additional information."),
+            @ApiResponse(code = 416, message = "Indicates the requested range is outside of the content.")
     })
     @GetMapping(value = "/runtime/tasks/{taskId}/attachments/{attachmentId}/content")
-    public ResponseEntity<byte[]> getAttachmentContent(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId, @ApiParam(name = "attachmentId") @PathVariable("attachmentId") String attachmentId, HttpServletResponse response) {
+    public void getAttachmentContent(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId, @ApiParam(name = "attachmentId") @PathVariable("attachmentId") String attachmentId,
+            HttpServletRequest request, HttpServletResponse response) {
 
         HistoricTaskInstance task = getHistoricTaskFromRequest(taskId);
         Attachment attachment = taskService.getAttachment(attachmentId);
@@ -65,25 +67,20 @@ public class TaskAttachmentContentResource extends TaskBaseResource {
             throw new FlowableObjectNotFoundException("Attachment with id '" + attachmentId + "' does not have content associated with it.", Attachment.class);
         }
 
-        HttpHeaders responseHeaders = new HttpHeaders();
-        MediaType mediaType = null;
+        String contentType = null;
         if (attachment.getType() != null) {
             try {
-                mediaType = MediaType.valueOf(attachment.getType());
-                responseHeaders.set("Content-Type", attachment.getType());
+                MediaType.valueOf(attachment.getType());
+                contentType = attachment.getType();
             } catch (Exception e) {
                 // ignore if unknown media type
             }
         }
 
-        if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
-        }
-
-        try {
-            return new ResponseEntity<>(IOUtils.toByteArray(attachmentStream), responseHeaders, HttpStatus.OK);
-        } catch (Exception e) {
-            throw new FlowableException("Error creating attachment data", e);
-        }
+        // The content of an attachment can't be changed, so the content id identifies it
+        BinaryContentWriter.forContent(attachmentStream)
+                .contentType(contentType)
+                .eTag(attachment.getContentId())
+                .write(request, response);
     }
 }
@@ -107,6 +107,39 @@ public class HistoricActivityInstanceCollectionResourceTest extends BaseSpringRe
         assertResultsPresentInDataResponse(url + "?tenantIdLike=anotherTenant");
     }
 
+    /**
+     * Test paging through historic activity instances with a continuation token. GET history/historic-activity-instances
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/twoTaskProcess.bpmn20.xml" })
+    public void testQueryActivityInstancesWithContinuationToken() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_HISTORIC_ACTIVITY_INSTANCES) + "?processInstanceId=" + processInstance.getId() + "&size=2";
+
+        List<String> activityIds = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String continuationToken = "";
+        while (continuationToken != null) {
+            CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url + "&continuationToken=" + continuationToken), HttpStatus.SC_OK);
+            JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+            closeResponse(response);
+
+            pageSizes.add(responseNode.get("data").size());
+            for (JsonNode activityNode : responseNode.get("data")) {
+                activityIds.add(activityNode.get("activityId").textValue());
+            }
+            continuationToken = responseNode.has("continuationToken") ? responseNode.get("continuationToken").textValue() : null;
+        }
+
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+        assertThat(activityIds).containsExactlyInAnyOrder("theStart", "flow1", "processTask", "flow2", "processTask2");
+
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url + "&continuationToken=" + encode("not a token")), HttpStatus.SC_BAD_REQUEST));
+    }
+
     protected void assertResultsPresentInDataResponse(String url, int numberOfResultsExpected, String... expectedActivityIds) throws JsonProcessingException, IOException {
         // Do the actual call
         CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
@@ -132,4 +132,41 @@ public class DeploymentResourceResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    /**
+     * Test getting part of a deployment resource content and revalidating it. GET repository/deployments/{deploymentId}/resourcedata/{resourceId}
+     */
+    @Test
+    public void testGetDeploymentResourceContentRange() throws Exception {
+        try {
+            Deployment deployment = repositoryService.createDeployment().name("Deployment 1")
+                    .addInputStream("test.txt", new ByteArrayInputStream("Test content".getBytes())).deploy();
+
+            String url = SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_DEPLOYMENT_RESOURCE_CONTENT, deployment.getId(), "test.txt");
+
+            HttpGet httpGet = new HttpGet(url);
+            httpGet.addHeader(new BasicHeader(HttpHeaders.RANGE, "bytes=5-"));
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+            assertThat(response.getFirstHeader(HttpHeaders.CONTENT_RANGE).getValue()).isEqualTo("bytes 5-11/12");
+            String eTag = response.getFirstHeader(HttpHeaders.ETAG).getValue();
+            String responseAsString = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+            closeResponse(response);
+            assertThat(responseAsString).isEqualTo("content");
+
+            httpGet = new HttpGet(url);
+            httpGet.addHeader(new BasicHeader(HttpHeaders.RANGE, "bytes=20-"));
+            closeResponse(executeRequest(httpGet, HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE));
+
+            httpGet = new HttpGet(url);
+            httpGet.addHeader(new BasicHeader(HttpHeaders.IF_NONE_MATCH, eTag));
+            closeResponse(executeRequest(httpGet, HttpStatus.SC_NOT_MODIFIED));
+
+        } finally {
+            // Always cleanup any created deployments, even if the test failed
+            List<Deployment> deployments = repositoryService.createDeploymentQuery().list();
+            for (Deployment deployment : deployments) {
+                repositoryService.deleteDeployment(deployment.getId(), true);
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.ProcessEngine;
@@ -86,6 +87,12 @@ public class ProcessEngineEndpoint {
         DeploymentCache<ProcessDefinitionCacheEntry> deploymentCache = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessDefinitionCache();
         if (deploymentCache instanceof DefaultDeploymentCache) {
             metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
+        } else if (deploymentCache instanceof ConcurrentDeploymentCache) {
+            ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> concurrentDeploymentCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) deploymentCache;
+            metrics.put("cachedProcessDefinitionCount", concurrentDeploymentCache.size());
+            metrics.put("processDefinitionCacheHitCount", concurrentDeploymentCache.getHitCount());
+            metrics.put("processDefinitionCacheMissCount", concurrentDeploymentCache.getMissCount());
+            metrics.put("processDefinitionCacheEvictionCount", concurrentDeploymentCache.getEvictionCount());
         }
         return metrics;
     }
@@ -72,6 +72,7 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
     protected int taskQueryLimit;
     protected int historicTaskQueryLimit;
+    protected boolean enableTwoPhaseRelatedEntitiesQueries;
 
     protected TaskPostProcessor taskPostProcessor;
 
@@ -285,6 +286,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableTwoPhaseRelatedEntitiesQueries() {
+        return enableTwoPhaseRelatedEntitiesQueries;
+    }
+
+    public TaskServiceConfiguration setEnableTwoPhaseRelatedEntitiesQueries(boolean enableTwoPhaseRelatedEntitiesQueries) {
+        this.enableTwoPhaseRelatedEntitiesQueries = enableTwoPhaseRelatedEntitiesQueries;
+        return this;
+    }
+
     public boolean isEnableHistoricTaskLogging() {
         return enableHistoricTaskLogging;
     }
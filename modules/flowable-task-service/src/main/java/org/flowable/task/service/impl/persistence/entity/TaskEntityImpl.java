@@ -30,6 +30,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
@@ -54,7 +55,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, Serializable {
+public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, DirtyTrackingEntity, Serializable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -191,6 +192,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        markDirty();
     }
 
     // variables //////////////////////////////////////////////////////////////////
@@ -271,17 +273,20 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setName(String taskName) {
         this.name = taskName;
+        markDirty();
     }
 
     @Override
     public void setDescription(String description) {
         this.description = description;
+        markDirty();
     }
 
     @Override
     public void setAssignee(String assignee) {
         this.originalAssignee = this.assignee;
         this.assignee = assignee;
+        markDirty();
         assigneeUpdatedCount++;
     }
     
@@ -293,6 +298,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
         } else {
             this.originalAssignee = this.assignee;
             this.assignee = assignee;
+            markDirty();
             assigneeUpdatedCount++;
         }
     }
@@ -300,6 +306,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setOwner(String owner) {
         this.owner = owner;
+        markDirty();
     }
     
     @Override
@@ -309,22 +316,26 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
             taskAssignmentManager.changeOwner(this, owner);
         } else {
             this.owner = owner;
+            markDirty();
         }
     }
 
     @Override
     public void setDueDate(Date dueDate) {
         this.dueDate = dueDate;
+        markDirty();
     }
 
     @Override
     public void setPriority(int priority) {
         this.priority = priority;
+        markDirty();
     }
 
     @Override
     public void setCategory(String category) {
         this.category = category;
+        markDirty();
     }
 
     @Override
@@ -372,6 +383,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setParentTaskId(String parentTaskId) {
         this.parentTaskId = parentTaskId;
+        markDirty();
     }
 
     @Override
@@ -382,6 +394,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setFormKey(String formKey) {
         this.formKey = formKey;
+        markDirty();
     }
 
     // Override from VariableScopeImpl
@@ -475,6 +488,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        markDirty();
     }
 
     @Override
@@ -495,6 +509,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -505,6 +520,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setTaskDefinitionId(String taskDefinitionId) {
         this.taskDefinitionId = taskDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -515,6 +531,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        markDirty();
     }
 
     @Override
@@ -525,6 +542,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        markDirty();
     }
 
     @Override
@@ -535,6 +553,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        markDirty();
     }
 
     @Override
@@ -545,11 +564,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
         this.scopeDefinitionId = scopeDefinitionId;
+        markDirty();
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
         this.propagatedStageInstanceId = propagatedStageInstanceId;
+        markDirty();
     }
 
     @Override
@@ -579,6 +600,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setTaskDefinitionKey(String taskDefinitionKey) {
         this.taskDefinitionKey = taskDefinitionKey;
+        markDirty();
     }
 
     @Override
@@ -604,11 +626,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        markDirty();
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        markDirty();
     }
 
     @Override
@@ -706,6 +730,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setDelegationState(DelegationState delegationState) {
         this.delegationState = delegationState;
+        markDirty();
     }
 
     public String getDelegationStateString() { // Needed for Activiti 5 compatibility, not exposed in interface
@@ -714,6 +739,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     public void setDelegationStateString(String delegationStateString) {
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
+        markDirty();
     }
 
     @Override
@@ -755,6 +781,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        markDirty();
     }
 
     @Override
@@ -834,6 +861,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setClaimTime(Date claimTime) {
         this.claimTime = claimTime;
+        markDirty();
     }
 
     @Override
@@ -849,11 +877,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        markDirty();
     }
 
     @Override
@@ -864,6 +894,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        markDirty();
     }
 
     @Override
@@ -879,6 +910,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSubTaskCount(int subTaskCount) {
         this.subTaskCount = subTaskCount;
+        markDirty();
     }
     
 }
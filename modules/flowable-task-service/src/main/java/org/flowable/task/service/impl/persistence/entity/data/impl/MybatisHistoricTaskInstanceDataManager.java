@@ -12,12 +12,16 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
@@ -25,6 +29,7 @@ import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEnt
 import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntityImpl;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.task.service.impl.persistence.entity.data.HistoricTaskInstanceDataManager;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -78,6 +83,10 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
+        if (taskServiceConfiguration.isEnableTwoPhaseRelatedEntitiesQueries()) {
+            return findHistoricTaskInstancesAndRelatedEntitiesInTwoPhases(historicTaskInstanceQuery);
+        }
+
         // paging doesn't work for combining task instances and variables
         // due to an outer join, so doing it in-memory
 
@@ -112,6 +121,65 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return instanceList;
     }
 
+    /**
+     * Selects the requested page of historic tasks in sql and then fetches the variables and identity links of exactly those tasks.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesInTwoPhases(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
+        List<HistoricTaskInstance> historicTasks = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                "selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery, getManagedEntityClass());
+
+        Map<String, HistoricTaskInstanceEntity> historicTasksById = new LinkedHashMap<>();
+        Map<String, List<HistoricTaskInstanceEntity>> historicTasksByProcessInstanceId = new HashMap<>();
+        for (HistoricTaskInstance historicTask : historicTasks) {
+            HistoricTaskInstanceEntity historicTaskEntity = (HistoricTaskInstanceEntity) historicTask;
+            // A historic task from the entity cache has already been enhanced by the query
+            if (historicTaskEntity != getEntityCache().findInCache(getManagedEntityClass(), historicTaskEntity.getId())) {
+                historicTasksById.put(historicTaskEntity.getId(), historicTaskEntity);
+                if (historicTaskEntity.getProcessInstanceId() != null) {
+                    historicTasksByProcessInstanceId.computeIfAbsent(historicTaskEntity.getProcessInstanceId(), processInstanceId -> new ArrayList<>())
+                            .add(historicTaskEntity);
+                }
+            }
+        }
+
+        if (historicTasksById.isEmpty()) {
+            return historicTasks;
+        }
+
+        if (historicTaskInstanceQuery.isIncludeTaskLocalVariables()) {
+            List<HistoricVariableInstanceEntity> variables = selectListByIdPartitions("selectHistoricVariableInstancesByTaskIds", "taskIds",
+                    historicTasksById.keySet(), Collections.emptyMap());
+            for (HistoricVariableInstanceEntity variable : variables) {
+                historicTasksById.get(variable.getTaskId()).getQueryVariables().add(variable);
+            }
+        }
+
+        if (historicTaskInstanceQuery.isIncludeProcessVariables() && !historicTasksByProcessInstanceId.isEmpty()) {
+            List<HistoricVariableInstanceEntity> variables = selectListByIdPartitions("selectHistoricVariableInstancesByExecutionIdsWithoutTaskId",
+                    "executionIds", historicTasksByProcessInstanceId.keySet(), Collections.emptyMap());
+            for (HistoricVariableInstanceEntity variable : variables) {
+                for (HistoricTaskInstanceEntity historicTask : historicTasksByProcessInstanceId.get(variable.getExecutionId())) {
+                    historicTask.getQueryVariables().add(variable);
+                }
+            }
+        }
+
+        if (historicTaskInstanceQuery.isIncludeIdentityLinks()) {
+            List<HistoricIdentityLinkEntity> identityLinks = selectListByIdPartitions("selectHistoricIdentityLinksByTaskIds", "taskIds",
+                    historicTasksById.keySet(), Collections.emptyMap());
+            for (HistoricTaskInstanceEntity historicTask : historicTasksById.values()) {
+                // Initializes the identity links, so tasks without identity links don't fetch them again when asked for
+                ((HistoricTaskInstanceEntityImpl) historicTask).getQueryIdentityLinks();
+            }
+            for (HistoricIdentityLinkEntity identityLink : identityLinks) {
+                ((HistoricTaskInstanceEntityImpl) historicTasksById.get(identityLink.getTaskId())).getQueryIdentityLinks().add(identityLink);
+            }
+        }
+
+        return historicTasks;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap) {
@@ -12,8 +12,10 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +23,8 @@ import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.task.api.Task;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.TaskQueryImpl;
@@ -31,6 +35,7 @@ import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksByProcessInstanceIdMatcher;
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksByScopeIdAndScopeTypeMatcher;
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksBySubScopeIdAndScopeTypeMatcher;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -112,6 +117,10 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
     @Override
     @SuppressWarnings("unchecked")
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
+        if (taskServiceConfiguration.isEnableTwoPhaseRelatedEntitiesQueries()) {
+            return findTasksAndRelatedEntitiesInTwoPhases(taskQuery);
+        }
+
         final String query = "selectTasksWithRelatedEntitiesByQueryCriteria";
         // paging doesn't work for combining task instances and variables due to
         // an outer join, so doing it in-memory
@@ -145,6 +154,62 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return Collections.EMPTY_LIST;
     }
 
+    /**
+     * Selects the requested page of tasks in sql and then fetches the variables and identity links of exactly those tasks.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<Task> findTasksAndRelatedEntitiesInTwoPhases(TaskQueryImpl taskQuery) {
+        List<Task> tasks = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectTaskByQueryCriteria", taskQuery, getManagedEntityClass());
+
+        Map<String, TaskEntity> tasksById = new LinkedHashMap<>();
+        Map<String, List<TaskEntity>> tasksByProcessInstanceId = new HashMap<>();
+        for (Task task : tasks) {
+            TaskEntity taskEntity = (TaskEntity) task;
+            // A task from the entity cache has already been enhanced by the query
+            if (taskEntity != getEntityCache().findInCache(getManagedEntityClass(), taskEntity.getId())) {
+                tasksById.put(taskEntity.getId(), taskEntity);
+                if (taskEntity.getProcessInstanceId() != null) {
+                    tasksByProcessInstanceId.computeIfAbsent(taskEntity.getProcessInstanceId(), processInstanceId -> new ArrayList<>()).add(taskEntity);
+                }
+            }
+        }
+
+        if (tasksById.isEmpty()) {
+            return tasks;
+        }
+
+        if (taskQuery.isIncludeTaskLocalVariables()) {
+            List<VariableInstanceEntity> variables = selectListByIdPartitions("selectVariablesByQuery", "taskIds", tasksById.keySet(), Collections.emptyMap());
+            for (VariableInstanceEntity variable : variables) {
+                tasksById.get(variable.getTaskId()).getQueryVariables().add(variable);
+            }
+        }
+
+        if (taskQuery.isIncludeProcessVariables() && !tasksByProcessInstanceId.isEmpty()) {
+            List<VariableInstanceEntity> variables = selectListByIdPartitions("selectVariablesByQuery", "executionIds", tasksByProcessInstanceId.keySet(),
+                    CollectionUtil.singletonMap("withoutTaskId", true));
+            for (VariableInstanceEntity variable : variables) {
+                for (TaskEntity task : tasksByProcessInstanceId.get(variable.getExecutionId())) {
+                    task.getQueryVariables().add(variable);
+                }
+            }
+        }
+
+        if (taskQuery.isIncludeIdentityLinks()) {
+            for (TaskEntity task : tasksById.values()) {
+                // Tasks without identity links shouldn't fetch them again when asked for
+                ((TaskEntityImpl) task).setQueryIdentityLinks(new ArrayList<>());
+            }
+
+            List<IdentityLinkEntity> identityLinks = selectListByIdPartitions("selectIdentityLinksByTaskIds", "taskIds", tasksById.keySet(), Collections.emptyMap());
+            for (IdentityLinkEntity identityLink : identityLinks) {
+                ((TaskEntityImpl) tasksById.get(identityLink.getTaskId())).getQueryIdentityLinks().add(identityLink);
+            }
+        }
+
+        return tasks;
+    }
+
     @Override
     public long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery) {
         return (Long) getDbSqlSession().selectOne("selectTaskCountByQueryCriteria", taskQuery);
@@ -13,6 +13,9 @@
 
 package org.flowable.variable.api.types;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
 /**
  * Common interface for regular and historic variable entities.
  * 
@@ -100,6 +103,17 @@ public interface ValueFields {
      */
     byte[] getBytes();
 
+    /**
+     * Returns the byte array value as a stream. Persisted variables stream the bytes from the database when this is called within a command context,
+     * so large values don't need to be loaded in memory at once. Such a stream must be closed before the command context is closed.
+     *
+     * @return the byte array value as a stream, if any, or null.
+     */
+    default InputStream getBytesAsStream() {
+        byte[] bytes = getBytes();
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
     /**
      * Sets the byte array value. A value of null is allowed.
      */
@@ -42,6 +42,17 @@ public interface VariableType {
      */
     boolean isAbleToStore(Object value);
 
+    /**
+     * Indicates if {@link #isAbleToStore(Object)} gives the same answer for all non null values of the given class.
+     * When it does, the type that stores the values of a class can be resolved once and cached.
+     * Types that look at the value itself (e.g. the length of a string) must return false for the classes of those values.
+     *
+     * @return whether the result of {@link #isAbleToStore(Object)} only depends on the class of the value.
+     */
+    default boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return false;
+    }
+
     /**
      * Stores the specified value in the supplied {@link ValueFields}.
      */
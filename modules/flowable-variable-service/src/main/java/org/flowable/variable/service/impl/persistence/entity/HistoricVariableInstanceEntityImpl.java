@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.HashMap;
@@ -100,6 +101,14 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
         return null;
     }
 
+    @Override
+    public InputStream getBytesAsStream() {
+        if (byteArrayRef != null) {
+            return byteArrayRef.getBytesAsStream(getEngineType());
+        }
+        return null;
+    }
+
     @Override
     public void setBytes(byte[] bytes) {
         if (byteArrayRef == null) {
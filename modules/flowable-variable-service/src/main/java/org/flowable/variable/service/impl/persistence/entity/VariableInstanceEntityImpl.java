@@ -12,13 +12,16 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -27,7 +30,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -48,6 +51,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     protected String textValue;
     protected String textValue2;
     protected ByteArrayRef byteArrayRef;
+    protected String originalByteArrayRefId;
 
     protected Object cachedValue;
     protected boolean forcedUpdate;
@@ -81,14 +85,32 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
         return persistentState;
     }
 
+    @Override
+    public boolean isDirty() {
+        // The byte array reference can be changed or deleted without going through this entity
+        return super.isDirty() || !Objects.equals(originalByteArrayRefId, getByteArrayRefId());
+    }
+
+    @Override
+    public void clearDirty() {
+        super.clearDirty();
+        originalByteArrayRefId = getByteArrayRefId();
+    }
+
+    protected String getByteArrayRefId() {
+        return byteArrayRef != null ? byteArrayRef.getId() : null;
+    }
+
     @Override
     public void forceUpdate() {
         forcedUpdate = true;
+        markDirty();
     }
     
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        markDirty();
     }
 
     @Override
@@ -109,6 +131,12 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
         return byteArrayRef.getBytes(getEngineType());
     }
 
+    @Override
+    public InputStream getBytesAsStream() {
+        ensureByteArrayRefInitialized();
+        return byteArrayRef.getBytesAsStream(getEngineType());
+    }
+
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
@@ -148,6 +176,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -179,6 +208,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setType(VariableType type) {
         this.type = type;
+        markDirty();
     }
 
     @Override
@@ -214,6 +244,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        markDirty();
     }
     
     @Override
@@ -224,6 +255,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        markDirty();
     }
 
     @Override
@@ -234,6 +266,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        markDirty();
     }
 
     @Override
@@ -244,6 +277,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setLongValue(Long longValue) {
         this.longValue = longValue;
+        markDirty();
     }
 
     @Override
@@ -254,6 +288,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setDoubleValue(Double doubleValue) {
         this.doubleValue = doubleValue;
+        markDirty();
     }
 
     @Override
@@ -264,6 +299,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTextValue(String textValue) {
         this.textValue = textValue;
+        markDirty();
     }
 
     @Override
@@ -274,6 +310,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTextValue2(String textValue2) {
         this.textValue2 = textValue2;
+        markDirty();
     }
 
     @Override
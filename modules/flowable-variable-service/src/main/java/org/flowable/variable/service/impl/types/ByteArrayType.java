@@ -51,4 +51,9 @@ public class ByteArrayType implements VariableType {
         }
         return byte[].class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
 }
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.variable.api.types.VariableType;
@@ -32,6 +33,14 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    /**
+     * The types that need to be checked for the values of a class, in the order of the types list.
+     * Types that can't store values of the class based on the class alone are left out, and the list ends
+     * with the first type that can store all values of the class (if any).
+     * For most classes this is a single type, that is returned without checking the value again.
+     */
+    private transient Map<Class<?>, VariableType[]> candidateTypesByClass = new ConcurrentHashMap<>();
+
     @Override
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
@@ -41,6 +50,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        clearCandidateTypes();
         return this;
     }
 
@@ -51,6 +61,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        clearCandidateTypes();
     }
 
     @Override
@@ -60,14 +71,54 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
-            if (type.isAbleToStore(value)) {
-                return type;
+        if (value == null) {
+            for (VariableType type : typesList) {
+                if (type.isAbleToStore(null)) {
+                    return type;
+                }
+            }
+
+        } else {
+            VariableType[] candidateTypes = getCandidateTypes().computeIfAbsent(value.getClass(), valueClass -> resolveCandidateTypes(value));
+            for (VariableType type : candidateTypes) {
+                // Only the last candidate can be determined by the class, and it is known to be able to store the value
+                if (type.isAbleToStoreDeterminedByClass(value.getClass()) || type.isAbleToStore(value)) {
+                    return type;
+                }
             }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected VariableType[] resolveCandidateTypes(Object value) {
+        Class<?> valueClass = value.getClass();
+        List<VariableType> candidateTypes = new ArrayList<>();
+        for (VariableType type : typesList) {
+            if (!type.isAbleToStoreDeterminedByClass(valueClass)) {
+                candidateTypes.add(type);
+
+            } else if (type.isAbleToStore(value)) {
+                candidateTypes.add(type);
+                break;
+            }
+        }
+        return candidateTypes.toArray(new VariableType[0]);
+    }
+
+    protected Map<Class<?>, VariableType[]> getCandidateTypes() {
+        Map<Class<?>, VariableType[]> candidateTypes = candidateTypesByClass;
+        if (candidateTypes == null) {
+            // Not restored when deserialized
+            candidateTypes = new ConcurrentHashMap<>();
+            candidateTypesByClass = candidateTypes;
+        }
+        return candidateTypes;
+    }
+
+    protected void clearCandidateTypes() {
+        getCandidateTypes().clear();
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
         return typesList.indexOf(type);
@@ -87,6 +138,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        clearCandidateTypes();
         return this;
     }
 }
@@ -60,4 +60,9 @@ public class IntegerType implements VariableType {
         }
         return Integer.class.isAssignableFrom(value.getClass()) || int.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
 }
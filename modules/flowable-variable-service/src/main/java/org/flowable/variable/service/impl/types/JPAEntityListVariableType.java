@@ -85,6 +85,12 @@ public class JPAEntityListVariableType implements VariableType, CacheableVariabl
         return canStore;
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        // Whether a list can be stored depends on its elements
+        return !List.class.isAssignableFrom(valueClass);
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         EntityManagerSession entityManagerSession = Context.getCommandContext().getSession(EntityManagerSession.class);
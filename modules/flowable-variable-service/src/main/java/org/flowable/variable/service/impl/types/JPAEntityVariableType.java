@@ -53,6 +53,11 @@ public class JPAEntityVariableType implements VariableType, CacheableVariable {
         return mappings.isJPAEntity(value);
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         EntityManagerSession entityManagerSession = Context.getCommandContext().getSession(EntityManagerSession.class);
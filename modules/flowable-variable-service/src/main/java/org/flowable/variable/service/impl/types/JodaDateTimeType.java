@@ -41,6 +41,11 @@ public class JodaDateTimeType implements VariableType {
         return DateTime.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
@@ -13,6 +13,7 @@
 package org.flowable.variable.service.impl.types;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +25,7 @@ import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.VariableServiceConfiguration;
@@ -94,14 +96,20 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
                 LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
             }
         } else {
-            byte[] bytes = valueFields.getBytes();
-            if (bytes != null && bytes.length > 0) {
+            // Long values are parsed while they are streamed, so their bytes don't need to be loaded in memory first
+            InputStream bytesStream = valueFields.getBytesAsStream();
+            if (bytesStream != null) {
                 try {
-                    jsonValue = objectMapper.readTree(bytes);
-                    valueFields.setCachedValue(jsonValue);
-                    traceValue(jsonValue, valueFields);
+                    JsonNode readValue = objectMapper.readTree(bytesStream);
+                    if (readValue != null && !readValue.isMissingNode()) {
+                        jsonValue = readValue;
+                        valueFields.setCachedValue(jsonValue);
+                        traceValue(jsonValue, valueFields);
+                    }
                 } catch (IOException e) {
                     LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
+                } finally {
+                    IoUtil.closeSilently(bytesStream);
                 }
             }
         }
@@ -198,4 +206,9 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
         return value instanceof JsonNode;
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
 }
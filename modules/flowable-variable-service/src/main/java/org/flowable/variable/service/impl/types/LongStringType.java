@@ -40,4 +40,10 @@ public class LongStringType extends SerializableType {
         }
         return false;
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        // Whether a string can be stored depends on its length
+        return valueClass != String.class;
+    }
 }
@@ -56,4 +56,9 @@ public class LongType implements VariableType {
         }
         return Long.class.isAssignableFrom(value.getClass()) || long.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        return true;
+    }
 }
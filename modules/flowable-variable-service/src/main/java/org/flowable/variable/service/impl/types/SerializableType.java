@@ -67,6 +67,11 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
             return cachedObject;
         }
 
+        if (!trackDeserializedObjects) {
+            // The serialized bytes are only kept for tracking, without tracking the object is deserialized while the bytes are streamed
+            return deserializeFromStream(valueFields);
+        }
+
         byte[] bytes = (byte[]) super.getValue(valueFields);
         if (bytes != null) {
 
@@ -146,14 +151,35 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
         try {
-            ObjectInputStream ois = createObjectInputStream(bais);
+            return deserialize(bais, valueFields);
+        } finally {
+            IoUtil.closeSilently(bais);
+        }
+    }
+
+    public Object deserialize(InputStream inputStream, ValueFields valueFields) {
+        try {
+            ObjectInputStream ois = createObjectInputStream(inputStream);
             Object deserializedObject = ois.readObject();
 
             return deserializedObject;
         } catch (Exception e) {
             throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "'", e);
+        }
+    }
+
+    protected Object deserializeFromStream(ValueFields valueFields) {
+        InputStream bytesStream = valueFields.getBytesAsStream();
+        if (bytesStream == null) {
+            return null; // byte array is null
+        }
+
+        try {
+            Object deserializedObject = deserialize(bytesStream, valueFields);
+            valueFields.setCachedValue(deserializedObject);
+            return deserializedObject;
         } finally {
-            IoUtil.closeSilently(bais);
+            IoUtil.closeSilently(bytesStream);
         }
     }
     
@@ -190,6 +216,12 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         return value instanceof Serializable;
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        // Only depends on whether the class implements Serializable
+        return true;
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             @Override
@@ -58,4 +58,10 @@ public class StringType implements VariableType {
         }
         return false;
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass(Class<?> valueClass) {
+        // Whether a string can be stored depends on its length
+        return valueClass != String.class;
+    }
 }